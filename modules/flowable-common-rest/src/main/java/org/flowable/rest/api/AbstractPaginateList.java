@@ -17,6 +17,7 @@ import java.util.List;
 import java.util.Map;
 
 import org.flowable.engine.common.api.FlowableIllegalArgumentException;
+import org.flowable.engine.common.api.query.KeysetQuery;
 import org.flowable.engine.common.api.query.Query;
 import org.flowable.engine.common.api.query.QueryProperty;
 
@@ -28,6 +29,10 @@ public abstract class AbstractPaginateList {
     /**
      * Uses the pagination parameters form the request and makes sure to order the result and set all pagination attributes for the response to render.
      *
+     * When a 'cursor' is passed (empty for the first page) and the query is a {@link KeysetQuery}, the page that follows the cursor is returned instead of
+     * the page at 'start', ordered by id, together with the cursor of the next page if there can be one. When 'includeTotal' is false, the total isn't
+     * counted and is returned as -1.
+     *
      * @param requestParams
      *            The request containing the pagination parameters
      * @param paginateRequest
@@ -61,6 +66,18 @@ public abstract class AbstractPaginateList {
             paginateRequest.setSort(requestParams.get("sort"));
         }
 
+        if (paginateRequest.getCursor() == null) {
+            paginateRequest.setCursor(requestParams.get("cursor"));
+        }
+
+        if (paginateRequest.getIncludeTotal() == null) {
+            paginateRequest.setIncludeTotal(RequestUtil.getBoolean(requestParams, "includeTotal", true));
+        }
+
+        if (paginateRequest.getCursor() != null) {
+            return paginateListAfterCursor(paginateRequest, query);
+        }
+
         // Use defaults for paging, if not set in the PaginationRequest, nor in the URL
         Integer start = paginateRequest.getStart();
         if (start == null || start < 0) {
@@ -113,10 +130,52 @@ public abstract class AbstractPaginateList {
         List list = processList(queryObject.listPage(start, size));
         if (start == 0 && list.size() < size) {
             response.setTotal(list.size());
-        } else {
+        } else if (paginateRequest.getIncludeTotal()) {
             response.setTotal(queryObject.count());
+        } else {
+            response.setTotal(-1);
+        }
+
+        response.setSize(list.size());
+        response.setData(list);
+
+        return response;
+    }
+
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    protected DataResponse paginateListAfterCursor(PaginateRequest paginateRequest, Object query) {
+        if (!(query instanceof KeysetQuery)) {
+            throw new FlowableIllegalArgumentException("Param 'cursor' is not supported for this resource");
+        }
+        if (paginateRequest.getSort() != null) {
+            throw new FlowableIllegalArgumentException("Param 'sort' can't be combined with param 'cursor', the results are ordered by id");
+        }
+
+        Integer size = paginateRequest.getSize();
+        if (size == null || size < 0) {
+            size = 10;
+        }
+
+        KeysetQuery keysetQuery = (KeysetQuery) query;
+        String cursor = paginateRequest.getCursor().isEmpty() ? null : paginateRequest.getCursor();
+        List results = keysetQuery.listAfter(cursor, size);
+
+        DataResponse response = new DataResponse();
+        response.setStart(0);
+        response.setOrder("asc");
+        if (size > 0 && results.size() == size) {
+            response.setNextCursor(keysetQuery.getCursor(results.get(results.size() - 1)));
+        }
+
+        if (cursor == null && results.size() < size) {
+            response.setTotal(results.size());
+        } else if (paginateRequest.getIncludeTotal()) {
+            response.setTotal(((Query) query).count());
+        } else {
+            response.setTotal(-1);
         }
 
+        List list = processList(results);
         response.setSize(list.size());
         response.setData(list);
 
@@ -13,6 +13,8 @@
 
 package org.flowable.rest.api;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+
 /**
  * @author Tijs Rademakers
  */
@@ -25,6 +27,9 @@ public class DataResponse {
     String order;
     int size;
 
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    String nextCursor;
+
     public Object getData() {
         return data;
     }
@@ -73,4 +78,12 @@ public class DataResponse {
     public void setSize(int size) {
         this.size = size;
     }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
 }
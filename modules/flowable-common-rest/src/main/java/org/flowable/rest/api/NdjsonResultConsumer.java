@@ -0,0 +1,54 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.rest.api;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+import org.flowable.engine.common.api.FlowableException;
+import org.flowable.engine.common.api.query.StreamableQuery.ResultConsumer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Writes the results of a streamed query as newline delimited JSON: the response of every result is written as a JSON document on its own line, as soon as
+ * the result is read.
+ */
+public abstract class NdjsonResultConsumer<U> implements ResultConsumer<U> {
+
+    public static final String MEDIA_TYPE = "application/x-ndjson";
+
+    protected static final int NEWLINE = '\n';
+
+    protected ObjectMapper objectMapper;
+    protected OutputStream outputStream;
+
+    public NdjsonResultConsumer(ObjectMapper objectMapper, OutputStream outputStream) {
+        this.objectMapper = objectMapper;
+        this.outputStream = outputStream;
+    }
+
+    @Override
+    public void accept(U result) {
+        try {
+            // Not written with writeValue(outputStream, ...), as that closes the stream
+            outputStream.write(objectMapper.writeValueAsBytes(createResponse(result)));
+            outputStream.write(NEWLINE);
+        } catch (IOException e) {
+            throw new FlowableException("Could not write result", e);
+        }
+    }
+
+    protected abstract Object createResponse(U result);
+
+}
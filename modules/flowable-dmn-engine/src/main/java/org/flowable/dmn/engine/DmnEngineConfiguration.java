@@ -195,6 +195,19 @@ public class DmnEngineConfiguration extends AbstractEngineConfiguration {
      */
     protected boolean strictMode = true;
 
+    /**
+     * Set this to true to index the input entries of deployed decision tables, so that only the rules that can match the input variables are evaluated on execution. Equality tests on
+     * string and number inputs and comparisons on number inputs are indexed; other input entries are evaluated as before.
+     *
+     * Note that rules that are ruled out by the index are added to the audit trail without input entry results.
+     */
+    protected boolean ruleIndexEnabled;
+
+    /**
+     * The minimum number of rules a decision table needs to have to be indexed, when {@link #ruleIndexEnabled} is set.
+     */
+    protected int ruleIndexMinimumRules = 20;
+
     public static DmnEngineConfiguration createDmnEngineConfigurationFromResourceDefault() {
         return createDmnEngineConfigurationFromResource("flowable.dmn.cfg.xml", "dmnEngineConfiguration");
     }
@@ -998,6 +1011,24 @@ public class DmnEngineConfiguration extends AbstractEngineConfiguration {
         return this;
     }
 
+    public boolean isRuleIndexEnabled() {
+        return ruleIndexEnabled;
+    }
+
+    public DmnEngineConfiguration setRuleIndexEnabled(boolean ruleIndexEnabled) {
+        this.ruleIndexEnabled = ruleIndexEnabled;
+        return this;
+    }
+
+    public int getRuleIndexMinimumRules() {
+        return ruleIndexMinimumRules;
+    }
+
+    public DmnEngineConfiguration setRuleIndexMinimumRules(int ruleIndexMinimumRules) {
+        this.ruleIndexMinimumRules = ruleIndexMinimumRules;
+        return this;
+    }
+
     public DmnEngineConfiguration setClock(Clock clock) {
         this.clock = clock;
         return this;
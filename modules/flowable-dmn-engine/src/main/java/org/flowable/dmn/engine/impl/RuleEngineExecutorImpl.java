@@ -13,6 +13,7 @@
 package org.flowable.dmn.engine.impl;
 
 import java.lang.reflect.Method;
+import java.util.BitSet;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -27,9 +28,12 @@ import org.flowable.dmn.engine.impl.hitpolicy.ComposeRuleResultBehavior;
 import org.flowable.dmn.engine.impl.hitpolicy.ContinueEvaluatingBehavior;
 import org.flowable.dmn.engine.impl.hitpolicy.EvaluateRuleValidityBehavior;
 import org.flowable.dmn.engine.impl.mvel.ExecutionVariableFactory;
+import org.flowable.dmn.engine.impl.mvel.MvelCompiledExpressions;
 import org.flowable.dmn.engine.impl.mvel.MvelExecutionContext;
 import org.flowable.dmn.engine.impl.mvel.MvelExecutionContextBuilder;
 import org.flowable.dmn.engine.impl.mvel.MvelExpressionExecutor;
+import org.flowable.dmn.engine.impl.persistence.deploy.DecisionTableCacheEntry;
+import org.flowable.dmn.engine.impl.ruleindex.DecisionTableRuleIndex;
 import org.flowable.dmn.model.Decision;
 import org.flowable.dmn.model.DecisionRule;
 import org.flowable.dmn.model.DecisionTable;
@@ -65,6 +69,29 @@ public class RuleEngineExecutorImpl implements RuleEngineExecutor {
     @Override
     public RuleEngineExecutionResult execute(Decision decision, Map<String, Object> inputVariables,
                                              Map<String, Method> customExpressionFunctions, Map<Class<?>, PropertyHandler> propertyHandlers) {
+        return execute(decision, null, null, inputVariables, customExpressionFunctions, propertyHandlers);
+    }
+
+    /**
+     * Executes the decision table of the given cache entry, using its precompiled MVEL expressions and rule index when available.
+     * Expressions that are not precompiled are compiled on execution.
+     *
+     * @param decisionTableCacheEntry the cached DMN decision
+     * @param inputVariables          map with input variables
+     * @return updated execution variables map
+     */
+    public RuleEngineExecutionResult execute(DecisionTableCacheEntry decisionTableCacheEntry, Map<String, Object> inputVariables,
+                                             Map<String, Method> customExpressionFunctions, Map<Class<?>, PropertyHandler> propertyHandlers) {
+        if (decisionTableCacheEntry == null) {
+            throw new IllegalArgumentException("no decision provided");
+        }
+
+        return execute(decisionTableCacheEntry.getDecision(), decisionTableCacheEntry.getCompiledExpressions(), decisionTableCacheEntry.getRuleIndex(),
+            inputVariables, customExpressionFunctions, propertyHandlers);
+    }
+
+    protected RuleEngineExecutionResult execute(Decision decision, MvelCompiledExpressions compiledExpressions, DecisionTableRuleIndex ruleIndex,
+                                                Map<String, Object> inputVariables, Map<String, Method> customExpressionFunctions, Map<Class<?>, PropertyHandler> propertyHandlers) {
         if (decision == null) {
             throw new IllegalArgumentException("no decision provided");
         }
@@ -79,6 +106,11 @@ public class RuleEngineExecutorImpl implements RuleEngineExecutor {
         MvelExecutionContext executionContext = MvelExecutionContextBuilder.build(decision, inputVariables,
             customExpressionFunctions, propertyHandlers);
 
+        if (compiledExpressions != null) {
+            executionContext.setCompiledExpressions(compiledExpressions.getCompiledExpressions(customExpressionFunctions));
+        }
+        executionContext.setRuleIndex(ruleIndex);
+
         List<Map<String, Object>> decisionResult = null;
         RuleEngineExecutionResult executionResult;
         try {
@@ -117,8 +149,22 @@ public class RuleEngineExecutorImpl implements RuleEngineExecutor {
             // evaluate rule conditions
             Map<Integer, List<RuleOutputClauseContainer>> validRuleOutputEntries = new HashMap<>();
 
-            for (DecisionRule rule : decisionTable.getRules()) {
-                Boolean ruleResult = executeRule(rule, executionContext);
+            // when the table is indexed, only the rules that can match the input need to be evaluated
+            BitSet candidateRules = null;
+            if (executionContext.getRuleIndex() != null) {
+                candidateRules = executionContext.getRuleIndex().findCandidateRules(executionContext.getStackVariables());
+            }
+
+            List<DecisionRule> rules = decisionTable.getRules();
+            for (int i = 0; i < rules.size(); i++) {
+                DecisionRule rule = rules.get(i);
+
+                Boolean ruleResult;
+                if (candidateRules == null || candidateRules.get(i)) {
+                    ruleResult = executeRule(rule, executionContext);
+                } else {
+                    ruleResult = skipRule(rule, executionContext);
+                }
 
                 if (ruleResult) {
                     // evaluate decision table hit policy validity
@@ -226,6 +272,16 @@ public class RuleEngineExecutorImpl implements RuleEngineExecutor {
         return conditionResult;
     }
 
+    protected Boolean skipRule(DecisionRule rule, MvelExecutionContext executionContext) {
+        logger.debug("Skipping rule {}; not matched by rule index", rule.getRuleNumber());
+
+        // add audit entry, without input entries as these are not evaluated
+        executionContext.getAuditContainer().addRuleEntry(rule);
+        executionContext.getAuditContainer().markRuleEnd(rule.getRuleNumber());
+
+        return Boolean.FALSE;
+    }
+
     protected Boolean executeInputExpressionEvaluation(RuleInputClauseContainer ruleContainer, MvelExecutionContext executionContext) {
         return MvelExpressionExecutor.executeInputExpression(ruleContainer.getInputClause(), ruleContainer.getInputEntry(), executionContext);
     }
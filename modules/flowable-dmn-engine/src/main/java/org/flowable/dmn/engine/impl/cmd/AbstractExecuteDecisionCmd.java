@@ -14,6 +14,10 @@ package org.flowable.dmn.engine.impl.cmd;
 
 import org.apache.commons.lang3.StringUtils;
 import org.flowable.dmn.api.DmnDecisionTable;
+import org.flowable.dmn.api.RuleEngineExecutionResult;
+import org.flowable.dmn.engine.DmnEngineConfiguration;
+import org.flowable.dmn.engine.RuleEngineExecutor;
+import org.flowable.dmn.engine.impl.RuleEngineExecutorImpl;
 import org.flowable.dmn.engine.impl.persistence.deploy.DecisionTableCacheEntry;
 import org.flowable.dmn.engine.impl.persistence.deploy.DeploymentManager;
 import org.flowable.dmn.model.Decision;
@@ -72,13 +76,32 @@ public abstract class AbstractExecuteDecisionCmd implements Serializable{
     }
 
     protected Decision resolveDecision(DeploymentManager deploymentManager, DmnDecisionTable decisionTable) {
+        DecisionTableCacheEntry decisionTableCacheEntry = resolveDecisionTableCacheEntry(deploymentManager, decisionTable);
+        Decision decision = decisionTableCacheEntry.getDecision();
+
+        return decision;
+    }
+
+    protected DecisionTableCacheEntry resolveDecisionTableCacheEntry(DeploymentManager deploymentManager, DmnDecisionTable decisionTable) {
         if (decisionTable == null) {
             throw new IllegalArgumentException("decisionTable is null");
         }
 
-        DecisionTableCacheEntry decisionTableCacheEntry = deploymentManager.resolveDecisionTable(decisionTable);
-        Decision decision = decisionTableCacheEntry.getDecision();
+        return deploymentManager.resolveDecisionTable(decisionTable);
+    }
 
-        return decision;
+    /**
+     * Executes the decision table with the precompiled expressions and rule index of the cache entry when the configured {@link RuleEngineExecutor} supports them,
+     * and with only the decision otherwise.
+     */
+    protected RuleEngineExecutionResult executeDecisionTable(DmnEngineConfiguration dmnEngineConfiguration, DecisionTableCacheEntry decisionTableCacheEntry) {
+        RuleEngineExecutor ruleEngineExecutor = dmnEngineConfiguration.getRuleEngineExecutor();
+        if (ruleEngineExecutor instanceof RuleEngineExecutorImpl) {
+            return ((RuleEngineExecutorImpl) ruleEngineExecutor).execute(decisionTableCacheEntry, variables,
+                    dmnEngineConfiguration.getCustomExpressionFunctions(), dmnEngineConfiguration.getCustomPropertyHandlers());
+        }
+
+        return ruleEngineExecutor.execute(decisionTableCacheEntry.getDecision(), variables,
+                dmnEngineConfiguration.getCustomExpressionFunctions(), dmnEngineConfiguration.getCustomPropertyHandlers());
     }
 }
@@ -17,7 +17,7 @@ import org.flowable.dmn.api.RuleEngineExecutionResult;
 import org.flowable.dmn.engine.DmnEngineConfiguration;
 import org.flowable.dmn.engine.impl.interceptor.Command;
 import org.flowable.dmn.engine.impl.interceptor.CommandContext;
-import org.flowable.dmn.model.Decision;
+import org.flowable.dmn.engine.impl.persistence.deploy.DecisionTableCacheEntry;
 import org.flowable.engine.common.api.FlowableIllegalArgumentException;
 
 import java.util.List;
@@ -51,10 +51,9 @@ public class ExecuteDecisionCmd extends AbstractExecuteDecisionCmd implements Co
 
         DmnEngineConfiguration dmnEngineConfiguration = commandContext.getDmnEngineConfiguration();
         DmnDecisionTable decisionTable = resolveDecisionTable(dmnEngineConfiguration.getDeploymentManager());
-        Decision decision = resolveDecision(dmnEngineConfiguration.getDeploymentManager(), decisionTable);
+        DecisionTableCacheEntry decisionTableCacheEntry = resolveDecisionTableCacheEntry(dmnEngineConfiguration.getDeploymentManager(), decisionTable);
 
-        RuleEngineExecutionResult executionResult = dmnEngineConfiguration.getRuleEngineExecutor().execute(decision, variables,
-                dmnEngineConfiguration.getCustomExpressionFunctions(), dmnEngineConfiguration.getCustomPropertyHandlers());
+        RuleEngineExecutionResult executionResult = executeDecisionTable(dmnEngineConfiguration, decisionTableCacheEntry);
 
         if (executionResult != null) {
             return executionResult.getDecisionResult();
@@ -12,13 +12,19 @@
  */
 package org.flowable.dmn.engine.impl.deployer;
 
+import java.io.Serializable;
+import java.util.Map;
+
 import org.flowable.dmn.engine.DmnEngineConfiguration;
 import org.flowable.dmn.engine.impl.context.Context;
+import org.flowable.dmn.engine.impl.mvel.MvelCompiledExpressions;
 import org.flowable.dmn.engine.impl.persistence.deploy.DecisionTableCacheEntry;
 import org.flowable.dmn.engine.impl.persistence.deploy.DeploymentCache;
 import org.flowable.dmn.engine.impl.persistence.entity.DecisionTableEntity;
 import org.flowable.dmn.engine.impl.persistence.entity.DmnDeploymentEntity;
+import org.flowable.dmn.engine.impl.ruleindex.DecisionTableRuleIndex;
 import org.flowable.dmn.model.Decision;
+import org.flowable.dmn.model.DecisionTable;
 import org.flowable.dmn.model.DmnDefinition;
 
 /**
@@ -38,6 +44,19 @@ public class CachingAndArtifactsManager {
             DmnDefinition dmnDefinition = parsedDeployment.getDmnDefinitionForDecisionTable(decisionTable);
             Decision decision = parsedDeployment.getDecisionForDecisionTable(decisionTable);
             DecisionTableCacheEntry cacheEntry = new DecisionTableCacheEntry(decisionTable, dmnDefinition, decision);
+
+            // Compile the MVEL expressions of the decision table once, instead of on every execution
+            MvelCompiledExpressions compiledExpressions = new MvelCompiledExpressions(decision);
+            Map<Object, Serializable> defaultCompiledExpressions = compiledExpressions.getCompiledExpressions(dmnEngineConfiguration.getCustomExpressionFunctions());
+            cacheEntry.setCompiledExpressions(compiledExpressions);
+
+            if (dmnEngineConfiguration.isRuleIndexEnabled() && decision.getExpression() instanceof DecisionTable) {
+                DecisionTable decisionTableExpression = (DecisionTable) decision.getExpression();
+                if (decisionTableExpression.getRules().size() >= dmnEngineConfiguration.getRuleIndexMinimumRules()) {
+                    cacheEntry.setRuleIndex(DecisionTableRuleIndex.build(decisionTableExpression, defaultCompiledExpressions));
+                }
+            }
+
             decisionTableCache.add(decisionTable.getId(), cacheEntry);
 
             // Add to deployment for further usage
@@ -0,0 +1,142 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.dmn.engine.impl.mvel;
+
+import java.io.Serializable;
+import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.apache.commons.lang3.StringUtils;
+import org.flowable.dmn.model.Decision;
+import org.flowable.dmn.model.DecisionRule;
+import org.flowable.dmn.model.DecisionTable;
+import org.flowable.dmn.model.InputClause;
+import org.flowable.dmn.model.RuleInputClauseContainer;
+import org.flowable.dmn.model.RuleOutputClauseContainer;
+import org.mvel2.MVEL;
+import org.mvel2.ParserContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Holds the compiled MVEL expressions of the input and output entries of one decision table.
+ *
+ * The compiled form of an expression depends on the custom expression functions that are imported in the {@link ParserContext}, so the expressions are compiled (and kept) once per distinct set of
+ * custom expression functions. The compiled expressions are keyed by the {@link org.flowable.dmn.model.UnaryTests} and {@link org.flowable.dmn.model.LiteralExpression} instances of the cached
+ * {@link Decision}.
+ *
+ * Entries that fail to compile are not stored: they are compiled again when executed, so the error ends up in the audit trail as before.
+ */
+public class MvelCompiledExpressions {
+
+    private static final Logger logger = LoggerFactory.getLogger(MvelCompiledExpressions.class);
+
+    protected Decision decision;
+    protected ConcurrentMap<Map<String, Method>, Map<Object, Serializable>> compiledExpressionsPerFunctionSet = new ConcurrentHashMap<>();
+
+    // Fast path for the (common) case where the same custom expression functions map instance is used for every execution
+    protected volatile FunctionSetCompilation lastCompilation;
+
+    public MvelCompiledExpressions(Decision decision) {
+        this.decision = decision;
+    }
+
+    /**
+     * Returns the compiled expressions for the given custom expression functions, compiling the decision table first if needed.
+     */
+    public Map<Object, Serializable> getCompiledExpressions(Map<String, Method> customExpressionFunctions) {
+        Map<String, Method> functions = customExpressionFunctions != null ? customExpressionFunctions : Collections.<String, Method> emptyMap();
+
+        FunctionSetCompilation compilation = lastCompilation;
+        if (compilation != null && compilation.customExpressionFunctions == functions) {
+            return compilation.compiledExpressions;
+        }
+
+        Map<Object, Serializable> compiledExpressions = compiledExpressionsPerFunctionSet.get(functions);
+        if (compiledExpressions == null) {
+            Map<String, Method> functionsCopy = new HashMap<>(functions);
+            compiledExpressions = compile(functionsCopy);
+            Map<Object, Serializable> existingCompiledExpressions = compiledExpressionsPerFunctionSet.putIfAbsent(functionsCopy, compiledExpressions);
+            if (existingCompiledExpressions != null) {
+                compiledExpressions = existingCompiledExpressions;
+            }
+        }
+
+        lastCompilation = new FunctionSetCompilation(functions, compiledExpressions);
+        return compiledExpressions;
+    }
+
+    protected Map<Object, Serializable> compile(Map<String, Method> customExpressionFunctions) {
+        Map<Object, Serializable> compiledExpressions = new IdentityHashMap<>();
+        if (decision == null || !(decision.getExpression() instanceof DecisionTable)) {
+            return compiledExpressions;
+        }
+
+        ParserContext parserContext = MvelExecutionContextBuilder.createParserContext(customExpressionFunctions);
+        DecisionTable decisionTable = (DecisionTable) decision.getExpression();
+        for (DecisionRule rule : decisionTable.getRules()) {
+
+            for (RuleInputClauseContainer inputContainer : rule.getInputEntries()) {
+                String inputEntryText = inputContainer.getInputEntry() != null ? inputContainer.getInputEntry().getText() : null;
+                InputClause inputClause = inputContainer.getInputClause();
+                if (StringUtils.isEmpty(inputEntryText) || "-".equals(inputEntryText) || inputClause == null || inputClause.getInputExpression() == null) {
+                    continue;
+                }
+
+                try {
+                    String parsedExpression = MvelConditionExpressionPreParser.parse(inputEntryText,
+                            inputClause.getInputExpression().getText(), inputClause.getInputExpression().getTypeRef());
+                    compiledExpressions.put(inputContainer.getInputEntry(), MVEL.compileExpression(parsedExpression, parserContext));
+                } catch (Exception e) {
+                    logger.debug("Could not precompile input entry {} of decision {}", inputContainer.getInputEntry().getId(), decision.getId(), e);
+                }
+            }
+
+            for (RuleOutputClauseContainer outputContainer : rule.getOutputEntries()) {
+                String outputEntryText = outputContainer.getOutputEntry() != null ? outputContainer.getOutputEntry().getText() : null;
+                if (StringUtils.isEmpty(outputEntryText)) {
+                    continue;
+                }
+
+                try {
+                    compiledExpressions.put(outputContainer.getOutputEntry(), MVEL.compileExpression(outputEntryText, parserContext));
+                } catch (Exception e) {
+                    logger.debug("Could not precompile output entry {} of decision {}", outputContainer.getOutputEntry().getId(), decision.getId(), e);
+                }
+            }
+        }
+
+        return compiledExpressions;
+    }
+
+    public Decision getDecision() {
+        return decision;
+    }
+
+    protected static class FunctionSetCompilation {
+
+        protected final Map<String, Method> customExpressionFunctions;
+        protected final Map<Object, Serializable> compiledExpressions;
+
+        public FunctionSetCompilation(Map<String, Method> customExpressionFunctions, Map<Object, Serializable> compiledExpressions) {
+            this.customExpressionFunctions = customExpressionFunctions;
+            this.compiledExpressions = compiledExpressions;
+        }
+    }
+
+}
@@ -12,6 +12,7 @@
  */
 package org.flowable.dmn.engine.impl.mvel;
 
+import java.io.Serializable;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -19,6 +20,7 @@ import java.util.Map;
 
 import org.apache.commons.lang3.StringUtils;
 import org.flowable.dmn.api.DecisionExecutionAuditContainer;
+import org.flowable.dmn.engine.impl.ruleindex.DecisionTableRuleIndex;
 import org.flowable.dmn.model.BuiltinAggregator;
 import org.flowable.engine.common.api.FlowableException;
 import org.mvel2.ParserContext;
@@ -37,6 +39,8 @@ public class MvelExecutionContext {
     protected DecisionExecutionAuditContainer auditContainer;
     protected Map<String, List<Object>> outputValues = new HashMap<>();
     protected BuiltinAggregator aggregator;
+    protected Map<Object, Serializable> compiledExpressions;
+    protected DecisionTableRuleIndex ruleIndex;
 
     public void checkExecutionContext(String variableId) {
 
@@ -133,4 +137,27 @@ public class MvelExecutionContext {
     public void setAggregator(BuiltinAggregator aggregator) {
         this.aggregator = aggregator;
     }
+
+    public Serializable getCompiledExpression(Object expression) {
+        if (compiledExpressions == null) {
+            return null;
+        }
+        return compiledExpressions.get(expression);
+    }
+
+    public Map<Object, Serializable> getCompiledExpressions() {
+        return compiledExpressions;
+    }
+
+    public void setCompiledExpressions(Map<Object, Serializable> compiledExpressions) {
+        this.compiledExpressions = compiledExpressions;
+    }
+
+    public DecisionTableRuleIndex getRuleIndex() {
+        return ruleIndex;
+    }
+
+    public void setRuleIndex(DecisionTableRuleIndex ruleIndex) {
+        this.ruleIndex = ruleIndex;
+    }
 }
@@ -26,6 +26,7 @@ import org.flowable.engine.common.api.FlowableException;
 import org.joda.time.LocalDate;
 import org.mvel2.ParserContext;
 import org.mvel2.integration.PropertyHandler;
+import org.mvel2.integration.PropertyHandlerFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -44,21 +45,13 @@ public class MvelExecutionContextBuilder {
         // initialize audit trail
         executionContext.setAuditContainer(DecisionExecutionAuditUtil.initializeRuleExecutionAudit(decision, inputVariables));
 
-        ParserContext parserContext = new ParserContext();
-
-        // add custom functions to context
-        if (customExpressionFunctions != null && !customExpressionFunctions.isEmpty()) {
-            for (Map.Entry<String, Method> config : customExpressionFunctions.entrySet()) {
-                parserContext.addImport(config.getKey(), config.getValue());
-            }
-        }
-
-        executionContext.setParserContext(parserContext);
+        executionContext.setParserContext(createParserContext(customExpressionFunctions));
 
         // add property handlers to context
         if (propertyHandlers != null) {
             for (Class<?> variableClass : propertyHandlers.keySet()) {
                 executionContext.addPropertyHandler(variableClass, propertyHandlers.get(variableClass));
+                PropertyHandlerFactory.registerPropertyHandler(variableClass, propertyHandlers.get(variableClass));
             }
         }
 
@@ -88,6 +81,19 @@ public class MvelExecutionContextBuilder {
         return executionContext;
     }
 
+    public static ParserContext createParserContext(Map<String, Method> customExpressionFunctions) {
+        ParserContext parserContext = new ParserContext();
+
+        // add custom functions to context
+        if (customExpressionFunctions != null && !customExpressionFunctions.isEmpty()) {
+            for (Map.Entry<String, Method> config : customExpressionFunctions.entrySet()) {
+                parserContext.addImport(config.getKey(), config.getValue());
+            }
+        }
+
+        return parserContext;
+    }
+
     protected static void preProcessInputVariables(DecisionTable decisionTable, Map<String, Object> inputVariables) {
 
         if (inputVariables == null) {
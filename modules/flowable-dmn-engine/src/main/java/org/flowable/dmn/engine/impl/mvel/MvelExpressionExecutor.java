@@ -20,7 +20,6 @@ import org.flowable.dmn.model.LiteralExpression;
 import org.flowable.dmn.model.OutputClause;
 import org.flowable.dmn.model.UnaryTests;
 import org.mvel2.MVEL;
-import org.mvel2.integration.PropertyHandlerFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -45,18 +44,16 @@ public class MvelExpressionExecutor {
             throw new IllegalArgumentException("execution context is required");
         }
 
-        for (Class<?> variableClass : executionContext.getPropertyHandlers().keySet()) {
-            PropertyHandlerFactory.registerPropertyHandler(variableClass, executionContext.getPropertyHandlers().get(variableClass));
-        }
-
         // check if variable is present MVEL execution context
         executionContext.checkExecutionContext(inputClause.getInputExpression().getText());
 
-        // pre parse expression
-        String parsedExpression = MvelConditionExpressionPreParser.parse(inputEntry.getText(), inputClause.getInputExpression().getText(), inputClause.getInputExpression().getTypeRef());
-
-        // compile MVEL expression
-        Serializable compiledExpression = MVEL.compileExpression(parsedExpression, executionContext.getParserContext());
+        // use the expression compiled at deployment time if available, otherwise pre parse and compile MVEL expression
+        String parsedExpression = null;
+        Serializable compiledExpression = executionContext.getCompiledExpression(inputEntry);
+        if (compiledExpression == null) {
+            parsedExpression = preParseInputExpression(inputClause, inputEntry);
+            compiledExpression = MVEL.compileExpression(parsedExpression, executionContext.getParserContext());
+        }
 
         // execute MVEL expression
         Boolean result;
@@ -64,6 +61,9 @@ public class MvelExpressionExecutor {
         try {
             result = MVEL.executeExpression(compiledExpression, executionContext.getStackVariables(), Boolean.class);
         } catch (Exception ex) {
+            if (parsedExpression == null) {
+                parsedExpression = preParseInputExpression(inputClause, inputEntry);
+            }
             logger.warn("Error while executing input entry: {}", parsedExpression, ex);
             throw new FlowableDmnExpressionException("error while executing input entry", parsedExpression, ex);
         }
@@ -71,6 +71,10 @@ public class MvelExpressionExecutor {
         return result;
     }
 
+    protected static String preParseInputExpression(InputClause inputClause, UnaryTests inputEntry) {
+        return MvelConditionExpressionPreParser.parse(inputEntry.getText(), inputClause.getInputExpression().getText(), inputClause.getInputExpression().getTypeRef());
+    }
+
     public static Object executeOutputExpression(OutputClause outputClause, LiteralExpression outputEntry, MvelExecutionContext executionContext) {
         if (outputClause == null) {
             throw new IllegalArgumentException("output clause is required");
@@ -82,8 +86,11 @@ public class MvelExpressionExecutor {
             throw new IllegalArgumentException("execution context is required");
         }
 
-        // compile MVEL expression
-        Serializable compiledExpression = MVEL.compileExpression(outputEntry.getText(), executionContext.getParserContext());
+        // use the expression compiled at deployment time if available, otherwise compile MVEL expression
+        Serializable compiledExpression = executionContext.getCompiledExpression(outputEntry);
+        if (compiledExpression == null) {
+            compiledExpression = MVEL.compileExpression(outputEntry.getText(), executionContext.getParserContext());
+        }
 
         // execute MVEL expression
         Object result = null;
@@ -14,7 +14,9 @@ package org.flowable.dmn.engine.impl.persistence.deploy;
 
 import java.io.Serializable;
 
+import org.flowable.dmn.engine.impl.mvel.MvelCompiledExpressions;
 import org.flowable.dmn.engine.impl.persistence.entity.DecisionTableEntity;
+import org.flowable.dmn.engine.impl.ruleindex.DecisionTableRuleIndex;
 import org.flowable.dmn.model.Decision;
 import org.flowable.dmn.model.DmnDefinition;
 
@@ -28,6 +30,8 @@ public class DecisionTableCacheEntry implements Serializable {
     protected DecisionTableEntity decisionTableEntity;
     protected DmnDefinition dmnDefinition;
     protected Decision decision;
+    protected transient MvelCompiledExpressions compiledExpressions;
+    protected transient DecisionTableRuleIndex ruleIndex;
 
     public DecisionTableCacheEntry(DecisionTableEntity decisionTableEntity, DmnDefinition dmnDefinition, Decision decision) {
         this.decisionTableEntity = decisionTableEntity;
@@ -58,4 +62,20 @@ public class DecisionTableCacheEntry implements Serializable {
     public void setDecision(Decision decision) {
         this.decision = decision;
     }
+
+    public MvelCompiledExpressions getCompiledExpressions() {
+        return compiledExpressions;
+    }
+
+    public void setCompiledExpressions(MvelCompiledExpressions compiledExpressions) {
+        this.compiledExpressions = compiledExpressions;
+    }
+
+    public DecisionTableRuleIndex getRuleIndex() {
+        return ruleIndex;
+    }
+
+    public void setRuleIndex(DecisionTableRuleIndex ruleIndex) {
+        this.ruleIndex = ruleIndex;
+    }
 }
@@ -12,48 +12,39 @@
  */
 package org.flowable.dmn.engine.impl.persistence.deploy;
 
-import java.util.Collections;
-import java.util.HashMap;
-import java.util.LinkedHashMap;
-import java.util.Map;
-
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
+import org.flowable.engine.common.impl.persistence.deploy.ConcurrentDeploymentCacheStore;
+import org.flowable.engine.common.impl.persistence.deploy.DeploymentCacheStatistics;
+import org.flowable.engine.common.impl.persistence.deploy.DeploymentCacheStatisticsProvider;
+import org.flowable.engine.common.impl.persistence.deploy.DeploymentCacheWeigher;
 
 /**
  * Default cache: keep everything in memory, unless a limit is set.
  * 
+ * Lookups don't take a lock, see {@link ConcurrentDeploymentCacheStore} for how entries are evicted when a limit is set.
+ * 
  * @author Joram Barrez
  */
-public class DefaultDeploymentCache<T> implements DeploymentCache<T> {
+public class DefaultDeploymentCache<T> implements DeploymentCache<T>, DeploymentCacheStatisticsProvider {
 
-    private static final Logger logger = LoggerFactory.getLogger(DefaultDeploymentCache.class);
-
-    protected Map<String, T> cache;
+    protected ConcurrentDeploymentCacheStore<T> cache;
 
     /** Cache with no limit */
     public DefaultDeploymentCache() {
-        this.cache = Collections.synchronizedMap(new HashMap<String, T>());
+        this.cache = new ConcurrentDeploymentCacheStore<T>();
     }
 
     /**
      * Cache which has a hard limit: no more elements will be cached than the limit.
      */
     public DefaultDeploymentCache(final int limit) {
-        this.cache = Collections.synchronizedMap(new LinkedHashMap<String, T>(limit + 1, 0.75f, true) { // +1 is needed, because the entry is inserted first, before it is removed
-            // 0.75 is the default (see javadocs)
-            // true will keep the 'access-order', which is needed to have a real LRU cache
-            private static final long serialVersionUID = 1L;
-
-            protected boolean removeEldestEntry(Map.Entry<String, T> eldest) {
-                boolean removeEldest = size() > limit;
-                if (removeEldest && logger.isTraceEnabled()) {
-                    logger.trace("Cache limit is reached, {} will be evicted", eldest.getKey());
-                }
-                return removeEldest;
-            }
+        this.cache = new ConcurrentDeploymentCacheStore<T>(limit, null);
+    }
 
-        });
+    /**
+     * Cache which is limited by weight: the total weight of the cached elements, as calculated by the weigher, will not be more than the maximum weight.
+     */
+    public DefaultDeploymentCache(long maximumWeight, DeploymentCacheWeigher<? super T> weigher) {
+        this.cache = new ConcurrentDeploymentCacheStore<T>(maximumWeight, weigher);
     }
 
     public T get(String id) {
@@ -70,13 +61,25 @@ public class DefaultDeploymentCache<T> implements DeploymentCache<T> {
 
     @Override
     public boolean contains(String id) {
-        return cache.containsKey(id);
+        return cache.contains(id);
     }
 
     public void clear() {
         cache.clear();
     }
 
+    @Override
+    public DeploymentCacheStatistics getStatistics() {
+        return cache.getStatistics();
+    }
+
+    /**
+     * @return the total weight of the cached elements, which is the number of elements when no weigher is used.
+     */
+    public long getWeight() {
+        return cache.getWeight();
+    }
+
     // For testing purposes only
     public int size() {
         return cache.size();
@@ -26,6 +26,7 @@ import org.flowable.dmn.engine.impl.persistence.entity.ResourceEntity;
 import org.flowable.dmn.model.DmnDefinition;
 import org.flowable.engine.common.api.FlowableException;
 import org.flowable.engine.common.api.FlowableObjectNotFoundException;
+import org.flowable.engine.common.impl.persistence.deploy.DeploymentCacheStatisticsProvider;
 
 /**
  * @author Tijs Rademakers
@@ -140,6 +141,7 @@ public class DeploymentManager {
         DecisionTableCacheEntry cachedDecision = decisionCache.get(decisionId);
 
         if (cachedDecision == null) {
+            long loadStartTime = System.nanoTime();
             DmnDeploymentEntity deployment = engineConfig.getDeploymentEntityManager().findById(deploymentId);
             List<ResourceEntity> resources = engineConfig.getResourceEntityManager().findResourcesByDeploymentId(deploymentId);
             for (ResourceEntity resource : resources) {
@@ -148,6 +150,7 @@ public class DeploymentManager {
 
             deployment.setNew(false);
             deploy(deployment, null);
+            recordCacheLoad(decisionCache, loadStartTime);
             cachedDecision = decisionCache.get(decisionId);
 
             if (cachedDecision == null) {
@@ -157,6 +160,12 @@ public class DeploymentManager {
         return cachedDecision;
     }
 
+    protected void recordCacheLoad(Object cache, long loadStartTime) {
+        if (cache instanceof DeploymentCacheStatisticsProvider) {
+            ((DeploymentCacheStatisticsProvider) cache).getStatistics().recordLoad(System.nanoTime() - loadStartTime);
+        }
+    }
+
     public void removeDeployment(String deploymentId) {
 
         DmnDeploymentEntity deployment = deploymentEntityManager.findById(deploymentId);
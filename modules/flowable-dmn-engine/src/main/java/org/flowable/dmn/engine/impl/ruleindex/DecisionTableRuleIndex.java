@@ -0,0 +1,151 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.dmn.engine.impl.ruleindex;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.apache.commons.lang3.StringUtils;
+import org.flowable.dmn.model.DecisionRule;
+import org.flowable.dmn.model.DecisionTable;
+import org.flowable.dmn.model.InputClause;
+import org.flowable.dmn.model.RuleInputClauseContainer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Index on the input entries of a decision table, used to determine which rules can possibly match the input variables without evaluating every rule.
+ *
+ * Equality tests on string and number inputs are put in hash based indexes and range tests (&lt;, &lt;=, &gt;, &gt;=) on number inputs in sorted indexes. Rules with an entry that cannot be
+ * indexed are always a candidate for that input. The candidate rules still need to be evaluated: the index only rules out the rules that are guaranteed to be false.
+ *
+ * When the index cannot answer for the given variables (a referenced variable is missing, or an input value has an unexpected type), null is returned and all rules need to be evaluated.
+ */
+public class DecisionTableRuleIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(DecisionTableRuleIndex.class);
+
+    protected int numberOfRules;
+    protected List<InputColumnIndex> columnIndexes;
+    protected Set<String> referencedVariables;
+
+    protected DecisionTableRuleIndex(int numberOfRules, List<InputColumnIndex> columnIndexes, Set<String> referencedVariables) {
+        this.numberOfRules = numberOfRules;
+        this.columnIndexes = columnIndexes;
+        this.referencedVariables = referencedVariables;
+    }
+
+    /**
+     * Builds the index for the given decision table.
+     *
+     * @param compiledExpressions
+     *            the precompiled input entries; when a non empty input entry could not be precompiled, no index is created so its compilation error is raised as before
+     * @return the index, or null when no input entry can be indexed
+     */
+    public static DecisionTableRuleIndex build(DecisionTable decisionTable, Map<Object, Serializable> compiledExpressions) {
+        if (decisionTable == null || decisionTable.getRules().isEmpty()) {
+            return null;
+        }
+
+        List<DecisionRule> rules = decisionTable.getRules();
+        Map<InputClause, InputColumnIndex> columnIndexesPerClause = new IdentityHashMap<>();
+        Set<String> referencedVariables = new HashSet<>();
+
+        for (int ruleIndex = 0; ruleIndex < rules.size(); ruleIndex++) {
+            for (RuleInputClauseContainer inputContainer : rules.get(ruleIndex).getInputEntries()) {
+                String inputEntryText = inputContainer.getInputEntry() != null ? inputContainer.getInputEntry().getText() : null;
+                if (StringUtils.isEmpty(inputEntryText) || "-".equals(inputEntryText)) {
+                    continue;
+                }
+
+                InputClause inputClause = inputContainer.getInputClause();
+                if (inputClause == null || inputClause.getInputExpression() == null || StringUtils.isEmpty(inputClause.getInputExpression().getText())) {
+                    return null;
+                }
+
+                if (compiledExpressions == null || !compiledExpressions.containsKey(inputContainer.getInputEntry())) {
+                    logger.debug("Not indexing decision table {}: input entry {} is not precompiled", decisionTable.getId(), inputContainer.getInputEntry().getId());
+                    return null;
+                }
+
+                String inputExpression = inputClause.getInputExpression().getText();
+                referencedVariables.add(inputExpression.contains(".") ? inputExpression.substring(0, inputExpression.indexOf('.')) : inputExpression);
+
+                // inputs that cannot be indexed at all are registered as null
+                if (!columnIndexesPerClause.containsKey(inputClause)) {
+                    columnIndexesPerClause.put(inputClause, InputColumnIndex.create(inputClause));
+                }
+
+                InputColumnIndex columnIndex = columnIndexesPerClause.get(inputClause);
+                if (columnIndex != null) {
+                    columnIndex.addEntry(ruleIndex, inputEntryText);
+                }
+            }
+        }
+
+        List<InputColumnIndex> columnIndexes = new ArrayList<>();
+        for (InputColumnIndex columnIndex : columnIndexesPerClause.values()) {
+            if (columnIndex != null && columnIndex.hasIndexedEntries()) {
+                columnIndex.complete(rules.size());
+                columnIndexes.add(columnIndex);
+            }
+        }
+
+        if (columnIndexes.isEmpty()) {
+            return null;
+        }
+
+        logger.debug("Created rule index for decision table {} on {} input(s)", decisionTable.getId(), columnIndexes.size());
+        return new DecisionTableRuleIndex(rules.size(), columnIndexes, referencedVariables);
+    }
+
+    /**
+     * Returns the positions (in {@link DecisionTable#getRules()}) of the rules that can match the given variables, or null when all rules need to be evaluated.
+     */
+    public BitSet findCandidateRules(Map<String, Object> variables) {
+        // a missing variable fails the evaluation of the decision table; leave that to the regular evaluation
+        if (variables == null || variables.isEmpty() || !variables.keySet().containsAll(referencedVariables)) {
+            return null;
+        }
+
+        BitSet candidates = new BitSet(numberOfRules);
+        candidates.set(0, numberOfRules);
+        for (InputColumnIndex columnIndex : columnIndexes) {
+            BitSet columnCandidates = columnIndex.findCandidateRules(variables.get(columnIndex.getVariableName()));
+            if (columnCandidates == null) {
+                continue;
+            }
+
+            candidates.and(columnCandidates);
+            if (candidates.isEmpty()) {
+                break;
+            }
+        }
+
+        return candidates;
+    }
+
+    public int getNumberOfRules() {
+        return numberOfRules;
+    }
+
+    public List<InputColumnIndex> getColumnIndexes() {
+        return columnIndexes;
+    }
+}
@@ -0,0 +1,266 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.dmn.engine.impl.ruleindex;
+
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.regex.Pattern;
+
+import org.flowable.dmn.model.InputClause;
+
+/**
+ * Index on the input entries of one input clause of a decision table.
+ *
+ * Only entries of which the outcome can be determined without MVEL are indexed:
+ * <ul>
+ * <li>string inputs: equality with a quoted string literal, e.g. <code>"gold"</code> or <code>== 'gold'</code></li>
+ * <li>number inputs: equality or comparison with a number literal, e.g. <code>10</code>, <code>== 10</code>, <code>&lt; 10</code> or <code>&gt;= 10.5</code></li>
+ * </ul>
+ * Rules with another kind of entry (or no entry) for the input are always a candidate.
+ *
+ * The range indexes store, for every bound, the union of the rules of all the bounds that are matched by a value on the same side of it, so finding the candidates of a comparison is a
+ * single sorted map lookup.
+ */
+public class InputColumnIndex {
+
+    protected static final Pattern VARIABLE_NAME_PATTERN = Pattern.compile("[A-Za-z_$][A-Za-z0-9_$]*");
+    protected static final Pattern NUMBER_LITERAL_PATTERN = Pattern.compile("-?[0-9]{1,15}(\\.[0-9]{1,15})?");
+
+    // largest magnitude of which a long is represented exactly as a double
+    protected static final long MAX_EXACT_LONG = 1L << 53;
+
+    protected String variableName;
+    protected boolean numberInput;
+
+    protected BitSet indexedRules = new BitSet();
+    protected Map<String, BitSet> stringEqualsIndex = new HashMap<>();
+    protected NavigableMap<Double, BitSet> numberEqualsIndex = new TreeMap<>();
+    protected NavigableMap<Double, BitSet> lessThanIndex = new TreeMap<>();
+    protected NavigableMap<Double, BitSet> lessThanOrEqualIndex = new TreeMap<>();
+    protected NavigableMap<Double, BitSet> greaterThanIndex = new TreeMap<>();
+    protected NavigableMap<Double, BitSet> greaterThanOrEqualIndex = new TreeMap<>();
+
+    // rules that have no indexed entry for this input
+    protected BitSet unconditionalRules;
+
+    protected InputColumnIndex(String variableName, boolean numberInput) {
+        this.variableName = variableName;
+        this.numberInput = numberInput;
+    }
+
+    /**
+     * Creates the index for the given input clause, or returns null when its input expression is not a plain variable of a string or numeric type.
+     */
+    public static InputColumnIndex create(InputClause inputClause) {
+        String inputExpression = inputClause.getInputExpression().getText();
+        if (inputExpression == null || !VARIABLE_NAME_PATTERN.matcher(inputExpression).matches()) {
+            return null;
+        }
+
+        String typeRef = inputClause.getInputExpression().getTypeRef();
+        if ("string".equals(typeRef)) {
+            return new InputColumnIndex(inputExpression, false);
+        } else if ("number".equals(typeRef) || "double".equals(typeRef) || "integer".equals(typeRef) || "long".equals(typeRef)) {
+            return new InputColumnIndex(inputExpression, true);
+        }
+
+        return null;
+    }
+
+    /**
+     * Adds the input entry of the rule at the given position, if it can be indexed.
+     */
+    public void addEntry(int ruleIndex, String inputEntryText) {
+        String entry = inputEntryText.trim();
+
+        if (numberInput) {
+            addNumberEntry(ruleIndex, entry);
+        } else {
+            addStringEntry(ruleIndex, entry);
+        }
+    }
+
+    protected void addStringEntry(int ruleIndex, String entry) {
+        if (entry.startsWith("==")) {
+            entry = entry.substring(2).trim();
+        }
+
+        if (entry.length() < 2) {
+            return;
+        }
+
+        char quote = entry.charAt(0);
+        if ((quote != '"' && quote != '\'') || entry.charAt(entry.length() - 1) != quote) {
+            return;
+        }
+
+        String value = entry.substring(1, entry.length() - 1);
+        if (value.indexOf('"') >= 0 || value.indexOf('\'') >= 0 || value.indexOf('\\') >= 0) {
+            return;
+        }
+
+        addRule(stringEqualsIndex, value, ruleIndex);
+    }
+
+    protected void addNumberEntry(int ruleIndex, String entry) {
+        Map<Double, BitSet> index;
+        String operand;
+        if (entry.startsWith("==")) {
+            index = numberEqualsIndex;
+            operand = entry.substring(2);
+        } else if (entry.startsWith("<=")) {
+            index = lessThanOrEqualIndex;
+            operand = entry.substring(2);
+        } else if (entry.startsWith(">=")) {
+            index = greaterThanOrEqualIndex;
+            operand = entry.substring(2);
+        } else if (entry.startsWith("<")) {
+            index = lessThanIndex;
+            operand = entry.substring(1);
+        } else if (entry.startsWith(">")) {
+            index = greaterThanIndex;
+            operand = entry.substring(1);
+        } else {
+            index = numberEqualsIndex;
+            operand = entry;
+        }
+
+        operand = operand.trim();
+        if (!NUMBER_LITERAL_PATTERN.matcher(operand).matches()) {
+            return;
+        }
+
+        addRule(index, normalize(Double.parseDouble(operand)), ruleIndex);
+    }
+
+    protected <K> void addRule(Map<K, BitSet> index, K key, int ruleIndex) {
+        BitSet rules = index.get(key);
+        if (rules == null) {
+            rules = new BitSet();
+            index.put(key, rules);
+        }
+        rules.set(ruleIndex);
+        indexedRules.set(ruleIndex);
+    }
+
+    public boolean hasIndexedEntries() {
+        return !indexedRules.isEmpty();
+    }
+
+    /**
+     * Finishes the index once all entries are added.
+     */
+    public void complete(int numberOfRules) {
+        unconditionalRules = new BitSet(numberOfRules);
+        unconditionalRules.set(0, numberOfRules);
+        unconditionalRules.andNot(indexedRules);
+
+        // a value below a bound matches the 'less than' rules of that bound and of all higher bounds
+        accumulate(lessThanIndex, lessThanIndex.descendingMap());
+        accumulate(lessThanOrEqualIndex, lessThanOrEqualIndex.descendingMap());
+
+        // a value above a bound matches the 'greater than' rules of that bound and of all lower bounds
+        accumulate(greaterThanIndex, greaterThanIndex);
+        accumulate(greaterThanOrEqualIndex, greaterThanOrEqualIndex);
+    }
+
+    protected void accumulate(NavigableMap<Double, BitSet> index, NavigableMap<Double, BitSet> orderedIndex) {
+        BitSet union = new BitSet();
+        for (Map.Entry<Double, BitSet> entry : orderedIndex.entrySet()) {
+            union.or(entry.getValue());
+            index.put(entry.getKey(), (BitSet) union.clone());
+        }
+    }
+
+    /**
+     * Returns the positions of the rules that can match the given value, or null when the value cannot be looked up in the index.
+     */
+    public BitSet findCandidateRules(Object value) {
+        BitSet candidates = (BitSet) unconditionalRules.clone();
+
+        if (numberInput) {
+            Double number = toDouble(value);
+            if (number == null) {
+                return null;
+            }
+
+            addRules(candidates, numberEqualsIndex.get(number));
+            addRules(candidates, lessThanIndex.higherEntry(number));
+            addRules(candidates, lessThanOrEqualIndex.ceilingEntry(number));
+            addRules(candidates, greaterThanIndex.lowerEntry(number));
+            addRules(candidates, greaterThanOrEqualIndex.floorEntry(number));
+
+        } else {
+            if (!(value instanceof String)) {
+                return null;
+            }
+
+            addRules(candidates, stringEqualsIndex.get(value));
+        }
+
+        return candidates;
+    }
+
+    protected void addRules(BitSet candidates, Map.Entry<Double, BitSet> indexEntry) {
+        if (indexEntry != null) {
+            addRules(candidates, indexEntry.getValue());
+        }
+    }
+
+    protected void addRules(BitSet candidates, BitSet rules) {
+        if (rules != null) {
+            candidates.or(rules);
+        }
+    }
+
+    /**
+     * Only values that MVEL compares exactly like their double value are looked up; for other values (e.g. BigDecimal or float) null is returned.
+     */
+    protected Double toDouble(Object value) {
+        if (value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            return normalize(((Number) value).doubleValue());
+
+        } else if (value instanceof Long) {
+            long longValue = (Long) value;
+            if (longValue > MAX_EXACT_LONG || longValue < -MAX_EXACT_LONG) {
+                return null;
+            }
+            return normalize((double) longValue);
+
+        } else if (value instanceof Double) {
+            double doubleValue = (Double) value;
+            if (Double.isNaN(doubleValue) || Double.isInfinite(doubleValue)) {
+                return null;
+            }
+            return normalize(doubleValue);
+        }
+
+        return null;
+    }
+
+    protected Double normalize(double value) {
+        // -0.0 and 0.0 are equal for MVEL, but not for Double.compareTo
+        return value == 0.0 ? 0.0 : value;
+    }
+
+    public String getVariableName() {
+        return variableName;
+    }
+
+    public boolean isNumberInput() {
+        return numberInput;
+    }
+}
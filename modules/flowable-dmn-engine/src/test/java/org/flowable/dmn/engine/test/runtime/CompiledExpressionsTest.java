@@ -0,0 +1,72 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.dmn.engine.test.runtime;
+
+import java.io.Serializable;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.flowable.dmn.api.DmnDecisionTable;
+import org.flowable.dmn.api.DmnRuleService;
+import org.flowable.dmn.engine.DmnEngine;
+import org.flowable.dmn.engine.DmnEngineConfiguration;
+import org.flowable.dmn.engine.impl.mvel.MvelCompiledExpressions;
+import org.flowable.dmn.engine.impl.persistence.deploy.DecisionTableCacheEntry;
+import org.flowable.dmn.engine.test.DmnDeploymentAnnotation;
+import org.flowable.dmn.engine.test.FlowableDmnRule;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+
+public class CompiledExpressionsTest {
+
+    @Rule
+    public FlowableDmnRule flowableDmnRule = new FlowableDmnRule();
+
+    @Test
+    @DmnDeploymentAnnotation(resources = "org/flowable/dmn/engine/test/runtime/HitPolicyFirstTest.firstHitPolicy.dmn")
+    public void expressionsCompiledOnDeployment() {
+        DmnEngine dmnEngine = flowableDmnRule.getDmnEngine();
+        DmnEngineConfiguration dmnEngineConfiguration = dmnEngine.getDmnEngineConfiguration();
+
+        DmnDecisionTable decisionTable = dmnEngine.getDmnRepositoryService().createDecisionTableQuery().decisionTableKey("decision1").singleResult();
+        DecisionTableCacheEntry cacheEntry = dmnEngineConfiguration.getDeploymentManager().resolveDecisionTable(decisionTable);
+
+        MvelCompiledExpressions compiledExpressions = cacheEntry.getCompiledExpressions();
+        Assert.assertNotNull(compiledExpressions);
+
+        // 3 input entries and 6 output entries
+        Map<Object, Serializable> compiled = compiledExpressions.getCompiledExpressions(dmnEngineConfiguration.getCustomExpressionFunctions());
+        Assert.assertEquals(9, compiled.size());
+        Assert.assertSame(compiled, compiledExpressions.getCompiledExpressions(dmnEngineConfiguration.getCustomExpressionFunctions()));
+    }
+
+    @Test
+    @DmnDeploymentAnnotation(resources = "org/flowable/dmn/engine/test/runtime/HitPolicyFirstTest.firstHitPolicy.dmn")
+    public void repeatedExecutionsWithCompiledExpressions() {
+        DmnRuleService dmnRuleService = flowableDmnRule.getDmnEngine().getDmnRuleService();
+
+        for (int i = 0; i < 5; i++) {
+            Map<String, Object> inputVariables = new HashMap<>();
+            inputVariables.put("inputVariable1", 11);
+            Map<String, Object> result = dmnRuleService.executeDecisionByKeySingleResult("decision1", inputVariables);
+            Assert.assertEquals("gt 10", result.get("outputVariable1"));
+            Assert.assertEquals("result2", result.get("outputVariable2"));
+
+            inputVariables.put("inputVariable1", 5);
+            result = dmnRuleService.executeDecisionByKeySingleResult("decision1", inputVariables);
+            Assert.assertEquals("lt 10", result.get("outputVariable1"));
+            Assert.assertEquals("result1", result.get("outputVariable2"));
+        }
+    }
+}
@@ -0,0 +1,129 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.dmn.engine.test.runtime;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.flowable.dmn.api.DmnDecisionTable;
+import org.flowable.dmn.api.DmnRuleService;
+import org.flowable.dmn.api.RuleEngineExecutionResult;
+import org.flowable.dmn.engine.DmnEngine;
+import org.flowable.dmn.engine.impl.persistence.deploy.DecisionTableCacheEntry;
+import org.flowable.dmn.engine.test.DmnDeploymentAnnotation;
+import org.flowable.dmn.engine.test.FlowableDmnRule;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+
+public class RuleIndexTest {
+
+    @Rule
+    public FlowableDmnRule flowableDmnRule = new FlowableDmnRule("custom6.flowable.dmn.cfg.xml");
+
+    @Test
+    @DmnDeploymentAnnotation(resources = "org/flowable/dmn/engine/test/runtime/RuleIndexTest.ruleOrderHitPolicy.dmn")
+    public void ruleOrderHitPolicyWithIndex() {
+        DmnEngine dmnEngine = flowableDmnRule.getDmnEngine();
+        DmnDecisionTable decisionTable = dmnEngine.getDmnRepositoryService().createDecisionTableQuery().decisionTableKey("decision1").singleResult();
+        DecisionTableCacheEntry cacheEntry = dmnEngine.getDmnEngineConfiguration().getDeploymentManager().resolveDecisionTable(decisionTable);
+        Assert.assertNotNull(cacheEntry.getRuleIndex());
+        Assert.assertEquals(2, cacheEntry.getRuleIndex().getColumnIndexes().size());
+
+        assertResults("gold", 50, "r1", "r6");
+        assertResults("gold", 100, "r3", "r7");
+        assertResults("gold", 100.0, "r3", "r7");
+        assertResults("gold", -5, "r1", "r6", "r9");
+        assertResults("silver", 100L, "r2", "r8");
+        assertResults("silver", 1500, "r2", "r4");
+        assertResults("bronze", 10.5, "r5");
+        assertResults("gold", 2000L, "r3", "r4");
+        assertResults("platinum", 5);
+        assertResults("platinum", 5000, "r4");
+
+        // values that are not looked up in the index are evaluated on all rules
+        assertResults("gold", new BigDecimal("50"), "r1", "r6");
+        assertResults("gold", 50.5f, "r1");
+    }
+
+    @Test
+    @DmnDeploymentAnnotation(resources = "org/flowable/dmn/engine/test/runtime/RuleIndexTest.ruleOrderHitPolicy.dmn")
+    public void skippedRulesInAuditTrail() {
+        DmnRuleService dmnRuleService = flowableDmnRule.getDmnEngine().getDmnRuleService();
+
+        Map<String, Object> inputVariables = new HashMap<>();
+        inputVariables.put("category", "bronze");
+        inputVariables.put("amount", 10);
+
+        RuleEngineExecutionResult result = dmnRuleService.executeDecisionByKeyWithAuditTrail("decision1", inputVariables);
+        Assert.assertEquals(1, result.getDecisionResult().size());
+        Assert.assertEquals(9, result.getAuditTrail().getRuleExecutions().size());
+
+        // skipped rule
+        Assert.assertTrue(result.getAuditTrail().getRuleExecutions().get(1).getConditionResults().isEmpty());
+        Assert.assertFalse(result.getAuditTrail().getRuleExecutions().get(1).isValid());
+
+        // evaluated rules
+        Assert.assertTrue(result.getAuditTrail().getRuleExecutions().get(5).isValid());
+        Assert.assertFalse(result.getAuditTrail().getRuleExecutions().get(6).getConditionResults().isEmpty());
+    }
+
+    @Test
+    @DmnDeploymentAnnotation(resources = "org/flowable/dmn/engine/test/runtime/RuleIndexTest.ruleOrderHitPolicy.dmn")
+    public void missingVariableWithIndex() {
+        DmnRuleService dmnRuleService = flowableDmnRule.getDmnEngine().getDmnRuleService();
+
+        Map<String, Object> inputVariables = new HashMap<>();
+        inputVariables.put("category", "gold");
+
+        RuleEngineExecutionResult result = dmnRuleService.executeDecisionByKeyWithAuditTrail("decision1", inputVariables);
+        Assert.assertTrue(result.getAuditTrail().isFailed());
+    }
+
+    @Test
+    @DmnDeploymentAnnotation(resources = "org/flowable/dmn/engine/test/runtime/HitPolicyFirstTest.firstHitPolicy.dmn")
+    public void firstHitPolicyWithIndex() {
+        DmnRuleService dmnRuleService = flowableDmnRule.getDmnEngine().getDmnRuleService();
+
+        Map<String, Object> inputVariables = new HashMap<>();
+        inputVariables.put("inputVariable1", 11);
+        Map<String, Object> result = dmnRuleService.executeDecisionByKeySingleResult("decision1", inputVariables);
+        Assert.assertEquals("gt 10", result.get("outputVariable1"));
+
+        inputVariables.put("inputVariable1", 5);
+        result = dmnRuleService.executeDecisionByKeySingleResult("decision1", inputVariables);
+        Assert.assertEquals("lt 10", result.get("outputVariable1"));
+
+        inputVariables.put("inputVariable1", 10);
+        result = dmnRuleService.executeDecisionByKeySingleResult("decision1", inputVariables);
+        Assert.assertEquals("lt 20", result.get("outputVariable1"));
+    }
+
+    protected void assertResults(String category, Object amount, String... expectedResults) {
+        Map<String, Object> inputVariables = new HashMap<>();
+        inputVariables.put("category", category);
+        inputVariables.put("amount", amount);
+
+        List<Map<String, Object>> result = flowableDmnRule.getDmnEngine().getDmnRuleService().executeDecisionByKey("decision1", inputVariables);
+
+        List<Object> results = new ArrayList<>();
+        for (Map<String, Object> ruleResult : result) {
+            results.add(ruleResult.get("outputVariable1"));
+        }
+        Assert.assertEquals(category + " " + amount, Arrays.asList((Object[]) expectedResults), results);
+    }
+}
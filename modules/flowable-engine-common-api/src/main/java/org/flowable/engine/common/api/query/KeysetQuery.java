@@ -0,0 +1,43 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.common.api.query;
+
+import java.util.List;
+
+/**
+ * Query that can be paged by keyset (seek) pagination: a page continues after the last result of the previous page, instead of skipping a number of
+ * results. The database can then seek directly to the start of the page, which keeps fetching a page fast however deep it is in the result set.
+ *
+ * The results of such a page are always ordered by their id.
+ */
+public interface KeysetQuery<U extends Object> {
+
+    /**
+     * Executes the query and gets the page of results that follows the given cursor, ordered by id.
+     *
+     * @param cursor
+     *            the cursor of the last result of the previous page, as returned by {@link #getCursor(Object)}, or null for the first page.
+     * @param maxResults
+     *            the maximum number of results in the page.
+     * @throws FlowableIllegalArgumentException
+     *             when an order has been set on this query.
+     */
+    List<U> listAfter(String cursor, int maxResults);
+
+    /**
+     * Returns the cursor to pass to {@link #listAfter(String, int)} to get the results that follow the given result. The cursor is an opaque value that
+     * should not be interpreted by the caller.
+     */
+    String getCursor(U result);
+
+}
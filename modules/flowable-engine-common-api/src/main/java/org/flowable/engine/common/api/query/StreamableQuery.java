@@ -0,0 +1,36 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.common.api.query;
+
+/**
+ * Query of which the results can be streamed: they're passed one by one to a consumer while they're read from the database, instead of being collected in a
+ * list first. Use this to go through a large number of results with a bounded amount of memory.
+ */
+public interface StreamableQuery<U extends Object> {
+
+    /**
+     * Executes the query and passes each result to the consumer, in the order of the query.
+     *
+     * The consumer is called within the command that executes the query, while the results are being read. The results are not cached by the engine, so
+     * changes made to them are not persisted, and for the same reason, they should not be kept after the consumer returns. Some JDBC drivers (MySQL when
+     * streaming results) don't allow other statements on the connection while the results are being read, so the consumer should not call the engine
+     * either.
+     */
+    void forEach(ResultConsumer<? super U> consumer);
+
+    interface ResultConsumer<U> {
+
+        void accept(U result);
+    }
+
+}
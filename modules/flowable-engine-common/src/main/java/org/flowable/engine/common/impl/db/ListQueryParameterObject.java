@@ -39,6 +39,7 @@ public class ListQueryParameterObject {
     protected NullHandlingOnOrder nullHandlingOnOrder;
     protected ResultType resultType;
     protected String databaseType;
+    protected Integer fetchSize;
     
     public ListQueryParameterObject() {
         
@@ -181,6 +182,14 @@ public class ListQueryParameterObject {
         return databaseType;
     }
 
+    public Integer getFetchSize() {
+        return fetchSize;
+    }
+
+    public void setFetchSize(Integer fetchSize) {
+        this.fetchSize = fetchSize;
+    }
+
     public String getNullHandlingColumn() {
         return nullHandlingColumn;
     }
@@ -0,0 +1,310 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.common.impl.persistence.deploy;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Concurrent storage for the deployment caches of the engines, optionally bounded by number of entries or by total weight.
+ *
+ * Lookups don't take a lock and don't reorder anything: they only mark the entry as accessed and record the access in a {@link FrequencySketch}. Adding and removing entries (which
+ * happens at deployment time or after a cache miss) is done under a lock.
+ *
+ * When bounded, eviction follows the W-TinyLFU scheme:
+ * <ul>
+ * <li>new entries are added to a small admission window (1% of the maximum weight, at least one entry) in insertion order, so a new entry is never evicted right away;</li>
+ * <li>entries that leave the window move to the main space, where a CLOCK (second chance) policy selects the eviction victim;</li>
+ * <li>when the cache is over its bound, the entry that most recently left the window is compared with the victim, and the one that was accessed least frequently is evicted.</li>
+ * </ul>
+ */
+public class ConcurrentDeploymentCacheStore<T> {
+
+    private static final Logger logger = LoggerFactory.getLogger(ConcurrentDeploymentCacheStore.class);
+
+    // the previous synchronized map based caches allowed null ids, which ConcurrentHashMap does not
+    protected static final Object NULL_KEY = new Object();
+
+    protected final ConcurrentMap<Object, Node<T>> data = new ConcurrentHashMap<Object, Node<T>>();
+    protected final DeploymentCacheStatistics statistics = new DeploymentCacheStatistics();
+
+    protected final long maximumWeight;
+    protected final long maximumWindowWeight;
+    protected final DeploymentCacheWeigher<? super T> weigher;
+    protected final FrequencySketch sketch;
+
+    protected final ReentrantLock evictionLock = new ReentrantLock();
+    protected final ArrayDeque<Node<T>> window = new ArrayDeque<Node<T>>();
+    protected final ArrayDeque<Node<T>> main = new ArrayDeque<Node<T>>();
+    protected long windowWeight;
+    protected long mainWeight;
+
+    /** Store with no limit */
+    public ConcurrentDeploymentCacheStore() {
+        this(-1, null);
+    }
+
+    /**
+     * Store which holds at most the given number of entries, or when a weigher is given, at most the given total weight.
+     */
+    public ConcurrentDeploymentCacheStore(long maximumWeight, DeploymentCacheWeigher<? super T> weigher) {
+        this.maximumWeight = maximumWeight;
+        this.weigher = weigher;
+        if (maximumWeight > 0) {
+            this.maximumWindowWeight = Math.max(1, maximumWeight / 100);
+            this.sketch = new FrequencySketch(maximumWeight);
+        } else {
+            this.maximumWindowWeight = -1;
+            this.sketch = null;
+        }
+    }
+
+    public T get(String id) {
+        Object key = toKey(id);
+        Node<T> node = data.get(key);
+        if (sketch != null) {
+            sketch.increment(key);
+        }
+
+        if (node == null) {
+            statistics.recordMiss();
+            return null;
+        }
+
+        statistics.recordHit();
+        if (!node.accessed) {
+            node.accessed = true;
+        }
+        return node.value;
+    }
+
+    public boolean contains(String id) {
+        return data.containsKey(toKey(id));
+    }
+
+    public void put(String id, T value) {
+        if (!isBounded()) {
+            data.put(toKey(id), new Node<T>(toKey(id), value, 1));
+            return;
+        }
+
+        Node<T> node = new Node<T>(toKey(id), value, weigh(id, value));
+        evictionLock.lock();
+        try {
+            Node<T> previousNode = data.put(node.key, node);
+            if (previousNode != null) {
+                unlink(previousNode);
+            }
+
+            node.inWindow = true;
+            window.addLast(node);
+            windowWeight += node.weight;
+
+            evict(node);
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    public void remove(String id) {
+        if (!isBounded()) {
+            data.remove(toKey(id));
+            return;
+        }
+
+        evictionLock.lock();
+        try {
+            Node<T> node = data.remove(toKey(id));
+            if (node != null) {
+                unlink(node);
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    public void clear() {
+        evictionLock.lock();
+        try {
+            data.clear();
+            window.clear();
+            main.clear();
+            windowWeight = 0;
+            mainWeight = 0;
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    public int size() {
+        return data.size();
+    }
+
+    /**
+     * @return the total weight of the cached entries; the number of entries when the store is not weighted.
+     */
+    public long getWeight() {
+        if (!isBounded()) {
+            return data.size();
+        }
+
+        evictionLock.lock();
+        try {
+            return windowWeight + mainWeight;
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    public long getMaximumWeight() {
+        return maximumWeight;
+    }
+
+    public boolean isBounded() {
+        return maximumWeight > 0;
+    }
+
+    public DeploymentCacheStatistics getStatistics() {
+        return statistics;
+    }
+
+    protected Object toKey(String id) {
+        return id != null ? id : NULL_KEY;
+    }
+
+    protected int weigh(String id, T value) {
+        if (weigher == null) {
+            return 1;
+        }
+        return Math.max(1, weigher.weigh(id, value));
+    }
+
+    /**
+     * Moves the entries that don't fit in the window anymore to the main space and evicts entries until the store is within its bound again. The added node itself is never evicted.
+     */
+    protected void evict(Node<T> addedNode) {
+        Node<T> candidate = null;
+        while (windowWeight > maximumWindowWeight && window.size() > 1) {
+            Node<T> node = window.pollFirst();
+            windowWeight -= node.weight;
+
+            node.inWindow = false;
+            main.addLast(node);
+            mainWeight += node.weight;
+            candidate = node;
+        }
+
+        while (windowWeight + mainWeight > maximumWeight) {
+            Node<T> victim = selectVictim(candidate);
+            if (victim == null) {
+                // main space is empty: evict the oldest entry of the window, unless that is the entry that is being added
+                Node<T> oldestNode = window.peekFirst();
+                if (oldestNode == null || oldestNode == addedNode) {
+                    break;
+                }
+                evictNode(oldestNode);
+                continue;
+            }
+
+            if (candidate != null && candidate != victim) {
+                // TinyLFU admission: keep the entry that is accessed most frequently
+                if (sketch.frequency(candidate.key) > sketch.frequency(victim.key)) {
+                    evictNode(victim);
+                } else {
+                    evictNode(candidate);
+                }
+                candidate = null;
+
+            } else {
+                evictNode(victim);
+                if (victim == candidate) {
+                    candidate = null;
+                }
+            }
+        }
+    }
+
+    /**
+     * Selects the next entry to evict from the main space with the CLOCK policy: entries that were accessed since they were last considered get a second chance.
+     */
+    protected Node<T> selectVictim(Node<T> candidate) {
+        int remainingChances = main.size();
+        while (remainingChances-- > 0) {
+            Node<T> node = main.peekFirst();
+            if (!node.accessed || node == candidate) {
+                return node;
+            }
+
+            node.accessed = false;
+            main.pollFirst();
+            main.addLast(node);
+        }
+        return main.peekFirst();
+    }
+
+    protected void evictNode(Node<T> node) {
+        data.remove(node.key, node);
+        unlink(node);
+        statistics.recordEviction();
+
+        if (logger.isTraceEnabled()) {
+            logger.trace("Cache limit is reached, {} is evicted", node.key);
+        }
+    }
+
+    protected void unlink(Node<T> node) {
+        if (node.inWindow) {
+            if (removeFromQueue(window, node)) {
+                windowWeight -= node.weight;
+            }
+        } else if (removeFromQueue(main, node)) {
+            mainWeight -= node.weight;
+        }
+    }
+
+    protected boolean removeFromQueue(ArrayDeque<Node<T>> queue, Node<T> node) {
+        // evicted entries are typically at the head (victim) or the tail (candidate) of the queue
+        if (queue.peekFirst() == node) {
+            queue.pollFirst();
+            return true;
+        } else if (queue.peekLast() == node) {
+            queue.pollLast();
+            return true;
+        }
+        return queue.remove(node);
+    }
+
+    protected static class Node<T> {
+
+        protected final Object key;
+        protected final T value;
+        protected final int weight;
+
+        // set by lookups, cleared by the CLOCK policy
+        protected volatile boolean accessed;
+
+        // guarded by the eviction lock
+        protected boolean inWindow;
+
+        public Node(Object key, T value, int weight) {
+            this.key = key;
+            this.value = value;
+            this.weight = weight;
+        }
+    }
+}
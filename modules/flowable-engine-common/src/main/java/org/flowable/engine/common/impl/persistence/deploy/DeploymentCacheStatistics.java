@@ -0,0 +1,129 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.common.impl.persistence.deploy;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Hit, miss, eviction and load counters of a deployment cache.
+ *
+ * Hits and misses are counted on every cache lookup, so these are spread over a number of padded slots (selected by thread id) to avoid all threads updating the same value.
+ */
+public class DeploymentCacheStatistics {
+
+    protected static final int STRIPES = 16;
+
+    // one counter per 8 longs (a cache line), to avoid false sharing between the stripes
+    protected static final int PADDING = 8;
+
+    protected final AtomicLongArray hitCounts = new AtomicLongArray(STRIPES * PADDING);
+    protected final AtomicLongArray missCounts = new AtomicLongArray(STRIPES * PADDING);
+    protected final AtomicLong evictionCount = new AtomicLong();
+    protected final AtomicLong loadCount = new AtomicLong();
+    protected final AtomicLong totalLoadTime = new AtomicLong();
+
+    public void recordHit() {
+        hitCounts.incrementAndGet(stripeIndex());
+    }
+
+    public void recordMiss() {
+        missCounts.incrementAndGet(stripeIndex());
+    }
+
+    public void recordEviction() {
+        evictionCount.incrementAndGet();
+    }
+
+    /**
+     * Records the loading of an object that was not found in the cache (typically by redeploying the deployment it belongs to).
+     */
+    public void recordLoad(long loadTimeNanos) {
+        loadCount.incrementAndGet();
+        totalLoadTime.addAndGet(loadTimeNanos);
+    }
+
+    protected int stripeIndex() {
+        long threadId = Thread.currentThread().getId();
+        return (int) ((threadId ^ (threadId >>> 16)) & (STRIPES - 1)) * PADDING;
+    }
+
+    protected long sum(AtomicLongArray counts) {
+        long sum = 0;
+        for (int i = 0; i < STRIPES; i++) {
+            sum += counts.get(i * PADDING);
+        }
+        return sum;
+    }
+
+    public long getHitCount() {
+        return sum(hitCounts);
+    }
+
+    public long getMissCount() {
+        return sum(missCounts);
+    }
+
+    public long getRequestCount() {
+        return getHitCount() + getMissCount();
+    }
+
+    /**
+     * @return the ratio of lookups that found the object in the cache, or 1 when there were no lookups yet.
+     */
+    public double getHitRate() {
+        long hitCount = getHitCount();
+        long requestCount = hitCount + getMissCount();
+        return requestCount == 0 ? 1.0 : (double) hitCount / requestCount;
+    }
+
+    public long getEvictionCount() {
+        return evictionCount.get();
+    }
+
+    public long getLoadCount() {
+        return loadCount.get();
+    }
+
+    /**
+     * @return the total time spent loading objects that were not in the cache, in milliseconds.
+     */
+    public long getTotalLoadTime() {
+        return TimeUnit.NANOSECONDS.toMillis(totalLoadTime.get());
+    }
+
+    /**
+     * @return the average time to load an object that was not in the cache, in milliseconds.
+     */
+    public double getAverageLoadTime() {
+        long loadCount = getLoadCount();
+        return loadCount == 0 ? 0.0 : (double) totalLoadTime.get() / loadCount / TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    public void reset() {
+        for (int i = 0; i < STRIPES; i++) {
+            hitCounts.set(i * PADDING, 0);
+            missCounts.set(i * PADDING, 0);
+        }
+        evictionCount.set(0);
+        loadCount.set(0);
+        totalLoadTime.set(0);
+    }
+
+    @Override
+    public String toString() {
+        return "DeploymentCacheStatistics[hitCount=" + getHitCount() + ", missCount=" + getMissCount() + ", evictionCount=" + getEvictionCount()
+                + ", loadCount=" + getLoadCount() + ", totalLoadTime=" + getTotalLoadTime() + "ms]";
+    }
+}
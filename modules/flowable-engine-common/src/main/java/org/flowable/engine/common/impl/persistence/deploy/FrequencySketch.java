@@ -0,0 +1,95 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.common.impl.persistence.deploy;
+
+/**
+ * Approximate access frequency of keys (a count-min sketch with 4 rows), used by {@link ConcurrentDeploymentCacheStore} to decide which of two entries to keep when the cache is full.
+ *
+ * Counters saturate at 15, and all counters are halved once the number of recorded accesses reaches 10 times the size of the sketch, so that the frequencies reflect the recent history.
+ *
+ * Updates are not synchronized: a lost update only makes the estimate slightly less accurate, which is acceptable for an eviction heuristic and avoids contention on frequently read
+ * entries. Counters that are saturated are not written at all.
+ */
+public class FrequencySketch {
+
+    protected static final int MAXIMUM_COUNT = 15;
+    protected static final int[] SEEDS = { 0x97cb3127, 0xb2a3f31b, 0x3ac5d0e5, 0x5d3b6b1f };
+
+    protected final int[] table;
+    protected final int tableMask;
+    protected final int sampleSize;
+    protected int additions;
+
+    public FrequencySketch(long expectedSize) {
+        int size = 16;
+        long maximumSize = Math.min(Math.max(expectedSize, 16), 1 << 16);
+        while (size < maximumSize) {
+            size <<= 1;
+        }
+        this.table = new int[size * 4];
+        this.tableMask = table.length - 1;
+        this.sampleSize = 10 * size;
+    }
+
+    public void increment(Object key) {
+        int hash = spread(key.hashCode());
+        int frequency = frequency(hash);
+        if (frequency >= MAXIMUM_COUNT) {
+            return;
+        }
+
+        // conservative update: only the counters that hold the minimum are incremented
+        boolean added = false;
+        for (int i = 0; i < SEEDS.length; i++) {
+            int index = indexOf(hash, i);
+            if (table[index] == frequency) {
+                table[index] = frequency + 1;
+                added = true;
+            }
+        }
+
+        if (added && ++additions >= sampleSize) {
+            reset();
+        }
+    }
+
+    public int frequency(Object key) {
+        return frequency(spread(key.hashCode()));
+    }
+
+    protected int frequency(int hash) {
+        int frequency = MAXIMUM_COUNT;
+        for (int i = 0; i < SEEDS.length; i++) {
+            frequency = Math.min(frequency, table[indexOf(hash, i)]);
+        }
+        return frequency;
+    }
+
+    protected void reset() {
+        additions = 0;
+        for (int i = 0; i < table.length; i++) {
+            table[i] = table[i] >>> 1;
+        }
+    }
+
+    protected int indexOf(int hash, int row) {
+        int h = hash * SEEDS[row];
+        h ^= h >>> 17;
+        return h & tableMask;
+    }
+
+    protected int spread(int hashCode) {
+        int h = hashCode * 0x9e3779b9;
+        return h ^ (h >>> 16);
+    }
+}
@@ -0,0 +1,171 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.flowable.engine.common.api.delegate.event.FlowableEntityEvent;
+import org.flowable.engine.common.api.delegate.event.FlowableEvent;
+import org.flowable.engine.common.api.delegate.event.FlowableEventListener;
+import org.flowable.engine.common.api.delegate.event.FlowableEventType;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.persistence.AbstractManager;
+import org.flowable.idm.api.Group;
+import org.flowable.idm.api.User;
+import org.flowable.idm.api.event.FlowableIdmEventType;
+import org.flowable.idm.api.event.FlowableIdmMembershipEvent;
+
+/**
+ * {@link CandidateManager} that caches the groups of a candidate user, shared by all threads, for the queries that look up tasks and process
+ * definitions of a candidate user.
+ *
+ * An entry expires after the time to live and the number of cached users is bounded. When the memberships are changed through the IDM engine, its events
+ * remove the affected entries (see {@link #INVALIDATION_EVENT_TYPES}), provided that the IDM engine shares the event dispatcher of the process engine.
+ * An identity service that doesn't dispatch these events, like the LDAP one, relies on the time to live, or on calling {@link #invalidate(String)}.
+ */
+public class CachingCandidateManager extends AbstractManager implements CandidateManager, FlowableEventListener {
+
+    public static final FlowableEventType[] INVALIDATION_EVENT_TYPES = new FlowableEventType[] { FlowableIdmEventType.MEMBERSHIP_CREATED,
+            FlowableIdmEventType.MEMBERSHIP_DELETED, FlowableIdmEventType.MEMBERSHIPS_DELETED, FlowableIdmEventType.ENTITY_DELETED };
+
+    protected CandidateManager candidateManager;
+    protected int maxSize;
+    protected long timeToLiveInMillis;
+
+    protected final ConcurrentMap<String, CacheEntry> cache = new ConcurrentHashMap<String, CacheEntry>();
+
+    public CachingCandidateManager(ProcessEngineConfigurationImpl processEngineConfiguration, CandidateManager candidateManager, int maxSize,
+            long timeToLiveInMillis) {
+        super(processEngineConfiguration);
+        this.candidateManager = candidateManager;
+        this.maxSize = maxSize;
+        this.timeToLiveInMillis = timeToLiveInMillis;
+    }
+
+    @Override
+    public List<String> getGroupsForCandidateUser(String candidateUser) {
+        if (candidateUser == null) {
+            return candidateManager.getGroupsForCandidateUser(candidateUser);
+        }
+
+        long currentTime = getClock().getCurrentTime().getTime();
+        CacheEntry cacheEntry = cache.get(candidateUser);
+        if (cacheEntry != null && cacheEntry.expirationTime > currentTime) {
+            return cacheEntry.groupIds;
+        }
+
+        List<String> groupIds = candidateManager.getGroupsForCandidateUser(candidateUser);
+        if (groupIds != null) {
+            groupIds = Collections.unmodifiableList(new ArrayList<String>(groupIds));
+            if (cacheEntry == null && cache.size() >= maxSize) {
+                evict(currentTime);
+            }
+            cache.put(candidateUser, new CacheEntry(groupIds, currentTime + timeToLiveInMillis));
+        }
+        return groupIds;
+    }
+
+    /**
+     * Removes the expired entries, and when that doesn't free up enough space, as many other entries as needed.
+     */
+    protected void evict(long currentTime) {
+        Iterator<CacheEntry> cacheEntryIterator = cache.values().iterator();
+        while (cacheEntryIterator.hasNext()) {
+            if (cacheEntryIterator.next().expirationTime <= currentTime) {
+                cacheEntryIterator.remove();
+            }
+        }
+
+        cacheEntryIterator = cache.values().iterator();
+        while (cache.size() >= maxSize && cacheEntryIterator.hasNext()) {
+            cacheEntryIterator.next();
+            cacheEntryIterator.remove();
+        }
+    }
+
+    public void invalidate(String userId) {
+        cache.remove(userId);
+    }
+
+    public void invalidateGroup(String groupId) {
+        Iterator<Map.Entry<String, CacheEntry>> cacheEntryIterator = cache.entrySet().iterator();
+        while (cacheEntryIterator.hasNext()) {
+            if (cacheEntryIterator.next().getValue().groupIds.contains(groupId)) {
+                cacheEntryIterator.remove();
+            }
+        }
+    }
+
+    public void invalidateAll() {
+        cache.clear();
+    }
+
+    @Override
+    public void onEvent(FlowableEvent event) {
+        if (event instanceof FlowableIdmMembershipEvent) {
+            FlowableIdmMembershipEvent membershipEvent = (FlowableIdmMembershipEvent) event;
+            if (membershipEvent.getUserId() != null) {
+                invalidate(membershipEvent.getUserId());
+            } else {
+                invalidateGroup(membershipEvent.getGroupId());
+            }
+
+        } else if (event instanceof FlowableEntityEvent) {
+            Object entity = ((FlowableEntityEvent) event).getEntity();
+            if (entity instanceof User) {
+                invalidate(((User) entity).getId());
+            } else if (entity instanceof Group) {
+                invalidateGroup(((Group) entity).getId());
+            }
+        }
+    }
+
+    @Override
+    public boolean isFailOnException() {
+        return false;
+    }
+
+    public int getCacheSize() {
+        return cache.size();
+    }
+
+    public CandidateManager getCandidateManager() {
+        return candidateManager;
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    public long getTimeToLiveInMillis() {
+        return timeToLiveInMillis;
+    }
+
+    protected static class CacheEntry {
+
+        protected final List<String> groupIds;
+        protected final long expirationTime;
+
+        public CacheEntry(List<String> groupIds, long expirationTime) {
+            this.groupIds = groupIds;
+            this.expirationTime = expirationTime;
+        }
+    }
+
+}
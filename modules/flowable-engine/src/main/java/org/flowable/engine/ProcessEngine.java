@@ -40,7 +40,7 @@ import org.flowable.idm.api.IdmIdentityService;
 public interface ProcessEngine {
 
     /** the version of the flowable library */
-    public static String VERSION = "6.1.0.0"; // Note the extra .x at the end. To cater for snapshot releases with different database changes
+    public static String VERSION = "6.1.0.1"; // Note the extra .x at the end. To cater for snapshot releases with different database changes
 
     /**
      * The name as specified in 'process-engine-name' in the flowable.cfg.xml configuration file. The default name for a process engine is 'default
@@ -0,0 +1,28 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.delegate.event;
+
+import org.flowable.engine.common.api.delegate.event.FlowableEventListener;
+
+/**
+ * Marks an {@link FlowableEventListener} that doesn't take part in the transaction of the engine: it doesn't use the command context, doesn't modify
+ * engine state and doesn't need to be notified before the transaction completes.
+ *
+ * When asynchronous event dispatching is enabled (see
+ * {@link org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl#setAsyncEventDispatchQueueSize(int)}), events are handed to such listeners on a
+ * separate thread. The listener then gets the events in the order they were dispatched, but possibly after the transaction that dispatched them has
+ * completed or was rolled back, and {@link FlowableEventListener#isFailOnException()} has no effect: exceptions are logged and ignored.
+ */
+public interface NonTransactionalEventListener extends FlowableEventListener {
+
+}
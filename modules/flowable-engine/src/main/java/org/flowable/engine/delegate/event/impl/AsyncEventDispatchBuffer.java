@@ -0,0 +1,138 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.delegate.event.impl;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.flowable.engine.common.api.FlowableIllegalArgumentException;
+import org.flowable.engine.common.api.delegate.event.FlowableEvent;
+import org.flowable.engine.common.api.delegate.event.FlowableEventListener;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Bounded buffer of events for {@link org.flowable.engine.delegate.event.NonTransactionalEventListener}s, delivered by a single thread in the order they
+ * were added. When the buffer is full, or the delivery thread isn't running, the event is delivered on the calling thread instead, so events are never
+ * dropped and a slow listener slows down the engine instead of using unbounded memory.
+ */
+public class AsyncEventDispatchBuffer implements Runnable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(AsyncEventDispatchBuffer.class);
+
+    protected final BlockingQueue<BufferedEvent> queue;
+    protected long shutdownTimeoutInMillis = 5000L;
+
+    protected volatile boolean running;
+    protected Thread deliveryThread;
+
+    public AsyncEventDispatchBuffer(int capacity) {
+        if (capacity <= 0) {
+            throw new FlowableIllegalArgumentException("capacity must be larger than 0");
+        }
+        this.queue = new ArrayBlockingQueue<BufferedEvent>(capacity);
+    }
+
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        deliveryThread = new Thread(this, "flowable-async-event-dispatch");
+        deliveryThread.setDaemon(true);
+        deliveryThread.start();
+    }
+
+    /**
+     * Stops the delivery thread after it has delivered the events that are in the buffer, waiting at most the shutdown timeout.
+     */
+    public void shutdown() {
+        Thread thread;
+        synchronized (this) {
+            if (!running) {
+                return;
+            }
+            running = false;
+            thread = deliveryThread;
+            deliveryThread = null;
+        }
+
+        try {
+            thread.join(shutdownTimeoutInMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (thread.isAlive()) {
+            LOGGER.warn("Async event dispatch thread didn't finish delivering {} events within {} ms", queue.size(), shutdownTimeoutInMillis);
+            thread.interrupt();
+        }
+    }
+
+    public void dispatch(FlowableEvent event, FlowableEventListener listener) {
+        if (!running || !queue.offer(new BufferedEvent(event, listener))) {
+            deliver(event, listener);
+        }
+    }
+
+    @Override
+    public void run() {
+        while (running || !queue.isEmpty()) {
+            try {
+                BufferedEvent bufferedEvent = queue.poll(100L, TimeUnit.MILLISECONDS);
+                if (bufferedEvent != null) {
+                    deliver(bufferedEvent.event, bufferedEvent.listener);
+                }
+            } catch (InterruptedException e) {
+                LOGGER.debug("Async event dispatch thread interrupted, {} events are not delivered", queue.size());
+                return;
+            }
+        }
+    }
+
+    protected void deliver(FlowableEvent event, FlowableEventListener listener) {
+        try {
+            listener.onEvent(event);
+        } catch (Throwable t) {
+            LOGGER.warn("Exception while executing non-transactional event-listener, which was ignored", t);
+        }
+    }
+
+    public boolean isRunning() {
+        return running;
+    }
+
+    public int getQueueSize() {
+        return queue.size();
+    }
+
+    public long getShutdownTimeoutInMillis() {
+        return shutdownTimeoutInMillis;
+    }
+
+    public void setShutdownTimeoutInMillis(long shutdownTimeoutInMillis) {
+        this.shutdownTimeoutInMillis = shutdownTimeoutInMillis;
+    }
+
+    protected static class BufferedEvent {
+
+        protected final FlowableEvent event;
+        protected final FlowableEventListener listener;
+
+        public BufferedEvent(FlowableEvent event, FlowableEventListener listener) {
+            this.event = event;
+            this.listener = listener;
+        }
+    }
+
+}
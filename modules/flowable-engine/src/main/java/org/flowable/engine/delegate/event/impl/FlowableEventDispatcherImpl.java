@@ -22,6 +22,7 @@ import org.flowable.engine.delegate.event.FlowableEngineEventType;
 import org.flowable.engine.impl.context.Context;
 import org.flowable.engine.impl.delegate.event.FlowableEngineEvent;
 import org.flowable.engine.impl.interceptor.CommandContext;
+import org.flowable.engine.impl.persistence.deploy.ProcessDefinitionCacheEntry;
 import org.flowable.engine.impl.util.ProcessDefinitionUtil;
 import org.flowable.engine.repository.ProcessDefinition;
 
@@ -47,6 +48,49 @@ public class FlowableEventDispatcherImpl implements FlowableEventDispatcher {
         return enabled;
     }
 
+    /**
+     * Whether an event of the given type, that isn't related to a process definition, would reach at least one listener.
+     */
+    public boolean hasListeners(FlowableEventType type) {
+        return hasListeners(type, null);
+    }
+
+    /**
+     * Whether an event of the given type would reach at least one listener, so that callers can skip creating the event when it wouldn't.
+     * 
+     * An event of a process definition is also dispatched to the event listeners defined in that process definition. These are only known when the
+     * definition is in the process definition cache, which isn't the case for every definition after a restart or on other nodes of a cluster. For a
+     * definition that isn't cached this returns true, so dispatching the event resolves the definition as before.
+     */
+    public boolean hasListeners(FlowableEventType type, String processDefinitionId) {
+        if (!enabled) {
+            return false;
+        }
+        return eventSupport.hasListeners(type) || (processDefinitionId != null && hasProcessDefinitionListeners(type, processDefinitionId));
+    }
+
+    protected boolean hasProcessDefinitionListeners(FlowableEventType type, String processDefinitionId) {
+        // The listeners of a process definition are only called when a command context is active, see dispatchEvent
+        if (Context.getCommandContext() == null) {
+            return false;
+        }
+
+        ProcessDefinitionCacheEntry cacheEntry = Context.getProcessEngineConfiguration().getDeploymentManager().getProcessDefinitionCache().get(processDefinitionId);
+        if (cacheEntry == null || cacheEntry.getBpmnModel() == null) {
+            return true;
+        }
+        FlowableEventSupport processDefinitionEventSupport = (FlowableEventSupport) cacheEntry.getBpmnModel().getEventSupport();
+        return processDefinitionEventSupport != null && processDefinitionEventSupport.hasListeners(type);
+    }
+
+    public AsyncEventDispatchBuffer getAsyncEventDispatchBuffer() {
+        return eventSupport.getAsyncEventDispatchBuffer();
+    }
+
+    public void setAsyncEventDispatchBuffer(AsyncEventDispatchBuffer asyncEventDispatchBuffer) {
+        eventSupport.setAsyncEventDispatchBuffer(asyncEventDispatchBuffer);
+    }
+
     @Override
     public void addEventListener(FlowableEventListener listenerToAdd) {
         eventSupport.addEventListener(listenerToAdd);
@@ -12,6 +12,8 @@
  */
 package org.flowable.engine.delegate.event.impl;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -22,12 +24,17 @@ import org.flowable.engine.common.api.FlowableIllegalArgumentException;
 import org.flowable.engine.common.api.delegate.event.FlowableEvent;
 import org.flowable.engine.common.api.delegate.event.FlowableEventListener;
 import org.flowable.engine.common.api.delegate.event.FlowableEventType;
+import org.flowable.engine.delegate.event.NonTransactionalEventListener;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
  * Class that allows adding and removing event listeners and dispatching events to the appropriate listeners.
  * 
+ * Listeners are registered under a lock, after which an immutable dispatch table is rebuilt that holds, for each event type with typed listeners, the
+ * global listeners followed by the typed ones. Dispatching reads that table without locking or copying, and {@link #hasListeners(FlowableEventType)} allows
+ * callers to skip creating an event nobody listens to.
+ * 
  * @author Frederik Heremans
  */
 public class FlowableEventSupport {
@@ -37,9 +44,17 @@ public class FlowableEventSupport {
     protected List<FlowableEventListener> eventListeners;
     protected Map<FlowableEventType, List<FlowableEventListener>> typedListeners;
 
+    /**
+     * The listeners to notify per event type, replaced as a whole when a listener is added or removed. Types that only have global listeners aren't in it.
+     */
+    protected volatile Map<FlowableEventType, List<FlowableEventListener>> dispatchTable;
+
+    protected AsyncEventDispatchBuffer asyncEventDispatchBuffer;
+
     public FlowableEventSupport() {
         eventListeners = new CopyOnWriteArrayList<FlowableEventListener>();
         typedListeners = new HashMap<FlowableEventType, List<FlowableEventListener>>();
+        dispatchTable = Collections.emptyMap();
     }
 
     public synchronized void addEventListener(FlowableEventListener listenerToAdd) {
@@ -48,6 +63,7 @@ public class FlowableEventSupport {
         }
         if (!eventListeners.contains(listenerToAdd)) {
             eventListeners.add(listenerToAdd);
+            rebuildDispatchTable();
         }
     }
 
@@ -63,15 +79,24 @@ public class FlowableEventSupport {
             for (FlowableEventType type : types) {
                 addTypedEventListener(listenerToAdd, type);
             }
+            rebuildDispatchTable();
         }
     }
 
-    public void removeEventListener(FlowableEventListener listenerToRemove) {
+    public synchronized void removeEventListener(FlowableEventListener listenerToRemove) {
         eventListeners.remove(listenerToRemove);
 
         for (List<FlowableEventListener> listeners : typedListeners.values()) {
             listeners.remove(listenerToRemove);
         }
+        rebuildDispatchTable();
+    }
+
+    /**
+     * @return whether an event of the given type would be dispatched to at least one listener.
+     */
+    public boolean hasListeners(FlowableEventType type) {
+        return !eventListeners.isEmpty() || dispatchTable.containsKey(type);
     }
 
     public void dispatchEvent(FlowableEvent event) {
@@ -83,23 +108,21 @@ public class FlowableEventSupport {
             throw new FlowableIllegalArgumentException("Event type cannot be null.");
         }
 
-        // Call global listeners
-        if (!eventListeners.isEmpty()) {
-            for (FlowableEventListener listener : eventListeners) {
-                dispatchEvent(event, listener);
-            }
+        List<FlowableEventListener> listeners = dispatchTable.get(event.getType());
+        if (listeners == null) {
+            listeners = eventListeners;
         }
-
-        // Call typed listeners, if any
-        List<FlowableEventListener> typed = typedListeners.get(event.getType());
-        if (typed != null && !typed.isEmpty()) {
-            for (FlowableEventListener listener : typed) {
-                dispatchEvent(event, listener);
-            }
+        for (FlowableEventListener listener : listeners) {
+            dispatchEvent(event, listener);
         }
     }
 
     protected void dispatchEvent(FlowableEvent event, FlowableEventListener listener) {
+        if (asyncEventDispatchBuffer != null && listener instanceof NonTransactionalEventListener) {
+            asyncEventDispatchBuffer.dispatch(event, listener);
+            return;
+        }
+
         try {
             listener.onEvent(event);
         } catch (Throwable t) {
@@ -125,4 +148,31 @@ public class FlowableEventSupport {
             listeners.add(listener);
         }
     }
+
+    /**
+     * Must be called holding the lock of this instance, after the registered listeners changed.
+     */
+    protected void rebuildDispatchTable() {
+        Map<FlowableEventType, List<FlowableEventListener>> table = new HashMap<FlowableEventType, List<FlowableEventListener>>();
+        for (Map.Entry<FlowableEventType, List<FlowableEventListener>> entry : typedListeners.entrySet()) {
+            if (!entry.getValue().isEmpty()) {
+                List<FlowableEventListener> listeners = new ArrayList<FlowableEventListener>(eventListeners.size() + entry.getValue().size());
+                listeners.addAll(eventListeners);
+                listeners.addAll(entry.getValue());
+                table.put(entry.getKey(), Collections.unmodifiableList(listeners));
+            }
+        }
+        dispatchTable = table;
+    }
+
+    public AsyncEventDispatchBuffer getAsyncEventDispatchBuffer() {
+        return asyncEventDispatchBuffer;
+    }
+
+    /**
+     * Events for {@link NonTransactionalEventListener}s are handed to the given buffer instead of being delivered on the dispatching thread, when not null.
+     */
+    public void setAsyncEventDispatchBuffer(AsyncEventDispatchBuffer asyncEventDispatchBuffer) {
+        this.asyncEventDispatchBuffer = asyncEventDispatchBuffer;
+    }
 }
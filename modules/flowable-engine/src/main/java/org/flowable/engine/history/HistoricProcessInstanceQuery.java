@@ -19,7 +19,9 @@ import java.util.List;
 import java.util.Set;
 
 import org.flowable.engine.ProcessEngineConfiguration;
+import org.flowable.engine.common.api.query.KeysetQuery;
 import org.flowable.engine.common.api.query.Query;
+import org.flowable.engine.common.api.query.StreamableQuery;
 import org.flowable.engine.runtime.ProcessInstanceQuery;
 
 /**
@@ -30,7 +32,8 @@ import org.flowable.engine.runtime.ProcessInstanceQuery;
  * @author Tijs Rademakers
  * @author Falko Menge
  */
-public interface HistoricProcessInstanceQuery extends Query<HistoricProcessInstanceQuery, HistoricProcessInstance> {
+public interface HistoricProcessInstanceQuery extends Query<HistoricProcessInstanceQuery, HistoricProcessInstance>, KeysetQuery<HistoricProcessInstance>,
+        StreamableQuery<HistoricProcessInstance> {
 
     /**
      * Only select historic process instances with the given process instance. {@link ProcessInstance) ids and {@link HistoricProcessInstance} ids match.
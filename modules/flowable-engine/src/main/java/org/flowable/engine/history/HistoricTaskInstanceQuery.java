@@ -15,6 +15,8 @@ package org.flowable.engine.history;
 
 import java.util.Date;
 
+import org.flowable.engine.common.api.query.KeysetQuery;
+import org.flowable.engine.common.api.query.StreamableQuery;
 import org.flowable.engine.task.TaskInfoQuery;
 
 /**
@@ -23,7 +25,8 @@ import org.flowable.engine.task.TaskInfoQuery;
  * @author Tom Baeyens
  * @author Joram Barrez
  */
-public interface HistoricTaskInstanceQuery extends TaskInfoQuery<HistoricTaskInstanceQuery, HistoricTaskInstance> {
+public interface HistoricTaskInstanceQuery extends TaskInfoQuery<HistoricTaskInstanceQuery, HistoricTaskInstance>, KeysetQuery<HistoricTaskInstance>,
+        StreamableQuery<HistoricTaskInstance> {
 
     /** Only select historic task instances with the given task delete reason. */
     HistoricTaskInstanceQuery taskDeleteReason(String taskDeleteReason);
@@ -20,6 +20,7 @@ import org.flowable.engine.common.api.FlowableException;
 import org.flowable.engine.common.api.FlowableIllegalArgumentException;
 import org.flowable.engine.common.api.query.Query;
 import org.flowable.engine.common.api.query.QueryProperty;
+import org.flowable.engine.common.api.query.StreamableQuery.ResultConsumer;
 import org.flowable.engine.common.impl.Direction;
 import org.flowable.engine.common.impl.db.ListQueryParameterObject;
 import org.flowable.engine.impl.context.Context;
@@ -39,6 +40,8 @@ public abstract class AbstractQuery<T extends Query<?, ?>, U> extends ListQueryP
     protected transient CommandExecutor commandExecutor;
     protected transient CommandContext commandContext;
 
+    protected String afterId;
+
     protected AbstractQuery() {
         parameter = this;
     }
@@ -126,6 +129,45 @@ public abstract class AbstractQuery<T extends Query<?, ?>, U> extends ListQueryP
         return executeList(Context.getCommandContext());
     }
 
+    /**
+     * Implements {@link org.flowable.engine.common.api.query.KeysetQuery#listAfter(String, int)} for the queries of which the mapping restricts the
+     * results to the ones with an id after {@link #getAfterId()}. The cursor is the id of the last result of the previous page.
+     */
+    @SuppressWarnings("unchecked")
+    public List<U> listAfter(String cursor, int maxResults) {
+        checkQueryOk();
+        if (orderByColumns != null) {
+            throw new FlowableIllegalArgumentException("A page after a cursor is ordered by id, the query can't be ordered by anything else");
+        }
+        this.afterId = cursor;
+        try {
+            return listPage(0, maxResults);
+        } finally {
+            // Don't let a count or list on this query afterwards skip the results before the cursor
+            this.afterId = null;
+        }
+    }
+
+    /**
+     * Implements {@link org.flowable.engine.common.api.query.StreamableQuery#forEach(ResultConsumer)} for the queries that override
+     * {@link #executeForEach(CommandContext, ResultConsumer)}.
+     */
+    public void forEach(final ResultConsumer<? super U> resultConsumer) {
+        this.resultType = ResultType.LIST;
+        if (commandExecutor != null) {
+            commandExecutor.execute(new Command<Void>() {
+
+                @Override
+                public Void execute(CommandContext commandContext) {
+                    executeForEach(commandContext, resultConsumer);
+                    return null;
+                }
+            });
+        } else {
+            executeForEach(Context.getCommandContext(), resultConsumer);
+        }
+    }
+
     public long count() {
         this.resultType = ResultType.COUNT;
         if (commandExecutor != null) {
@@ -146,6 +188,10 @@ public abstract class AbstractQuery<T extends Query<?, ?>, U> extends ListQueryP
         }
     }
 
+    public String getAfterId() {
+        return afterId;
+    }
+
     public abstract long executeCount(CommandContext commandContext);
 
     /**
@@ -153,6 +199,13 @@ public abstract class AbstractQuery<T extends Query<?, ?>, U> extends ListQueryP
      */
     public abstract List<U> executeList(CommandContext commandContext);
 
+    /**
+     * Executes the actual query and passes each result to the consumer, without collecting them.
+     */
+    public void executeForEach(CommandContext commandContext, ResultConsumer<? super U> resultConsumer) {
+        throw new FlowableException("The results of " + getClass().getSimpleName() + " can't be streamed");
+    }
+
     public U executeSingleResult(CommandContext commandContext) {
         List<U> results = executeList(commandContext);
         if (results.size() == 1) {
@@ -16,6 +16,7 @@ package org.flowable.engine.impl;
 import java.util.List;
 
 import org.flowable.engine.common.api.FlowableIllegalArgumentException;
+import org.flowable.engine.common.api.query.StreamableQuery.ResultConsumer;
 import org.flowable.engine.history.HistoricActivityInstance;
 import org.flowable.engine.history.HistoricActivityInstanceQuery;
 import org.flowable.engine.impl.interceptor.CommandContext;
@@ -66,6 +67,12 @@ public class HistoricActivityInstanceQueryImpl extends AbstractQuery<HistoricAct
         return commandContext.getHistoricActivityInstanceEntityManager().findHistoricActivityInstancesByQueryCriteria(this);
     }
 
+    @Override
+    public void executeForEach(CommandContext commandContext, ResultConsumer<? super HistoricActivityInstance> resultConsumer) {
+        checkQueryOk();
+        commandContext.getHistoricActivityInstanceEntityManager().findHistoricActivityInstancesByQueryCriteria(this, resultConsumer);
+    }
+
     public HistoricActivityInstanceQueryImpl processInstanceId(String processInstanceId) {
         this.processInstanceId = processInstanceId;
         return this;
@@ -21,6 +21,7 @@ import java.util.Set;
 import org.flowable.engine.DynamicBpmnConstants;
 import org.flowable.engine.common.api.FlowableException;
 import org.flowable.engine.common.api.FlowableIllegalArgumentException;
+import org.flowable.engine.common.api.query.StreamableQuery.ResultConsumer;
 import org.flowable.engine.history.HistoricProcessInstance;
 import org.flowable.engine.history.HistoricProcessInstanceQuery;
 import org.flowable.engine.impl.context.Context;
@@ -604,6 +605,32 @@ public class HistoricProcessInstanceQueryImpl extends AbstractVariableQueryImpl<
         return results;
     }
 
+    @Override
+    public void executeForEach(final CommandContext commandContext, final ResultConsumer<? super HistoricProcessInstance> resultConsumer) {
+        if (includeProcessVariables) {
+            throw new FlowableIllegalArgumentException("The results can't be streamed when the process variables are included");
+        }
+        checkQueryOk();
+        ensureVariablesInitialized();
+
+        final boolean localize = Context.getProcessEngineConfiguration().getPerformanceSettings().isEnableLocalization();
+        commandContext.getHistoricProcessInstanceEntityManager().findHistoricProcessInstancesByQueryCriteria(this, new ResultConsumer<HistoricProcessInstance>() {
+
+            @Override
+            public void accept(HistoricProcessInstance processInstance) {
+                if (localize) {
+                    localize(processInstance, commandContext);
+                }
+                resultConsumer.accept(processInstance);
+            }
+        });
+    }
+
+    @Override
+    public String getCursor(HistoricProcessInstance historicProcessInstance) {
+        return historicProcessInstance.getId();
+    }
+
     protected void localize(HistoricProcessInstance processInstance, CommandContext commandContext) {
         HistoricProcessInstanceEntity processInstanceEntity = (HistoricProcessInstanceEntity) processInstance;
         processInstanceEntity.setLocalizedName(null);
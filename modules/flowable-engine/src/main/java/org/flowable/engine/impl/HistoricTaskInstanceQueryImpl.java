@@ -20,6 +20,7 @@ import java.util.List;
 import org.flowable.engine.DynamicBpmnConstants;
 import org.flowable.engine.common.api.FlowableException;
 import org.flowable.engine.common.api.FlowableIllegalArgumentException;
+import org.flowable.engine.common.api.query.StreamableQuery.ResultConsumer;
 import org.flowable.engine.history.HistoricTaskInstance;
 import org.flowable.engine.history.HistoricTaskInstanceQuery;
 import org.flowable.engine.impl.context.Context;
@@ -149,6 +150,32 @@ public class HistoricTaskInstanceQueryImpl extends AbstractVariableQueryImpl<His
         return tasks;
     }
 
+    @Override
+    public void executeForEach(CommandContext commandContext, final ResultConsumer<? super HistoricTaskInstance> resultConsumer) {
+        if (includeTaskLocalVariables || includeProcessVariables || includeIdentityLinks) {
+            throw new FlowableIllegalArgumentException("The results can't be streamed when the variables or identity links are included");
+        }
+        ensureVariablesInitialized();
+        checkQueryOk();
+
+        final boolean localize = Context.getProcessEngineConfiguration().getPerformanceSettings().isEnableLocalization();
+        commandContext.getHistoricTaskInstanceEntityManager().findHistoricTaskInstancesByQueryCriteria(this, new ResultConsumer<HistoricTaskInstance>() {
+
+            @Override
+            public void accept(HistoricTaskInstance task) {
+                if (localize) {
+                    localize(task);
+                }
+                resultConsumer.accept(task);
+            }
+        });
+    }
+
+    @Override
+    public String getCursor(HistoricTaskInstance historicTaskInstance) {
+        return historicTaskInstance.getId();
+    }
+
     public HistoricTaskInstanceQueryImpl processInstanceId(String processInstanceId) {
         if (inOrStatement) {
             this.currentOrQueryObject.processInstanceId = processInstanceId;
@@ -30,10 +30,13 @@ import org.flowable.engine.TaskService;
 import org.flowable.engine.common.impl.cfg.TransactionContextFactory;
 import org.flowable.engine.common.impl.interceptor.SessionFactory;
 import org.flowable.engine.delegate.event.FlowableEngineEventType;
+import org.flowable.engine.delegate.event.impl.AsyncEventDispatchBuffer;
 import org.flowable.engine.delegate.event.impl.FlowableEventBuilder;
+import org.flowable.engine.delegate.event.impl.FlowableEventDispatcherImpl;
 import org.flowable.engine.impl.asyncexecutor.AsyncExecutor;
 import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
 import org.flowable.engine.impl.cfg.TransactionListener;
+import org.flowable.engine.impl.cmd.ScheduleHistoryCleanupJobCmd;
 import org.flowable.engine.impl.interceptor.CommandContext;
 import org.flowable.engine.impl.interceptor.CommandExecutor;
 import org.flowable.form.api.FormRepositoryService;
@@ -97,6 +100,10 @@ public class ProcessEngineImpl implements ProcessEngine {
             commandExecutor.execute(processEngineConfiguration.getSchemaCommandConfig(), new SchemaOperationsProcessEngineBuild());
         }
 
+        if (processEngineConfiguration.isEnableHistoryCleanup()) {
+            commandExecutor.execute(new ScheduleHistoryCleanupJobCmd());
+        }
+
         if (name == null) {
             log.info("default ProcessEngine created");
         } else {
@@ -127,6 +134,9 @@ public class ProcessEngineImpl implements ProcessEngine {
         if (asyncHistoryExecutor != null && asyncHistoryExecutor.isActive()) {
             asyncHistoryExecutor.shutdown();
         }
+        if (processEngineConfiguration.getAsyncHistoryEventLog() != null) {
+            processEngineConfiguration.getAsyncHistoryEventLog().close();
+        }
 
         Runnable closeRunnable = processEngineConfiguration.getProcessEngineCloseRunnable();
         if (closeRunnable != null) {
@@ -138,6 +148,13 @@ public class ProcessEngineImpl implements ProcessEngine {
         }
 
         processEngineConfiguration.getEventDispatcher().dispatchEvent(FlowableEventBuilder.createGlobalEvent(FlowableEngineEventType.ENGINE_CLOSED));
+
+        if (processEngineConfiguration.getEventDispatcher() instanceof FlowableEventDispatcherImpl) {
+            AsyncEventDispatchBuffer asyncEventDispatchBuffer = ((FlowableEventDispatcherImpl) processEngineConfiguration.getEventDispatcher()).getAsyncEventDispatchBuffer();
+            if (asyncEventDispatchBuffer != null) {
+                asyncEventDispatchBuffer.shutdown();
+            }
+        }
     }
 
     // getters and setters
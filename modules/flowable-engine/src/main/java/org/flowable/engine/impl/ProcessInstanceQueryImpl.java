@@ -650,6 +650,11 @@ public class ProcessInstanceQueryImpl extends AbstractVariableQueryImpl<ProcessI
         return processInstances;
     }
 
+    @Override
+    public String getCursor(ProcessInstance processInstance) {
+        return processInstance.getId();
+    }
+
     @Override
     protected void ensureVariablesInitialized() {
         super.ensureVariablesInitialized();
@@ -1302,6 +1302,11 @@ public class TaskQueryImpl extends AbstractVariableQueryImpl<TaskQuery, Task> im
         return tasks;
     }
 
+    @Override
+    public String getCursor(Task task) {
+        return task.getId();
+    }
+
     public long executeCount(CommandContext commandContext) {
         ensureVariablesInitialized();
         checkQueryOk();
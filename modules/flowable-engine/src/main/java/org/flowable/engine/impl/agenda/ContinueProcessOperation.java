@@ -33,6 +33,7 @@ import org.flowable.engine.impl.interceptor.CommandContext;
 import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
 import org.flowable.engine.impl.persistence.entity.ExecutionEntityManager;
 import org.flowable.engine.impl.persistence.entity.JobEntity;
+import org.flowable.engine.impl.util.EventDispatcherUtil;
 import org.flowable.engine.impl.util.ProcessDefinitionUtil;
 import org.flowable.engine.logging.LogMDC;
 import org.flowable.engine.runtime.Job;
@@ -221,7 +222,9 @@ public class ContinueProcessOperation extends AbstractOperation {
     protected void executeActivityBehavior(ActivityBehavior activityBehavior, FlowNode flowNode) {
         logger.debug("Executing activityBehavior {} on activity '{}' with execution {}", activityBehavior.getClass(), flowNode.getId(), execution.getId());
 
-        if (Context.getProcessEngineConfiguration() != null && Context.getProcessEngineConfiguration().getEventDispatcher().isEnabled()) {
+        if (Context.getProcessEngineConfiguration() != null
+                && EventDispatcherUtil.hasListeners(Context.getProcessEngineConfiguration().getEventDispatcher(), FlowableEngineEventType.ACTIVITY_STARTED,
+                        execution.getProcessDefinitionId())) {
             Context.getProcessEngineConfiguration().getEventDispatcher().dispatchEvent(
                     FlowableEventBuilder.createActivityEvent(FlowableEngineEventType.ACTIVITY_STARTED, flowNode.getId(), flowNode.getName(), execution.getId(),
                             execution.getProcessInstanceId(), execution.getProcessDefinitionId(), flowNode));
@@ -247,7 +250,9 @@ public class ContinueProcessOperation extends AbstractOperation {
         }
 
         // Firing event that transition is being taken
-        if (Context.getProcessEngineConfiguration() != null && Context.getProcessEngineConfiguration().getEventDispatcher().isEnabled()) {
+        if (Context.getProcessEngineConfiguration() != null
+                && EventDispatcherUtil.hasListeners(Context.getProcessEngineConfiguration().getEventDispatcher(), FlowableEngineEventType.SEQUENCEFLOW_TAKEN,
+                        execution.getProcessDefinitionId())) {
             FlowElement sourceFlowElement = sequenceFlow.getSourceFlowElement();
             FlowElement targetFlowElement = sequenceFlow.getTargetFlowElement();
             Context.getProcessEngineConfiguration().getEventDispatcher().dispatchEvent(
@@ -63,6 +63,19 @@ public abstract class AbstractAsyncExecutor implements AsyncExecutor {
     protected int resetExpiredJobsInterval = 60 * 1000;
     protected int resetExpiredJobsPageSize = 3;
 
+    // Timer wheel: timers due within the look-ahead window are prefetched and fired from memory
+    protected boolean timerWheelEnabled;
+    protected int timerWheelTickInMillis = 100;
+    protected int timerWheelLookAheadInMillis = 30 * 1000;
+    protected int timerWheelPrefetchSize = 512;
+
+    // Adaptive acquisition: batch sizes and wait times follow the recent acquisition results, bounded by the settings above
+    protected boolean adaptiveAcquisitionEnabled;
+    protected int adaptiveAcquisitionMinWaitTimeInMillis = 100;
+    protected AdaptiveAcquisitionController asyncJobAcquisitionController;
+    protected AdaptiveAcquisitionController timerJobAcquisitionController;
+    protected AdaptiveAcquisitionController resetExpiredJobsController;
+
     // Job queue used when async executor is not yet started and jobs are
     // already added.
     // This is mainly used for testing purpose.
@@ -80,6 +93,9 @@ public abstract class AbstractAsyncExecutor implements AsyncExecutor {
         Runnable runnable = null;
         if (isActive) {
             runnable = createRunnableForJob(job);
+            if (asyncJobAcquisitionController != null) {
+                runnable = new TimedJobRunnable(runnable, asyncJobAcquisitionController);
+            }
             return executeAsyncJob(job, runnable);
         } else {
             temporaryJobQueue.add(job);
@@ -126,7 +142,11 @@ public abstract class AbstractAsyncExecutor implements AsyncExecutor {
 
     protected void initializeRunnables() {
         if (timerRunnableNeeded && timerJobRunnable == null) {
-            timerJobRunnable = new AcquireTimerJobsRunnable(this, processEngineConfiguration.getJobManager());
+            if (timerWheelEnabled) {
+                timerJobRunnable = new TimerWheelAcquireTimerJobsRunnable(this, processEngineConfiguration.getJobManager());
+            } else {
+                timerJobRunnable = new AcquireTimerJobsRunnable(this, processEngineConfiguration.getJobManager());
+            }
         }
 
         JobInfoEntityManager<? extends JobInfoEntity> jobEntityManagerToUse = jobEntityManager != null
@@ -141,6 +161,36 @@ public abstract class AbstractAsyncExecutor implements AsyncExecutor {
             String acquireJobsRunnableName = acquireRunnableThreadName != null ? acquireRunnableThreadName : "flowable-acquire-async-jobs";
             asyncJobsDueRunnable = new AcquireAsyncJobsDueRunnable(acquireJobsRunnableName, this, jobEntityManagerToUse);
         }
+
+        if (adaptiveAcquisitionEnabled) {
+            initializeAcquisitionControllers();
+        }
+    }
+
+    protected void initializeAcquisitionControllers() {
+        if (asyncJobAcquisitionController == null) {
+            asyncJobAcquisitionController = new AdaptiveAcquisitionController("async job acquisition", maxAsyncJobsDuePerAcquisition,
+                    adaptiveAcquisitionMinWaitTimeInMillis, defaultAsyncJobAcquireWaitTimeInMillis);
+        }
+        if (timerJobAcquisitionController == null) {
+            timerJobAcquisitionController = new AdaptiveAcquisitionController("timer job acquisition", maxTimerJobsPerAcquisition,
+                    adaptiveAcquisitionMinWaitTimeInMillis, defaultTimerJobAcquireWaitTimeInMillis);
+        }
+        if (resetExpiredJobsController == null) {
+            resetExpiredJobsController = new AdaptiveAcquisitionController("reset expired jobs", resetExpiredJobsPageSize,
+                    adaptiveAcquisitionMinWaitTimeInMillis, resetExpiredJobsInterval);
+        }
+
+        // the timer wheel prefetches on its own schedule
+        if (timerJobRunnable != null && !(timerJobRunnable instanceof TimerWheelAcquireTimerJobsRunnable)) {
+            timerJobRunnable.setAcquisitionController(timerJobAcquisitionController);
+        }
+        if (asyncJobsDueRunnable != null) {
+            asyncJobsDueRunnable.setAcquisitionController(asyncJobAcquisitionController);
+        }
+        if (resetExpiredJobsRunnable != null) {
+            resetExpiredJobsRunnable.setAcquisitionController(resetExpiredJobsController);
+        }
     }
 
     protected abstract void startAdditionalComponents();
@@ -329,6 +379,67 @@ public abstract class AbstractAsyncExecutor implements AsyncExecutor {
         this.resetExpiredJobsPageSize = resetExpiredJobsPageSize;
     }
 
+    public boolean isTimerWheelEnabled() {
+        return timerWheelEnabled;
+    }
+
+    public void setTimerWheelEnabled(boolean timerWheelEnabled) {
+        this.timerWheelEnabled = timerWheelEnabled;
+    }
+
+    public int getTimerWheelTickInMillis() {
+        return timerWheelTickInMillis;
+    }
+
+    public void setTimerWheelTickInMillis(int timerWheelTickInMillis) {
+        this.timerWheelTickInMillis = timerWheelTickInMillis;
+    }
+
+    public int getTimerWheelLookAheadInMillis() {
+        return timerWheelLookAheadInMillis;
+    }
+
+    public void setTimerWheelLookAheadInMillis(int timerWheelLookAheadInMillis) {
+        this.timerWheelLookAheadInMillis = timerWheelLookAheadInMillis;
+    }
+
+    public int getTimerWheelPrefetchSize() {
+        return timerWheelPrefetchSize;
+    }
+
+    public void setTimerWheelPrefetchSize(int timerWheelPrefetchSize) {
+        this.timerWheelPrefetchSize = timerWheelPrefetchSize;
+    }
+
+    public boolean isAdaptiveAcquisitionEnabled() {
+        return adaptiveAcquisitionEnabled;
+    }
+
+    public void setAdaptiveAcquisitionEnabled(boolean adaptiveAcquisitionEnabled) {
+        this.adaptiveAcquisitionEnabled = adaptiveAcquisitionEnabled;
+    }
+
+    public int getAdaptiveAcquisitionMinWaitTimeInMillis() {
+        return adaptiveAcquisitionMinWaitTimeInMillis;
+    }
+
+    public void setAdaptiveAcquisitionMinWaitTimeInMillis(int adaptiveAcquisitionMinWaitTimeInMillis) {
+        this.adaptiveAcquisitionMinWaitTimeInMillis = adaptiveAcquisitionMinWaitTimeInMillis;
+    }
+
+    /** The controller of the async job acquisition, null unless adaptive acquisition is enabled and the executor was started. */
+    public AdaptiveAcquisitionController getAsyncJobAcquisitionController() {
+        return asyncJobAcquisitionController;
+    }
+
+    public AdaptiveAcquisitionController getTimerJobAcquisitionController() {
+        return timerJobAcquisitionController;
+    }
+
+    public AdaptiveAcquisitionController getResetExpiredJobsController() {
+        return resetExpiredJobsController;
+    }
+
     public ExecuteAsyncRunnableFactory getExecuteAsyncRunnableFactory() {
         return executeAsyncRunnableFactory;
     }
@@ -344,5 +455,29 @@ public abstract class AbstractAsyncExecutor implements AsyncExecutor {
     public void setAsyncRunnableExecutionExceptionHandler(AsyncRunnableExecutionExceptionHandler asyncRunnableExecutionExceptionHandler) {
         this.asyncRunnableExecutionExceptionHandler = asyncRunnableExecutionExceptionHandler;
     }
-    
+
+    /**
+     * Reports the execution time of a job to the controller of the acquisition, which uses it to decide how long to wait when the executor is full.
+     */
+    protected static class TimedJobRunnable implements Runnable {
+
+        protected final Runnable runnable;
+        protected final AdaptiveAcquisitionController acquisitionController;
+
+        public TimedJobRunnable(Runnable runnable, AdaptiveAcquisitionController acquisitionController) {
+            this.runnable = runnable;
+            this.acquisitionController = acquisitionController;
+        }
+
+        @Override
+        public void run() {
+            long start = System.currentTimeMillis();
+            try {
+                runnable.run();
+            } finally {
+                acquisitionController.recordJobExecution(System.currentTimeMillis() - start);
+            }
+        }
+    }
+
 }
@@ -40,6 +40,8 @@ public class AcquireAsyncJobsDueRunnable implements Runnable {
     protected final Object MONITOR = new Object();
     protected final AtomicBoolean isWaiting = new AtomicBoolean(false);
 
+    protected AdaptiveAcquisitionController acquisitionController;
+
     public AcquireAsyncJobsDueRunnable(String name, AsyncExecutor asyncExecutor, 
             JobInfoEntityManager<? extends JobInfoEntity> jobEntityManager) {
         this.name = name;
@@ -64,7 +66,11 @@ public class AcquireAsyncJobsDueRunnable implements Runnable {
                     log.debug("acquired and queued new jobs; sleeping for {} ms", millisToWait);
                 }
             } else {
-                millisToWait = asyncExecutor.getDefaultAsyncJobAcquireWaitTimeInMillis();
+                if (acquisitionController != null) {
+                    millisToWait = acquisitionController.noCapacity();
+                } else {
+                    millisToWait = asyncExecutor.getDefaultAsyncJobAcquireWaitTimeInMillis();
+                }
 
                 if (log.isDebugEnabled()) {
                     log.debug("queue is full; sleeping for {} ms", millisToWait);
@@ -80,11 +86,18 @@ public class AcquireAsyncJobsDueRunnable implements Runnable {
 
     protected long acquireAndExecuteJobs(CommandExecutor commandExecutor, int remainingCapacity) {
         try {
-            AcquiredJobEntities acquiredJobs = commandExecutor.execute(new AcquireJobsCmd(asyncExecutor, remainingCapacity, jobEntityManager));
+            int maxResults = Math.min(remainingCapacity, asyncExecutor.getMaxAsyncJobsDuePerAcquisition());
+            if (acquisitionController != null) {
+                maxResults = Math.min(maxResults, acquisitionController.getBatchSize());
+            }
+            AcquiredJobEntities acquiredJobs = commandExecutor.execute(new AcquireJobsCmd(asyncExecutor, maxResults, jobEntityManager));
 
             List<JobInfoEntity> rejectedJobs = offerJobs(acquiredJobs);
 
             log.debug("Jobs acquired: {}, rejected: {}", acquiredJobs.size(), rejectedJobs.size());
+            if (acquisitionController != null) {
+                return acquisitionController.acquisitionSucceeded(maxResults, acquiredJobs.size(), rejectedJobs.size());
+            }
             if (rejectedJobs.size() > 0) {
                 // some jobs were rejected, so the queue was full; wait until attempting to acquire more.
                 return asyncExecutor.getDefaultQueueSizeFullWaitTimeInMillis();
@@ -102,8 +115,14 @@ public class AcquireAsyncJobsDueRunnable implements Runnable {
                         + "You can ignore this message if you indeed have multiple async executor acquisition threads running against the same database. " + "Exception message: {}",
                         optimisticLockingException.getMessage());
             }
+            if (acquisitionController != null) {
+                return acquisitionController.acquisitionConflicted();
+            }
         } catch (Throwable e) {
             log.error("exception during async job acquisition: {}", e.getMessage(), e);
+            if (acquisitionController != null) {
+                return acquisitionController.acquisitionFailed();
+            }
         }
 
         return asyncExecutor.getDefaultAsyncJobAcquireWaitTimeInMillis();
@@ -120,6 +139,17 @@ public class AcquireAsyncJobsDueRunnable implements Runnable {
         return rejected;
     }
 
+    public AdaptiveAcquisitionController getAcquisitionController() {
+        return acquisitionController;
+    }
+
+    /**
+     * Lets the given controller decide the number of jobs acquired at once and the time waited between acquisitions.
+     */
+    public void setAcquisitionController(AdaptiveAcquisitionController acquisitionController) {
+        this.acquisitionController = acquisitionController;
+    }
+
     public void stop() {
         synchronized (MONITOR) {
             isInterrupted = true;
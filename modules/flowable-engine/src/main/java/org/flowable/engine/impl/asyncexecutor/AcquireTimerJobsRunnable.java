@@ -40,6 +40,8 @@ public class AcquireTimerJobsRunnable implements Runnable {
 
     protected long millisToWait;
 
+    protected AdaptiveAcquisitionController acquisitionController;
+
     public AcquireTimerJobsRunnable(AsyncExecutor asyncExecutor, JobManager jobManager) {
         this.asyncExecutor = asyncExecutor;
         this.jobManager = jobManager;
@@ -54,7 +56,8 @@ public class AcquireTimerJobsRunnable implements Runnable {
         while (!isInterrupted) {
 
             try {
-                final AcquiredTimerJobEntities acquiredJobs = commandExecutor.execute(new AcquireTimerJobsCmd(asyncExecutor));
+                int maxResults = acquisitionController != null ? acquisitionController.getBatchSize() : asyncExecutor.getMaxAsyncJobsDuePerAcquisition();
+                final AcquiredTimerJobEntities acquiredJobs = commandExecutor.execute(new AcquireTimerJobsCmd(asyncExecutor, maxResults));
 
                 commandExecutor.execute(new Command<Void>() {
 
@@ -70,7 +73,9 @@ public class AcquireTimerJobsRunnable implements Runnable {
                 // if all jobs were executed
                 millisToWait = asyncExecutor.getDefaultTimerJobAcquireWaitTimeInMillis();
                 int jobsAcquired = acquiredJobs.size();
-                if (jobsAcquired >= asyncExecutor.getMaxTimerJobsPerAcquisition()) {
+                if (acquisitionController != null) {
+                    millisToWait = acquisitionController.acquisitionSucceeded(maxResults, jobsAcquired, 0);
+                } else if (jobsAcquired >= asyncExecutor.getMaxTimerJobsPerAcquisition()) {
                     millisToWait = 0;
                 }
 
@@ -82,9 +87,15 @@ public class AcquireTimerJobsRunnable implements Runnable {
                             + "You can ignore this message if you indeed have multiple timer executor acquisition threads running against the same database. " + "Exception message: {}",
                             optimisticLockingException.getMessage());
                 }
+                if (acquisitionController != null) {
+                    millisToWait = acquisitionController.acquisitionConflicted();
+                }
             } catch (Throwable e) {
                 log.error("exception during timer job acquisition: {}", e.getMessage(), e);
                 millisToWait = asyncExecutor.getDefaultTimerJobAcquireWaitTimeInMillis();
+                if (acquisitionController != null) {
+                    millisToWait = acquisitionController.acquisitionFailed();
+                }
             }
 
             if (millisToWait > 0) {
@@ -131,4 +142,15 @@ public class AcquireTimerJobsRunnable implements Runnable {
     public void setMillisToWait(long millisToWait) {
         this.millisToWait = millisToWait;
     }
+
+    public AdaptiveAcquisitionController getAcquisitionController() {
+        return acquisitionController;
+    }
+
+    /**
+     * Lets the given controller decide the number of timer jobs acquired at once and the time waited between acquisitions.
+     */
+    public void setAcquisitionController(AdaptiveAcquisitionController acquisitionController) {
+        this.acquisitionController = acquisitionController;
+    }
 }
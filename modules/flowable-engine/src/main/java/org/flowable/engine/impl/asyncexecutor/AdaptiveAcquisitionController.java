@@ -0,0 +1,215 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.asyncexecutor;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Decides how many jobs an acquisition thread fetches next and how long it waits before doing so, from the outcome of its recent acquisitions, instead of
+ * using fixed settings:
+ *
+ * <ul>
+ * <li>A full page means more jobs are waiting: acquire again right away, with a batch twice as large (only one larger when acquisitions often conflict).</li>
+ * <li>A partial page means the backlog is drained: wait the minimum wait time.</li>
+ * <li>An empty page doubles the wait time, up to the maximum wait time, so an idle executor backs off.</li>
+ * <li>An optimistic locking conflict (another node acquired the same jobs) halves the batch size.</li>
+ * <li>When the executor has no room for more jobs, wait about as long as a job takes to execute, which is when room is expected again.</li>
+ * </ul>
+ *
+ * The batch size stays between 1 and the configured maximum (e.g. the max async jobs due per acquisition), the wait time between the minimum and the configured
+ * wait time. The current decisions and the inputs they are based on are available as metrics through the getters.
+ */
+public class AdaptiveAcquisitionController {
+
+    private static Logger log = LoggerFactory.getLogger(AdaptiveAcquisitionController.class);
+
+    /** Weight of the latest observation in the moving averages. */
+    protected static final double SMOOTHING = 0.2;
+
+    protected static final double HIGH_CONFLICT_RATE = 0.3;
+
+    protected final String name;
+    protected final int maxBatchSize;
+    protected final long minWaitTimeInMillis;
+    protected final long maxWaitTimeInMillis;
+
+    protected int batchSize;
+    protected long waitTimeInMillis;
+
+    protected double averageYield = 1.0;
+    protected double conflictRate;
+    protected double averageJobExecutionTimeInMillis;
+    protected boolean jobExecutionTimeRecorded;
+
+    protected long acquisitionCount;
+    protected long emptyAcquisitionCount;
+    protected long conflictCount;
+    protected long acquiredJobCount;
+
+    public AdaptiveAcquisitionController(String name, int maxBatchSize, long minWaitTimeInMillis, long maxWaitTimeInMillis) {
+        this.name = name;
+        this.maxBatchSize = Math.max(1, maxBatchSize);
+        this.maxWaitTimeInMillis = Math.max(0L, maxWaitTimeInMillis);
+        this.minWaitTimeInMillis = Math.min(Math.max(0L, minWaitTimeInMillis), this.maxWaitTimeInMillis);
+        this.batchSize = this.maxBatchSize;
+    }
+
+    /**
+     * The number of jobs to acquire next.
+     */
+    public synchronized int getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * Records an acquisition that fetched the given number of jobs and returns the time to wait before the next one.
+     *
+     * @param requested
+     *            the page size used for the acquisition
+     * @param rejected
+     *            the number of acquired jobs the executor had no room for
+     */
+    public synchronized long acquisitionSucceeded(int requested, int acquired, int rejected) {
+        acquisitionCount++;
+        acquiredJobCount += acquired;
+        conflictRate = average(conflictRate, 0.0);
+        averageYield = average(averageYield, requested > 0 ? Math.min(1.0, (double) acquired / requested) : 0.0);
+
+        if (rejected > 0) {
+            batchSize = Math.max(1, Math.min(batchSize, acquired - rejected));
+            waitTimeInMillis = waitForRoom();
+
+        } else if (acquired > 0 && acquired >= requested) {
+            batchSize = Math.min(maxBatchSize, conflictRate > HIGH_CONFLICT_RATE ? batchSize + 1 : batchSize * 2);
+            waitTimeInMillis = 0L;
+
+        } else if (acquired > 0) {
+            waitTimeInMillis = minWaitTimeInMillis;
+
+        } else {
+            emptyAcquisitionCount++;
+            waitTimeInMillis = Math.min(maxWaitTimeInMillis, Math.max(minWaitTimeInMillis, waitTimeInMillis * 2));
+        }
+
+        return decided("acquired " + acquired + "/" + requested + (rejected > 0 ? ", rejected " + rejected : ""));
+    }
+
+    /**
+     * Records an acquisition that failed with an optimistic locking exception and returns the time to wait before the next one.
+     */
+    public synchronized long acquisitionConflicted() {
+        acquisitionCount++;
+        conflictCount++;
+        conflictRate = average(conflictRate, 1.0);
+        batchSize = Math.max(1, batchSize / 2);
+        waitTimeInMillis = minWaitTimeInMillis;
+        return decided("optimistic locking conflict");
+    }
+
+    /**
+     * Records an acquisition that failed for another reason and returns the time to wait before the next one.
+     */
+    public synchronized long acquisitionFailed() {
+        acquisitionCount++;
+        waitTimeInMillis = maxWaitTimeInMillis;
+        return decided("failure");
+    }
+
+    /**
+     * Returns the time to wait when the executor has no room for jobs, without acquiring.
+     */
+    public synchronized long noCapacity() {
+        waitTimeInMillis = waitForRoom();
+        return decided("no capacity");
+    }
+
+    public synchronized void recordJobExecution(long executionTimeInMillis) {
+        if (jobExecutionTimeRecorded) {
+            averageJobExecutionTimeInMillis = average(averageJobExecutionTimeInMillis, executionTimeInMillis);
+        } else {
+            averageJobExecutionTimeInMillis = executionTimeInMillis;
+            jobExecutionTimeRecorded = true;
+        }
+    }
+
+    protected long waitForRoom() {
+        if (!jobExecutionTimeRecorded) {
+            return maxWaitTimeInMillis;
+        }
+        return Math.min(maxWaitTimeInMillis, Math.max(minWaitTimeInMillis, Math.round(averageJobExecutionTimeInMillis)));
+    }
+
+    protected long decided(String reason) {
+        if (log.isDebugEnabled()) {
+            log.debug("{}: {}, next batch size {}, waiting {} ms", name, reason, batchSize, waitTimeInMillis);
+        }
+        return waitTimeInMillis;
+    }
+
+    protected double average(double average, double value) {
+        return average + SMOOTHING * (value - average);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getMaxBatchSize() {
+        return maxBatchSize;
+    }
+
+    public long getMinWaitTimeInMillis() {
+        return minWaitTimeInMillis;
+    }
+
+    public long getMaxWaitTimeInMillis() {
+        return maxWaitTimeInMillis;
+    }
+
+    /** The wait time decided last. */
+    public synchronized long getWaitTimeInMillis() {
+        return waitTimeInMillis;
+    }
+
+    /** Moving average of the fraction of the requested jobs that were acquired. */
+    public synchronized double getAverageYield() {
+        return averageYield;
+    }
+
+    /** Moving average of the fraction of acquisitions that ended in an optimistic locking conflict. */
+    public synchronized double getConflictRate() {
+        return conflictRate;
+    }
+
+    public synchronized double getAverageJobExecutionTimeInMillis() {
+        return averageJobExecutionTimeInMillis;
+    }
+
+    public synchronized long getAcquisitionCount() {
+        return acquisitionCount;
+    }
+
+    public synchronized long getEmptyAcquisitionCount() {
+        return emptyAcquisitionCount;
+    }
+
+    public synchronized long getConflictCount() {
+        return conflictCount;
+    }
+
+    public synchronized long getAcquiredJobCount() {
+        return acquiredJobCount;
+    }
+
+}
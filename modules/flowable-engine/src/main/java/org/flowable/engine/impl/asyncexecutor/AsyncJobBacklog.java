@@ -0,0 +1,181 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.asyncexecutor;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.flowable.engine.impl.jobexecutor.AsyncContinuationJobHandler;
+import org.flowable.engine.runtime.JobInfo;
+
+/**
+ * Bounded backlog for the jobs that are handed to the {@link DefaultAsyncJobExecutor} while its thread pool queue is full. Instead of unlocking such a job so
+ * it is acquired again from the database, it waits here until a thread of the pool is done with its current job. The jobs are taken in the order of the
+ * comparator, jobs that are equal according to the comparator in the order they were added.
+ *
+ * When the backlog is full, {@link #offer(JobInfo, Runnable, long)} blocks the thread handing over the job until there is room again or the timeout expires.
+ */
+public class AsyncJobBacklog {
+
+    protected final int capacity;
+    protected final Comparator<JobInfo> comparator;
+    protected final Semaphore permits;
+    protected final PriorityBlockingQueue<BackloggedJob> queue;
+    protected final AtomicLong sequence = new AtomicLong();
+
+    protected final AtomicInteger highWaterMark = new AtomicInteger();
+    protected final AtomicLong backloggedJobCount = new AtomicLong();
+    protected final AtomicLong rejectedJobCount = new AtomicLong();
+    protected final AtomicLong backPressureWaitTimeNanos = new AtomicLong();
+
+    public AsyncJobBacklog(int capacity, Comparator<JobInfo> comparator) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("The capacity of the backlog must be positive");
+        }
+        this.capacity = capacity;
+        this.comparator = comparator != null ? comparator : new AsyncContinuationsFirstComparator();
+        this.permits = new Semaphore(capacity);
+        this.queue = new PriorityBlockingQueue<BackloggedJob>(Math.min(capacity, 64));
+    }
+
+    /**
+     * Adds the job to the backlog, waiting at most the given time for room when the backlog is full.
+     *
+     * @return false when there was no room within the given time
+     */
+    public boolean offer(JobInfo job, Runnable runnable, long timeoutInMillis) throws InterruptedException {
+        if (!permits.tryAcquire()) {
+            long start = System.nanoTime();
+            boolean acquired = timeoutInMillis > 0 && permits.tryAcquire(timeoutInMillis, TimeUnit.MILLISECONDS);
+            backPressureWaitTimeNanos.addAndGet(System.nanoTime() - start);
+            if (!acquired) {
+                rejectedJobCount.incrementAndGet();
+                return false;
+            }
+        }
+
+        queue.add(new BackloggedJob(job, runnable, sequence.incrementAndGet()));
+        backloggedJobCount.incrementAndGet();
+
+        int size = capacity - permits.availablePermits();
+        int currentHighWaterMark = highWaterMark.get();
+        while (size > currentHighWaterMark && !highWaterMark.compareAndSet(currentHighWaterMark, size)) {
+            currentHighWaterMark = highWaterMark.get();
+        }
+        return true;
+    }
+
+    /**
+     * Returns the runnable of the next job, or null when the backlog is empty.
+     */
+    public Runnable poll() {
+        BackloggedJob backloggedJob = queue.poll();
+        if (backloggedJob == null) {
+            return null;
+        }
+        permits.release();
+        return backloggedJob.runnable;
+    }
+
+    /**
+     * Removes all jobs from the backlog, e.g. to unlock them when the executor shuts down.
+     */
+    public List<JobInfo> drainJobs() {
+        List<BackloggedJob> backloggedJobs = new ArrayList<BackloggedJob>();
+        queue.drainTo(backloggedJobs);
+        permits.release(backloggedJobs.size());
+
+        List<JobInfo> jobs = new ArrayList<JobInfo>(backloggedJobs.size());
+        for (BackloggedJob backloggedJob : backloggedJobs) {
+            jobs.add(backloggedJob.job);
+        }
+        return jobs;
+    }
+
+    public int size() {
+        return queue.size();
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public int getRemainingCapacity() {
+        return permits.availablePermits();
+    }
+
+    /** The largest number of jobs that were in the backlog at the same time. */
+    public int getHighWaterMark() {
+        return highWaterMark.get();
+    }
+
+    /** The number of jobs that were added to the backlog. */
+    public long getBackloggedJobCount() {
+        return backloggedJobCount.get();
+    }
+
+    /** The number of jobs for which there was no room in time, these were left for the job acquisition. */
+    public long getRejectedJobCount() {
+        return rejectedJobCount.get();
+    }
+
+    /** The total time threads handing over jobs waited for room in the backlog. */
+    public long getBackPressureWaitTimeInMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(backPressureWaitTimeNanos.get());
+    }
+
+    protected class BackloggedJob implements Comparable<BackloggedJob> {
+
+        protected final JobInfo job;
+        protected final Runnable runnable;
+        protected final long sequenceNumber;
+
+        protected BackloggedJob(JobInfo job, Runnable runnable, long sequenceNumber) {
+            this.job = job;
+            this.runnable = runnable;
+            this.sequenceNumber = sequenceNumber;
+        }
+
+        @Override
+        public int compareTo(BackloggedJob other) {
+            int result = comparator.compare(job, other.job);
+            if (result == 0) {
+                result = sequenceNumber < other.sequenceNumber ? -1 : (sequenceNumber == other.sequenceNumber ? 0 : 1);
+            }
+            return result;
+        }
+    }
+
+    /**
+     * The default order: async continuations before other jobs (e.g. fired timers or events), as process instances wait on those.
+     */
+    public static class AsyncContinuationsFirstComparator implements Comparator<JobInfo> {
+
+        @Override
+        public int compare(JobInfo job, JobInfo other) {
+            boolean asyncContinuation = AsyncContinuationJobHandler.TYPE.equals(job.getJobHandlerType());
+            boolean otherAsyncContinuation = AsyncContinuationJobHandler.TYPE.equals(other.getJobHandlerType());
+            if (asyncContinuation == otherAsyncContinuation) {
+                return 0;
+            }
+            return asyncContinuation ? -1 : 1;
+        }
+    }
+
+}
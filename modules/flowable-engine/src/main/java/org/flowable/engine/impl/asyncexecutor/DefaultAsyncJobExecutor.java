@@ -12,6 +12,8 @@
  */
 package org.flowable.engine.impl.asyncexecutor;
 
+import java.lang.reflect.Method;
+import java.util.Comparator;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ExecutorService;
@@ -19,7 +21,10 @@ import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 
+import javax.sql.DataSource;
+
 import org.apache.commons.lang3.concurrent.BasicThreadFactory;
+import org.apache.ibatis.datasource.pooled.PooledDataSource;
 import org.flowable.engine.impl.context.Context;
 import org.flowable.engine.impl.interceptor.Command;
 import org.flowable.engine.impl.interceptor.CommandContext;
@@ -72,12 +77,48 @@ public class DefaultAsyncJobExecutor extends AbstractAsyncExecutor {
      */
     protected long secondsToWaitOnShutdown = 60L;
 
+    /**
+     * The size of the local backlog for jobs that are handed over while the thread pool queue is full. Such jobs wait in the backlog for a free thread, instead of
+     * being unlocked and acquired again from the database later on. Default 0: no backlog.
+     */
+    protected int localBacklogSize;
+
+    /**
+     * How long (in milliseconds) handing over a job blocks when the local backlog is full, before the job is unlocked and left for the job acquisition.
+     */
+    protected long localBacklogOfferTimeoutInMillis = 1000L;
+
+    /** The order in which jobs are taken from the local backlog, by default async continuations first. */
+    protected Comparator<JobInfo> localBacklogComparator;
+
+    protected AsyncJobBacklog localBacklog;
+
+    /**
+     * When true, every job runs on a thread of its own (a virtual thread when the runtime supports them) instead of on the thread pool, with at most
+     * {@link #maxConcurrentJobs} jobs running at the same time. Jobs mostly block on the database and on remote calls, so the number of connections in the
+     * pool is a better bound than the number of threads. The pool settings (core/max pool size, queue size) are not used in this mode.
+     */
+    protected boolean virtualThreadJobExecution;
+
+    /**
+     * The maximum number of jobs running at the same time when {@link #virtualThreadJobExecution} is enabled. Default 0: the maximum number of connections of
+     * the DataSource, when it can be determined, the max pool size otherwise.
+     */
+    protected int maxConcurrentJobs;
+
+    /** Set on the threads of the pool while they execute jobs: these never wait for room in the local backlog, as only they make room. */
+    protected final ThreadLocal<Boolean> isExecutingJobs = new ThreadLocal<Boolean>();
+
     protected boolean executeAsyncJob(final JobInfo job, Runnable runnable) {
         try {
-            executorService.execute(runnable);
+            executorService.execute(localBacklog != null ? new BacklogDrainingRunnable(runnable) : runnable);
             return true;
         } catch (RejectedExecutionException e) {
 
+            if (localBacklog != null && offerToLocalBacklog(job, runnable)) {
+                return true;
+            }
+
             // When a RejectedExecutionException is caught, this means that the queue for holding the jobs
             // that are to be executed is full and can't store more.
             // The job is now 'unlocked', meaning that the lock owner/time is set to null,
@@ -131,7 +172,43 @@ public class DefaultAsyncJobExecutor extends AbstractAsyncExecutor {
         stopExecutingAsyncJobs();
     }
 
+    protected boolean offerToLocalBacklog(JobInfo job, Runnable runnable) {
+        long timeout = Boolean.TRUE.equals(isExecutingJobs.get()) ? 0L : localBacklogOfferTimeoutInMillis;
+        try {
+            if (!localBacklog.offer(job, runnable, timeout)) {
+                log.debug("Local backlog full, job {} is left for the job acquisition", job.getId());
+                return false;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+
+        try {
+            // The threads may all have finished before the job was added
+            executorService.execute(new BacklogDrainingRunnable(null));
+        } catch (RejectedExecutionException e) {
+            // The queue is full again, the queued runnables drain the backlog when they are done
+        }
+        return true;
+    }
+
     protected void initAsyncJobExecutionThreadPool() {
+        if (localBacklog == null && localBacklogSize > 0) {
+            log.info("Creating local job backlog of size {}", localBacklogSize);
+            localBacklog = new AsyncJobBacklog(localBacklogSize, localBacklogComparator);
+        }
+
+        if (executorService == null && virtualThreadJobExecution) {
+            int permits = maxConcurrentJobs > 0 ? maxConcurrentJobs : determineDataSourcePoolSize();
+            BasicThreadFactory threadFactory = new BasicThreadFactory.Builder().namingPattern("flowable-async-job-executor-thread-%d").build();
+            SemaphoreBoundedExecutorService semaphoreBoundedExecutorService = new SemaphoreBoundedExecutorService(permits, threadFactory);
+            log.info("Creating executor service running at most {} jobs at the same time on {} threads", permits,
+                    semaphoreBoundedExecutorService.isVirtualThreads() ? "virtual" : "platform");
+            executorService = semaphoreBoundedExecutorService;
+            return;
+        }
+
         if (threadPoolQueue == null) {
             log.info("Creating thread pool queue of size {}", queueSize);
             threadPoolQueue = new ArrayBlockingQueue<Runnable>(queueSize);
@@ -145,6 +222,34 @@ public class DefaultAsyncJobExecutor extends AbstractAsyncExecutor {
         }
     }
 
+    /**
+     * The maximum number of active connections of the DataSource, for the pools that expose it.
+     */
+    protected int determineDataSourcePoolSize() {
+        DataSource dataSource = processEngineConfiguration.getDataSource();
+        if (dataSource instanceof PooledDataSource) {
+            return ((PooledDataSource) dataSource).getPoolMaximumActiveConnections();
+        }
+
+        if (dataSource != null) {
+            // HikariCP, Commons DBCP 2 and Commons DBCP 1 / Tomcat JDBC respectively
+            for (String methodName : new String[] { "getMaximumPoolSize", "getMaxTotal", "getMaxActive" }) {
+                try {
+                    Method method = dataSource.getClass().getMethod(methodName);
+                    Object poolSize = method.invoke(dataSource);
+                    if (poolSize instanceof Integer && (Integer) poolSize > 0) {
+                        return (Integer) poolSize;
+                    }
+                } catch (Exception e) {
+                    // not this kind of pool
+                }
+            }
+        }
+
+        log.info("Could not determine the size of the connection pool, using the max pool size {} as maximum number of concurrent jobs", maxPoolSize);
+        return maxPoolSize;
+    }
+
     protected void stopExecutingAsyncJobs() {
         if (executorService != null) {
 
@@ -162,6 +267,22 @@ public class DefaultAsyncJobExecutor extends AbstractAsyncExecutor {
 
             executorService = null;
         }
+
+        unacquireBackloggedJobs();
+    }
+
+    protected void unacquireBackloggedJobs() {
+        if (localBacklog != null) {
+            for (final JobInfo job : localBacklog.drainJobs()) {
+                processEngineConfiguration.getCommandExecutor().execute(new Command<Void>() {
+                    public Void execute(CommandContext commandContext) {
+                        commandContext.getJobManager().unacquire(job);
+                        return null;
+                    }
+                });
+            }
+            localBacklog = null;
+        }
     }
 
     /** Starts the acquisition thread */
@@ -253,7 +374,10 @@ public class DefaultAsyncJobExecutor extends AbstractAsyncExecutor {
 
     @Override
     public int getRemainingCapacity() {
-        if (threadPoolQueue != null) {
+        if (executorService instanceof SemaphoreBoundedExecutorService) {
+            // Acquire no more jobs than can be started right away
+            return ((SemaphoreBoundedExecutorService) executorService).getAvailablePermits();
+        } else if (threadPoolQueue != null) {
             return threadPoolQueue.remainingCapacity();
         } else {
             // return plenty of remaining capacity if there's no thread pool queue
@@ -321,4 +445,90 @@ public class DefaultAsyncJobExecutor extends AbstractAsyncExecutor {
         this.executorService = executorService;
     }
 
+    public int getLocalBacklogSize() {
+        return localBacklogSize;
+    }
+
+    public void setLocalBacklogSize(int localBacklogSize) {
+        this.localBacklogSize = localBacklogSize;
+    }
+
+    public long getLocalBacklogOfferTimeoutInMillis() {
+        return localBacklogOfferTimeoutInMillis;
+    }
+
+    public void setLocalBacklogOfferTimeoutInMillis(long localBacklogOfferTimeoutInMillis) {
+        this.localBacklogOfferTimeoutInMillis = localBacklogOfferTimeoutInMillis;
+    }
+
+    public Comparator<JobInfo> getLocalBacklogComparator() {
+        return localBacklogComparator;
+    }
+
+    public void setLocalBacklogComparator(Comparator<JobInfo> localBacklogComparator) {
+        this.localBacklogComparator = localBacklogComparator;
+    }
+
+    public boolean isVirtualThreadJobExecution() {
+        return virtualThreadJobExecution;
+    }
+
+    public void setVirtualThreadJobExecution(boolean virtualThreadJobExecution) {
+        this.virtualThreadJobExecution = virtualThreadJobExecution;
+    }
+
+    public int getMaxConcurrentJobs() {
+        return maxConcurrentJobs;
+    }
+
+    public void setMaxConcurrentJobs(int maxConcurrentJobs) {
+        this.maxConcurrentJobs = maxConcurrentJobs;
+    }
+
+    /**
+     * The local backlog while the executor is active, with its queue depth metrics. Null when there is no backlog.
+     */
+    public AsyncJobBacklog getLocalBacklog() {
+        return localBacklog;
+    }
+
+    /**
+     * Executes the job and then the jobs in the local backlog, until it is empty.
+     */
+    protected class BacklogDrainingRunnable implements Runnable {
+
+        protected final Runnable runnable;
+
+        public BacklogDrainingRunnable(Runnable runnable) {
+            this.runnable = runnable;
+        }
+
+        @Override
+        public void run() {
+            isExecutingJobs.set(Boolean.TRUE);
+            try {
+                if (runnable != null) {
+                    executeSafely(runnable);
+                }
+
+                AsyncJobBacklog backlog = localBacklog;
+                Runnable backloggedRunnable = backlog != null ? backlog.poll() : null;
+                while (backloggedRunnable != null) {
+                    executeSafely(backloggedRunnable);
+                    backloggedRunnable = backlog.poll();
+                }
+            } finally {
+                isExecutingJobs.remove();
+            }
+        }
+
+        protected void executeSafely(Runnable jobRunnable) {
+            try {
+                jobRunnable.run();
+            } catch (Throwable t) {
+                log.error("Exception while executing a job: {}", t.getMessage(), t);
+            }
+        }
+    }
+
 }
@@ -44,6 +44,8 @@ public class ResetExpiredJobsRunnable implements Runnable {
     protected final Object MONITOR = new Object();
     protected final AtomicBoolean isWaiting = new AtomicBoolean(false);
 
+    protected AdaptiveAcquisitionController acquisitionController;
+
     public ResetExpiredJobsRunnable(String name, AsyncExecutor asyncExecutor,
             JobInfoEntityManager<? extends JobInfoEntity> jobEntityManager) {
         this.name = name;
@@ -57,10 +59,12 @@ public class ResetExpiredJobsRunnable implements Runnable {
 
         while (!isInterrupted) {
 
+            long millisToWait = asyncExecutor.getResetExpiredJobsInterval();
             try {
 
+                int pageSize = acquisitionController != null ? acquisitionController.getBatchSize() : asyncExecutor.getResetExpiredJobsPageSize();
                 List<? extends JobInfoEntity> expiredJobs = asyncExecutor.getProcessEngineConfiguration().getCommandExecutor()
-                        .execute(new FindExpiredJobsCmd(asyncExecutor.getResetExpiredJobsPageSize(), jobEntityManager));
+                        .execute(new FindExpiredJobsCmd(pageSize, jobEntityManager));
 
                 List<String> expiredJobIds = new ArrayList<String>(expiredJobs.size());
                 for (JobInfoEntity expiredJob : expiredJobs) {
@@ -72,21 +76,35 @@ public class ResetExpiredJobsRunnable implements Runnable {
                             new ResetExpiredJobsCmd(expiredJobIds, jobEntityManager));
                 }
 
+                if (acquisitionController != null) {
+                    millisToWait = acquisitionController.acquisitionSucceeded(pageSize, expiredJobIds.size(), 0);
+                }
+
             } catch (Throwable e) {
                 if (e instanceof FlowableOptimisticLockingException) {
                     log.debug("Optimistic lock exception while resetting locked jobs", e);
+                    if (acquisitionController != null) {
+                        millisToWait = acquisitionController.acquisitionConflicted();
+                    }
                 } else {
                     log.error("exception during resetting expired jobs: {}", e.getMessage(), e);
+                    if (acquisitionController != null) {
+                        millisToWait = acquisitionController.acquisitionFailed();
+                    }
                 }
             }
 
+            if (millisToWait <= 0) {
+                continue;
+            }
+
             // Sleep
             try {
 
                 synchronized (MONITOR) {
                     if (!isInterrupted) {
                         isWaiting.set(true);
-                        MONITOR.wait(asyncExecutor.getResetExpiredJobsInterval());
+                        MONITOR.wait(millisToWait);
                     }
                 }
 
@@ -103,6 +121,17 @@ public class ResetExpiredJobsRunnable implements Runnable {
         log.info("stopped resetting expired jobs");
     }
 
+    public AdaptiveAcquisitionController getAcquisitionController() {
+        return acquisitionController;
+    }
+
+    /**
+     * Lets the given controller decide the number of expired jobs reset at once and the time waited between checks.
+     */
+    public void setAcquisitionController(AdaptiveAcquisitionController acquisitionController) {
+        this.acquisitionController = acquisitionController;
+    }
+
     public void stop() {
         synchronized (MONITOR) {
             isInterrupted = true;
@@ -0,0 +1,137 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.asyncexecutor;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Runs every task on a thread of its own, a virtual thread when the runtime supports them (Java 21 or later), with the number of tasks running at the same time
+ * bounded by a semaphore instead of by the size of a thread pool. A task for which there is no permit is rejected with a {@link RejectedExecutionException},
+ * just like when the queue of a thread pool is full.
+ */
+public class SemaphoreBoundedExecutorService extends AbstractExecutorService {
+
+    private static Logger log = LoggerFactory.getLogger(SemaphoreBoundedExecutorService.class);
+
+    protected final ExecutorService delegate;
+    protected final Semaphore permits;
+    protected final int maxConcurrentTasks;
+    protected final boolean virtualThreads;
+
+    public SemaphoreBoundedExecutorService(int maxConcurrentTasks, ThreadFactory platformThreadFactory) {
+        if (maxConcurrentTasks <= 0) {
+            throw new IllegalArgumentException("The number of concurrent tasks must be positive");
+        }
+        this.maxConcurrentTasks = maxConcurrentTasks;
+        this.permits = new Semaphore(maxConcurrentTasks);
+
+        ExecutorService virtualThreadExecutor = createVirtualThreadPerTaskExecutor();
+        if (virtualThreadExecutor != null) {
+            this.delegate = virtualThreadExecutor;
+            this.virtualThreads = true;
+        } else {
+            log.info("Virtual threads are not supported by this runtime, running jobs on platform threads instead");
+            this.delegate = Executors.newCachedThreadPool(platformThreadFactory);
+            this.virtualThreads = false;
+        }
+    }
+
+    /**
+     * Looked up by reflection, the engine itself is compiled for older Java versions.
+     */
+    protected static ExecutorService createVirtualThreadPerTaskExecutor() {
+        try {
+            Method method = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) method.invoke(null);
+        } catch (NoSuchMethodException e) {
+            return null;
+        } catch (Exception e) {
+            log.warn("Could not create a virtual thread executor: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    @Override
+    public void execute(final Runnable command) {
+        if (!permits.tryAcquire()) {
+            throw new RejectedExecutionException("All " + maxConcurrentTasks + " permits are in use");
+        }
+
+        try {
+            delegate.execute(new Runnable() {
+
+                @Override
+                public void run() {
+                    try {
+                        command.run();
+                    } finally {
+                        permits.release();
+                    }
+                }
+            });
+        } catch (RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    /** The number of tasks that can be started right now. */
+    public int getAvailablePermits() {
+        return permits.availablePermits();
+    }
+
+    public int getMaxConcurrentTasks() {
+        return maxConcurrentTasks;
+    }
+
+    public boolean isVirtualThreads() {
+        return virtualThreads;
+    }
+
+    @Override
+    public void shutdown() {
+        delegate.shutdown();
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+        return delegate.shutdownNow();
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return delegate.isShutdown();
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return delegate.isTerminated();
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        return delegate.awaitTermination(timeout, unit);
+    }
+
+}
@@ -0,0 +1,188 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.asyncexecutor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A hierarchical timer wheel: items are put in the bucket of the tick in which they are due, on the finest level that spans their due time. Each next level has
+ * buckets as large as the whole previous level, items of a coarser level are moved to a finer level when their bucket is reached.
+ *
+ * Adding an item and advancing by a tick are constant time, independent of the number of scheduled items. Items are returned by the first advance to their due time or later,
+ * items due within the current tick are kept aside until then. Time is whatever the caller passes in (for the async executor the time of the engine clock).
+ * Not thread-safe.
+ */
+public class TimerWheel<T> {
+
+    public static final int DEFAULT_WHEEL_SIZE = 512;
+
+    protected final long tickMillis;
+    protected final int wheelSize;
+    protected final Level<T> level;
+    /** Items due within the current tick of the finest level, checked on every advance. */
+    protected final List<Entry<T>> currentTickEntries = new ArrayList<Entry<T>>();
+    protected int size;
+
+    public TimerWheel(long tickMillis, long startTime) {
+        this(tickMillis, DEFAULT_WHEEL_SIZE, startTime);
+    }
+
+    public TimerWheel(long tickMillis, int wheelSize, long startTime) {
+        if (tickMillis <= 0 || wheelSize <= 1) {
+            throw new IllegalArgumentException("tick must be positive and the wheel needs at least 2 buckets");
+        }
+        this.tickMillis = tickMillis;
+        this.wheelSize = wheelSize;
+        this.level = new Level<T>(tickMillis, wheelSize, startTime);
+    }
+
+    /**
+     * Schedules the item. An item that is already due is returned by the next call to {@link #advance(long)}.
+     */
+    public void add(T item, long dueTime) {
+        schedule(new Entry<T>(item, dueTime));
+        size++;
+    }
+
+    /**
+     * Moves the wheel to the given time and returns the items that are due by then.
+     */
+    public List<T> advance(long now) {
+        List<Entry<T>> drained = new ArrayList<Entry<T>>(currentTickEntries);
+        currentTickEntries.clear();
+        level.advance(now, drained);
+
+        List<T> dueItems = new ArrayList<T>();
+        for (Entry<T> entry : drained) {
+            if (entry.dueTime <= now) {
+                dueItems.add(entry.item);
+                size--;
+            } else {
+                schedule(entry);
+            }
+        }
+        return dueItems;
+    }
+
+    protected void schedule(Entry<T> entry) {
+        if (entry.dueTime < level.currentTime + tickMillis) {
+            currentTickEntries.add(entry);
+        } else {
+            level.add(entry);
+        }
+    }
+
+    /**
+     * Removes and returns all scheduled items.
+     */
+    public List<T> clear() {
+        List<Entry<T>> drained = new ArrayList<Entry<T>>(currentTickEntries);
+        currentTickEntries.clear();
+        level.clear(drained);
+        List<T> items = new ArrayList<T>(drained.size());
+        for (Entry<T> entry : drained) {
+            items.add(entry.item);
+        }
+        size = 0;
+        return items;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public long getTickMillis() {
+        return tickMillis;
+    }
+
+    protected static class Entry<T> {
+
+        protected final T item;
+        protected final long dueTime;
+
+        protected Entry(T item, long dueTime) {
+            this.item = item;
+            this.dueTime = dueTime;
+        }
+    }
+
+    protected static class Level<T> {
+
+        protected final long tickMillis;
+        protected final int wheelSize;
+        protected final long interval;
+        protected final List<List<Entry<T>>> buckets;
+
+        /** Start of the current tick, always a multiple of tickMillis. */
+        protected long currentTime;
+        protected Level<T> overflow;
+
+        protected Level(long tickMillis, int wheelSize, long startTime) {
+            this.tickMillis = tickMillis;
+            this.wheelSize = wheelSize;
+            this.interval = tickMillis * wheelSize;
+            this.currentTime = startTime - (startTime % tickMillis);
+            this.buckets = new ArrayList<List<Entry<T>>>(wheelSize);
+            for (int i = 0; i < wheelSize; i++) {
+                buckets.add(new ArrayList<Entry<T>>());
+            }
+        }
+
+        protected void add(Entry<T> entry) {
+            if (entry.dueTime < currentTime + tickMillis) {
+                // Due in the current tick (or before): the next bucket is the first one that will be drained
+                bucketFor(currentTime + tickMillis).add(entry);
+            } else if (entry.dueTime < currentTime + interval) {
+                bucketFor(entry.dueTime).add(entry);
+            } else {
+                if (overflow == null) {
+                    overflow = new Level<T>(interval, wheelSize, currentTime);
+                }
+                overflow.add(entry);
+            }
+        }
+
+        protected List<Entry<T>> bucketFor(long time) {
+            return buckets.get((int) ((time / tickMillis) % wheelSize));
+        }
+
+        protected void advance(long now, List<Entry<T>> drained) {
+            if (now >= currentTime + tickMillis) {
+                long ticks = (now - currentTime) / tickMillis;
+                // After a jump of a whole rotation or more every bucket is reached
+                long bucketsToDrain = Math.min(ticks, wheelSize);
+                for (long i = 1; i <= bucketsToDrain; i++) {
+                    List<Entry<T>> bucket = bucketFor(currentTime + i * tickMillis);
+                    drained.addAll(bucket);
+                    bucket.clear();
+                }
+                currentTime += ticks * tickMillis;
+            }
+            if (overflow != null) {
+                overflow.advance(now, drained);
+            }
+        }
+
+        protected void clear(List<Entry<T>> drained) {
+            for (List<Entry<T>> bucket : buckets) {
+                drained.addAll(bucket);
+                bucket.clear();
+            }
+            if (overflow != null) {
+                overflow.clear(drained);
+            }
+        }
+    }
+
+}
@@ -0,0 +1,208 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.asyncexecutor;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.flowable.engine.common.api.FlowableOptimisticLockingException;
+import org.flowable.engine.impl.cmd.PrefetchTimerJobsCmd;
+import org.flowable.engine.impl.interceptor.Command;
+import org.flowable.engine.impl.interceptor.CommandContext;
+import org.flowable.engine.impl.interceptor.CommandExecutor;
+import org.flowable.engine.impl.persistence.entity.TimerJobEntity;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Timer acquisition that keeps the timers due within the look-ahead window of the async executor in a {@link TimerWheel}, instead of polling for timers that
+ * are already due.
+ *
+ * The timers are prefetched (and leased, see {@link PrefetchTimerJobsCmd}) every {@link AsyncExecutor#getDefaultTimerJobAcquireWaitTimeInMillis()}. In
+ * between, the wheel is advanced every tick and each due timer is moved to an executable job in its own transaction. That job is locked by this node and
+ * handed to the executor when the transaction commits, so it doesn't wait for the async job acquisition either.
+ */
+public class TimerWheelAcquireTimerJobsRunnable extends AcquireTimerJobsRunnable {
+
+    private static Logger log = LoggerFactory.getLogger(TimerWheelAcquireTimerJobsRunnable.class);
+
+    protected final AbstractAsyncExecutor abstractAsyncExecutor;
+
+    /** The timers in the wheel by id, the wheel itself only holds the ids. */
+    protected final Map<String, TimerJobEntity> scheduledTimerJobs = new HashMap<String, TimerJobEntity>();
+    protected TimerWheel<String> timerWheel;
+    protected long lastAdvanceTime;
+    protected long nextPrefetchTime;
+
+    public TimerWheelAcquireTimerJobsRunnable(AbstractAsyncExecutor asyncExecutor, JobManager jobManager) {
+        super(asyncExecutor, jobManager);
+        this.abstractAsyncExecutor = asyncExecutor;
+    }
+
+    @Override
+    public synchronized void run() {
+        log.info("starting to prefetch timer jobs into the timer wheel");
+        Thread.currentThread().setName("flowable-timer-wheel");
+
+        final CommandExecutor commandExecutor = asyncExecutor.getProcessEngineConfiguration().getCommandExecutor();
+
+        while (!isInterrupted) {
+
+            try {
+                advanceTimerWheel(commandExecutor, prefetchTimerJobsIfNeeded(commandExecutor));
+
+            } catch (FlowableOptimisticLockingException optimisticLockingException) {
+                if (log.isDebugEnabled()) {
+                    log.debug("Optimistic locking exception during timer job prefetching. Another node leased one of the timer jobs at the same time, "
+                            + "this is expected behavior in a clustered environment. Exception message: {}", optimisticLockingException.getMessage());
+                }
+            } catch (Throwable e) {
+                log.error("exception during timer job prefetching: {}", e.getMessage(), e);
+                nextPrefetchTime = System.currentTimeMillis() + asyncExecutor.getDefaultTimerJobAcquireWaitTimeInMillis();
+            }
+
+            millisToWait = Math.min(abstractAsyncExecutor.getTimerWheelTickInMillis(), nextPrefetchTime - System.currentTimeMillis());
+            if (millisToWait > 0) {
+                try {
+                    synchronized (MONITOR) {
+                        if (!isInterrupted) {
+                            isWaiting.set(true);
+                            MONITOR.wait(millisToWait);
+                        }
+                    }
+                } catch (InterruptedException e) {
+                    if (log.isDebugEnabled()) {
+                        log.debug("timer wheel wait interrupted");
+                    }
+                } finally {
+                    isWaiting.set(false);
+                }
+            }
+        }
+
+        releaseTimerJobs(commandExecutor);
+        log.info("stopped timer wheel");
+    }
+
+    /**
+     * Prefetches the timers when the wait time has passed since the previous prefetch, or immediately again when the previous prefetch returned a full page.
+     * Returns the current time of the engine clock.
+     */
+    protected long prefetchTimerJobsIfNeeded(CommandExecutor commandExecutor) {
+        long now = currentTime();
+        if (timerWheel == null || now < lastAdvanceTime) {
+            // Also when the engine clock was set back, as the wheel can only move forward
+            createTimerWheel(now);
+        }
+
+        if (System.currentTimeMillis() >= nextPrefetchTime) {
+            AcquiredTimerJobEntities acquiredJobs = commandExecutor.execute(new PrefetchTimerJobsCmd(abstractAsyncExecutor));
+            for (TimerJobEntity job : acquiredJobs.getJobs()) {
+                // A timer that is prefetched again (its lease expired) replaces the stale one, it has a new revision
+                if (scheduledTimerJobs.put(job.getId(), job) == null) {
+                    timerWheel.add(job.getId(), job.getDuedate().getTime());
+                }
+            }
+
+            if (acquiredJobs.size() >= abstractAsyncExecutor.getTimerWheelPrefetchSize()) {
+                nextPrefetchTime = 0L;
+            } else {
+                nextPrefetchTime = System.currentTimeMillis() + asyncExecutor.getDefaultTimerJobAcquireWaitTimeInMillis();
+            }
+
+            now = currentTime();
+        }
+        return now;
+    }
+
+    protected void advanceTimerWheel(CommandExecutor commandExecutor, long now) {
+        lastAdvanceTime = now;
+        for (String jobId : timerWheel.advance(now)) {
+            TimerJobEntity job = scheduledTimerJobs.get(jobId);
+            if (job != null) {
+                if (job.getDuedate().getTime() > now) {
+                    timerWheel.add(jobId, job.getDuedate().getTime());
+                } else {
+                    scheduledTimerJobs.remove(jobId);
+                    fireTimerJob(commandExecutor, job);
+                }
+            }
+        }
+    }
+
+    protected void fireTimerJob(CommandExecutor commandExecutor, final TimerJobEntity job) {
+        try {
+            commandExecutor.execute(new Command<Void>() {
+
+                @Override
+                public Void execute(CommandContext commandContext) {
+                    jobManager.moveTimerJobToExecutableJob(job);
+                    return null;
+                }
+            });
+
+        } catch (FlowableOptimisticLockingException optimisticLockingException) {
+            // The timer was changed or deleted since it was prefetched, e.g. because its execution ended
+            if (log.isDebugEnabled()) {
+                log.debug("Timer job {} was changed since it was prefetched, not firing it: {}", job.getId(), optimisticLockingException.getMessage());
+            }
+        } catch (Throwable e) {
+            // The lease expires, after which the timer is prefetched again
+            log.error("exception while firing timer job {}: {}", job.getId(), e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Gives up the lease of the timers still in the wheel, so other nodes can take them over right away.
+     */
+    protected void releaseTimerJobs(CommandExecutor commandExecutor) {
+        if (scheduledTimerJobs.isEmpty()) {
+            return;
+        }
+
+        try {
+            commandExecutor.execute(new Command<Void>() {
+
+                @Override
+                public Void execute(CommandContext commandContext) {
+                    for (String jobId : scheduledTimerJobs.keySet()) {
+                        TimerJobEntity job = commandContext.getTimerJobEntityManager().findById(jobId);
+                        if (job != null && asyncExecutor.getLockOwner().equals(job.getLockOwner())) {
+                            job.setLockOwner(null);
+                            job.setLockExpirationTime(null);
+                        }
+                    }
+                    return null;
+                }
+            });
+
+        } catch (Throwable e) {
+            log.warn("Could not release the {} timer jobs of the timer wheel, they are taken over when their lease expires: {}", scheduledTimerJobs.size(), e.getMessage());
+        }
+
+        scheduledTimerJobs.clear();
+        timerWheel.clear();
+    }
+
+    protected void createTimerWheel(long now) {
+        timerWheel = new TimerWheel<String>(abstractAsyncExecutor.getTimerWheelTickInMillis(), now);
+        for (TimerJobEntity job : scheduledTimerJobs.values()) {
+            timerWheel.add(job.getId(), job.getDuedate().getTime());
+        }
+        lastAdvanceTime = now;
+    }
+
+    protected long currentTime() {
+        return asyncExecutor.getProcessEngineConfiguration().getClock().getCurrentTime().getTime();
+    }
+}
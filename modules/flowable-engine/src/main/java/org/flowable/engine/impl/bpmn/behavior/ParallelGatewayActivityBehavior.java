@@ -26,6 +26,7 @@ import org.flowable.engine.delegate.DelegateExecution;
 import org.flowable.engine.impl.context.Context;
 import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
 import org.flowable.engine.impl.persistence.entity.ExecutionEntityManager;
+import org.flowable.engine.impl.persistence.entity.VariableScopeImpl;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -43,6 +44,14 @@ import org.slf4j.LoggerFactory;
  * Note that a Parallel Gateway having one incoming and multiple outgoing sequence flow, is the same as having multiple outgoing sequence flow on a given activity. However, a parallel gateway does NOT
  * check conditions on the outgoing sequence flow.
  * 
+ * By default, the inactive executions in the gateway are looked up every time an execution arrives. With
+ * {@link org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl#isEnableParallelGatewayJoinCounter()}, the number of arrived executions is kept in a
+ * local variable of the parent scope execution instead, and they are only looked up when the gateway activates. The parent scope execution is always
+ * updated when an execution arrives, so concurrent arrivals fail with an optimistic locking exception just like without the counter. When there's no
+ * counter yet (the first execution of the scope to arrive, or executions that arrived before the counter was enabled), the executions are looked up and
+ * counted, as they are when the counter says the gateway activates. The counter is removed when the gateway activates. It is neither read nor removed
+ * while disabled, so it has to be enabled on all engines sharing the database at once.
+ * 
  * @author Joram Barrez
  * @author Tom Baeyens
  */
@@ -52,6 +61,12 @@ public class ParallelGatewayActivityBehavior extends GatewayActivityBehavior {
 
     private static Logger log = LoggerFactory.getLogger(ParallelGatewayActivityBehavior.class);
 
+    /**
+     * Prefix of the local variable of the parent scope execution that counts the executions that have arrived in the gateway, followed by the id of the
+     * gateway. It is removed when the gateway activates.
+     */
+    public static final String NUMBER_OF_JOINED_EXECUTIONS_PREFIX = "nrOfJoinedExecutions:";
+
     public void execute(DelegateExecution execution) {
 
         // First off all, deactivate the execution
@@ -68,19 +83,35 @@ public class ParallelGatewayActivityBehavior extends GatewayActivityBehavior {
 
         lockFirstParentScope(execution);
 
-        DelegateExecution multiInstanceExecution = null;
-        if (hasMultiInstanceParent(parallelGateway)) {
-            multiInstanceExecution = findMultiInstanceParentExecution(execution);
+        ExecutionEntityManager executionEntityManager = Context.getCommandContext().getExecutionEntityManager();
+        int nbrOfExecutionsToJoin = parallelGateway.getIncomingFlows().size();
+
+        boolean useJoinCounter = nbrOfExecutionsToJoin > 1 && Context.getProcessEngineConfiguration().isEnableParallelGatewayJoinCounter();
+        String joinCounterVariableName = NUMBER_OF_JOINED_EXECUTIONS_PREFIX + parallelGateway.getId();
+        ExecutionEntity parentScopeExecution = null;
+        Integer joinCounter = null;
+        if (useJoinCounter) {
+            parentScopeExecution = findFirstParentScope(execution);
+            joinCounter = (Integer) parentScopeExecution.getVariableLocal(joinCounterVariableName, false);
         }
 
-        ExecutionEntityManager executionEntityManager = Context.getCommandContext().getExecutionEntityManager();
-        Collection<ExecutionEntity> joinedExecutions = executionEntityManager.findInactiveExecutionsByActivityIdAndProcessInstanceId(execution.getCurrentActivityId(), execution.getProcessInstanceId());
-        if (multiInstanceExecution != null) {
-            joinedExecutions = cleanJoinedExecutions(joinedExecutions, multiInstanceExecution);
+        Collection<ExecutionEntity> joinedExecutions = null;
+        int nbrOfExecutionsCurrentlyJoined;
+        if (useJoinCounter && joinCounter != null && joinCounter + 1 < nbrOfExecutionsToJoin) {
+            nbrOfExecutionsCurrentlyJoined = joinCounter + 1;
+        } else {
+            // Also when the counter says the gateway activates: the joined executions are needed to delete them
+            joinedExecutions = findJoinedExecutions(execution, parallelGateway);
+            nbrOfExecutionsCurrentlyJoined = joinedExecutions.size();
         }
 
-        int nbrOfExecutionsToJoin = parallelGateway.getIncomingFlows().size();
-        int nbrOfExecutionsCurrentlyJoined = joinedExecutions.size();
+        if (useJoinCounter) {
+            if (nbrOfExecutionsCurrentlyJoined != nbrOfExecutionsToJoin) {
+                parentScopeExecution.setVariableLocal(joinCounterVariableName, nbrOfExecutionsCurrentlyJoined, false);
+            } else if (joinCounter != null) {
+                ((VariableScopeImpl) parentScopeExecution).removeVariableLocal(joinCounterVariableName, false);
+            }
+        }
 
         // Fork
 
@@ -117,6 +148,18 @@ public class ParallelGatewayActivityBehavior extends GatewayActivityBehavior {
 
     }
 
+    protected Collection<ExecutionEntity> findJoinedExecutions(DelegateExecution execution, ParallelGateway parallelGateway) {
+        ExecutionEntityManager executionEntityManager = Context.getCommandContext().getExecutionEntityManager();
+        Collection<ExecutionEntity> joinedExecutions = executionEntityManager.findInactiveExecutionsByActivityIdAndProcessInstanceId(execution.getCurrentActivityId(), execution.getProcessInstanceId());
+        if (hasMultiInstanceParent(parallelGateway)) {
+            DelegateExecution multiInstanceExecution = findMultiInstanceParentExecution(execution);
+            if (multiInstanceExecution != null) {
+                joinedExecutions = cleanJoinedExecutions(joinedExecutions, multiInstanceExecution);
+            }
+        }
+        return joinedExecutions;
+    }
+
     protected Collection<ExecutionEntity> cleanJoinedExecutions(Collection<ExecutionEntity> joinedExecutions, DelegateExecution multiInstanceExecution) {
         List<ExecutionEntity> cleanedExecutions = new ArrayList<ExecutionEntity>();
         for (ExecutionEntity executionEntity : joinedExecutions) {
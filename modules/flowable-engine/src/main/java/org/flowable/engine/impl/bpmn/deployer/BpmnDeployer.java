@@ -13,6 +13,7 @@
 package org.flowable.engine.impl.bpmn.deployer;
 
 import java.util.Collection;
+import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -101,6 +102,50 @@ public class BpmnDeployer implements Deployer {
         }
     }
 
+    /**
+     * Loads the process definitions of one BPMN resource of an existing deployment into the cache, without parsing the other resources of the deployment and without running the other deployers.
+     * Used when a process definition was evicted from (or was never added to) the process definition cache.
+     *
+     * @return false if the resource or the persisted version of one of its process definitions could not be found, in which case nothing was cached and the whole deployment should be
+     *         redeployed instead.
+     */
+    public boolean deployResource(DeploymentEntity deployment, String resourceName) {
+        log.debug("Processing resource {} of deployment {}", resourceName, deployment.getName());
+
+        ResourceEntity resource = Context.getCommandContext().getResourceEntityManager().findResourceByDeploymentIdAndResourceName(deployment.getId(), resourceName);
+        if (resource == null) {
+            return false;
+        }
+
+        ParsedDeployment parsedDeployment = parsedDeploymentBuilderFactory
+                .getBuilderForDeployment(deployment)
+                .build(Collections.singletonList(resource));
+
+        bpmnDeploymentHelper.copyDeploymentValuesToProcessDefinitions(
+                parsedDeployment.getDeployment(), parsedDeployment.getAllProcessDefinitions());
+        bpmnDeploymentHelper.setResourceNamesOnProcessDefinitions(parsedDeployment);
+
+        // Diagram resource names are taken from the persisted versions here, as determining them again would load all resources of the deployment
+        for (ProcessDefinitionEntity processDefinition : parsedDeployment.getAllProcessDefinitions()) {
+            ProcessDefinitionEntity persistedProcessDefinition = bpmnDeploymentHelper.getPersistedInstanceOfProcessDefinition(processDefinition);
+            if (persistedProcessDefinition == null) {
+                return false;
+            }
+
+            copyPersistedValuesToProcessDefinition(persistedProcessDefinition, processDefinition);
+            processDefinition.setDiagramResourceName(persistedProcessDefinition.getDiagramResourceName());
+        }
+
+        cachingAndArtifactsManager.updateCachingAndArtifacts(parsedDeployment);
+
+        for (ProcessDefinitionEntity processDefinition : parsedDeployment.getAllProcessDefinitions()) {
+            BpmnModel bpmnModel = parsedDeployment.getBpmnModelForProcessDefinition(processDefinition);
+            createLocalizationValues(processDefinition.getId(), bpmnModel.getProcessById(processDefinition.getKey()));
+        }
+
+        return true;
+    }
+
     /**
      * Creates new diagrams for process definitions if the deployment is new, the process definition in question supports it, and the engine is configured to make new diagrams.
      *
@@ -250,15 +295,22 @@ public class BpmnDeployer implements Deployer {
             ProcessDefinitionEntity persistedProcessDefinition = bpmnDeploymentHelper.getPersistedInstanceOfProcessDefinition(processDefinition);
 
             if (persistedProcessDefinition != null) {
-                processDefinition.setId(persistedProcessDefinition.getId());
-                processDefinition.setVersion(persistedProcessDefinition.getVersion());
-                processDefinition.setSuspensionState(persistedProcessDefinition.getSuspensionState());
-                processDefinition.setHasStartFormKey(persistedProcessDefinition.hasStartFormKey());
-                processDefinition.setGraphicalNotationDefined(persistedProcessDefinition.isGraphicalNotationDefined());
+                copyPersistedValuesToProcessDefinition(persistedProcessDefinition, processDefinition);
             }
         }
     }
 
+    /**
+     * Sets the values of the persisted version of a process definition on its in-memory version.
+     */
+    protected void copyPersistedValuesToProcessDefinition(ProcessDefinitionEntity persistedProcessDefinition, ProcessDefinitionEntity processDefinition) {
+        processDefinition.setId(persistedProcessDefinition.getId());
+        processDefinition.setVersion(persistedProcessDefinition.getVersion());
+        processDefinition.setSuspensionState(persistedProcessDefinition.getSuspensionState());
+        processDefinition.setHasStartFormKey(persistedProcessDefinition.hasStartFormKey());
+        processDefinition.setGraphicalNotationDefined(persistedProcessDefinition.isGraphicalNotationDefined());
+    }
+
     protected void createLocalizationValues(String processDefinitionId, Process process) {
         if (process == null)
             return;
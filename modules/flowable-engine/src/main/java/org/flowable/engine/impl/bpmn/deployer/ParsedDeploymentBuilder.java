@@ -14,6 +14,7 @@ package org.flowable.engine.impl.bpmn.deployer;
 
 import java.io.ByteArrayInputStream;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -43,11 +44,18 @@ public class ParsedDeploymentBuilder {
     }
 
     public ParsedDeployment build() {
+        return build(deployment.getResources().values());
+    }
+
+    /**
+     * Parses only the given resources of the deployment, e.g. the single BPMN resource of a process definition that must be loaded into the cache again.
+     */
+    public ParsedDeployment build(Collection<ResourceEntity> resources) {
         List<ProcessDefinitionEntity> processDefinitions = new ArrayList<ProcessDefinitionEntity>();
         Map<ProcessDefinitionEntity, BpmnParse> processDefinitionsToBpmnParseMap = new LinkedHashMap<ProcessDefinitionEntity, BpmnParse>();
         Map<ProcessDefinitionEntity, ResourceEntity> processDefinitionsToResourceMap = new LinkedHashMap<ProcessDefinitionEntity, ResourceEntity>();
 
-        for (ResourceEntity resource : deployment.getResources().values()) {
+        for (ResourceEntity resource : resources) {
             if (isBpmnResource(resource.getName())) {
                 log.debug("Processing BPMN resource {}", resource.getName());
                 BpmnParse parse = createBpmnParseFromResource(resource);
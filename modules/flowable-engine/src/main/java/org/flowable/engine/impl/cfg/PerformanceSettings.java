@@ -53,6 +53,13 @@ public class PerformanceSettings {
      */
     protected boolean enableLocalization = true;
 
+    /**
+     * Experimental setting: entities that support it (currently tasks) record their own modifications after being loaded, instead of a copy of their persistent state being
+     * stored when they are loaded. When flushing, only the modified entities are compared with their original state, which saves allocations and time for commands that
+     * read many entities but change few of them.
+     */
+    protected boolean enableEntityChangeTracking;
+
     public boolean isEnableEagerExecutionTreeFetching() {
         return enableEagerExecutionTreeFetching;
     }
@@ -101,4 +108,12 @@ public class PerformanceSettings {
         this.enableLocalization = enableLocalization;
     }
 
+    public boolean isEnableEntityChangeTracking() {
+        return enableEntityChangeTracking;
+    }
+
+    public void setEnableEntityChangeTracking(boolean enableEntityChangeTracking) {
+        this.enableEntityChangeTracking = enableEntityChangeTracking;
+    }
+
 }
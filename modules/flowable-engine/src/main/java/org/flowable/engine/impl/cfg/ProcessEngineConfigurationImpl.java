@@ -13,9 +13,13 @@
 
 package org.flowable.engine.impl.cfg;
 
+import java.io.File;
 import java.io.InputStream;
 import java.io.Reader;
 import java.net.URL;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -44,6 +48,7 @@ import org.apache.ibatis.type.JdbcType;
 import org.flowable.content.api.ContentService;
 import org.flowable.dmn.api.DmnRepositoryService;
 import org.flowable.dmn.api.DmnRuleService;
+import org.flowable.engine.CachingCandidateManager;
 import org.flowable.engine.CandidateManager;
 import org.flowable.engine.DefaultCandidateManager;
 import org.flowable.engine.DynamicBpmnService;
@@ -66,6 +71,7 @@ import org.flowable.engine.common.impl.cfg.IdGenerator;
 import org.flowable.engine.common.impl.cfg.TransactionContextFactory;
 import org.flowable.engine.common.impl.interceptor.CommandConfig;
 import org.flowable.engine.common.impl.interceptor.SessionFactory;
+import org.flowable.engine.common.impl.persistence.deploy.DeploymentCacheWeigher;
 import org.flowable.engine.common.impl.transaction.ContextAwareJdbcTransactionFactory;
 import org.flowable.engine.common.runtime.Clock;
 import org.flowable.engine.compatibility.DefaultFlowable5CompatibilityHandlerFactory;
@@ -73,6 +79,7 @@ import org.flowable.engine.compatibility.Flowable5CompatibilityHandler;
 import org.flowable.engine.compatibility.Flowable5CompatibilityHandlerFactory;
 import org.flowable.engine.delegate.FlowableFunctionDelegate;
 import org.flowable.engine.delegate.event.FlowableEngineEventType;
+import org.flowable.engine.delegate.event.impl.AsyncEventDispatchBuffer;
 import org.flowable.engine.delegate.event.impl.FlowableEventDispatcherImpl;
 import org.flowable.engine.form.AbstractFormType;
 import org.flowable.engine.impl.DynamicBpmnServiceImpl;
@@ -156,6 +163,7 @@ import org.flowable.engine.impl.cmd.ValidateV5EntitiesCmd;
 import org.flowable.engine.impl.context.Context;
 import org.flowable.engine.impl.db.DbIdGenerator;
 import org.flowable.engine.impl.db.DbSqlSessionFactory;
+import org.flowable.engine.impl.db.FetchSizeInterceptor;
 import org.flowable.engine.impl.db.IbatisVariableTypeHandler;
 import org.flowable.engine.impl.delegate.invocation.DefaultDelegateInterceptor;
 import org.flowable.engine.impl.el.DefaultExpressionManager;
@@ -184,6 +192,8 @@ import org.flowable.engine.impl.history.async.AsyncHistorySession;
 import org.flowable.engine.impl.history.async.AsyncHistorySessionFactory;
 import org.flowable.engine.impl.history.async.DefaultAsyncHistoryJobExecutor;
 import org.flowable.engine.impl.history.async.DefaultAsyncHistoryJobProducer;
+import org.flowable.engine.impl.history.async.eventlog.HistoryEventLog;
+import org.flowable.engine.impl.history.async.eventlog.HistoryEventLogAsyncHistoryListener;
 import org.flowable.engine.impl.interceptor.CommandContext;
 import org.flowable.engine.impl.interceptor.CommandContextFactory;
 import org.flowable.engine.impl.interceptor.CommandContextInterceptor;
@@ -197,6 +207,7 @@ import org.flowable.engine.impl.interceptor.TransactionContextInterceptor;
 import org.flowable.engine.impl.jobexecutor.AsyncContinuationJobHandler;
 import org.flowable.engine.impl.jobexecutor.DefaultFailedJobCommandFactory;
 import org.flowable.engine.impl.jobexecutor.FailedJobCommandFactory;
+import org.flowable.engine.impl.jobexecutor.HistoryCleanupJobHandler;
 import org.flowable.engine.impl.jobexecutor.HistoryJobHandler;
 import org.flowable.engine.impl.jobexecutor.JobHandler;
 import org.flowable.engine.impl.jobexecutor.ProcessEventJobHandler;
@@ -205,6 +216,7 @@ import org.flowable.engine.impl.jobexecutor.TimerStartEventJobHandler;
 import org.flowable.engine.impl.jobexecutor.TimerSuspendProcessDefinitionHandler;
 import org.flowable.engine.impl.jobexecutor.TriggerTimerEventJobHandler;
 import org.flowable.engine.impl.persistence.GenericManagerFactory;
+import org.flowable.engine.impl.persistence.cache.ChangeTrackingEntityCacheImpl;
 import org.flowable.engine.impl.persistence.cache.EntityCache;
 import org.flowable.engine.impl.persistence.cache.EntityCacheImpl;
 import org.flowable.engine.impl.persistence.deploy.DefaultDeploymentCache;
@@ -212,6 +224,7 @@ import org.flowable.engine.impl.persistence.deploy.Deployer;
 import org.flowable.engine.impl.persistence.deploy.DeploymentCache;
 import org.flowable.engine.impl.persistence.deploy.DeploymentManager;
 import org.flowable.engine.impl.persistence.deploy.ProcessDefinitionCacheEntry;
+import org.flowable.engine.impl.persistence.deploy.ProcessDefinitionCacheEntryWeigher;
 import org.flowable.engine.impl.persistence.deploy.ProcessDefinitionInfoCache;
 import org.flowable.engine.impl.persistence.entity.AttachmentEntityManager;
 import org.flowable.engine.impl.persistence.entity.AttachmentEntityManagerImpl;
@@ -319,6 +332,9 @@ import org.flowable.engine.impl.persistence.entity.data.impl.MybatisSuspendedJob
 import org.flowable.engine.impl.persistence.entity.data.impl.MybatisTaskDataManager;
 import org.flowable.engine.impl.persistence.entity.data.impl.MybatisTimerJobDataManager;
 import org.flowable.engine.impl.persistence.entity.data.impl.MybatisVariableInstanceDataManager;
+import org.flowable.engine.impl.profiler.CommandProfiler;
+import org.flowable.engine.impl.profiler.ProfilingCommandInterceptor;
+import org.flowable.engine.impl.profiler.ProfilingStatementInterceptor;
 import org.flowable.engine.impl.scripting.BeansResolverFactory;
 import org.flowable.engine.impl.scripting.ResolverFactory;
 import org.flowable.engine.impl.scripting.ScriptBindingsFactory;
@@ -484,6 +500,13 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
 
     protected CandidateManager candidateManager;
 
+    /**
+     * Caches the groups of candidate users, see {@link CachingCandidateManager}. Wraps the default or the configured {@link #candidateManager}.
+     */
+    protected boolean enableCandidateGroupCache;
+    protected int candidateGroupCacheSize = 10000;
+    protected long candidateGroupCacheTimeToLive = 60000L;
+
     // History Manager
 
     protected HistoryManager historyManager;
@@ -493,6 +516,20 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     //protected boolean isAsyncHistoryJsonGroupingEnabled;
     protected AsyncHistoryListener asyncHistoryListener;
 
+    /**
+     * When set, the history is appended to a {@link HistoryEventLog} in this directory instead of being stored in history jobs, so that the history tables are
+     * only written when the log is replayed (see {@link org.flowable.engine.impl.cmd.ReplayHistoryEventLogCmd}). Only used when async history is enabled and
+     * no {@link #asyncHistoryListener} is set.
+     */
+    protected String asyncHistoryEventLogDirectory;
+
+    /**
+     * The size in bytes of the segment files of the history event log.
+     */
+    protected int asyncHistoryEventLogSegmentSize = HistoryEventLog.DEFAULT_SEGMENT_SIZE;
+
+    protected HistoryEventLog asyncHistoryEventLog;
+
     // Job Manager
 
     protected JobManager jobManager;
@@ -528,6 +565,18 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     protected int processDefinitionCacheLimit = -1; // By default, no limit
     protected DeploymentCache<ProcessDefinitionCacheEntry> processDefinitionCache;
 
+    /**
+     * When set, the process definition cache is bounded by the total weight of the cached process definitions instead of by their number: the
+     * processDefinitionCacheLimit is then the maximum total weight. See {@link ProcessDefinitionCacheEntryWeigher} to weigh process definitions by their number of BPMN elements.
+     */
+    protected DeploymentCacheWeigher<ProcessDefinitionCacheEntry> processDefinitionCacheWeigher;
+
+    /**
+     * When a process definition is not in the process definition cache, only the BPMN resource that contains it is parsed again, instead of redeploying the whole deployment with all deployers.
+     * Disabled by default, as custom deployers can rely on being called whenever a process definition is loaded into the cache.
+     */
+    protected boolean enableSingleResourceProcessDefinitionLoading;
+
     protected int processDefinitionInfoCacheLimit = -1; // By default, no limit
     protected ProcessDefinitionInfoCache processDefinitionInfoCache;
 
@@ -595,6 +644,37 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
      */
     protected BlockingQueue<Runnable> asyncExecutorThreadPoolQueue;
 
+    /**
+     * The size of a local backlog for the jobs that are handed to the async executor while its thread pool queue is full, e.g. async continuations right after
+     * the transaction that created them commits. Those jobs then wait for a free thread on this node (in the order of async continuations first) instead of being
+     * unlocked and acquired again from the database. When the backlog is full as well, handing over a job blocks for at most
+     * {@link #asyncExecutorLocalBacklogOfferTimeout} milliseconds.
+     *
+     * Default value = 0, no backlog. (This property is only applicable when using the {@link DefaultAsyncJobExecutor}).
+     */
+    protected int asyncExecutorLocalBacklogSize;
+
+    /**
+     * The maximum time (in milliseconds) handing over a job waits for room in a full local backlog, see {@link #asyncExecutorLocalBacklogSize}. Default value = 1 second.
+     */
+    protected long asyncExecutorLocalBacklogOfferTimeout = 1000L;
+
+    /**
+     * When true, every job runs on a thread of its own instead of on the thread pool of the async executor: a virtual thread when the runtime supports them (Java
+     * 21 or later), a platform thread otherwise. The number of jobs running at the same time is bounded by {@link #asyncExecutorMaxConcurrentJobs} rather than by
+     * {@link #asyncExecutorMaxPoolSize}, and the async job acquisition acquires no more jobs than can be started. Combine it with
+     * {@link #asyncExecutorLocalBacklogSize} so that jobs handed over while all permits are in use wait on this node.
+     *
+     * Default value = false. (This property is only applicable when using the {@link DefaultAsyncJobExecutor}).
+     */
+    protected boolean asyncExecutorVirtualThreadJobExecution;
+
+    /**
+     * The maximum number of jobs running at the same time with {@link #asyncExecutorVirtualThreadJobExecution}. Default value = 0: the maximum number of
+     * connections of the DataSource pool.
+     */
+    protected int asyncExecutorMaxConcurrentJobs;
+
     /**
      * The time (in seconds) that is waited to gracefully shut down the threadpool used for job execution when the a shutdown on the executor (or process engine) is requested. Default value = 60.
      *
@@ -620,6 +700,19 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
      */
     protected int asyncExecutorMaxAsyncJobsDuePerAcquisition = 1;
 
+    /**
+     * When true, async and timer jobs are acquired with a query that row-locks the selected jobs and skips the jobs that are already locked by another acquisition transaction
+     * ('for update skip locked' on PostgreSQL, MySQL 8 and Oracle, 'readpast' on SQL Server). This avoids most of the optimistic locking exceptions during acquisition when many
+     * async executors run against the same database, which makes it possible to raise {@link #asyncExecutorMaxAsyncJobsDuePerAcquisition} and
+     * {@link #asyncExecutorMaxTimerJobsPerAcquisition}.
+     * 
+     * On databases without such construct (e.g. H2), the regular acquisition query is used. MySQL only supports 'skip locked' as of version 8.0: building the
+     * process engine fails when this is enabled on an older MySQL version.
+     * 
+     * Default value = false.
+     */
+    protected boolean asyncExecutorSkipLockedJobAcquisition;
+
     /**
      * The time (in milliseconds) the timer acquisition thread will wait to execute the next acquirement query. This happens when no new timer jobs were found or when less timer jobs have been fetched
      * than set in {@link #asyncExecutorMaxTimerJobsPerAcquisition}. Default value = 10 seconds.
@@ -628,6 +721,26 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
      */
     protected int asyncExecutorDefaultTimerJobAcquireWaitTime = 10 * 1000;
 
+    /**
+     * When true, the timer acquisition thread prefetches the timer jobs that are due within {@link #asyncExecutorTimerWheelLookAheadInMillis} into an in-memory
+     * timer wheel and fires them when they are due, instead of polling for timer jobs that are already due. The prefetched timer jobs are locked until their due
+     * date plus {@link #asyncExecutorTimerLockTimeInMillis}, other nodes take them over when that lock expires.
+     *
+     * All nodes in a cluster should use the same setting, as only the timer wheel takes over timer jobs of which the lock has expired.
+     *
+     * Default value = false.
+     *
+     * (This property is only applicable when using the {@link DefaultAsyncJobExecutor}).
+     */
+    protected boolean asyncExecutorTimerWheelEnabled;
+
+    /**
+     * How far ahead (in milliseconds) the timer wheel prefetches timer jobs. Default value = 30 seconds.
+     *
+     * (This property is only applicable when using the {@link DefaultAsyncJobExecutor} with {@link #asyncExecutorTimerWheelEnabled}).
+     */
+    protected int asyncExecutorTimerWheelLookAheadInMillis = 30 * 1000;
+
     /**
      * The time (in milliseconds) the async job acquisition thread will wait to execute the next acquirement query. This happens when no new async jobs were found or when less async jobs have been
      * fetched than set in {@link #asyncExecutorMaxAsyncJobsDuePerAcquisition}. Default value = 10 seconds.
@@ -642,6 +755,18 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
      */
     protected int asyncExecutorDefaultQueueSizeFullWaitTime;
 
+    /**
+     * When true, the acquisition threads tune the number of jobs they acquire at once and the time they wait between acquisitions to the results of their
+     * recent acquisitions: they acquire again right away when a full page was found, back off when nothing was found, acquire less after an optimistic locking
+     * conflict with another node and wait about as long as a job takes to execute when the executor is full. The configured max jobs per acquisition, wait
+     * times, reset expired jobs page size and interval are used as upper bounds.
+     *
+     * Default value = false.
+     *
+     * (This property is only applicable when using the {@link DefaultAsyncJobExecutor}).
+     */
+    protected boolean asyncExecutorAdaptiveAcquisition;
+
     /**
      * When a job is acquired, it is locked so other async executors can't lock and execute it. While doing this, the 'name' of the lock owner is written into a column of the job.
      *
@@ -697,6 +822,17 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     protected boolean asyncExecutorMessageQueueMode;
     protected boolean asyncHistoryExecutorMessageQueueMode;
 
+    /**
+     * When larger than 1, the async history executor acquires this many history jobs at once and executes them together in one transaction: the historic
+     * entities they look up are fetched with one query per entity type and the inserts are written with bulk inserts. When the batch fails, its jobs are
+     * executed again one by one, so a failing job doesn't affect the others.
+     *
+     * Default value = 0 (every history job is executed in a transaction of its own).
+     *
+     * (This property is only applicable when using the {@link DefaultAsyncHistoryJobExecutor}).
+     */
+    protected int asyncHistoryExecutorJobBatchSize;
+
     /**
      * Allows to define a custom factory for creating the {@link Runnable} that is executed by the async executor.
      *
@@ -744,11 +880,30 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
      */
     protected boolean serializableVariableTypeTrackDeserializedObjects = true;
 
+    /**
+     * When true, getting a single variable (eg. execution.getVariable("myVariable") or an expression in a sequence flow condition) only fetches the
+     * variable with that name from each scope, instead of all the variables of the scope and its parents. Variables that don't exist on a scope are
+     * remembered for the rest of the command, so they're not queried again.
+     *
+     * By default false for backwards compatibility: fetching all variables at once is faster when a lot of different variables are used in a transaction.
+     */
+    protected boolean enableLazyVariableFetching;
+
     protected ExpressionManager expressionManager;
     protected List<String> customScriptingEngineClasses;
     protected ScriptingEngines scriptingEngines;
     protected List<ResolverFactory> resolverFactories;
 
+    /**
+     * When true, scripts of script tasks, listeners and conditions are compiled once (for cached scripting engines that implement {@link javax.script.Compilable}, except JUEL) and
+     * the compiled form is reused. At most compiledScriptCacheLimit compiled scripts are kept, a value of 0 or lower means no limit.
+     * 
+     * Groovy wraps the failure of a script evaluated from source in one more ScriptException, so with the cache the message of a failing Groovy script
+     * doesn't start with 'javax.script.ScriptException: ' anymore.
+     */
+    protected boolean enableCompiledScriptCache;
+    protected int compiledScriptCacheLimit = ScriptingEngines.DEFAULT_COMPILED_SCRIPT_CACHE_LIMIT;
+
     protected BusinessCalendarManager businessCalendarManager;
 
     protected int executionQueryLimit = 20000;
@@ -789,6 +944,52 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     // Event logging to database
     protected boolean enableDatabaseEventLogging;
 
+    /**
+     * When larger than 0, events for {@link org.flowable.engine.delegate.event.NonTransactionalEventListener}s are put in a buffer of this size and
+     * delivered by a separate thread, instead of on the thread that dispatches them. Only used with the default {@link FlowableEventDispatcherImpl}.
+     */
+    protected int asyncEventDispatchQueueSize;
+
+    /**
+     * Enables the {@link CommandProfiler}, which keeps latency histograms per command type, timings per database statement and flush counts per entity
+     * type in a fixed amount of memory and without locking, so that it can stay enabled in production. Setting a {@link #commandProfiler} enables it as
+     * well.
+     */
+    protected boolean enableCommandProfiling;
+    protected CommandProfiler commandProfiler;
+
+    /**
+     * The JDBC fetch size of the queries of which the results are streamed with {@link org.flowable.engine.common.api.query.StreamableQuery#forEach},
+     * 0 to use the default of the driver. The MySQL driver only streams with Integer.MIN_VALUE, or with a positive fetch size when useCursorFetch=true is
+     * set on the connection.
+     */
+    protected int queryStreamFetchSize = 1000;
+
+    /**
+     * Schedules a timer job that periodically deletes the history of the process instances that ended more than {@link #historyCleanupTimeToLiveInDays}
+     * ago. Each run deletes batches of {@link #historyCleanupBatchSize} process instances, each in its own transaction, until there's nothing left to
+     * delete or {@link #historyCleanupTimeBudgetInMillis} has passed.
+     */
+    protected boolean enableHistoryCleanup;
+    protected String historyCleanupTimeCycleConfig = "0 0 1 * * ?";
+    protected int historyCleanupTimeToLiveInDays = 365;
+    /**
+     * The number of process instances of which the history is deleted in one transaction. The ids end up in an IN list, so keep it below 1000 (the
+     * maximum on Oracle).
+     */
+    protected int historyCleanupBatchSize = 100;
+    protected long historyCleanupTimeBudgetInMillis = 5 * 60 * 1000L;
+    protected HistoryCleanupJobHandler historyCleanupJobHandler;
+
+    /**
+     * Keeps the number of executions that arrived in a joining parallel gateway in a variable of the parent scope execution, instead of looking up the
+     * inactive executions in the gateway every time one arrives. See {@link org.flowable.engine.impl.bpmn.behavior.ParallelGatewayActivityBehavior}.
+     * 
+     * Executions arriving on an engine that has it disabled are not counted, so it has to be enabled (or disabled) on all engines sharing the database at
+     * once, while no executions are waiting in a joining parallel gateway.
+     */
+    protected boolean enableParallelGatewayJoinCounter;
+
     /**
      * Using field injection together with a delegate expression for a service task / execution listener / task listener is not thread-sade , see user guide section 'Field Injection' for more
      * information.
@@ -817,6 +1018,12 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
      */
     protected int maxNrOfStatementsInBulkInsert = 100;
 
+    /**
+     * If set to true, updates and deletes of entities are sent to the database as JDBC batches (one batch per statement) instead of one by one when flushing.
+     * Optimistic locking is verified with the row counts of the batch, so the JDBC driver needs to return them. Default false.
+     */
+    protected boolean isBatchUpdatesAndDeletesEnabled;
+
     public int DEFAULT_MAX_NR_OF_STATEMENTS_BULK_INSERT_SQL_SERVER = 70; // currently Execution has most params (28). 2000 / 28 = 71.
 
     protected ObjectMapper objectMapper = new ObjectMapper();
@@ -896,6 +1103,7 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         initBusinessCalendarManager();
         initCommandContextFactory();
         initTransactionContextFactory();
+        initCommandProfiler();
         initCommandExecutors();
         initServices();
         initIdGenerator();
@@ -921,6 +1129,9 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         initEntityManagers();
         initCandidateManager();
         initHistoryManager();
+        if (usingRelationalDatabase) {
+            checkSkipLockedJobAcquisitionSupported();
+        }
         initAsyncExecutor();
         initAsyncHistoryExecutor();
         initJpa();
@@ -943,6 +1154,15 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         }
     }
 
+    // command profiler
+    // ////////////////////////////////////////////////////////
+
+    public void initCommandProfiler() {
+        if (enableCommandProfiling && commandProfiler == null) {
+            commandProfiler = new CommandProfiler();
+        }
+    }
+
     // command executors
     // ////////////////////////////////////////////////////////
 
@@ -982,6 +1202,10 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         List<CommandInterceptor> interceptors = new ArrayList<CommandInterceptor>();
         interceptors.add(new LogInterceptor());
 
+        if (commandProfiler != null) {
+            interceptors.add(new ProfilingCommandInterceptor(commandProfiler));
+        }
+
         CommandInterceptor transactionInterceptor = createTransactionInterceptor();
         if (transactionInterceptor != null) {
             interceptors.add(transactionInterceptor);
@@ -1047,6 +1271,33 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         }
     }
 
+    public void checkSkipLockedJobAcquisitionSupported() {
+        if (!asyncExecutorSkipLockedJobAcquisition || !DATABASE_TYPE_MYSQL.equals(databaseType)) {
+            return;
+        }
+
+        Connection connection = null;
+        try {
+            connection = dataSource.getConnection();
+            DatabaseMetaData databaseMetaData = connection.getMetaData();
+            if (databaseMetaData.getDatabaseMajorVersion() < 8) {
+                throw new FlowableException("skip locked job acquisition requires MySQL 8.0 or higher, but the database version is "
+                        + databaseMetaData.getDatabaseProductVersion());
+            }
+
+        } catch (SQLException e) {
+            throw new FlowableException("couldn't determine the MySQL version for skip locked job acquisition", e);
+        } finally {
+            try {
+                if (connection != null) {
+                    connection.close();
+                }
+            } catch (SQLException e) {
+                log.error("Exception while closing the Database connection", e);
+            }
+        }
+    }
+
     @Override
     public Configuration initMybatisConfiguration(Environment environment, Reader reader, Properties properties) {
         XMLConfigBuilder parser = new XMLConfigBuilder(reader, "", properties);
@@ -1061,6 +1312,13 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         initMybatisTypeHandlers(configuration);
         initCustomMybatisMappers(configuration);
 
+        if (commandProfiler != null) {
+            configuration.addInterceptor(new ProfilingStatementInterceptor(commandProfiler));
+        }
+        if (queryStreamFetchSize != 0 || asyncExecutorSkipLockedJobAcquisition) {
+            configuration.addInterceptor(new FetchSizeInterceptor());
+        }
+
         configuration = parseMybatisConfiguration(configuration, parser);
         return configuration;
     }
@@ -1261,6 +1519,9 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         if (candidateManager == null) {
             candidateManager = new DefaultCandidateManager(this);
         }
+        if (enableCandidateGroupCache && !(candidateManager instanceof CachingCandidateManager)) {
+            candidateManager = new CachingCandidateManager(this, candidateManager, candidateGroupCacheSize, candidateGroupCacheTimeToLive);
+        }
     }
 
     // History manager ///////////////////////////////////////////////////////////
@@ -1299,7 +1560,11 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
                 initAsyncHistorySessionFactory();
             }
 
-            addSessionFactory(new GenericManagerFactory(EntityCache.class, EntityCacheImpl.class));
+            if (performanceSettings.isEnableEntityChangeTracking()) {
+                addSessionFactory(new GenericManagerFactory(EntityCache.class, ChangeTrackingEntityCacheImpl.class));
+            } else {
+                addSessionFactory(new GenericManagerFactory(EntityCache.class, EntityCacheImpl.class));
+            }
         }
 
         if (customSessionFactories != null) {
@@ -1323,6 +1588,9 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         dbSqlSessionFactory.setDatabaseSchema(databaseSchema);
         dbSqlSessionFactory.setBulkInsertEnabled(isBulkInsertEnabled, databaseType);
         dbSqlSessionFactory.setMaxNrOfStatementsInBulkInsert(maxNrOfStatementsInBulkInsert);
+        dbSqlSessionFactory.setBatchUpdatesAndDeletesEnabled(isBatchUpdatesAndDeletesEnabled);
+        dbSqlSessionFactory.setCommandProfiler(commandProfiler);
+        dbSqlSessionFactory.setQueryStreamFetchSize(queryStreamFetchSize);
         addSessionFactory(dbSqlSessionFactory);
     }
 
@@ -1340,6 +1608,14 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     }
 
     protected void initDefaultAsyncHistoryListener() {
+        if (asyncHistoryEventLog == null && asyncHistoryEventLogDirectory != null) {
+            asyncHistoryEventLog = new HistoryEventLog(new File(asyncHistoryEventLogDirectory), asyncHistoryEventLogSegmentSize);
+        }
+        if (asyncHistoryEventLog != null) {
+            asyncHistoryListener = new HistoryEventLogAsyncHistoryListener(asyncHistoryEventLog);
+            return;
+        }
+
         DefaultAsyncHistoryJobProducer asyncHistoryJobProducer = new DefaultAsyncHistoryJobProducer();
         //asyncHistoryJobProducer.setJsonGzipCompressionEnabled(isAsyncHistoryJsonGzipCompressionEnabled);
         //asyncHistoryJobProducer.setAsyncHistoryJsonGroupingEnabled(isAsyncHistoryJsonGroupingEnabled);
@@ -1432,6 +1708,8 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         if (processDefinitionCache == null) {
             if (processDefinitionCacheLimit <= 0) {
                 processDefinitionCache = new DefaultDeploymentCache<ProcessDefinitionCacheEntry>();
+            } else if (processDefinitionCacheWeigher != null) {
+                processDefinitionCache = new DefaultDeploymentCache<ProcessDefinitionCacheEntry>(processDefinitionCacheLimit, processDefinitionCacheWeigher);
             } else {
                 processDefinitionCache = new DefaultDeploymentCache<ProcessDefinitionCacheEntry>(processDefinitionCacheLimit);
             }
@@ -1704,6 +1982,11 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         ProcessEventJobHandler processEventJobHandler = new ProcessEventJobHandler();
         jobHandlers.put(processEventJobHandler.getType(), processEventJobHandler);
 
+        if (historyCleanupJobHandler == null) {
+            historyCleanupJobHandler = new HistoryCleanupJobHandler();
+        }
+        jobHandlers.put(historyCleanupJobHandler.getType(), historyCleanupJobHandler);
+
         // if we have custom job handlers, register them
         if (getCustomJobHandlers() != null) {
             for (JobHandler customJobHandler : getCustomJobHandlers()) {
@@ -1754,13 +2037,32 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
             }
             defaultAsyncExecutor.setQueueSize(asyncExecutorThreadPoolQueueSize);
 
+            // Local backlog
+            defaultAsyncExecutor.setLocalBacklogSize(asyncExecutorLocalBacklogSize);
+            defaultAsyncExecutor.setLocalBacklogOfferTimeoutInMillis(asyncExecutorLocalBacklogOfferTimeout);
+
+            // Virtual threads
+            defaultAsyncExecutor.setVirtualThreadJobExecution(asyncExecutorVirtualThreadJobExecution);
+            defaultAsyncExecutor.setMaxConcurrentJobs(asyncExecutorMaxConcurrentJobs);
+
+            // Jobs per acquisition
+            defaultAsyncExecutor.setMaxTimerJobsPerAcquisition(asyncExecutorMaxTimerJobsPerAcquisition);
+            defaultAsyncExecutor.setMaxAsyncJobsDuePerAcquisition(asyncExecutorMaxAsyncJobsDuePerAcquisition);
+
             // Acquisition wait time
             defaultAsyncExecutor.setDefaultTimerJobAcquireWaitTimeInMillis(asyncExecutorDefaultTimerJobAcquireWaitTime);
             defaultAsyncExecutor.setDefaultAsyncJobAcquireWaitTimeInMillis(asyncExecutorDefaultAsyncJobAcquireWaitTime);
 
+            // Timer wheel
+            defaultAsyncExecutor.setTimerWheelEnabled(asyncExecutorTimerWheelEnabled);
+            defaultAsyncExecutor.setTimerWheelLookAheadInMillis(asyncExecutorTimerWheelLookAheadInMillis);
+
             // Queue full wait time
             defaultAsyncExecutor.setDefaultQueueSizeFullWaitTimeInMillis(asyncExecutorDefaultQueueSizeFullWaitTime);
 
+            // Adaptive acquisition
+            defaultAsyncExecutor.setAdaptiveAcquisitionEnabled(asyncExecutorAdaptiveAcquisition);
+
             // Job locking
             defaultAsyncExecutor.setTimerLockTimeInMillis(asyncExecutorTimerLockTimeInMillis);
             defaultAsyncExecutor.setAsyncJobLockTimeInMillis(asyncExecutorAsyncJobLockTimeInMillis);
@@ -1784,11 +2086,17 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     
     public void initAsyncHistoryExecutor() {
         if (asyncHistoryExecutor == null) {
-            DefaultAsyncJobExecutor defaultAsyncHistoryExecutor = new DefaultAsyncHistoryJobExecutor();
+            DefaultAsyncHistoryJobExecutor defaultAsyncHistoryExecutor = new DefaultAsyncHistoryJobExecutor();
             
             // Message queue mode
             defaultAsyncHistoryExecutor.setMessageQueueMode(asyncHistoryExecutorMessageQueueMode);
 
+            // Batches
+            if (asyncHistoryExecutorJobBatchSize > 1) {
+                defaultAsyncHistoryExecutor.setHistoryJobBatchSize(asyncHistoryExecutorJobBatchSize);
+                defaultAsyncHistoryExecutor.setMaxAsyncJobsDuePerAcquisition(asyncHistoryExecutorJobBatchSize);
+            }
+
             // Thread pool config
             defaultAsyncHistoryExecutor.setCorePoolSize(asyncExecutorCorePoolSize);
             defaultAsyncHistoryExecutor.setMaxPoolSize(asyncExecutorMaxPoolSize);
@@ -1971,6 +2279,10 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         }
         if (scriptingEngines == null) {
             scriptingEngines = new ScriptingEngines(new ScriptBindingsFactory(this, resolverFactories));
+            scriptingEngines.setCacheCompiledScripts(enableCompiledScriptCache);
+            if (compiledScriptCacheLimit != scriptingEngines.getCompiledScriptCacheLimit()) {
+                scriptingEngines.setCompiledScriptCacheLimit(compiledScriptCacheLimit);
+            }
         }
     }
 
@@ -2081,6 +2393,19 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
             }
         }
 
+        if (candidateManager instanceof CachingCandidateManager) {
+            this.eventDispatcher.addEventListener((CachingCandidateManager) candidateManager, CachingCandidateManager.INVALIDATION_EVENT_TYPES);
+        }
+
+        if (asyncEventDispatchQueueSize > 0 && this.eventDispatcher instanceof FlowableEventDispatcherImpl) {
+            FlowableEventDispatcherImpl eventDispatcherImpl = (FlowableEventDispatcherImpl) this.eventDispatcher;
+            if (eventDispatcherImpl.getAsyncEventDispatchBuffer() == null) {
+                AsyncEventDispatchBuffer asyncEventDispatchBuffer = new AsyncEventDispatchBuffer(asyncEventDispatchQueueSize);
+                asyncEventDispatchBuffer.start();
+                eventDispatcherImpl.setAsyncEventDispatchBuffer(asyncEventDispatchBuffer);
+            }
+        }
+
     }
 
     public void initProcessValidator() {
@@ -2612,6 +2937,24 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public boolean isEnableCompiledScriptCache() {
+        return enableCompiledScriptCache;
+    }
+
+    public ProcessEngineConfigurationImpl setEnableCompiledScriptCache(boolean enableCompiledScriptCache) {
+        this.enableCompiledScriptCache = enableCompiledScriptCache;
+        return this;
+    }
+
+    public int getCompiledScriptCacheLimit() {
+        return compiledScriptCacheLimit;
+    }
+
+    public ProcessEngineConfigurationImpl setCompiledScriptCacheLimit(int compiledScriptCacheLimit) {
+        this.compiledScriptCacheLimit = compiledScriptCacheLimit;
+        return this;
+    }
+
     public VariableTypes getVariableTypes() {
         return variableTypes;
     }
@@ -2629,6 +2972,15 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         this.serializableVariableTypeTrackDeserializedObjects = serializableVariableTypeTrackDeserializedObjects;
     }
 
+    public boolean isEnableLazyVariableFetching() {
+        return enableLazyVariableFetching;
+    }
+
+    public ProcessEngineConfigurationImpl setEnableLazyVariableFetching(boolean enableLazyVariableFetching) {
+        this.enableLazyVariableFetching = enableLazyVariableFetching;
+        return this;
+    }
+
     public ExpressionManager getExpressionManager() {
         return expressionManager;
     }
@@ -3001,6 +3353,24 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public DeploymentCacheWeigher<ProcessDefinitionCacheEntry> getProcessDefinitionCacheWeigher() {
+        return processDefinitionCacheWeigher;
+    }
+
+    public ProcessEngineConfigurationImpl setProcessDefinitionCacheWeigher(DeploymentCacheWeigher<ProcessDefinitionCacheEntry> processDefinitionCacheWeigher) {
+        this.processDefinitionCacheWeigher = processDefinitionCacheWeigher;
+        return this;
+    }
+
+    public boolean isEnableSingleResourceProcessDefinitionLoading() {
+        return enableSingleResourceProcessDefinitionLoading;
+    }
+
+    public ProcessEngineConfigurationImpl setEnableSingleResourceProcessDefinitionLoading(boolean enableSingleResourceProcessDefinitionLoading) {
+        this.enableSingleResourceProcessDefinitionLoading = enableSingleResourceProcessDefinitionLoading;
+        return this;
+    }
+
     public DeploymentCache<ProcessDefinitionCacheEntry> getProcessDefinitionCache() {
         return processDefinitionCache;
     }
@@ -3124,6 +3494,105 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public boolean isEnableCommandProfiling() {
+        return enableCommandProfiling;
+    }
+
+    public ProcessEngineConfigurationImpl setEnableCommandProfiling(boolean enableCommandProfiling) {
+        this.enableCommandProfiling = enableCommandProfiling;
+        return this;
+    }
+
+    public CommandProfiler getCommandProfiler() {
+        return commandProfiler;
+    }
+
+    public ProcessEngineConfigurationImpl setCommandProfiler(CommandProfiler commandProfiler) {
+        this.commandProfiler = commandProfiler;
+        return this;
+    }
+
+    public int getQueryStreamFetchSize() {
+        return queryStreamFetchSize;
+    }
+
+    public ProcessEngineConfigurationImpl setQueryStreamFetchSize(int queryStreamFetchSize) {
+        this.queryStreamFetchSize = queryStreamFetchSize;
+        return this;
+    }
+
+    public boolean isEnableHistoryCleanup() {
+        return enableHistoryCleanup;
+    }
+
+    public ProcessEngineConfigurationImpl setEnableHistoryCleanup(boolean enableHistoryCleanup) {
+        this.enableHistoryCleanup = enableHistoryCleanup;
+        return this;
+    }
+
+    public String getHistoryCleanupTimeCycleConfig() {
+        return historyCleanupTimeCycleConfig;
+    }
+
+    public ProcessEngineConfigurationImpl setHistoryCleanupTimeCycleConfig(String historyCleanupTimeCycleConfig) {
+        this.historyCleanupTimeCycleConfig = historyCleanupTimeCycleConfig;
+        return this;
+    }
+
+    public int getHistoryCleanupTimeToLiveInDays() {
+        return historyCleanupTimeToLiveInDays;
+    }
+
+    public ProcessEngineConfigurationImpl setHistoryCleanupTimeToLiveInDays(int historyCleanupTimeToLiveInDays) {
+        this.historyCleanupTimeToLiveInDays = historyCleanupTimeToLiveInDays;
+        return this;
+    }
+
+    public int getHistoryCleanupBatchSize() {
+        return historyCleanupBatchSize;
+    }
+
+    public ProcessEngineConfigurationImpl setHistoryCleanupBatchSize(int historyCleanupBatchSize) {
+        this.historyCleanupBatchSize = historyCleanupBatchSize;
+        return this;
+    }
+
+    public long getHistoryCleanupTimeBudgetInMillis() {
+        return historyCleanupTimeBudgetInMillis;
+    }
+
+    public ProcessEngineConfigurationImpl setHistoryCleanupTimeBudgetInMillis(long historyCleanupTimeBudgetInMillis) {
+        this.historyCleanupTimeBudgetInMillis = historyCleanupTimeBudgetInMillis;
+        return this;
+    }
+
+    public HistoryCleanupJobHandler getHistoryCleanupJobHandler() {
+        return historyCleanupJobHandler;
+    }
+
+    public ProcessEngineConfigurationImpl setHistoryCleanupJobHandler(HistoryCleanupJobHandler historyCleanupJobHandler) {
+        this.historyCleanupJobHandler = historyCleanupJobHandler;
+        return this;
+    }
+
+    public boolean isEnableParallelGatewayJoinCounter() {
+        return enableParallelGatewayJoinCounter;
+    }
+
+    public ProcessEngineConfigurationImpl setEnableParallelGatewayJoinCounter(boolean enableParallelGatewayJoinCounter) {
+        this.enableParallelGatewayJoinCounter = enableParallelGatewayJoinCounter;
+        return this;
+    }
+
+    public int getAsyncEventDispatchQueueSize() {
+        return asyncEventDispatchQueueSize;
+    }
+
+    public ProcessEngineConfigurationImpl setAsyncEventDispatchQueueSize(int asyncEventDispatchQueueSize) {
+        this.asyncEventDispatchQueueSize = asyncEventDispatchQueueSize;
+        return this;
+    }
+
     public int getMaxLengthStringVariableType() {
         return maxLengthStringVariableType;
     }
@@ -3151,6 +3620,15 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public boolean isBatchUpdatesAndDeletesEnabled() {
+        return isBatchUpdatesAndDeletesEnabled;
+    }
+
+    public ProcessEngineConfigurationImpl setBatchUpdatesAndDeletesEnabled(boolean isBatchUpdatesAndDeletesEnabled) {
+        this.isBatchUpdatesAndDeletesEnabled = isBatchUpdatesAndDeletesEnabled;
+        return this;
+    }
+
     @Override
     public ProcessEngineConfigurationImpl setUsingRelationalDatabase(boolean usingRelationalDatabase) {
         this.usingRelationalDatabase = usingRelationalDatabase;
@@ -3181,6 +3659,11 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public ProcessEngineConfigurationImpl setEnableEntityChangeTracking(boolean enableEntityChangeTracking) {
+        this.performanceSettings.setEnableEntityChangeTracking(enableEntityChangeTracking);
+        return this;
+    }
+
     public PerformanceSettings getPerformanceSettings() {
         return performanceSettings;
     }
@@ -3682,6 +4165,33 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     public void setCandidateManager(CandidateManager candidateManager) {
         this.candidateManager = candidateManager;
     }
+
+    public boolean isEnableCandidateGroupCache() {
+        return enableCandidateGroupCache;
+    }
+
+    public ProcessEngineConfigurationImpl setEnableCandidateGroupCache(boolean enableCandidateGroupCache) {
+        this.enableCandidateGroupCache = enableCandidateGroupCache;
+        return this;
+    }
+
+    public int getCandidateGroupCacheSize() {
+        return candidateGroupCacheSize;
+    }
+
+    public ProcessEngineConfigurationImpl setCandidateGroupCacheSize(int candidateGroupCacheSize) {
+        this.candidateGroupCacheSize = candidateGroupCacheSize;
+        return this;
+    }
+
+    public long getCandidateGroupCacheTimeToLive() {
+        return candidateGroupCacheTimeToLive;
+    }
+
+    public ProcessEngineConfigurationImpl setCandidateGroupCacheTimeToLive(long candidateGroupCacheTimeToLive) {
+        this.candidateGroupCacheTimeToLive = candidateGroupCacheTimeToLive;
+        return this;
+    }
     
     public AsyncRunnableExecutionExceptionHandler getAsyncRunnableExecutionExceptionHandler() {
         return asyncRunnableExecutionExceptionHandler;
@@ -3739,6 +4249,33 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public String getAsyncHistoryEventLogDirectory() {
+        return asyncHistoryEventLogDirectory;
+    }
+
+    public ProcessEngineConfigurationImpl setAsyncHistoryEventLogDirectory(String asyncHistoryEventLogDirectory) {
+        this.asyncHistoryEventLogDirectory = asyncHistoryEventLogDirectory;
+        return this;
+    }
+
+    public int getAsyncHistoryEventLogSegmentSize() {
+        return asyncHistoryEventLogSegmentSize;
+    }
+
+    public ProcessEngineConfigurationImpl setAsyncHistoryEventLogSegmentSize(int asyncHistoryEventLogSegmentSize) {
+        this.asyncHistoryEventLogSegmentSize = asyncHistoryEventLogSegmentSize;
+        return this;
+    }
+
+    public HistoryEventLog getAsyncHistoryEventLog() {
+        return asyncHistoryEventLog;
+    }
+
+    public ProcessEngineConfigurationImpl setAsyncHistoryEventLog(HistoryEventLog asyncHistoryEventLog) {
+        this.asyncHistoryEventLog = asyncHistoryEventLog;
+        return this;
+    }
+
     public JobManager getJobManager() {
         return jobManager;
     }
@@ -3985,6 +4522,42 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public int getAsyncExecutorLocalBacklogSize() {
+        return asyncExecutorLocalBacklogSize;
+    }
+
+    public ProcessEngineConfigurationImpl setAsyncExecutorLocalBacklogSize(int asyncExecutorLocalBacklogSize) {
+        this.asyncExecutorLocalBacklogSize = asyncExecutorLocalBacklogSize;
+        return this;
+    }
+
+    public long getAsyncExecutorLocalBacklogOfferTimeout() {
+        return asyncExecutorLocalBacklogOfferTimeout;
+    }
+
+    public ProcessEngineConfigurationImpl setAsyncExecutorLocalBacklogOfferTimeout(long asyncExecutorLocalBacklogOfferTimeout) {
+        this.asyncExecutorLocalBacklogOfferTimeout = asyncExecutorLocalBacklogOfferTimeout;
+        return this;
+    }
+
+    public boolean isAsyncExecutorVirtualThreadJobExecution() {
+        return asyncExecutorVirtualThreadJobExecution;
+    }
+
+    public ProcessEngineConfigurationImpl setAsyncExecutorVirtualThreadJobExecution(boolean asyncExecutorVirtualThreadJobExecution) {
+        this.asyncExecutorVirtualThreadJobExecution = asyncExecutorVirtualThreadJobExecution;
+        return this;
+    }
+
+    public int getAsyncExecutorMaxConcurrentJobs() {
+        return asyncExecutorMaxConcurrentJobs;
+    }
+
+    public ProcessEngineConfigurationImpl setAsyncExecutorMaxConcurrentJobs(int asyncExecutorMaxConcurrentJobs) {
+        this.asyncExecutorMaxConcurrentJobs = asyncExecutorMaxConcurrentJobs;
+        return this;
+    }
+
     public int getAsyncExecutorMaxTimerJobsPerAcquisition() {
         return asyncExecutorMaxTimerJobsPerAcquisition;
     }
@@ -4012,6 +4585,24 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public boolean isAsyncExecutorTimerWheelEnabled() {
+        return asyncExecutorTimerWheelEnabled;
+    }
+
+    public ProcessEngineConfigurationImpl setAsyncExecutorTimerWheelEnabled(boolean asyncExecutorTimerWheelEnabled) {
+        this.asyncExecutorTimerWheelEnabled = asyncExecutorTimerWheelEnabled;
+        return this;
+    }
+
+    public int getAsyncExecutorTimerWheelLookAheadInMillis() {
+        return asyncExecutorTimerWheelLookAheadInMillis;
+    }
+
+    public ProcessEngineConfigurationImpl setAsyncExecutorTimerWheelLookAheadInMillis(int asyncExecutorTimerWheelLookAheadInMillis) {
+        this.asyncExecutorTimerWheelLookAheadInMillis = asyncExecutorTimerWheelLookAheadInMillis;
+        return this;
+    }
+
     public int getAsyncExecutorDefaultAsyncJobAcquireWaitTime() {
         return asyncExecutorDefaultAsyncJobAcquireWaitTime;
     }
@@ -4030,6 +4621,15 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public boolean isAsyncExecutorAdaptiveAcquisition() {
+        return asyncExecutorAdaptiveAcquisition;
+    }
+
+    public ProcessEngineConfigurationImpl setAsyncExecutorAdaptiveAcquisition(boolean asyncExecutorAdaptiveAcquisition) {
+        this.asyncExecutorAdaptiveAcquisition = asyncExecutorAdaptiveAcquisition;
+        return this;
+    }
+
     public String getAsyncExecutorLockOwner() {
         return asyncExecutorLockOwner;
     }
@@ -4084,6 +4684,15 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public boolean isAsyncExecutorSkipLockedJobAcquisition() {
+        return asyncExecutorSkipLockedJobAcquisition;
+    }
+
+    public ProcessEngineConfigurationImpl setAsyncExecutorSkipLockedJobAcquisition(boolean asyncExecutorSkipLockedJobAcquisition) {
+        this.asyncExecutorSkipLockedJobAcquisition = asyncExecutorSkipLockedJobAcquisition;
+        return this;
+    }
+
     public boolean isAsyncExecutorIsMessageQueueMode() {
         return asyncExecutorMessageQueueMode;
     }
@@ -4101,4 +4710,13 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         this.asyncHistoryExecutorMessageQueueMode = asyncHistoryExecutorMessageQueueMode;
         return this;
     }
+
+    public int getAsyncHistoryExecutorJobBatchSize() {
+        return asyncHistoryExecutorJobBatchSize;
+    }
+
+    public ProcessEngineConfigurationImpl setAsyncHistoryExecutorJobBatchSize(int asyncHistoryExecutorJobBatchSize) {
+        this.asyncHistoryExecutorJobBatchSize = asyncHistoryExecutorJobBatchSize;
+        return this;
+    }
 }
\ No newline at end of file
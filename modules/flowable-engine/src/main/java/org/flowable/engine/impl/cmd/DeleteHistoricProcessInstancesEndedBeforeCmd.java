@@ -0,0 +1,73 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.cmd;
+
+import java.io.Serializable;
+import java.util.Date;
+import java.util.List;
+
+import org.flowable.engine.common.api.FlowableIllegalArgumentException;
+import org.flowable.engine.impl.interceptor.Command;
+import org.flowable.engine.impl.interceptor.CommandContext;
+
+/**
+ * Deletes the history of at most maxResults process instances that ended before the given date: the historic process instances themselves and their
+ * activity instances, task instances, variable instances, details, identity links, comments and attachments, including the byte arrays of the variables,
+ * details and attachments.
+ *
+ * The ids of the process instances are selected first, after which every table is cleaned with a single set-based delete statement, without loading any
+ * entities. Because of that no events are dispatched for the deleted history. Subprocess instances are deleted when they have ended before the date
+ * themselves.
+ *
+ * Returns the number of process instances of which the history was deleted, which is less than maxResults when there's nothing more to delete.
+ */
+public class DeleteHistoricProcessInstancesEndedBeforeCmd implements Command<Integer>, Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    protected Date endedBefore;
+    protected int maxResults;
+
+    public DeleteHistoricProcessInstancesEndedBeforeCmd(Date endedBefore, int maxResults) {
+        this.endedBefore = endedBefore;
+        this.maxResults = maxResults;
+    }
+
+    public Integer execute(CommandContext commandContext) {
+        if (endedBefore == null) {
+            throw new FlowableIllegalArgumentException("endedBefore is null");
+        }
+        if (maxResults <= 0) {
+            throw new FlowableIllegalArgumentException("maxResults must be larger than 0");
+        }
+
+        List<String> processInstanceIds = commandContext.getHistoricProcessInstanceEntityManager().findHistoricProcessInstanceIdsEndedBefore(endedBefore, maxResults);
+        if (processInstanceIds.isEmpty()) {
+            return 0;
+        }
+
+        // The bulk deletes are flushed in entity dependency order: the byte arrays, the comments, the attachments and the identity links (which select the
+        // ids of the historic tasks and variables) before the historic tasks, variables and details
+        commandContext.getHistoricDetailEntityManager().deleteHistoricDetailsByProcessInstanceIds(processInstanceIds);
+        commandContext.getHistoricVariableInstanceEntityManager().deleteHistoricVariableInstancesByProcessInstanceIds(processInstanceIds);
+        commandContext.getHistoricActivityInstanceEntityManager().deleteHistoricActivityInstancesByProcessInstanceIds(processInstanceIds);
+        commandContext.getHistoricIdentityLinkEntityManager().deleteHistoricIdentityLinksByProcessInstanceIds(processInstanceIds);
+        commandContext.getCommentEntityManager().deleteCommentsByProcessInstanceIds(processInstanceIds);
+        commandContext.getAttachmentEntityManager().deleteAttachmentsByProcessInstanceIds(processInstanceIds);
+        commandContext.getHistoricTaskInstanceEntityManager().deleteHistoricTaskInstancesByProcessInstanceIds(processInstanceIds);
+        commandContext.getHistoricProcessInstanceEntityManager().deleteHistoricProcessInstancesByIds(processInstanceIds);
+
+        return processInstanceIds.size();
+    }
+
+}
@@ -0,0 +1,105 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.cmd;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.flowable.engine.common.api.FlowableIllegalArgumentException;
+import org.flowable.engine.delegate.event.FlowableEngineEventType;
+import org.flowable.engine.delegate.event.impl.FlowableEventBuilder;
+import org.flowable.engine.impl.history.async.AbstractAsyncHistoryJobHandler;
+import org.flowable.engine.impl.interceptor.Command;
+import org.flowable.engine.impl.interceptor.CommandContext;
+import org.flowable.engine.impl.jobexecutor.HistoryJobHandler;
+import org.flowable.engine.impl.persistence.entity.HistoryJobEntity;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Executes a batch of history jobs in one transaction: the jobs are fetched with one query, the historic entities their json refers to are prefetched with
+ * one query per entity type and all resulting inserts, updates and deletes are flushed together. When one of the jobs fails, the whole batch is rolled back.
+ */
+public class ExecuteHistoryJobBatchCmd implements Command<Void> {
+
+    private static Logger log = LoggerFactory.getLogger(ExecuteHistoryJobBatchCmd.class);
+
+    protected List<String> jobIds;
+
+    public ExecuteHistoryJobBatchCmd(List<String> jobIds) {
+        this.jobIds = jobIds;
+    }
+
+    @Override
+    public Void execute(CommandContext commandContext) {
+        if (jobIds == null || jobIds.isEmpty()) {
+            throw new FlowableIllegalArgumentException("jobIds is null or empty");
+        }
+
+        // Jobs that were deleted in the meantime are not found, like in ExecuteAsyncJobCmd
+        List<HistoryJobEntity> jobs = new ArrayList<HistoryJobEntity>(commandContext.getHistoryJobEntityManager().findHistoryJobsByIds(jobIds));
+        if (log.isDebugEnabled()) {
+            log.debug("Executing batch of {} history jobs, {} of them no longer exist", jobIds.size(), jobIds.size() - jobs.size());
+        }
+
+        // Older jobs first, as later history usually builds on earlier history (e.g. an activity end on its start)
+        Collections.sort(jobs, new Comparator<HistoryJobEntity>() {
+
+            @Override
+            public int compare(HistoryJobEntity job1, HistoryJobEntity job2) {
+                if (job1.getCreateTime() == null || job2.getCreateTime() == null) {
+                    return job1.getCreateTime() == null ? (job2.getCreateTime() == null ? 0 : 1) : -1;
+                }
+                return job1.getCreateTime().compareTo(job2.getCreateTime());
+            }
+        });
+
+        prefetchHistoricEntities(commandContext, jobs);
+
+        for (HistoryJobEntity job : jobs) {
+            commandContext.getJobManager().execute(job);
+
+            if (commandContext.getEventDispatcher().isEnabled()) {
+                commandContext.getEventDispatcher().dispatchEvent(
+                        FlowableEventBuilder.createEntityEvent(FlowableEngineEventType.JOB_EXECUTION_SUCCESS, job));
+            }
+        }
+
+        return null;
+    }
+
+    protected void prefetchHistoricEntities(CommandContext commandContext, List<HistoryJobEntity> jobs) {
+        Map<String, List<HistoryJobEntity>> jobsByHandlerType = new LinkedHashMap<String, List<HistoryJobEntity>>();
+        for (HistoryJobEntity job : jobs) {
+            List<HistoryJobEntity> jobsOfType = jobsByHandlerType.get(job.getJobHandlerType());
+            if (jobsOfType == null) {
+                jobsOfType = new ArrayList<HistoryJobEntity>();
+                jobsByHandlerType.put(job.getJobHandlerType(), jobsOfType);
+            }
+            jobsOfType.add(job);
+        }
+
+        Map<String, HistoryJobHandler> historyJobHandlers = commandContext.getProcessEngineConfiguration().getHistoryJobHandlers();
+        for (Map.Entry<String, List<HistoryJobEntity>> entry : jobsByHandlerType.entrySet()) {
+            HistoryJobHandler historyJobHandler = historyJobHandlers != null ? historyJobHandlers.get(entry.getKey()) : null;
+            if (historyJobHandler instanceof AbstractAsyncHistoryJobHandler) {
+                ((AbstractAsyncHistoryJobHandler) historyJobHandler).prefetchHistoricEntities(entry.getValue(), commandContext);
+            }
+        }
+    }
+
+}
@@ -0,0 +1,57 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.cmd;
+
+import java.util.Date;
+import java.util.List;
+
+import org.flowable.engine.common.impl.Page;
+import org.flowable.engine.impl.asyncexecutor.AbstractAsyncExecutor;
+import org.flowable.engine.impl.asyncexecutor.AcquiredTimerJobEntities;
+import org.flowable.engine.impl.interceptor.Command;
+import org.flowable.engine.impl.interceptor.CommandContext;
+import org.flowable.engine.impl.persistence.entity.TimerJobEntity;
+
+/**
+ * Acquires the timer jobs that are due within the look-ahead window of the timer wheel.
+ *
+ * Every timer gets a lease: it is locked until its due date plus the timer lock time, so that other nodes leave it alone while it waits in the wheel of this
+ * node, but can take it over when this node goes away without firing it.
+ */
+public class PrefetchTimerJobsCmd implements Command<AcquiredTimerJobEntities> {
+
+    protected final AbstractAsyncExecutor asyncExecutor;
+
+    public PrefetchTimerJobsCmd(AbstractAsyncExecutor asyncExecutor) {
+        this.asyncExecutor = asyncExecutor;
+    }
+
+    public AcquiredTimerJobEntities execute(CommandContext commandContext) {
+        Date now = commandContext.getProcessEngineConfiguration().getClock().getCurrentTime();
+        Date dueBefore = new Date(now.getTime() + asyncExecutor.getTimerWheelLookAheadInMillis());
+
+        AcquiredTimerJobEntities acquiredJobs = new AcquiredTimerJobEntities();
+        List<TimerJobEntity> timerJobs = commandContext.getTimerJobEntityManager()
+                .findTimerJobsToPrefetch(dueBefore, new Page(0, asyncExecutor.getTimerWheelPrefetchSize()));
+
+        for (TimerJobEntity job : timerJobs) {
+            // An optimistic locking exception is thrown when another node leased the same timer concurrently
+            long leaseStart = Math.max(job.getDuedate().getTime(), now.getTime());
+            job.setLockOwner(asyncExecutor.getLockOwner());
+            job.setLockExpirationTime(new Date(leaseStart + asyncExecutor.getTimerLockTimeInMillis()));
+            acquiredJobs.addJob(job);
+        }
+
+        return acquiredJobs;
+    }
+}
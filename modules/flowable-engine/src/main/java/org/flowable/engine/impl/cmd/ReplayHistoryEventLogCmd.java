@@ -0,0 +1,183 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.cmd;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import org.flowable.engine.common.api.FlowableException;
+import org.flowable.engine.common.api.FlowableIllegalArgumentException;
+import org.flowable.engine.impl.history.async.AbstractAsyncHistoryJobHandler;
+import org.flowable.engine.impl.history.async.AsyncHistoryJobHandler;
+import org.flowable.engine.impl.history.async.AsyncHistoryJobNotApplicableException;
+import org.flowable.engine.impl.history.async.eventlog.HistoryEventLogReader;
+import org.flowable.engine.impl.history.async.eventlog.HistoryEventLogRecord;
+import org.flowable.engine.impl.interceptor.Command;
+import org.flowable.engine.impl.interceptor.CommandContext;
+import org.flowable.engine.impl.jobexecutor.HistoryJobHandler;
+import org.flowable.engine.impl.persistence.entity.HistoryJobEntity;
+import org.flowable.engine.impl.persistence.entity.HistoryJobEntityImpl;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Writes the history of at most the given number of records of a {@link org.flowable.engine.impl.history.async.eventlog.HistoryEventLog} to the history
+ * tables, in one transaction, and returns the position to continue from. The caller keeps that position, e.g. in a file, and can delete the segments before
+ * it.
+ *
+ * The records are appended after their transactions committed, so the records of two dependent transactions can end up in the wrong order. History json
+ * that refers to history that isn't there yet is therefore retried after the json that follows it, reading past the given number of records, up to the end
+ * of the log if needed. When it can't be applied even then, the replay fails and nothing is written, unless skipNotApplicableHistory is set: the json is
+ * then logged and skipped, e.g. for history that will never be found because it couldn't be appended to the log.
+ */
+public class ReplayHistoryEventLogCmd implements Command<Long> {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReplayHistoryEventLogCmd.class);
+
+    protected HistoryEventLogReader historyEventLogReader;
+    protected long fromPosition;
+    protected int maxRecords;
+    protected boolean skipNotApplicableHistory;
+
+    public ReplayHistoryEventLogCmd(HistoryEventLogReader historyEventLogReader, long fromPosition, int maxRecords) {
+        this(historyEventLogReader, fromPosition, maxRecords, false);
+    }
+
+    public ReplayHistoryEventLogCmd(HistoryEventLogReader historyEventLogReader, long fromPosition, int maxRecords, boolean skipNotApplicableHistory) {
+        if (historyEventLogReader == null) {
+            throw new FlowableIllegalArgumentException("historyEventLogReader is null");
+        }
+        if (maxRecords <= 0) {
+            throw new FlowableIllegalArgumentException("maxRecords must be larger than 0");
+        }
+        this.historyEventLogReader = historyEventLogReader;
+        this.fromPosition = fromPosition;
+        this.maxRecords = maxRecords;
+        this.skipNotApplicableHistory = skipNotApplicableHistory;
+    }
+
+    @Override
+    public Long execute(CommandContext commandContext) {
+        HistoryJobHandler historyJobHandler = commandContext.getProcessEngineConfiguration().getHistoryJobHandlers() != null
+                ? commandContext.getProcessEngineConfiguration().getHistoryJobHandlers().get(AsyncHistoryJobHandler.JOB_TYPE) : null;
+        if (!(historyJobHandler instanceof AbstractAsyncHistoryJobHandler)) {
+            throw new FlowableException("Replaying the history event log requires async history to be enabled");
+        }
+        AbstractAsyncHistoryJobHandler asyncHistoryJobHandler = (AbstractAsyncHistoryJobHandler) historyJobHandler;
+        ObjectMapper objectMapper = commandContext.getProcessEngineConfiguration().getObjectMapper();
+
+        List<HistoryEventLogRecord> records = historyEventLogReader.read(fromPosition, maxRecords);
+        long position = fromPosition;
+        List<DeferredHistoryJson> deferred = new ArrayList<DeferredHistoryJson>();
+
+        while (!records.isEmpty()) {
+            for (HistoryEventLogRecord record : records) {
+                HistoryJobEntity job = createReplayJob(record);
+                for (JsonNode historyNode : readRecord(record, objectMapper)) {
+                    if (apply(asyncHistoryJobHandler, commandContext, job, historyNode)) {
+                        retryDeferred(asyncHistoryJobHandler, commandContext, deferred);
+                    } else {
+                        deferred.add(new DeferredHistoryJson(job, historyNode));
+                    }
+                }
+                position = record.getNextPosition();
+            }
+
+            if (deferred.isEmpty()) {
+                break;
+            }
+            // Read ahead until the history the deferred json refers to has been found, or up to the end of the log
+            records = historyEventLogReader.read(position, maxRecords);
+        }
+
+        if (!deferred.isEmpty()) {
+            if (!skipNotApplicableHistory) {
+                throw new FlowableException("Could not replay history event log record at position " + deferred.get(0).job.getId()
+                        + ": the history it refers to was not found up to the end of the log");
+            }
+            for (DeferredHistoryJson deferredHistoryJson : deferred) {
+                logger.warn("Skipped history of history event log record at position {}, the history it refers to was not found: {}",
+                        deferredHistoryJson.job.getId(), deferredHistoryJson.historyNode);
+            }
+        }
+        return position;
+    }
+
+    protected boolean apply(AbstractAsyncHistoryJobHandler asyncHistoryJobHandler, CommandContext commandContext, HistoryJobEntity job, JsonNode historyNode) {
+        try {
+            asyncHistoryJobHandler.executeHistoryJson(commandContext, job, historyNode);
+            return true;
+        } catch (AsyncHistoryJobNotApplicableException e) {
+            return false;
+        }
+    }
+
+    protected void retryDeferred(AbstractAsyncHistoryJobHandler asyncHistoryJobHandler, CommandContext commandContext, List<DeferredHistoryJson> deferred) {
+        boolean applied = true;
+        while (applied && !deferred.isEmpty()) {
+            applied = false;
+            Iterator<DeferredHistoryJson> iterator = deferred.iterator();
+            while (iterator.hasNext()) {
+                DeferredHistoryJson deferredHistoryJson = iterator.next();
+                if (apply(asyncHistoryJobHandler, commandContext, deferredHistoryJson.job, deferredHistoryJson.historyNode)) {
+                    iterator.remove();
+                    applied = true;
+                }
+            }
+        }
+    }
+
+    protected List<JsonNode> readRecord(HistoryEventLogRecord record, ObjectMapper objectMapper) {
+        List<JsonNode> historyNodes = new ArrayList<JsonNode>();
+        try {
+            JsonNode recordNode = objectMapper.readTree(record.getData());
+            if (recordNode.isArray()) {
+                for (JsonNode historyNode : recordNode) {
+                    historyNodes.add(historyNode);
+                }
+            } else {
+                historyNodes.add(recordNode);
+            }
+        } catch (IOException e) {
+            throw new FlowableException("Could not deserialize history event log record at position " + record.getPosition(), e);
+        }
+        return historyNodes;
+    }
+
+    /**
+     * The transformers get the history job the json comes from, here a job that is never persisted and only identifies the record.
+     */
+    protected HistoryJobEntity createReplayJob(HistoryEventLogRecord record) {
+        HistoryJobEntityImpl job = new HistoryJobEntityImpl();
+        job.setId(String.valueOf(record.getPosition()));
+        job.setJobHandlerType(AsyncHistoryJobHandler.JOB_TYPE);
+        return job;
+    }
+
+    protected static class DeferredHistoryJson {
+
+        protected HistoryJobEntity job;
+        protected JsonNode historyNode;
+
+        public DeferredHistoryJson(HistoryJobEntity job, JsonNode historyNode) {
+            this.job = job;
+            this.historyNode = historyNode;
+        }
+    }
+
+}
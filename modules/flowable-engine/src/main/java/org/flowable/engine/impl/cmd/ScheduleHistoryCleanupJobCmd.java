@@ -0,0 +1,76 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.cmd;
+
+import java.io.Serializable;
+import java.util.List;
+
+import org.flowable.engine.impl.JobQueryImpl;
+import org.flowable.engine.impl.TimerJobQueryImpl;
+import org.flowable.engine.impl.calendar.CycleBusinessCalendar;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.interceptor.Command;
+import org.flowable.engine.impl.interceptor.CommandContext;
+import org.flowable.engine.impl.jobexecutor.HistoryCleanupJobHandler;
+import org.flowable.engine.impl.persistence.entity.JobEntity;
+import org.flowable.engine.impl.persistence.entity.TimerJobEntity;
+import org.flowable.engine.impl.persistence.entity.TimerJobEntityManager;
+import org.flowable.engine.runtime.Job;
+
+/**
+ * Makes sure that there's a timer job for the {@link HistoryCleanupJobHandler} that repeats according to the configured time cycle. A timer job that
+ * repeats according to another cycle, from a previous configuration, is replaced.
+ */
+public class ScheduleHistoryCleanupJobCmd implements Command<Void>, Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    public Void execute(CommandContext commandContext) {
+        ProcessEngineConfigurationImpl processEngineConfiguration = commandContext.getProcessEngineConfiguration();
+        String timeCycleConfig = processEngineConfiguration.getHistoryCleanupTimeCycleConfig();
+
+        // The job that is being executed is scheduled again with its own cycle afterwards
+        if (new JobQueryImpl(commandContext).handlerType(HistoryCleanupJobHandler.TYPE).count() > 0) {
+            return null;
+        }
+
+        TimerJobEntityManager timerJobEntityManager = commandContext.getTimerJobEntityManager();
+        List<Job> timerJobs = new TimerJobQueryImpl(commandContext).handlerType(HistoryCleanupJobHandler.TYPE).list();
+        boolean scheduled = false;
+        for (Job timerJob : timerJobs) {
+            if (!scheduled && timeCycleConfig.equals(((TimerJobEntity) timerJob).getRepeat())) {
+                scheduled = true;
+            } else {
+                timerJobEntityManager.delete((TimerJobEntity) timerJob);
+            }
+        }
+
+        if (!scheduled) {
+            TimerJobEntity timerJob = timerJobEntityManager.create();
+            timerJob.setJobType(JobEntity.JOB_TYPE_TIMER);
+            timerJob.setRevision(1);
+            timerJob.setJobHandlerType(HistoryCleanupJobHandler.TYPE);
+            // The timer handling expects a json configuration
+            timerJob.setJobHandlerConfiguration("{}");
+            timerJob.setExclusive(false);
+            timerJob.setRetries(processEngineConfiguration.getAsyncExecutorNumberOfRetries());
+            timerJob.setRepeat(timeCycleConfig);
+            timerJob.setDuedate(processEngineConfiguration.getBusinessCalendarManager().getBusinessCalendar(CycleBusinessCalendar.NAME)
+                    .resolveDuedate(timeCycleConfig));
+            commandContext.getJobManager().scheduleTimerJob(timerJob);
+        }
+
+        return null;
+    }
+
+}
@@ -33,11 +33,23 @@ import java.util.Map;
 import java.util.Set;
 import java.util.regex.Matcher;
 
+import org.apache.ibatis.executor.BatchResult;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.ExecutorType;
+import org.apache.ibatis.session.ResultContext;
+import org.apache.ibatis.session.ResultHandler;
+import org.apache.ibatis.session.RowBounds;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.defaults.DefaultSqlSession;
+import org.apache.ibatis.transaction.managed.ManagedTransaction;
 import org.flowable.engine.ProcessEngine;
 import org.flowable.engine.ProcessEngineConfiguration;
 import org.flowable.engine.common.api.FlowableException;
 import org.flowable.engine.common.api.FlowableOptimisticLockingException;
 import org.flowable.engine.common.api.FlowableWrongDbException;
+import org.flowable.engine.common.api.query.StreamableQuery.ResultConsumer;
+import org.flowable.engine.common.impl.Page;
 import org.flowable.engine.common.impl.db.AbstractDbSqlSession;
 import org.flowable.engine.common.impl.db.HasRevision;
 import org.flowable.engine.common.impl.db.ListQueryParameterObject;
@@ -51,6 +63,7 @@ import org.flowable.engine.impl.persistence.cache.EntityCache;
 import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
 import org.flowable.engine.impl.persistence.entity.PropertyEntity;
 import org.flowable.engine.impl.persistence.entity.PropertyEntityImpl;
+import org.flowable.engine.impl.profiler.CommandProfiler;
 import org.flowable.engine.impl.util.ReflectUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -123,6 +136,7 @@ public class DbSqlSession extends AbstractDbSqlSession {
         FLOWABLE_VERSIONS.add(new FlowableVersion("6.0.0.4"));
         FLOWABLE_VERSIONS.add(new FlowableVersion("6.0.0.5"));
         FLOWABLE_VERSIONS.add(new FlowableVersion("6.0.1.0"));
+        FLOWABLE_VERSIONS.add(new FlowableVersion("6.1.0.0"));
 
         /* Current */
         FLOWABLE_VERSIONS.add(new FlowableVersion(ProcessEngine.VERSION));
@@ -135,6 +149,11 @@ public class DbSqlSession extends AbstractDbSqlSession {
     protected Map<Class<? extends Entity>, Map<String, Entity>> deletedObjects = new HashMap<Class<? extends Entity>, Map<String, Entity>>();
     protected Map<Class<? extends Entity>, List<BulkDeleteOperation>> bulkDeleteOperations = new HashMap<Class<? extends Entity>, List<BulkDeleteOperation>>();
     protected List<Entity> updatedObjects = new ArrayList<Entity>();
+
+    /**
+     * True once statements have been executed through a batch {@link SqlSession}, which the {@link #sqlSession} doesn't know about.
+     */
+    protected boolean batchStatementsExecuted;
     
     public DbSqlSession(DbSqlSessionFactory dbSqlSessionFactory, EntityCache entityCache) {
         super(dbSqlSessionFactory);
@@ -255,6 +274,43 @@ public class DbSqlSession extends AbstractDbSqlSession {
         }
     }
 
+    /**
+     * Like {@link #selectList(String, Object, Page)}, but also stops reading the result set after the maximum number of results of the page, with a fetch
+     * size of that number. Meant for row locking queries on databases that lock the rows while they're fetched (like 'for update skip locked' on Oracle),
+     * where a row limit in the statement itself is applied before the locked rows are skipped.
+     */
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    public List selectListWithRowLimit(String statement, Object parameter, Page page) {
+        ListQueryParameterObject parameterObject = new ListQueryParameterObject(parameter, page.getFirstResult(), page.getMaxResults());
+        parameterObject.setDatabaseType(dbSqlSessionFactory.getDatabaseType());
+        parameterObject.setFetchSize(page.getMaxResults());
+        List loadedObjects = sqlSession.selectList(dbSqlSessionFactory.mapStatement(statement), parameterObject, new RowBounds(0, page.getMaxResults()));
+        return cacheLoadOrStore(loadedObjects);
+    }
+
+    /**
+     * Passes the results of the statement one by one to the consumer, while they're read from the database. The results are not put in the
+     * {@link EntityCache}, and the fetch size of the statement is set to the configured query stream fetch size.
+     */
+    public <T> void selectForEach(String statement, ListQueryParameterObject parameter, final ResultConsumer<T> resultConsumer) {
+        parameter.setDatabaseType(dbSqlSessionFactory.getDatabaseType());
+        int fetchSize = processEngineDbSqlSessionFactory.getQueryStreamFetchSize();
+        parameter.setFetchSize(fetchSize != 0 ? fetchSize : null);
+        try {
+            sqlSession.select(dbSqlSessionFactory.mapStatement(statement), parameter, new ResultHandler<T>() {
+
+                @Override
+                public void handleResult(ResultContext<? extends T> resultContext) {
+                    resultConsumer.accept(resultContext.getResultObject());
+                }
+            });
+        } finally {
+            parameter.setFetchSize(null);
+            // MyBatis caches an empty list for a statement with a result handler, which an identical list query in this session would return
+            sqlSession.clearCache();
+        }
+    }
+
     public Object selectOne(String statement, Object parameter) {
         statement = dbSqlSessionFactory.mapStatement(statement);
         Object result = sqlSession.selectOne(statement, parameter);
@@ -462,6 +518,11 @@ public class DbSqlSession extends AbstractDbSqlSession {
     }
 
     protected void flushInsertEntities(Class<? extends Entity> entityClass, Collection<Entity> entitiesToInsert) {
+        CommandProfiler commandProfiler = processEngineDbSqlSessionFactory.getCommandProfiler();
+        if (commandProfiler != null) {
+            commandProfiler.recordInserts(entityClass, entitiesToInsert.size());
+        }
+
         if (entitiesToInsert.size() == 1) {
             flushRegularInsert(entitiesToInsert.iterator().next(), entityClass);
         } else if (Boolean.FALSE.equals(processEngineDbSqlSessionFactory.isBulkInsertable(entityClass))) {
@@ -619,6 +680,18 @@ public class DbSqlSession extends AbstractDbSqlSession {
     }
 
     protected void flushUpdates() {
+        CommandProfiler commandProfiler = processEngineDbSqlSessionFactory.getCommandProfiler();
+        if (commandProfiler != null) {
+            for (Entity updatedObject : updatedObjects) {
+                commandProfiler.recordUpdates(updatedObject.getClass(), 1);
+            }
+        }
+
+        if (processEngineDbSqlSessionFactory.isBatchUpdatesAndDeletesEnabled() && updatedObjects.size() > 1) {
+            flushBatchUpdates();
+            return;
+        }
+
         for (Entity updatedObject : updatedObjects) {
             String updateStatement = processEngineDbSqlSessionFactory.getUpdateStatement(updatedObject);
             updateStatement = processEngineDbSqlSessionFactory.mapStatement(updateStatement);
@@ -643,6 +716,35 @@ public class DbSqlSession extends AbstractDbSqlSession {
         updatedObjects.clear();
     }
 
+    protected void flushBatchUpdates() {
+        SqlSession batchSqlSession = openBatchSqlSession();
+        try {
+            for (Entity updatedObject : updatedObjects) {
+                String updateStatement = processEngineDbSqlSessionFactory.getUpdateStatement(updatedObject);
+                updateStatement = processEngineDbSqlSessionFactory.mapStatement(updateStatement);
+
+                if (updateStatement == null) {
+                    throw new FlowableException("no update statement for " + updatedObject.getClass() + " in the ibatis mapping files");
+                }
+
+                log.debug("updating (batched): {}", updatedObject);
+                batchSqlSession.update(updateStatement, updatedObject);
+            }
+            checkBatchResults(batchSqlSession.flushStatements(), false);
+
+        } finally {
+            batchSqlSession.close();
+            sqlSession.clearCache();
+        }
+
+        for (Entity updatedObject : updatedObjects) {
+            if (updatedObject instanceof HasRevision) {
+                ((HasRevision) updatedObject).setRevision(((HasRevision) updatedObject).getRevisionNext());
+            }
+        }
+        updatedObjects.clear();
+    }
+
     protected void flushDeletes() {
 
         if (deletedObjects.size() == 0 && bulkDeleteOperations.size() == 0) {
@@ -672,6 +774,11 @@ public class DbSqlSession extends AbstractDbSqlSession {
     protected void flushBulkDeletes(Class<? extends Entity> entityClass) {
         // Bulk deletes
         if (bulkDeleteOperations.containsKey(entityClass)) {
+            CommandProfiler commandProfiler = processEngineDbSqlSessionFactory.getCommandProfiler();
+            if (commandProfiler != null) {
+                commandProfiler.recordBulkDeletes(entityClass, bulkDeleteOperations.get(entityClass).size());
+            }
+
             for (BulkDeleteOperation bulkDeleteOperation : bulkDeleteOperations.get(entityClass)) {
                 bulkDeleteOperation.execute(sqlSession);
             }
@@ -679,6 +786,16 @@ public class DbSqlSession extends AbstractDbSqlSession {
     }
 
     protected void flushDeleteEntities(Class<? extends Entity> entityClass, Collection<Entity> entitiesToDelete) {
+        CommandProfiler commandProfiler = processEngineDbSqlSessionFactory.getCommandProfiler();
+        if (commandProfiler != null) {
+            commandProfiler.recordDeletes(entityClass, entitiesToDelete.size());
+        }
+
+        if (processEngineDbSqlSessionFactory.isBatchUpdatesAndDeletesEnabled() && entitiesToDelete.size() > 1) {
+            flushBatchDeleteEntities(entityClass, entitiesToDelete);
+            return;
+        }
+
         for (Entity entity : entitiesToDelete) {
             String deleteStatement = processEngineDbSqlSessionFactory.getDeleteStatement(entity.getClass());
             deleteStatement = processEngineDbSqlSessionFactory.mapStatement(deleteStatement);
@@ -699,6 +816,80 @@ public class DbSqlSession extends AbstractDbSqlSession {
         }
     }
 
+    protected void flushBatchDeleteEntities(Class<? extends Entity> entityClass, Collection<Entity> entitiesToDelete) {
+        SqlSession batchSqlSession = openBatchSqlSession();
+        try {
+            for (Entity entity : entitiesToDelete) {
+                String deleteStatement = processEngineDbSqlSessionFactory.getDeleteStatement(entity.getClass());
+                deleteStatement = processEngineDbSqlSessionFactory.mapStatement(deleteStatement);
+                if (deleteStatement == null) {
+                    throw new FlowableException("no delete statement for " + entity.getClass() + " in the ibatis mapping files");
+                }
+                batchSqlSession.delete(deleteStatement, entity);
+            }
+
+            // As for single deletes, only objects that have a revision are checked for optimistic locking
+            checkBatchResults(batchSqlSession.flushStatements(), true);
+
+        } finally {
+            batchSqlSession.close();
+            sqlSession.clearCache();
+        }
+    }
+
+    /**
+     * Opens a {@link SqlSession} with a batch executor on the connection (and so in the transaction) of this session.
+     * Closing it doesn't commit, roll back or close the connection.
+     */
+    protected SqlSession openBatchSqlSession() {
+        batchStatementsExecuted = true;
+        Configuration configuration = sqlSession.getConfiguration();
+        Executor executor = configuration.newExecutor(new ManagedTransaction(sqlSession.getConnection(), false), ExecutorType.BATCH);
+        return new DefaultSqlSession(configuration, executor, false);
+    }
+
+    /**
+     * Checks the row counts of a batch of updates or deletes of entities, an entity of which no row was affected was changed by another transaction.
+     */
+    protected void checkBatchResults(List<BatchResult> batchResults, boolean onlyEntitiesWithRevision) {
+        for (BatchResult batchResult : batchResults) {
+            int[] updateCounts = batchResult.getUpdateCounts();
+            List<Object> parameterObjects = batchResult.getParameterObjects();
+            for (int i = 0; i < updateCounts.length; i++) {
+                Object entity = parameterObjects.get(i);
+                if (onlyEntitiesWithRevision && !(entity instanceof HasRevision)) {
+                    continue;
+                }
+
+                if (updateCounts[i] == Statement.SUCCESS_NO_INFO) {
+                    throw new FlowableException("The JDBC driver doesn't return the row counts of batched statements, which are needed for optimistic locking: "
+                            + "disable batch updates and deletes for this database");
+                } else if (updateCounts[i] == 0) {
+                    throw new FlowableOptimisticLockingException(entity + " was updated by another transaction concurrently");
+                }
+            }
+        }
+    }
+
+    @Override
+    public void commit() {
+        // MyBatis only commits a session it has executed updates on itself
+        if (batchStatementsExecuted) {
+            sqlSession.commit(true);
+        } else {
+            super.commit();
+        }
+    }
+
+    @Override
+    public void rollback() {
+        if (batchStatementsExecuted) {
+            sqlSession.rollback(true);
+        } else {
+            super.rollback();
+        }
+    }
+
     // schema operations
     // ////////////////////////////////////////////////////////
 
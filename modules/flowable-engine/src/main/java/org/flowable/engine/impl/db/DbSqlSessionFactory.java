@@ -22,6 +22,7 @@ import org.flowable.engine.common.impl.db.AbstractDbSqlSessionFactory;
 import org.flowable.engine.common.impl.persistence.entity.Entity;
 import org.flowable.engine.impl.context.Context;
 import org.flowable.engine.impl.persistence.entity.EventLogEntryEntityImpl;
+import org.flowable.engine.impl.profiler.CommandProfiler;
 
 /**
  * @author Tom Baeyens
@@ -39,6 +40,18 @@ public class DbSqlSessionFactory extends AbstractDbSqlSessionFactory {
     
     protected int maxNrOfStatementsInBulkInsert = 100;
 
+    protected boolean isBatchUpdatesAndDeletesEnabled;
+
+    /**
+     * When set, the number of entities that are flushed is recorded in it.
+     */
+    protected CommandProfiler commandProfiler;
+
+    /**
+     * The JDBC fetch size of the queries of which the results are streamed, 0 to use the default of the driver.
+     */
+    protected int queryStreamFetchSize;
+
     public Class<?> getSessionType() {
         return DbSqlSession.class;
     }
@@ -97,6 +110,30 @@ public class DbSqlSessionFactory extends AbstractDbSqlSessionFactory {
         this.maxNrOfStatementsInBulkInsert = maxNrOfStatementsInBulkInsert;
     }
     
+    public boolean isBatchUpdatesAndDeletesEnabled() {
+        return isBatchUpdatesAndDeletesEnabled;
+    }
+
+    public void setBatchUpdatesAndDeletesEnabled(boolean isBatchUpdatesAndDeletesEnabled) {
+        this.isBatchUpdatesAndDeletesEnabled = isBatchUpdatesAndDeletesEnabled;
+    }
+
+    public CommandProfiler getCommandProfiler() {
+        return commandProfiler;
+    }
+
+    public void setCommandProfiler(CommandProfiler commandProfiler) {
+        this.commandProfiler = commandProfiler;
+    }
+
+    public int getQueryStreamFetchSize() {
+        return queryStreamFetchSize;
+    }
+
+    public void setQueryStreamFetchSize(int queryStreamFetchSize) {
+        this.queryStreamFetchSize = queryStreamFetchSize;
+    }
+
     public Map<Class<?>, String> getBulkInsertStatements() {
         return bulkInsertStatements;
     }
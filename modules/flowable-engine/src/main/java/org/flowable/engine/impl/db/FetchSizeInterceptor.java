@@ -0,0 +1,63 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.db;
+
+import java.sql.Connection;
+import java.sql.Statement;
+import java.util.Properties;
+
+import org.apache.ibatis.executor.statement.StatementHandler;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Plugin;
+import org.apache.ibatis.plugin.Signature;
+import org.flowable.engine.common.impl.db.ListQueryParameterObject;
+
+/**
+ * MyBatis plugin that sets the JDBC fetch size of a statement to the fetch size of its {@link ListQueryParameterObject}, when there is one.
+ *
+ * The fetch size of a mapped statement is fixed when the mappings are parsed, this allows a query to use a different fetch size when its results are
+ * streamed (see {@link DbSqlSession#selectForEach}) or limited while they are read (see {@link DbSqlSession#selectListWithRowLimit}).
+ */
+@Intercepts({
+        @Signature(type = StatementHandler.class, method = "prepare", args = { Connection.class, Integer.class })
+})
+public class FetchSizeInterceptor implements Interceptor {
+
+    @Override
+    public Object intercept(Invocation invocation) throws Throwable {
+        Object result = invocation.proceed();
+        Object parameterObject = ((StatementHandler) invocation.getTarget()).getBoundSql().getParameterObject();
+        if (result instanceof Statement && parameterObject instanceof ListQueryParameterObject) {
+            Integer fetchSize = ((ListQueryParameterObject) parameterObject).getFetchSize();
+            if (fetchSize != null) {
+                ((Statement) result).setFetchSize(fetchSize);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public Object plugin(Object target) {
+        if (target instanceof StatementHandler) {
+            return Plugin.wrap(target, this);
+        }
+        return target;
+    }
+
+    @Override
+    public void setProperties(Properties properties) {
+    }
+
+}
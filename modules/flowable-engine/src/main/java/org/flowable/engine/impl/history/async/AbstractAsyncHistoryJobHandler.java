@@ -14,6 +14,8 @@ package org.flowable.engine.impl.history.async;
 
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.zip.GZIPInputStream;
 
 import org.flowable.engine.common.api.FlowableException;
@@ -21,6 +23,8 @@ import org.flowable.engine.common.impl.util.IoUtil;
 import org.flowable.engine.impl.interceptor.CommandContext;
 import org.flowable.engine.impl.jobexecutor.HistoryJobHandler;
 import org.flowable.engine.impl.persistence.entity.HistoryJobEntity;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -28,6 +32,8 @@ import com.fasterxml.jackson.databind.node.ArrayNode;
 
 public abstract class AbstractAsyncHistoryJobHandler implements HistoryJobHandler {
 
+    private static final Logger logger = LoggerFactory.getLogger(AbstractAsyncHistoryJobHandler.class);
+
     protected boolean isJsonGzipCompressionEnabled;
     protected boolean isAsyncHistoryJsonGroupingEnabled;
 
@@ -37,18 +43,8 @@ public abstract class AbstractAsyncHistoryJobHandler implements HistoryJobHandle
         if (job.getAdvancedJobHandlerConfigurationByteArrayRef() != null) {
             try {
 
-                byte[] bytes = job.getAdvancedJobHandlerConfigurationByteArrayRef().getBytes();
-                if (isJsonGzipCompressionEnabled) {
-                    bytes = decompress(bytes);
-                }
-                JsonNode historyNode = objectMapper.readTree(bytes);
-                if (isAsyncHistoryJsonGroupingEnabled() && historyNode.isArray()) {
-                    ArrayNode arrayNode = (ArrayNode) historyNode;
-                    for (JsonNode jsonNode : arrayNode) {
-                        processHistoryJson(commandContext, job, jsonNode);
-                    }
-                } else {
-                    processHistoryJson(commandContext, job, historyNode);
+                for (JsonNode jsonNode : readHistoryJson(job, objectMapper)) {
+                    processHistoryJson(commandContext, job, jsonNode);
                 }
                 
             } catch (AsyncHistoryJobNotApplicableException e) {
@@ -62,6 +58,62 @@ public abstract class AbstractAsyncHistoryJobHandler implements HistoryJobHandle
         }
     }
 
+    /**
+     * Loads, in one query per entity type, the historic entities that the given jobs will look up, so that executing them in the same transaction finds
+     * them in the entity cache instead of querying for each of them. Jobs of which the json can't be read are skipped here, they fail when executed.
+     */
+    public void prefetchHistoricEntities(List<HistoryJobEntity> jobs, CommandContext commandContext) {
+        ObjectMapper objectMapper = commandContext.getProcessEngineConfiguration().getObjectMapper();
+        List<JsonNode> historyNodes = new ArrayList<JsonNode>();
+        for (HistoryJobEntity job : jobs) {
+            if (job.getAdvancedJobHandlerConfigurationByteArrayRef() != null) {
+                try {
+                    historyNodes.addAll(readHistoryJson(job, objectMapper));
+                } catch (Exception e) {
+                    logger.debug("Could not read the async history json of job {} for prefetching", job.getId(), e);
+                }
+            }
+        }
+
+        if (!historyNodes.isEmpty()) {
+            prefetchHistoricEntitiesForJson(commandContext, historyNodes);
+        }
+    }
+
+    /**
+     * Handles history json that isn't stored in a history job, for example when replaying a
+     * {@link org.flowable.engine.impl.history.async.eventlog.HistoryEventLog}. The given job isn't persisted, it only identifies the json in log messages.
+     * 
+     * @throws AsyncHistoryJobNotApplicableException
+     *             when the history the json refers to isn't there (yet)
+     */
+    public void executeHistoryJson(CommandContext commandContext, HistoryJobEntity job, JsonNode historyNode) {
+        processHistoryJson(commandContext, job, historyNode);
+    }
+
+    protected List<JsonNode> readHistoryJson(HistoryJobEntity job, ObjectMapper objectMapper) throws IOException {
+        byte[] bytes = job.getAdvancedJobHandlerConfigurationByteArrayRef().getBytes();
+        if (isJsonGzipCompressionEnabled) {
+            bytes = decompress(bytes);
+        }
+        JsonNode historyNode = objectMapper.readTree(bytes);
+        List<JsonNode> historyNodes = new ArrayList<JsonNode>();
+        if (isAsyncHistoryJsonGroupingEnabled() && historyNode.isArray()) {
+            for (JsonNode jsonNode : (ArrayNode) historyNode) {
+                historyNodes.add(jsonNode);
+            }
+        } else {
+            historyNodes.add(historyNode);
+        }
+        return historyNodes;
+    }
+
+    /**
+     * Does nothing by default.
+     */
+    protected void prefetchHistoricEntitiesForJson(CommandContext commandContext, List<JsonNode> historyNodes) {
+    }
+
     protected byte[] decompress(final byte[] compressed) {
         try (ByteArrayInputStream bais = new ByteArrayInputStream(compressed)) {
             try (GZIPInputStream gis = new GZIPInputStream(bais)) {
@@ -0,0 +1,61 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.history.async;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.flowable.engine.impl.asyncexecutor.AcquireAsyncJobsDueRunnable;
+import org.flowable.engine.impl.asyncexecutor.AcquiredJobEntities;
+import org.flowable.engine.impl.persistence.entity.JobInfoEntity;
+import org.flowable.engine.impl.persistence.entity.JobInfoEntityManager;
+
+/**
+ * Acquires history jobs like {@link AcquireAsyncJobsDueRunnable}, but hands them to the executor in batches of
+ * {@link DefaultAsyncHistoryJobExecutor#getHistoryJobBatchSize()} instead of one by one.
+ */
+public class AcquireAsyncHistoryJobBatchesRunnable extends AcquireAsyncJobsDueRunnable {
+
+    protected final DefaultAsyncHistoryJobExecutor asyncHistoryExecutor;
+
+    public AcquireAsyncHistoryJobBatchesRunnable(String name, DefaultAsyncHistoryJobExecutor asyncHistoryExecutor,
+            JobInfoEntityManager<? extends JobInfoEntity> jobEntityManager) {
+        super(name, asyncHistoryExecutor, jobEntityManager);
+        this.asyncHistoryExecutor = asyncHistoryExecutor;
+    }
+
+    @Override
+    protected List<JobInfoEntity> offerJobs(AcquiredJobEntities acquiredJobs) {
+        int batchSize = Math.max(1, asyncHistoryExecutor.getHistoryJobBatchSize());
+        List<JobInfoEntity> rejected = new ArrayList<JobInfoEntity>();
+        List<JobInfoEntity> batch = new ArrayList<JobInfoEntity>(batchSize);
+        for (JobInfoEntity job : acquiredJobs.getJobs()) {
+            batch.add(job);
+            if (batch.size() == batchSize) {
+                offerBatch(batch, rejected);
+                batch = new ArrayList<JobInfoEntity>(batchSize);
+            }
+        }
+        if (!batch.isEmpty()) {
+            offerBatch(batch, rejected);
+        }
+        return rejected;
+    }
+
+    protected void offerBatch(List<JobInfoEntity> batch, List<JobInfoEntity> rejected) {
+        if (!asyncHistoryExecutor.executeAsyncHistoryJobBatch(batch)) {
+            rejected.addAll(batch);
+        }
+    }
+
+}
@@ -16,9 +16,12 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import org.flowable.engine.impl.history.async.json.transformer.ActivityEndHistoryJsonTransformer;
 import org.flowable.engine.impl.history.async.json.transformer.ActivityFullHistoryJsonTransformer;
@@ -54,8 +57,21 @@ public class AsyncHistoryJobHandler extends AbstractAsyncHistoryJobHandler {
 
     public static final String JOB_TYPE = "async-history";
 
+    /** Oracle doesn't allow more than 1000 expressions in an in-list. */
+    protected static final int MAX_IDS_PER_PREFETCH_QUERY = 500;
+
     protected Map<String, List<HistoryJsonTransformer>> historyJsonTransformers = new HashMap<String, List<HistoryJsonTransformer>>();
 
+    // The history json types of which the transformers look up the historic process instance, task or activity instance
+    protected Set<String> processInstanceLookupTypes = new HashSet<String>(Arrays.asList(
+            HistoryJsonConstants.TYPE_PROCESS_INSTANCE_END, HistoryJsonConstants.TYPE_PROCESS_INSTANCE_PROPERTY_CHANGED));
+    protected Set<String> taskLookupTypes = new HashSet<String>(Arrays.asList(
+            HistoryJsonConstants.TYPE_TASK_ENDED, HistoryJsonConstants.TYPE_TASK_PROPERTY_CHANGED,
+            HistoryJsonConstants.TYPE_TASK_ASSIGNEE_CHANGED, HistoryJsonConstants.TYPE_TASK_OWNER_CHANGED));
+    protected Set<String> activityLookupTypes = new HashSet<String>(Arrays.asList(
+            HistoryJsonConstants.TYPE_ACTIVITY_END, HistoryJsonConstants.TYPE_SET_PROCESS_DEFINITION,
+            HistoryJsonConstants.TYPE_TASK_CREATED, HistoryJsonConstants.TYPE_TASK_ENDED));
+
     @Override
     public String getType() {
         return JOB_TYPE;
@@ -128,6 +144,72 @@ public class AsyncHistoryJobHandler extends AbstractAsyncHistoryJobHandler {
         }
     }
 
+    @Override
+    protected void prefetchHistoricEntitiesForJson(CommandContext commandContext, List<JsonNode> historyNodes) {
+        Set<String> processInstanceIds = new HashSet<String>();
+        Set<String> taskIds = new HashSet<String>();
+        Set<String> executionIds = new HashSet<String>();
+        Set<String> activityIds = new HashSet<String>();
+
+        for (JsonNode historyNode : historyNodes) {
+            JsonNode typeNode = historyNode.get(HistoryJsonConstants.TYPE);
+            JsonNode dataNode = historyNode.get(HistoryJsonConstants.DATA);
+            if (typeNode == null || dataNode == null) {
+                continue;
+            }
+
+            String type = typeNode.asText();
+            if (processInstanceLookupTypes.contains(type)) {
+                addText(processInstanceIds, dataNode, HistoryJsonConstants.PROCESS_INSTANCE_ID);
+            }
+            if (taskLookupTypes.contains(type)) {
+                addText(taskIds, dataNode, HistoryJsonConstants.ID);
+            }
+            if (activityLookupTypes.contains(type) && dataNode.hasNonNull(HistoryJsonConstants.EXECUTION_ID) && dataNode.hasNonNull(HistoryJsonConstants.ACTIVITY_ID)) {
+                addText(executionIds, dataNode, HistoryJsonConstants.EXECUTION_ID);
+                addText(activityIds, dataNode, HistoryJsonConstants.ACTIVITY_ID);
+            }
+        }
+
+        // The found entities end up in the entity cache, where the transformers look first
+        for (List<String> ids : partition(processInstanceIds)) {
+            commandContext.getHistoricProcessInstanceEntityManager().findHistoricProcessInstancesByIds(ids);
+        }
+        for (List<String> ids : partition(taskIds)) {
+            commandContext.getHistoricTaskInstanceEntityManager().findHistoricTaskInstancesByIds(ids);
+        }
+        for (List<String> executionIdsPart : partition(executionIds)) {
+            for (List<String> activityIdsPart : partition(activityIds)) {
+                commandContext.getHistoricActivityInstanceEntityManager().findHistoricActivityInstancesByExecutionIdsAndActivityIds(executionIdsPart, activityIdsPart);
+            }
+        }
+
+        if (logger.isDebugEnabled()) {
+            logger.debug("Prefetched history for {} json elements: {} process instances, {} tasks, {} executions", historyNodes.size(),
+                    processInstanceIds.size(), taskIds.size(), executionIds.size());
+        }
+    }
+
+    protected void addText(Set<String> values, JsonNode dataNode, String fieldName) {
+        JsonNode node = dataNode.get(fieldName);
+        if (node != null && !node.isNull() && node.asText().length() > 0) {
+            values.add(node.asText());
+        }
+    }
+
+    protected List<List<String>> partition(Set<String> values) {
+        List<List<String>> parts = new ArrayList<List<String>>();
+        List<String> part = null;
+        for (String value : values) {
+            if (part == null || part.size() == MAX_IDS_PER_PREFETCH_QUERY) {
+                part = new ArrayList<String>(Math.min(values.size(), MAX_IDS_PER_PREFETCH_QUERY));
+                parts.add(part);
+            }
+            part.add(value);
+        }
+        return parts;
+    }
+
     public Map<String, List<HistoryJsonTransformer>> getHistoryJsonTransformers() {
         return historyJsonTransformers;
     }
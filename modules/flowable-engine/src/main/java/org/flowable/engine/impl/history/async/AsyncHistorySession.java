@@ -17,7 +17,12 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
+import org.flowable.engine.common.api.FlowableException;
+import org.flowable.engine.common.impl.cfg.TransactionState;
 import org.flowable.engine.common.impl.interceptor.Session;
+import org.flowable.engine.impl.cfg.TransactionContext;
+import org.flowable.engine.impl.cfg.TransactionListener;
+import org.flowable.engine.impl.context.Context;
 import org.flowable.engine.impl.interceptor.CommandContext;
 import org.flowable.engine.impl.interceptor.CommandContextCloseListener;
 
@@ -51,6 +56,9 @@ public class AsyncHistorySession implements Session {
         if (jobData == null) {
             jobData = new LinkedHashMap<>(); // linked: insertion order is important
             commandContext.addCloseListener(commandContextCloseListener);
+            if (asyncHistoryListener instanceof TransactionDependentAsyncHistoryListener) {
+                addHistoryDataCommittedListener((TransactionDependentAsyncHistoryListener) asyncHistoryListener);
+            }
         }
         if (tenantId != null) {
             this.tenantId = tenantId;
@@ -62,6 +70,23 @@ public class AsyncHistorySession implements Session {
         jobData.get(type).add(data);
     }
     
+    /**
+     * The transaction context is only available while the command executes, not anymore when the history json is generated on closing.
+     */
+    protected void addHistoryDataCommittedListener(final TransactionDependentAsyncHistoryListener transactionDependentAsyncHistoryListener) {
+        TransactionContext transactionContext = Context.getTransactionContext();
+        if (transactionContext == null) {
+            throw new FlowableException("No transaction context available to write the history of the command after commit");
+        }
+        transactionContext.addTransactionListener(TransactionState.COMMITTED, new TransactionListener() {
+
+            @Override
+            public void execute(CommandContext committedCommandContext) {
+                transactionDependentAsyncHistoryListener.historyDataCommitted(commandContext);
+            }
+        });
+    }
+
     @Override
     public void flush() {
 
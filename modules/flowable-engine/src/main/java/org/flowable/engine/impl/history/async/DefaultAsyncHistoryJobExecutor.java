@@ -12,17 +12,29 @@
  */
 package org.flowable.engine.impl.history.async;
 
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+
 import org.flowable.engine.impl.asyncexecutor.DefaultAsyncJobExecutor;
+import org.flowable.engine.impl.interceptor.Command;
+import org.flowable.engine.impl.interceptor.CommandContext;
+import org.flowable.engine.impl.persistence.entity.JobInfoEntity;
 
 public class DefaultAsyncHistoryJobExecutor extends DefaultAsyncJobExecutor {
-    
+
+    /**
+     * When larger than 1, the acquired history jobs are executed in batches of at most this many jobs, each batch in one transaction
+     * (see {@link ExecuteAsyncHistoryJobBatchRunnable}).
+     */
+    protected int historyJobBatchSize;
+
     public DefaultAsyncHistoryJobExecutor() {
         setTimerRunnableNeeded(false);
         setAcquireRunnableThreadName("flowable-acquire-history-jobs");
         setResetExpiredRunnableName("flowable-reset-expired-history-jobs");
         setAsyncRunnableExecutionExceptionHandler(new UnacquireAsyncHistoryJobExceptionHandler());
     }
-    
+
     @Override
     protected void initializeJobEntityManager() {
         if (jobEntityManager == null) {
@@ -30,4 +42,49 @@ public class DefaultAsyncHistoryJobExecutor extends DefaultAsyncJobExecutor {
         }
     }
 
+    @Override
+    protected void initializeRunnables() {
+        if (historyJobBatchSize > 1 && !isMessageQueueMode && asyncJobsDueRunnable == null) {
+            asyncJobsDueRunnable = new AcquireAsyncHistoryJobBatchesRunnable(acquireRunnableThreadName, this, jobEntityManager);
+        }
+        super.initializeRunnables();
+    }
+
+    /**
+     * Executes the given history jobs together. Returns false when the executor has no room for them, in which case the jobs are unacquired.
+     * A batch is never kept in the local backlog.
+     */
+    public boolean executeAsyncHistoryJobBatch(final List<JobInfoEntity> jobs) {
+        Runnable runnable = new ExecuteAsyncHistoryJobBatchRunnable(jobs, processEngineConfiguration, jobEntityManager, asyncRunnableExecutionExceptionHandler);
+        if (asyncJobAcquisitionController != null) {
+            runnable = new TimedJobRunnable(runnable, asyncJobAcquisitionController);
+        }
+
+        try {
+            executorService.execute(localBacklog != null ? new BacklogDrainingRunnable(runnable) : runnable);
+            return true;
+
+        } catch (RejectedExecutionException e) {
+            processEngineConfiguration.getCommandExecutor().execute(new Command<Void>() {
+
+                @Override
+                public Void execute(CommandContext commandContext) {
+                    for (JobInfoEntity job : jobs) {
+                        commandContext.getJobManager().unacquire(job);
+                    }
+                    return null;
+                }
+            });
+            return false;
+        }
+    }
+
+    public int getHistoryJobBatchSize() {
+        return historyJobBatchSize;
+    }
+
+    public void setHistoryJobBatchSize(int historyJobBatchSize) {
+        this.historyJobBatchSize = historyJobBatchSize;
+    }
+
 }
@@ -0,0 +1,75 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.history.async;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.flowable.engine.impl.asyncexecutor.AsyncRunnableExecutionExceptionHandler;
+import org.flowable.engine.impl.asyncexecutor.ExecuteAsyncRunnable;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.cmd.ExecuteHistoryJobBatchCmd;
+import org.flowable.engine.impl.persistence.entity.JobInfoEntity;
+import org.flowable.engine.impl.persistence.entity.JobInfoEntityManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Executes a batch of history jobs in one transaction with {@link ExecuteHistoryJobBatchCmd}. When that fails, the jobs are executed again one by one, each in
+ * its own transaction, so that only the jobs that fail by themselves are retried or unacquired.
+ */
+public class ExecuteAsyncHistoryJobBatchRunnable implements Runnable {
+
+    private static Logger log = LoggerFactory.getLogger(ExecuteAsyncHistoryJobBatchRunnable.class);
+
+    protected List<JobInfoEntity> jobs;
+    protected ProcessEngineConfigurationImpl processEngineConfiguration;
+    protected JobInfoEntityManager<? extends JobInfoEntity> jobEntityManager;
+    protected AsyncRunnableExecutionExceptionHandler asyncRunnableExecutionExceptionHandler;
+
+    public ExecuteAsyncHistoryJobBatchRunnable(List<JobInfoEntity> jobs, ProcessEngineConfigurationImpl processEngineConfiguration,
+            JobInfoEntityManager<? extends JobInfoEntity> jobEntityManager,
+            AsyncRunnableExecutionExceptionHandler asyncRunnableExecutionExceptionHandler) {
+        this.jobs = jobs;
+        this.processEngineConfiguration = processEngineConfiguration;
+        this.jobEntityManager = jobEntityManager;
+        this.asyncRunnableExecutionExceptionHandler = asyncRunnableExecutionExceptionHandler;
+    }
+
+    @Override
+    public void run() {
+        List<String> jobIds = new ArrayList<String>(jobs.size());
+        for (JobInfoEntity job : jobs) {
+            jobIds.add(job.getId());
+        }
+
+        try {
+            processEngineConfiguration.getCommandExecutor().execute(new ExecuteHistoryJobBatchCmd(jobIds));
+            return;
+
+        } catch (Throwable e) {
+            if (log.isDebugEnabled()) {
+                log.debug("Batch of {} history jobs failed, executing them one by one. Exception message: {}", jobs.size(), e.getMessage());
+            }
+        }
+
+        for (JobInfoEntity job : jobs) {
+            new ExecuteAsyncRunnable(job, processEngineConfiguration, jobEntityManager, asyncRunnableExecutionExceptionHandler).run();
+        }
+    }
+
+    public List<JobInfoEntity> getJobs() {
+        return jobs;
+    }
+
+}
@@ -0,0 +1,30 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.history.async;
+
+import org.flowable.engine.impl.interceptor.CommandContext;
+
+/**
+ * An {@link AsyncHistoryListener} that writes the history outside of the transaction of the engine and therefore needs to know when that transaction has
+ * committed. When the transaction is rolled back, {@link #historyDataCommitted(CommandContext)} isn't called.
+ */
+public interface TransactionDependentAsyncHistoryListener extends AsyncHistoryListener {
+
+    /**
+     * Called with the command context in which {@link #historyDataGenerated(java.util.List)} was called, from a {@link org.flowable.engine.common.impl.cfg.TransactionState#COMMITTED}
+     * transaction listener, so also after an externally managed transaction (Spring, JTA) has committed. The transaction has committed already, so
+     * exceptions are not handed to the caller of the command and should be handled by the listener.
+     */
+    void historyDataCommitted(CommandContext commandContext);
+
+}
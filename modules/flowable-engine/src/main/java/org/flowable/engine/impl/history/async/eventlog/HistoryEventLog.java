@@ -0,0 +1,275 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.history.async.eventlog;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.CRC32;
+
+import org.flowable.engine.common.api.FlowableException;
+import org.flowable.engine.common.api.FlowableIllegalArgumentException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * An append-only log of history events on the local file system, written instead of history jobs by the {@link HistoryEventLogAsyncHistoryListener} and read
+ * with a {@link HistoryEventLogReader}.
+ *
+ * The log is a directory of segment files, named after the position of their first byte. The last segment is memory-mapped and records are appended to it
+ * until the next record doesn't fit, after which a new segment is started. A record is the length of its data, a CRC32 checksum of the data and the data
+ * itself. A length of zero marks the end of the written records of a segment (the unwritten part of a mapped file is zeros). The length is written last, so
+ * a reader never sees a record that is only partly written, and a record that was torn by a crash is detected by its checksum and overwritten when the log
+ * is opened again.
+ *
+ * Appending doesn't force the data to disk unless {@link #setForceOnAppend(boolean) force on append} is enabled: the operating system writes the mapped
+ * pages back, which survives a crash of the JVM but not of the machine. Segments are forced when a new one is started and when the log is closed.
+ */
+public class HistoryEventLog {
+
+    private static final Logger logger = LoggerFactory.getLogger(HistoryEventLog.class);
+
+    public static final String SEGMENT_FILE_SUFFIX = ".log";
+
+    public static final int DEFAULT_SEGMENT_SIZE = 64 * 1024 * 1024;
+
+    /** Length and checksum of a record. */
+    public static final int RECORD_HEADER_SIZE = 8;
+
+    protected final File directory;
+    protected final int segmentSize;
+    protected boolean forceOnAppend;
+
+    protected long segmentPosition;
+    protected MappedByteBuffer segment;
+    protected boolean closed;
+
+    public HistoryEventLog(File directory) {
+        this(directory, DEFAULT_SEGMENT_SIZE);
+    }
+
+    public HistoryEventLog(File directory, int segmentSize) {
+        if (segmentSize <= RECORD_HEADER_SIZE) {
+            throw new FlowableIllegalArgumentException("The segment size of the history event log must be larger than " + RECORD_HEADER_SIZE + " bytes");
+        }
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        open();
+    }
+
+    protected void open() {
+        if (!directory.isDirectory() && !directory.mkdirs()) {
+            throw new FlowableException("Could not create history event log directory " + directory);
+        }
+
+        long[] segmentPositions = getSegmentPositions(directory);
+        if (segmentPositions.length == 0) {
+            openSegment(0L, segmentSize);
+            return;
+        }
+
+        long lastSegmentPosition = segmentPositions[segmentPositions.length - 1];
+        // A segment that is smaller than the segment size was created but never mapped
+        openSegment(lastSegmentPosition, (int) Math.max(segmentSize, getSegmentFile(directory, lastSegmentPosition).length()));
+        recover();
+    }
+
+    /**
+     * Moves the write position of the last segment behind its last complete record and clears what follows, which is only not zeros after a crash.
+     */
+    protected void recover() {
+        int position = 0;
+        while (true) {
+            int recordSize = getRecordSize(segment, position);
+            if (recordSize < 0) {
+                break;
+            }
+            position += recordSize;
+        }
+
+        if (position + 4 <= segment.capacity() && segment.getInt(position) != 0) {
+            logger.warn("Clearing incomplete history event log record at position {} of segment {}", position, segmentPosition);
+            for (int i = position; i < segment.capacity(); i++) {
+                segment.put(i, (byte) 0);
+            }
+            segment.force();
+        }
+        segment.position(position);
+    }
+
+    /**
+     * Appends the given data as one record and returns its position. The record is complete for readers when this method returns.
+     */
+    public synchronized long append(byte[] data) {
+        if (closed) {
+            throw new FlowableException("History event log " + directory + " is closed");
+        }
+        if (data.length == 0) {
+            throw new FlowableIllegalArgumentException("Cannot append an empty history event log record");
+        }
+
+        int recordSize = RECORD_HEADER_SIZE + data.length;
+        if (segment.remaining() < recordSize) {
+            startNewSegment(recordSize);
+        }
+
+        int offset = segment.position();
+        segment.position(offset + 4);
+        segment.putInt(checksum(data, 0, data.length));
+        segment.put(data);
+        segment.putInt(offset, data.length);
+        if (forceOnAppend) {
+            segment.force();
+        }
+        return segmentPosition + offset;
+    }
+
+    protected void startNewSegment(int recordSize) {
+        segment.force();
+        long newSegmentPosition = segmentPosition + segment.capacity();
+        if (logger.isDebugEnabled()) {
+            logger.debug("Starting history event log segment {} in {}", newSegmentPosition, directory);
+        }
+        // A record larger than the segment size gets a segment of its own
+        openSegment(newSegmentPosition, Math.max(segmentSize, recordSize));
+    }
+
+    protected void openSegment(long position, int size) {
+        File file = getSegmentFile(directory, position);
+        try (RandomAccessFile randomAccessFile = new RandomAccessFile(file, "rw")) {
+            // The mapping stays valid when the file is closed
+            segment = randomAccessFile.getChannel().map(FileChannel.MapMode.READ_WRITE, 0, size);
+            segmentPosition = position;
+        } catch (IOException e) {
+            throw new FlowableException("Could not open history event log segment " + file, e);
+        }
+    }
+
+    /**
+     * Deletes the segments of which all records are before the given position, for example once they have been replayed. The segment that is written to is
+     * never deleted.
+     *
+     * @return the number of deleted segments
+     */
+    public synchronized int deleteSegmentsBefore(long position) {
+        long[] segmentPositions = getSegmentPositions(directory);
+        int deleted = 0;
+        for (int i = 0; i < segmentPositions.length - 1; i++) {
+            if (segmentPositions[i + 1] <= position && segmentPositions[i] != segmentPosition) {
+                File file = getSegmentFile(directory, segmentPositions[i]);
+                if (file.delete()) {
+                    deleted++;
+                } else {
+                    logger.warn("Could not delete history event log segment {}", file);
+                }
+            }
+        }
+        return deleted;
+    }
+
+    /**
+     * The position at which the next record will be appended.
+     */
+    public synchronized long getEndPosition() {
+        return segmentPosition + segment.position();
+    }
+
+    public synchronized void close() {
+        if (!closed) {
+            segment.force();
+            closed = true;
+        }
+    }
+
+    /**
+     * Returns the size of the record at the given offset of the segment, or -1 when there is no complete record at that offset.
+     */
+    protected static int getRecordSize(ByteBuffer segment, int offset) {
+        if (offset + RECORD_HEADER_SIZE > segment.limit()) {
+            return -1;
+        }
+        int length = segment.getInt(offset);
+        if (length <= 0 || length > segment.limit() - offset - RECORD_HEADER_SIZE) {
+            return -1;
+        }
+
+        byte[] data = new byte[length];
+        ByteBuffer view = segment.duplicate();
+        view.position(offset + RECORD_HEADER_SIZE);
+        view.get(data);
+        if (checksum(data, 0, length) != segment.getInt(offset + 4)) {
+            return -1;
+        }
+        return RECORD_HEADER_SIZE + length;
+    }
+
+    protected static int checksum(byte[] data, int offset, int length) {
+        CRC32 crc = new CRC32();
+        crc.update(data, offset, length);
+        return (int) crc.getValue();
+    }
+
+    protected static File getSegmentFile(File directory, long position) {
+        return new File(directory, String.format("%020d", position) + SEGMENT_FILE_SUFFIX);
+    }
+
+    /**
+     * Returns the positions of the segments in the given directory, in ascending order.
+     */
+    protected static long[] getSegmentPositions(File directory) {
+        File[] files = directory.listFiles();
+        List<Long> positions = new ArrayList<Long>();
+        if (files != null) {
+            for (File file : files) {
+                String name = file.getName();
+                if (file.isFile() && name.endsWith(SEGMENT_FILE_SUFFIX)) {
+                    try {
+                        positions.add(Long.parseLong(name.substring(0, name.length() - SEGMENT_FILE_SUFFIX.length())));
+                    } catch (NumberFormatException e) {
+                        // not a segment
+                    }
+                }
+            }
+        }
+
+        long[] result = new long[positions.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = positions.get(i);
+        }
+        Arrays.sort(result);
+        return result;
+    }
+
+    public File getDirectory() {
+        return directory;
+    }
+
+    public int getSegmentSize() {
+        return segmentSize;
+    }
+
+    public boolean isForceOnAppend() {
+        return forceOnAppend;
+    }
+
+    public void setForceOnAppend(boolean forceOnAppend) {
+        this.forceOnAppend = forceOnAppend;
+    }
+
+}
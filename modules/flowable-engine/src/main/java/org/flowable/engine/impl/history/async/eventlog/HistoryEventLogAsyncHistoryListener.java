@@ -0,0 +1,97 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.history.async.eventlog;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.flowable.engine.common.api.FlowableException;
+import org.flowable.engine.impl.context.Context;
+import org.flowable.engine.impl.history.async.TransactionDependentAsyncHistoryListener;
+import org.flowable.engine.impl.interceptor.CommandContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Appends the history of a transaction to a {@link HistoryEventLog} instead of storing it in history jobs, so that history causes no writes to the database
+ * of the engine. The history is appended as one record once the transaction has committed, the history of a transaction that is rolled back isn't written.
+ * The log can be replayed into the history tables with the {@link org.flowable.engine.impl.cmd.ReplayHistoryEventLogCmd} or read by other consumers with a
+ * {@link HistoryEventLogReader}.
+ *
+ * A record that can't be appended, e.g. because the disk is full, doesn't fail the command as its transaction has committed already. It is logged as an
+ * error instead, with the history json, which isn't in the log then.
+ */
+public class HistoryEventLogAsyncHistoryListener implements TransactionDependentAsyncHistoryListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(HistoryEventLogAsyncHistoryListener.class);
+
+    protected static final String PENDING_RECORDS_ATTRIBUTE = HistoryEventLogAsyncHistoryListener.class.getName() + ".pendingRecords";
+
+    protected HistoryEventLog historyEventLog;
+
+    public HistoryEventLogAsyncHistoryListener(HistoryEventLog historyEventLog) {
+        this.historyEventLog = historyEventLog;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void historyDataGenerated(List<ObjectNode> historyObjectNodes) {
+        CommandContext commandContext = Context.getCommandContext();
+        ArrayNode arrayNode = commandContext.getProcessEngineConfiguration().getObjectMapper().createArrayNode();
+        for (ObjectNode historyJsonNode : historyObjectNodes) {
+            arrayNode.add(historyJsonNode);
+        }
+
+        List<byte[]> pendingRecords = (List<byte[]>) commandContext.getAttribute(PENDING_RECORDS_ATTRIBUTE);
+        if (pendingRecords == null) {
+            pendingRecords = new ArrayList<byte[]>(1);
+            commandContext.addAttribute(PENDING_RECORDS_ATTRIBUTE, pendingRecords);
+        }
+        try {
+            pendingRecords.add(commandContext.getProcessEngineConfiguration().getObjectMapper().writeValueAsBytes(arrayNode));
+        } catch (JsonProcessingException e) {
+            throw new FlowableException("Could not serialize historic data for the history event log", e);
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void historyDataCommitted(CommandContext commandContext) {
+        List<byte[]> pendingRecords = (List<byte[]>) commandContext.getAttribute(PENDING_RECORDS_ATTRIBUTE);
+        if (pendingRecords != null) {
+            for (byte[] record : pendingRecords) {
+                try {
+                    historyEventLog.append(record);
+                } catch (RuntimeException e) {
+                    logger.error("Could not append history to the history event log {}, history not logged: {}",
+                            historyEventLog.getDirectory(), new String(record, StandardCharsets.UTF_8), e);
+                }
+            }
+            pendingRecords.clear();
+        }
+    }
+
+    public HistoryEventLog getHistoryEventLog() {
+        return historyEventLog;
+    }
+
+    public void setHistoryEventLog(HistoryEventLog historyEventLog) {
+        this.historyEventLog = historyEventLog;
+    }
+
+}
@@ -0,0 +1,128 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.history.async.eventlog;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.flowable.engine.common.api.FlowableException;
+
+/**
+ * Reads the records of a {@link HistoryEventLog} directory, also while it is written to (by this or another process). The reader keeps no state: the caller
+ * keeps the position to continue from, the {@link HistoryEventLogRecord#getNextPosition() next position} of the last record it handled.
+ */
+public class HistoryEventLogReader {
+
+    protected final File directory;
+
+    public HistoryEventLogReader(File directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * Returns at most the given number of complete records, starting at the given position. Starting at a position of a segment that was deleted starts at
+     * the first segment that is left.
+     */
+    public List<HistoryEventLogRecord> read(long fromPosition, int maxRecords) {
+        List<HistoryEventLogRecord> records = new ArrayList<HistoryEventLogRecord>();
+        long[] segmentPositions = HistoryEventLog.getSegmentPositions(directory);
+        int segmentIndex = findSegment(segmentPositions, fromPosition);
+        if (segmentIndex < 0) {
+            return records;
+        }
+
+        long position = Math.max(fromPosition, segmentPositions[segmentIndex]);
+        while (records.size() < maxRecords && segmentIndex < segmentPositions.length) {
+            long segmentPosition = segmentPositions[segmentIndex];
+            File file = HistoryEventLog.getSegmentFile(directory, segmentPosition);
+            try (RandomAccessFile randomAccessFile = new RandomAccessFile(file, "r")) {
+                FileChannel channel = randomAccessFile.getChannel();
+                HistoryEventLogRecord record = readRecord(channel, segmentPosition, position);
+                while (record != null) {
+                    records.add(record);
+                    position = record.getNextPosition();
+                    if (records.size() == maxRecords) {
+                        return records;
+                    }
+                    record = readRecord(channel, segmentPosition, position);
+                }
+
+            } catch (IOException e) {
+                throw new FlowableException("Could not read history event log segment " + file, e);
+            }
+
+            // The end of the records of a segment that isn't the last one is the end of the segment
+            segmentIndex++;
+            if (segmentIndex < segmentPositions.length) {
+                position = segmentPositions[segmentIndex];
+            }
+        }
+        return records;
+    }
+
+    protected int findSegment(long[] segmentPositions, long position) {
+        if (segmentPositions.length == 0) {
+            return -1;
+        }
+        int index = 0;
+        for (int i = 0; i < segmentPositions.length; i++) {
+            if (segmentPositions[i] <= position) {
+                index = i;
+            }
+        }
+        return index;
+    }
+
+    /**
+     * Returns the record at the given position, or null when there is no complete record there.
+     */
+    protected HistoryEventLogRecord readRecord(FileChannel channel, long segmentPosition, long position) throws IOException {
+        long offset = position - segmentPosition;
+        if (offset + HistoryEventLog.RECORD_HEADER_SIZE > channel.size()) {
+            return null;
+        }
+
+        ByteBuffer header = ByteBuffer.allocate(HistoryEventLog.RECORD_HEADER_SIZE);
+        readFully(channel, header, offset);
+        int length = header.getInt(0);
+        if (length <= 0 || length > channel.size() - offset - HistoryEventLog.RECORD_HEADER_SIZE) {
+            return null;
+        }
+
+        ByteBuffer data = ByteBuffer.allocate(length);
+        readFully(channel, data, offset + HistoryEventLog.RECORD_HEADER_SIZE);
+        if (HistoryEventLog.checksum(data.array(), 0, length) != header.getInt(4)) {
+            // Torn by a crash, or still being written
+            return null;
+        }
+        return new HistoryEventLogRecord(position, data.array());
+    }
+
+    protected void readFully(FileChannel channel, ByteBuffer buffer, long offset) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, offset + buffer.position()) < 0) {
+                throw new IOException("Unexpected end of history event log segment");
+            }
+        }
+    }
+
+    public File getDirectory() {
+        return directory;
+    }
+
+}
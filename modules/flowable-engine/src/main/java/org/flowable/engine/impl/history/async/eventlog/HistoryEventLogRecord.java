@@ -0,0 +1,44 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.history.async.eventlog;
+
+/**
+ * A record read from a {@link HistoryEventLog}. The records written by the {@link HistoryEventLogAsyncHistoryListener} are a json array with the history
+ * of one transaction.
+ */
+public class HistoryEventLogRecord {
+
+    protected final long position;
+    protected final byte[] data;
+
+    public HistoryEventLogRecord(long position, byte[] data) {
+        this.position = position;
+        this.data = data;
+    }
+
+    public long getPosition() {
+        return position;
+    }
+
+    /**
+     * The position to continue reading from after this record.
+     */
+    public long getNextPosition() {
+        return position + HistoryEventLog.RECORD_HEADER_SIZE + data.length;
+    }
+
+    public byte[] getData() {
+        return data;
+    }
+
+}
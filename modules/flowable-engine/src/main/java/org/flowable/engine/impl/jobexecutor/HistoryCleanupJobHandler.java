@@ -0,0 +1,124 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.jobexecutor;
+
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.flowable.engine.common.impl.interceptor.CommandConfig;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.cmd.DeleteHistoricProcessInstancesEndedBeforeCmd;
+import org.flowable.engine.impl.interceptor.CommandContext;
+import org.flowable.engine.impl.interceptor.CommandExecutor;
+import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
+import org.flowable.engine.impl.persistence.entity.JobEntity;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Handler of the repeating timer job that deletes the history of the process instances that ended more than
+ * {@link ProcessEngineConfigurationImpl#getHistoryCleanupTimeToLiveInDays()} days ago.
+ *
+ * The history is deleted in batches of {@link ProcessEngineConfigurationImpl#getHistoryCleanupBatchSize()} process instances, each in a transaction of
+ * its own, see {@link DeleteHistoricProcessInstancesEndedBeforeCmd}. A run stops when there's no more history to delete, or when it has taken longer than
+ * {@link ProcessEngineConfigurationImpl#getHistoryCleanupTimeBudgetInMillis()}, in which case the next run continues where it stopped.
+ */
+public class HistoryCleanupJobHandler implements JobHandler {
+
+    private static Logger log = LoggerFactory.getLogger(HistoryCleanupJobHandler.class);
+
+    public static final String TYPE = "history-cleanup";
+
+    protected final AtomicLong runCount = new AtomicLong();
+    protected final AtomicLong deletedProcessInstanceCount = new AtomicLong();
+    protected final AtomicLong timeBudgetExceededCount = new AtomicLong();
+    protected volatile int lastRunDeletedProcessInstanceCount;
+    protected volatile long lastRunDurationInMillis;
+    protected volatile Date lastRunTime;
+
+    public String getType() {
+        return TYPE;
+    }
+
+    public void execute(JobEntity job, String configuration, ExecutionEntity execution, CommandContext commandContext) {
+        ProcessEngineConfigurationImpl processEngineConfiguration = commandContext.getProcessEngineConfiguration();
+        if (!processEngineConfiguration.isEnableHistoryCleanup() || !commandContext.getHistoryManager().isHistoryEnabled()) {
+            return;
+        }
+
+        lastRunTime = processEngineConfiguration.getClock().getCurrentTime();
+        Date endedBefore = new Date(lastRunTime.getTime() - TimeUnit.DAYS.toMillis(processEngineConfiguration.getHistoryCleanupTimeToLiveInDays()));
+        int batchSize = processEngineConfiguration.getHistoryCleanupBatchSize();
+
+        CommandExecutor commandExecutor = processEngineConfiguration.getCommandExecutor();
+        CommandConfig commandConfig = commandExecutor.getDefaultConfig().transactionRequiresNew();
+
+        long startTime = System.nanoTime();
+        long deadline = startTime + TimeUnit.MILLISECONDS.toNanos(processEngineConfiguration.getHistoryCleanupTimeBudgetInMillis());
+        int deletedInRun = 0;
+        boolean timeBudgetExceeded = false;
+        try {
+            while (true) {
+                int deletedInBatch = commandExecutor.execute(commandConfig, new DeleteHistoricProcessInstancesEndedBeforeCmd(endedBefore, batchSize));
+                deletedInRun += deletedInBatch;
+                deletedProcessInstanceCount.addAndGet(deletedInBatch);
+                if (deletedInBatch < batchSize) {
+                    break;
+                }
+                if (System.nanoTime() - deadline >= 0) {
+                    timeBudgetExceeded = true;
+                    timeBudgetExceededCount.incrementAndGet();
+                    break;
+                }
+            }
+
+        } finally {
+            runCount.incrementAndGet();
+            lastRunDeletedProcessInstanceCount = deletedInRun;
+            lastRunDurationInMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+        }
+
+        if (timeBudgetExceeded) {
+            log.info("Deleted the history of {} process instances ended before {} in {} ms, the rest is deleted by the next run", deletedInRun, endedBefore,
+                    lastRunDurationInMillis);
+        } else if (log.isDebugEnabled()) {
+            log.debug("Deleted the history of {} process instances ended before {} in {} ms", deletedInRun, endedBefore, lastRunDurationInMillis);
+        }
+    }
+
+    public long getRunCount() {
+        return runCount.get();
+    }
+
+    public long getDeletedProcessInstanceCount() {
+        return deletedProcessInstanceCount.get();
+    }
+
+    public long getTimeBudgetExceededCount() {
+        return timeBudgetExceededCount.get();
+    }
+
+    public int getLastRunDeletedProcessInstanceCount() {
+        return lastRunDeletedProcessInstanceCount;
+    }
+
+    public long getLastRunDurationInMillis() {
+        return lastRunDurationInMillis;
+    }
+
+    public Date getLastRunTime() {
+        return lastRunTime;
+    }
+
+}
@@ -1,9 +1,9 @@
 /* Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
  * You may obtain a copy of the License at
- * 
+ *
  *      http://www.apache.org/licenses/LICENSE-2.0
- * 
+ *
  * Unless required by applicable law or agreed to in writing, software
  * distributed under the License is distributed on an "AS IS" BASIS,
  * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
@@ -15,6 +15,7 @@ package org.flowable.engine.impl.persistence.cache;
 import java.util.HashMap;
 
 import org.flowable.engine.common.impl.persistence.entity.Entity;
+import org.flowable.engine.impl.persistence.entity.ChangeTrackingEntity;
 
 /**
  * @author Joram Barrez
@@ -32,9 +33,21 @@ public class CachedEntity {
      */
     protected Object originalPersistentState;
 
+    /**
+     * Set instead of the {@link #originalPersistentState} when the entity tracks its own changes.
+     */
+    protected ChangeTrackingEntity changeTrackingEntity;
+
     public CachedEntity(Entity entity, boolean storeState) {
+        this(entity, storeState, false);
+    }
+
+    public CachedEntity(Entity entity, boolean storeState, boolean trackChanges) {
         this.entity = entity;
-        if (storeState) {
+        if (storeState && trackChanges && entity instanceof ChangeTrackingEntity) {
+            this.changeTrackingEntity = (ChangeTrackingEntity) entity;
+            changeTrackingEntity.startChangeTracking();
+        } else if (storeState) {
             this.originalPersistentState = entity.getPersistentState();
             entity.setOriginalPersistentState(originalPersistentState);
         } else if (entity.getOriginalPersistentState() == null){
@@ -51,6 +64,9 @@ public class CachedEntity {
     }
 
     public Object getOriginalPersistentState() {
+        if (changeTrackingEntity != null) {
+            return changeTrackingEntity.getOriginalPersistentState();
+        }
         return originalPersistentState;
     }
 
@@ -59,7 +75,15 @@ public class CachedEntity {
     }
 
     public boolean hasChanged() {
-        return entity.getPersistentState() != null && !entity.getPersistentState().equals(originalPersistentState);
+        Object original = originalPersistentState;
+        if (changeTrackingEntity != null) {
+            if (!changeTrackingEntity.isChanged()) {
+                return false;
+            }
+            original = changeTrackingEntity.getOriginalPersistentState();
+        }
+        Object persistentState = entity.getPersistentState();
+        return persistentState != null && !persistentState.equals(original);
     }
 
-}
\ No newline at end of file
+}
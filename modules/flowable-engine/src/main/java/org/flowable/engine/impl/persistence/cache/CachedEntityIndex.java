@@ -0,0 +1,30 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.persistence.cache;
+
+import org.flowable.engine.common.impl.persistence.entity.Entity;
+
+/**
+ * A secondary index on the {@link Entity} instances of one type in the {@link EntityCache}, see {@link EntityCache#findInCacheByIndex(Class, CachedEntityIndex, String)}.
+ *
+ * The value of a cached entity is taken when it is put in the cache. When the value can change while the entity is cached, the entity needs to call {@link EntityCache#updateIndexes(Entity)}
+ * when it does.
+ */
+public interface CachedEntityIndex<EntityImpl extends Entity> {
+
+    /**
+     * Returns the value under which the entity is indexed, or null if the entity shouldn't be indexed.
+     */
+    String getIndexValue(EntityImpl entity);
+
+}
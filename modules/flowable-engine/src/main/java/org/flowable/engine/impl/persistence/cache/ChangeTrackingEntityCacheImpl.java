@@ -0,0 +1,32 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.persistence.cache;
+
+import org.flowable.engine.common.impl.persistence.entity.Entity;
+import org.flowable.engine.impl.persistence.entity.ChangeTrackingEntity;
+
+/**
+ * An {@link EntityCache} that lets the {@link ChangeTrackingEntity} instances loaded from the database track their own changes,
+ * instead of storing their persistent state when they are put in the cache. Entities that are only read are then skipped when
+ * determining the updated entities at flush time.
+ *
+ * Used when {@link org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl#setEnableEntityChangeTracking(boolean)} is enabled.
+ */
+public class ChangeTrackingEntityCacheImpl extends EntityCacheImpl {
+
+    @Override
+    protected CachedEntity createCachedEntity(Entity entity, boolean storeState) {
+        return new CachedEntity(entity, storeState, true);
+    }
+
+}
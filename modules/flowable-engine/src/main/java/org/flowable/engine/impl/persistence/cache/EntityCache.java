@@ -59,6 +59,18 @@ public interface EntityCache extends Session {
      */
     <T> Collection<CachedEntity> findInCacheAsCachedObjects(Class<T> entityClass);
 
+    /**
+     * Returns the {@link CachedEntity} instances of the given type (not including subtypes) for which the given index has the given value. Returns an empty collection if no such instances exist.
+     * 
+     * The index is built when it is used for the first time for the type, and kept up to date afterwards.
+     */
+    <T extends Entity> Collection<CachedEntity> findInCacheByIndex(Class<T> entityClass, CachedEntityIndex<? super T> index, String indexValue);
+
+    /**
+     * Updates the indexes of the given {@link Entity}, when it is cached. Needs to be called when an indexed value of a cached entity changes.
+     */
+    void updateIndexes(Entity entity);
+
     /**
      * Removes the {@link Entity} of the given type with the given id from the cache.
      */
@@ -28,6 +28,11 @@ public class EntityCacheImpl implements EntityCache {
 
     protected Map<Class<?>, Map<String, CachedEntity>> cachedObjects = new HashMap<Class<?>, Map<String, CachedEntity>>();
 
+    /**
+     * The secondary indexes that have been built, per entity type.
+     */
+    protected Map<Class<?>, Map<CachedEntityIndex<?>, IndexedCachedEntities>> cachedObjectIndexes = new HashMap<Class<?>, Map<CachedEntityIndex<?>, IndexedCachedEntities>>();
+
     @Override
     public CachedEntity put(Entity entity, boolean storeState) {
         Map<String, CachedEntity> classCache = cachedObjects.get(entity.getClass());
@@ -35,11 +40,22 @@ public class EntityCacheImpl implements EntityCache {
             classCache = new HashMap<String, CachedEntity>();
             cachedObjects.put(entity.getClass(), classCache);
         }
-        CachedEntity cachedObject = new CachedEntity(entity, storeState);
+        CachedEntity cachedObject = createCachedEntity(entity, storeState);
         classCache.put(entity.getId(), cachedObject);
+
+        Map<CachedEntityIndex<?>, IndexedCachedEntities> classIndexes = cachedObjectIndexes.get(entity.getClass());
+        if (classIndexes != null) {
+            for (IndexedCachedEntities indexedCachedEntities : classIndexes.values()) {
+                indexedCachedEntities.add(cachedObject);
+            }
+        }
         return cachedObject;
     }
 
+    protected CachedEntity createCachedEntity(Entity entity, boolean storeState) {
+        return new CachedEntity(entity, storeState);
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public <T> T findInCache(Class<T> entityClass, String id) {
@@ -77,6 +93,54 @@ public class EntityCacheImpl implements EntityCache {
             return;
         }
         classCache.remove(entityId);
+
+        Map<CachedEntityIndex<?>, IndexedCachedEntities> classIndexes = cachedObjectIndexes.get(entityClass);
+        if (classIndexes != null) {
+            for (IndexedCachedEntities indexedCachedEntities : classIndexes.values()) {
+                indexedCachedEntities.remove(entityId);
+            }
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T extends Entity> Collection<CachedEntity> findInCacheByIndex(Class<T> entityClass, CachedEntityIndex<? super T> index, String indexValue) {
+        Map<String, CachedEntity> classCache = cachedObjects.get(entityClass);
+        if (classCache == null) {
+            return Collections.emptyList();
+        }
+
+        Map<CachedEntityIndex<?>, IndexedCachedEntities> classIndexes = cachedObjectIndexes.get(entityClass);
+        if (classIndexes == null) {
+            classIndexes = new HashMap<CachedEntityIndex<?>, IndexedCachedEntities>(4);
+            cachedObjectIndexes.put(entityClass, classIndexes);
+        }
+
+        IndexedCachedEntities indexedCachedEntities = classIndexes.get(index);
+        if (indexedCachedEntities == null) {
+            indexedCachedEntities = new IndexedCachedEntities((CachedEntityIndex<Entity>) index);
+            for (CachedEntity cachedObject : classCache.values()) {
+                indexedCachedEntities.add(cachedObject);
+            }
+            classIndexes.put(index, indexedCachedEntities);
+        }
+
+        return indexedCachedEntities.get(indexValue);
+    }
+
+    @Override
+    public void updateIndexes(Entity entity) {
+        Map<CachedEntityIndex<?>, IndexedCachedEntities> classIndexes = cachedObjectIndexes.get(entity.getClass());
+        if (classIndexes == null) {
+            return;
+        }
+
+        CachedEntity cachedObject = cachedObjects.get(entity.getClass()).get(entity.getId());
+        if (cachedObject != null && cachedObject.getEntity() == entity) {
+            for (IndexedCachedEntities indexedCachedEntities : classIndexes.values()) {
+                indexedCachedEntities.add(cachedObject);
+            }
+        }
     }
 
     @Override
@@ -113,6 +177,55 @@ public class EntityCacheImpl implements EntityCache {
         return cachedObjects;
     }
 
+    /**
+     * The cached entities of one type, grouped by the value of a {@link CachedEntityIndex}.
+     */
+    protected static class IndexedCachedEntities {
+
+        protected CachedEntityIndex<Entity> index;
+        protected Map<String, Map<String, CachedEntity>> cachedEntitiesByValue = new HashMap<String, Map<String, CachedEntity>>();
+        protected Map<String, String> valuesById = new HashMap<String, String>();
+
+        public IndexedCachedEntities(CachedEntityIndex<Entity> index) {
+            this.index = index;
+        }
+
+        public void add(CachedEntity cachedEntity) {
+            Entity entity = cachedEntity.getEntity();
+            remove(entity.getId());
+
+            String value = index.getIndexValue(entity);
+            if (value != null) {
+                Map<String, CachedEntity> cachedEntities = cachedEntitiesByValue.get(value);
+                if (cachedEntities == null) {
+                    cachedEntities = new HashMap<String, CachedEntity>();
+                    cachedEntitiesByValue.put(value, cachedEntities);
+                }
+                cachedEntities.put(entity.getId(), cachedEntity);
+                valuesById.put(entity.getId(), value);
+            }
+        }
+
+        public void remove(String id) {
+            String value = valuesById.remove(id);
+            if (value != null) {
+                Map<String, CachedEntity> cachedEntities = cachedEntitiesByValue.get(value);
+                cachedEntities.remove(id);
+                if (cachedEntities.isEmpty()) {
+                    cachedEntitiesByValue.remove(value);
+                }
+            }
+        }
+
+        public Collection<CachedEntity> get(String value) {
+            Map<String, CachedEntity> cachedEntities = cachedEntitiesByValue.get(value);
+            if (cachedEntities != null) {
+                return cachedEntities.values();
+            }
+            return Collections.emptyList();
+        }
+    }
+
     @Override
     public void close() {
 
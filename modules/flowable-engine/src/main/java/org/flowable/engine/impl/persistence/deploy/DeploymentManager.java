@@ -15,6 +15,8 @@ package org.flowable.engine.impl.persistence.deploy;
 
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import org.flowable.bpmn.model.BpmnModel;
 import org.flowable.engine.app.AppModel;
@@ -22,9 +24,11 @@ import org.flowable.engine.common.api.FlowableException;
 import org.flowable.engine.common.api.FlowableIllegalArgumentException;
 import org.flowable.engine.common.api.FlowableObjectNotFoundException;
 import org.flowable.engine.common.api.delegate.event.FlowableEventDispatcher;
+import org.flowable.engine.common.impl.persistence.deploy.DeploymentCacheStatisticsProvider;
 import org.flowable.engine.delegate.event.FlowableEngineEventType;
 import org.flowable.engine.delegate.event.impl.FlowableEventBuilder;
 import org.flowable.engine.impl.ProcessDefinitionQueryImpl;
+import org.flowable.engine.impl.bpmn.deployer.BpmnDeployer;
 import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
 import org.flowable.engine.impl.context.Context;
 import org.flowable.engine.impl.persistence.entity.DeploymentEntity;
@@ -47,6 +51,9 @@ public class DeploymentManager {
     protected DeploymentCache<Object> knowledgeBaseCache; // Needs to be object to avoid an import to Drools in this core class
     protected List<Deployer> deployers;
 
+    // one lock per process definition that is being loaded, so concurrent cache misses for the same process definition only parse it once
+    protected ConcurrentMap<String, Object> processDefinitionLoadLocks = new ConcurrentHashMap<String, Object>();
+
     protected ProcessEngineConfigurationImpl processEngineConfiguration;
     protected ProcessDefinitionEntityManager processDefinitionEntityManager;
     protected DeploymentEntityManager deploymentEntityManager;
@@ -123,16 +130,74 @@ public class DeploymentManager {
                 return Flowable5Util.getFlowable5CompatibilityHandler().resolveProcessDefinition(processDefinition);
             }
 
-            DeploymentEntity deployment = deploymentEntityManager.findById(deploymentId);
-            deployment.setNew(false);
-            deploy(deployment, null);
-            cachedProcessDefinition = processDefinitionCache.get(processDefinitionId);
+            cachedProcessDefinition = loadProcessDefinition(processDefinition);
+        }
+        return cachedProcessDefinition;
+    }
+
+    /**
+     * Puts the process definition in the cache after a cache miss. When several threads miss the same process definition at the same time, only one of them parses it; the others wait for it and
+     * then use the cached process definition.
+     */
+    protected ProcessDefinitionCacheEntry loadProcessDefinition(ProcessDefinition processDefinition) {
+        String processDefinitionId = processDefinition.getId();
+        String deploymentId = processDefinition.getDeploymentId();
+
+        Object loadLock = new Object();
+        Object existingLoadLock = processDefinitionLoadLocks.putIfAbsent(processDefinitionId, loadLock);
+        if (existingLoadLock != null) {
+            loadLock = existingLoadLock;
+        }
+
+        try {
+            synchronized (loadLock) {
+                ProcessDefinitionCacheEntry cachedProcessDefinition = processDefinitionCache.get(processDefinitionId);
+                if (cachedProcessDefinition != null) {
+                    return cachedProcessDefinition;
+                }
 
-            if (cachedProcessDefinition == null) {
-                throw new FlowableException("deployment '" + deploymentId + "' didn't put process definition '" + processDefinitionId + "' in the cache");
+                long loadStartTime = System.nanoTime();
+                DeploymentEntity deployment = deploymentEntityManager.findById(deploymentId);
+                deployment.setNew(false);
+                if (!deployProcessDefinitionResource(deployment, processDefinition)) {
+                    deploy(deployment, null);
+                }
+                recordCacheLoad(processDefinitionCache, loadStartTime);
+                cachedProcessDefinition = processDefinitionCache.get(processDefinitionId);
+
+                if (cachedProcessDefinition == null) {
+                    throw new FlowableException("deployment '" + deploymentId + "' didn't put process definition '" + processDefinitionId + "' in the cache");
+                }
+                return cachedProcessDefinition;
             }
+
+        } finally {
+            processDefinitionLoadLocks.remove(processDefinitionId, loadLock);
+        }
+    }
+
+    /**
+     * Parses only the BPMN resource of the process definition instead of redeploying the whole deployment. This is only possible when the default {@link BpmnDeployer} is used.
+     *
+     * @return true if the process definitions of the resource were put in the cache
+     */
+    protected boolean deployProcessDefinitionResource(DeploymentEntity deployment, ProcessDefinition processDefinition) {
+        if (!processEngineConfiguration.isEnableSingleResourceProcessDefinitionLoading() || processDefinition.getResourceName() == null) {
+            return false;
+        }
+
+        BpmnDeployer bpmnDeployer = processEngineConfiguration.getBpmnDeployer();
+        if (bpmnDeployer == null || !deployers.contains(bpmnDeployer)) {
+            return false;
+        }
+
+        return bpmnDeployer.deployResource(deployment, processDefinition.getResourceName());
+    }
+
+    protected void recordCacheLoad(Object cache, long loadStartTime) {
+        if (cache instanceof DeploymentCacheStatisticsProvider) {
+            ((DeploymentCacheStatisticsProvider) cache).getStatistics().recordLoad(System.nanoTime() - loadStartTime);
         }
-        return cachedProcessDefinition;
     }
 
     public Object getAppResourceObject(String deploymentId) {
@@ -0,0 +1,32 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.persistence.deploy;
+
+import org.flowable.bpmn.model.FlowElement;
+import org.flowable.engine.common.impl.persistence.deploy.DeploymentCacheWeigher;
+
+/**
+ * Weighs a cached process definition by the number of BPMN elements of its process (including the elements of sub processes), so that a bounded process definition cache holds
+ * fewer large process definitions than small ones.
+ */
+public class ProcessDefinitionCacheEntryWeigher implements DeploymentCacheWeigher<ProcessDefinitionCacheEntry> {
+
+    @Override
+    public int weigh(String id, ProcessDefinitionCacheEntry cacheEntry) {
+        if (cacheEntry == null || cacheEntry.getProcess() == null) {
+            return 1;
+        }
+        return cacheEntry.getProcess().findFlowElementsOfType(FlowElement.class, true).size();
+    }
+
+}
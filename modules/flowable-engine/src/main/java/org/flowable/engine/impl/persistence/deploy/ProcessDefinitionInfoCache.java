@@ -12,20 +12,15 @@
  */
 package org.flowable.engine.impl.persistence.deploy;
 
-import java.util.Collections;
-import java.util.HashMap;
-import java.util.LinkedHashMap;
-import java.util.Map;
-
 import org.flowable.engine.common.api.FlowableException;
+import org.flowable.engine.common.impl.persistence.deploy.ConcurrentDeploymentCacheStore;
+import org.flowable.engine.common.impl.persistence.deploy.DeploymentCacheStatistics;
 import org.flowable.engine.impl.context.Context;
 import org.flowable.engine.impl.interceptor.Command;
 import org.flowable.engine.impl.interceptor.CommandContext;
 import org.flowable.engine.impl.interceptor.CommandExecutor;
 import org.flowable.engine.impl.persistence.entity.ProcessDefinitionInfoEntity;
 import org.flowable.engine.impl.persistence.entity.ProcessDefinitionInfoEntityManager;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ObjectNode;
@@ -37,35 +32,19 @@ import com.fasterxml.jackson.databind.node.ObjectNode;
  */
 public class ProcessDefinitionInfoCache {
 
-    private static final Logger logger = LoggerFactory.getLogger(ProcessDefinitionInfoCache.class);
-
-    protected Map<String, ProcessDefinitionInfoCacheObject> cache;
+    protected ConcurrentDeploymentCacheStore<ProcessDefinitionInfoCacheObject> cache;
     protected CommandExecutor commandExecutor;
 
     /** Cache with no limit */
     public ProcessDefinitionInfoCache(CommandExecutor commandExecutor) {
         this.commandExecutor = commandExecutor;
-        this.cache = Collections.synchronizedMap(new HashMap<String, ProcessDefinitionInfoCacheObject>());
+        this.cache = new ConcurrentDeploymentCacheStore<ProcessDefinitionInfoCacheObject>();
     }
 
     /** Cache which has a hard limit: no more elements will be cached than the limit. */
     public ProcessDefinitionInfoCache(CommandExecutor commandExecutor, final int limit) {
         this.commandExecutor = commandExecutor;
-        this.cache = Collections.synchronizedMap(new LinkedHashMap<String, ProcessDefinitionInfoCacheObject>(limit + 1, 0.75f, true) {
-            // +1 is needed, because the entry is inserted first, before it is removed
-            // 0.75 is the default (see javadocs)
-            // true will keep the 'access-order', which is needed to have a real LRU cache
-            private static final long serialVersionUID = 1L;
-
-            protected boolean removeEldestEntry(Map.Entry<String, ProcessDefinitionInfoCacheObject> eldest) {
-                boolean removeEldest = size() > limit;
-                if (removeEldest) {
-                    logger.trace("Cache limit is reached, {} will be evicted", eldest.getKey());
-                }
-                return removeEldest;
-            }
-
-        });
+        this.cache = new ConcurrentDeploymentCacheStore<ProcessDefinitionInfoCacheObject>(limit, null);
     }
 
     public ProcessDefinitionInfoCacheObject get(final String processDefinitionId) {
@@ -99,6 +78,10 @@ public class ProcessDefinitionInfoCache {
         cache.clear();
     }
 
+    public DeploymentCacheStatistics getStatistics() {
+        return cache.getStatistics();
+    }
+
     // For testing purposes only
     public int size() {
         return cache.size();
@@ -108,10 +91,8 @@ public class ProcessDefinitionInfoCache {
         ProcessDefinitionInfoEntityManager infoEntityManager = commandContext.getProcessDefinitionInfoEntityManager();
         ObjectMapper objectMapper = commandContext.getProcessEngineConfiguration().getObjectMapper();
 
-        ProcessDefinitionInfoCacheObject cacheObject = null;
-        if (cache.containsKey(processDefinitionId)) {
-            cacheObject = cache.get(processDefinitionId);
-        } else {
+        ProcessDefinitionInfoCacheObject cacheObject = cache.get(processDefinitionId);
+        if (cacheObject == null) {
             cacheObject = new ProcessDefinitionInfoCacheObject();
             cacheObject.setRevision(0);
             cacheObject.setInfoNode(objectMapper.createObjectNode());
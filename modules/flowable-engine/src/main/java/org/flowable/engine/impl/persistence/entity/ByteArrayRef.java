@@ -104,6 +104,13 @@ public class ByteArrayRef implements Serializable {
     public boolean isDeleted() {
         return deleted;
     }
+
+    /**
+     * @return whether the {@link ByteArrayEntity}, and so its bytes, has been fetched or created already.
+     */
+    public boolean isLoaded() {
+        return entity != null;
+    }
     
     /**
      * This makes a copy of this {@link ByteArrayRef}: a new
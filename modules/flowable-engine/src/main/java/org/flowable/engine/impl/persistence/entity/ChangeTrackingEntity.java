@@ -0,0 +1,36 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.persistence.entity;
+
+import org.flowable.engine.common.impl.persistence.entity.Entity;
+
+/**
+ * An {@link Entity} that records modifications of its persistent state itself, so that the flush of the
+ * {@link org.flowable.engine.impl.db.DbSqlSession} only needs to compare the persistent state of the entities that have been modified.
+ *
+ * Once change tracking has started, the entity captures its persistent state as the original persistent state right before the first modification.
+ * Every change of a field that is part of the persistent state must therefore go through a method that does so.
+ */
+public interface ChangeTrackingEntity extends Entity {
+
+    /**
+     * Called when the entity is put in the entity cache after being loaded from the database.
+     */
+    void startChangeTracking();
+
+    /**
+     * Returns true if change tracking is started and the entity has been modified since.
+     */
+    boolean isChanged();
+
+}
@@ -29,6 +29,8 @@ import org.flowable.engine.delegate.event.impl.FlowableEventBuilder;
 import org.flowable.engine.impl.context.Context;
 import org.flowable.engine.impl.interceptor.CommandContext;
 import org.flowable.engine.impl.persistence.CountingExecutionEntity;
+import org.flowable.engine.impl.persistence.cache.EntityCache;
+import org.flowable.engine.impl.persistence.entity.data.impl.cachematcher.CachedEntityIndexes;
 import org.flowable.engine.impl.util.ProcessDefinitionUtil;
 
 /**
@@ -267,12 +269,14 @@ public class ExecutionEntityImpl extends VariableScopeImpl implements ExecutionE
     }
 
     public void setCurrentFlowElement(FlowElement currentFlowElement) {
+        String previousActivityId = this.activityId;
         this.currentFlowElement = currentFlowElement;
         if (currentFlowElement != null) {
             this.activityId = currentFlowElement.getId();
         } else {
             this.activityId = null;
         }
+        updateCachedEntityIndexes(previousActivityId, activityId);
     }
 
     public FlowableListener getCurrentFlowableListener() {
@@ -376,10 +380,12 @@ public class ExecutionEntityImpl extends VariableScopeImpl implements ExecutionE
     }
 
     public void setProcessInstance(ExecutionEntity processInstance) {
+        String previousProcessInstanceId = this.processInstanceId;
         this.processInstance = (ExecutionEntityImpl) processInstance;
         if (processInstance != null) {
             this.processInstanceId = this.processInstance.getId();
         }
+        updateCachedEntityIndexes(previousProcessInstanceId, processInstanceId);
     }
 
     public boolean isProcessInstanceType() {
@@ -401,6 +407,7 @@ public class ExecutionEntityImpl extends VariableScopeImpl implements ExecutionE
     }
 
     public void setParent(ExecutionEntity parent) {
+        String previousParentId = this.parentId;
         this.parent = (ExecutionEntityImpl) parent;
 
         if (parent != null) {
@@ -408,6 +415,24 @@ public class ExecutionEntityImpl extends VariableScopeImpl implements ExecutionE
         } else {
             this.parentId = null;
         }
+        updateCachedEntityIndexes(previousParentId, parentId);
+    }
+
+    /**
+     * The process instance id, parent id and activity id are indexed in the entity cache (see {@link CachedEntityIndexes}), so the indexes need to be updated when they change.
+     */
+    protected void updateCachedEntityIndexes(String previousValue, String value) {
+        if (previousValue == null ? value == null : previousValue.equals(value)) {
+            return;
+        }
+
+        CommandContext commandContext = Context.getCommandContext();
+        if (commandContext != null) {
+            EntityCache entityCache = (EntityCache) commandContext.getSessions().get(EntityCache.class);
+            if (entityCache != null) {
+                entityCache.updateIndexes(this);
+            }
+        }
     }
 
     // super- and subprocess executions /////////////////////////////////////////
@@ -650,7 +675,9 @@ public class ExecutionEntityImpl extends VariableScopeImpl implements ExecutionE
     }
 
     public void setProcessInstanceId(String processInstanceId) {
+        String previousProcessInstanceId = this.processInstanceId;
         this.processInstanceId = processInstanceId;
+        updateCachedEntityIndexes(previousProcessInstanceId, processInstanceId);
     }
 
     public String getParentId() {
@@ -658,7 +685,9 @@ public class ExecutionEntityImpl extends VariableScopeImpl implements ExecutionE
     }
 
     public void setParentId(String parentId) {
+        String previousParentId = this.parentId;
         this.parentId = parentId;
+        updateCachedEntityIndexes(previousParentId, parentId);
     }
 
     public String getActivityId() {
@@ -36,6 +36,7 @@ import org.flowable.engine.impl.context.Context;
 import org.flowable.engine.impl.identity.Authentication;
 import org.flowable.engine.impl.persistence.CountingExecutionEntity;
 import org.flowable.engine.impl.persistence.entity.data.ExecutionDataManager;
+import org.flowable.engine.impl.util.EventDispatcherUtil;
 import org.flowable.engine.repository.ProcessDefinition;
 import org.flowable.engine.runtime.Execution;
 import org.flowable.engine.runtime.ProcessInstance;
@@ -247,7 +248,7 @@ public class ExecutionEntityManagerImpl extends AbstractEntityManager<ExecutionE
         }
 
         // Fire events
-        if (getEventDispatcher().isEnabled()) {
+        if (EventDispatcherUtil.hasEntityListeners(getEventDispatcher(), FlowableEngineEventType.ENTITY_CREATED, processInstanceExecution)) {
             getEventDispatcher().dispatchEvent(FlowableEventBuilder.createEntityEvent(FlowableEngineEventType.ENTITY_CREATED, processInstanceExecution));
         }
 
@@ -278,8 +279,10 @@ public class ExecutionEntityManagerImpl extends AbstractEntityManager<ExecutionE
             logger.debug("Child execution {} created with parent {}", childExecution, parentExecutionEntity.getId());
         }
 
-        if (getEventDispatcher().isEnabled()) {
+        if (EventDispatcherUtil.hasEntityListeners(getEventDispatcher(), FlowableEngineEventType.ENTITY_CREATED, childExecution)) {
             getEventDispatcher().dispatchEvent(FlowableEventBuilder.createEntityEvent(FlowableEngineEventType.ENTITY_CREATED, childExecution));
+        }
+        if (EventDispatcherUtil.hasEntityListeners(getEventDispatcher(), FlowableEngineEventType.ENTITY_INITIALIZED, childExecution)) {
             getEventDispatcher().dispatchEvent(FlowableEventBuilder.createEntityEvent(FlowableEngineEventType.ENTITY_INITIALIZED, childExecution));
         }
 
@@ -312,7 +315,9 @@ public class ExecutionEntityManagerImpl extends AbstractEntityManager<ExecutionE
         subProcessInstance.setProcessInstanceId(subProcessInstance.getId());
         superExecutionEntity.setSubProcessInstance(subProcessInstance);
 
-        if (Context.getProcessEngineConfiguration() != null && Context.getProcessEngineConfiguration().getEventDispatcher().isEnabled()) {
+        if (Context.getProcessEngineConfiguration() != null
+                && EventDispatcherUtil.hasEntityListeners(Context.getProcessEngineConfiguration().getEventDispatcher(), FlowableEngineEventType.ENTITY_CREATED,
+                        subProcessInstance)) {
             Context.getProcessEngineConfiguration().getEventDispatcher().dispatchEvent(FlowableEventBuilder.createEntityEvent(FlowableEngineEventType.ENTITY_CREATED, subProcessInstance));
         }
 
@@ -630,7 +635,7 @@ public class ExecutionEntityManagerImpl extends AbstractEntityManager<ExecutionE
             Collection<TimerJobEntity> timerJobsForExecution = timerJobEntityManager.findJobsByExecutionId(executionEntity.getId());
             for (TimerJobEntity job : timerJobsForExecution) {
                 timerJobEntityManager.delete(job);
-                if (getEventDispatcher().isEnabled()) {
+                if (EventDispatcherUtil.hasEntityListeners(getEventDispatcher(), FlowableEngineEventType.JOB_CANCELED, job)) {
                     getEventDispatcher().dispatchEvent(FlowableEventBuilder.createEntityEvent(FlowableEngineEventType.JOB_CANCELED, job));
                 }
             }
@@ -642,7 +647,7 @@ public class ExecutionEntityManagerImpl extends AbstractEntityManager<ExecutionE
             Collection<JobEntity> jobsForExecution = jobEntityManager.findJobsByExecutionId(executionEntity.getId());
             for (JobEntity job : jobsForExecution) {
                 getJobEntityManager().delete(job);
-                if (getEventDispatcher().isEnabled()) {
+                if (EventDispatcherUtil.hasEntityListeners(getEventDispatcher(), FlowableEngineEventType.JOB_CANCELED, job)) {
                     getEventDispatcher().dispatchEvent(FlowableEventBuilder.createEntityEvent(FlowableEngineEventType.JOB_CANCELED, job));
                 }
             }
@@ -654,7 +659,7 @@ public class ExecutionEntityManagerImpl extends AbstractEntityManager<ExecutionE
             Collection<SuspendedJobEntity> suspendedJobsForExecution = suspendedJobEntityManager.findJobsByExecutionId(executionEntity.getId());
             for (SuspendedJobEntity job : suspendedJobsForExecution) {
                 suspendedJobEntityManager.delete(job);
-                if (getEventDispatcher().isEnabled()) {
+                if (EventDispatcherUtil.hasEntityListeners(getEventDispatcher(), FlowableEngineEventType.JOB_CANCELED, job)) {
                     getEventDispatcher().dispatchEvent(FlowableEventBuilder.createEntityEvent(FlowableEngineEventType.JOB_CANCELED, job));
                 }
             }
@@ -666,7 +671,7 @@ public class ExecutionEntityManagerImpl extends AbstractEntityManager<ExecutionE
             Collection<DeadLetterJobEntity> deadLetterJobsForExecution = deadLetterJobEntityManager.findJobsByExecutionId(executionEntity.getId());
             for (DeadLetterJobEntity job : deadLetterJobsForExecution) {
                 deadLetterJobEntityManager.delete(job);
-                if (getEventDispatcher().isEnabled()) {
+                if (EventDispatcherUtil.hasEntityListeners(getEventDispatcher(), FlowableEngineEventType.JOB_CANCELED, job)) {
                     getEventDispatcher().dispatchEvent(FlowableEventBuilder.createEntityEvent(FlowableEngineEventType.JOB_CANCELED, job));
                 }
             }
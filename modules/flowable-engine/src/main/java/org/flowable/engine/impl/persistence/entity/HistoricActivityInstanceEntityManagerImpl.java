@@ -13,9 +13,11 @@
 
 package org.flowable.engine.impl.persistence.entity;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 
+import org.flowable.engine.common.api.query.StreamableQuery.ResultConsumer;
 import org.flowable.engine.common.impl.persistence.entity.data.DataManager;
 import org.flowable.engine.history.HistoricActivityInstance;
 import org.flowable.engine.impl.HistoricActivityInstanceQueryImpl;
@@ -56,6 +58,11 @@ public class HistoricActivityInstanceEntityManagerImpl extends AbstractEntityMan
         return historicActivityInstanceDataManager.findUnfinishedHistoricActivityInstancesByProcessInstanceId(processInstanceId);
     }
 
+    @Override
+    public List<HistoricActivityInstanceEntity> findHistoricActivityInstancesByExecutionIdsAndActivityIds(Collection<String> executionIds, Collection<String> activityIds) {
+        return historicActivityInstanceDataManager.findHistoricActivityInstancesByExecutionIdsAndActivityIds(executionIds, activityIds);
+    }
+
     @Override
     public void deleteHistoricActivityInstancesByProcessInstanceId(String historicProcessInstanceId) {
         if (getHistoryManager().isHistoryLevelAtLeast(HistoryLevel.ACTIVITY)) {
@@ -73,6 +80,11 @@ public class HistoricActivityInstanceEntityManagerImpl extends AbstractEntityMan
         return historicActivityInstanceDataManager.findHistoricActivityInstancesByQueryCriteria(historicActivityInstanceQuery);
     }
 
+    @Override
+    public void findHistoricActivityInstancesByQueryCriteria(HistoricActivityInstanceQueryImpl historicActivityInstanceQuery, ResultConsumer<? super HistoricActivityInstance> resultConsumer) {
+        historicActivityInstanceDataManager.findHistoricActivityInstancesByQueryCriteria(historicActivityInstanceQuery, resultConsumer);
+    }
+
     @Override
     public List<HistoricActivityInstance> findHistoricActivityInstancesByNativeQuery(Map<String, Object> parameterMap) {
         return historicActivityInstanceDataManager.findHistoricActivityInstancesByNativeQuery(parameterMap);
@@ -83,6 +95,11 @@ public class HistoricActivityInstanceEntityManagerImpl extends AbstractEntityMan
         return historicActivityInstanceDataManager.findHistoricActivityInstanceCountByNativeQuery(parameterMap);
     }
 
+    @Override
+    public void deleteHistoricActivityInstancesByProcessInstanceIds(Collection<String> processInstanceIds) {
+        historicActivityInstanceDataManager.deleteHistoricActivityInstancesByProcessInstanceIds(processInstanceIds);
+    }
+
     public HistoricActivityInstanceDataManager getHistoricActivityInstanceDataManager() {
         return historicActivityInstanceDataManager;
     }
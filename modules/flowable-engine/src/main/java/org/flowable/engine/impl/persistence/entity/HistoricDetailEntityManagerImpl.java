@@ -13,6 +13,7 @@
 
 package org.flowable.engine.impl.persistence.entity;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 
@@ -138,6 +139,11 @@ public class HistoricDetailEntityManagerImpl extends AbstractEntityManager<Histo
         return historicDetailDataManager.findHistoricDetailCountByNativeQuery(parameterMap);
     }
 
+    @Override
+    public void deleteHistoricDetailsByProcessInstanceIds(Collection<String> processInstanceIds) {
+        historicDetailDataManager.deleteHistoricDetailsByProcessInstanceIds(processInstanceIds);
+    }
+
     public HistoricDetailDataManager getHistoricDetailDataManager() {
         return historicDetailDataManager;
     }
@@ -12,6 +12,7 @@
  */
 package org.flowable.engine.impl.persistence.entity;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.engine.common.impl.persistence.entity.EntityManager;
@@ -29,4 +30,6 @@ public interface HistoricIdentityLinkEntityManager extends EntityManager<Histori
 
     void deleteHistoricIdentityLinksByProcInstance(String processInstanceId);
 
+    void deleteHistoricIdentityLinksByProcessInstanceIds(Collection<String> processInstanceIds);
+
 }
\ No newline at end of file
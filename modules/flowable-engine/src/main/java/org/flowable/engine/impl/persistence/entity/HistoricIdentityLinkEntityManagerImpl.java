@@ -13,6 +13,7 @@
 
 package org.flowable.engine.impl.persistence.entity;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.engine.common.impl.persistence.entity.data.DataManager;
@@ -67,6 +68,11 @@ public class HistoricIdentityLinkEntityManagerImpl extends AbstractEntityManager
 
     }
 
+    @Override
+    public void deleteHistoricIdentityLinksByProcessInstanceIds(Collection<String> processInstanceIds) {
+        historicIdentityLinkDataManager.deleteHistoricIdentityLinksByProcessInstanceIds(processInstanceIds);
+    }
+
     public HistoricIdentityLinkDataManager getHistoricIdentityLinkDataManager() {
         return historicIdentityLinkDataManager;
     }
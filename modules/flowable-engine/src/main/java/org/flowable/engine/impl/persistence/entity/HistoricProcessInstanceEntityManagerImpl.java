@@ -13,10 +13,13 @@
 
 package org.flowable.engine.impl.persistence.entity;
 
+import java.util.Collection;
 import java.util.Collections;
+import java.util.Date;
 import java.util.List;
 import java.util.Map;
 
+import org.flowable.engine.common.api.query.StreamableQuery.ResultConsumer;
 import org.flowable.engine.common.impl.persistence.entity.data.DataManager;
 import org.flowable.engine.history.HistoricProcessInstance;
 import org.flowable.engine.impl.HistoricProcessInstanceQueryImpl;
@@ -63,6 +66,13 @@ public class HistoricProcessInstanceEntityManagerImpl extends AbstractEntityMana
         return Collections.EMPTY_LIST;
     }
 
+    @Override
+    public void findHistoricProcessInstancesByQueryCriteria(HistoricProcessInstanceQueryImpl historicProcessInstanceQuery, ResultConsumer<? super HistoricProcessInstance> resultConsumer) {
+        if (getHistoryManager().isHistoryEnabled()) {
+            historicProcessInstanceDataManager.findHistoricProcessInstancesByQueryCriteria(historicProcessInstanceQuery, resultConsumer);
+        }
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public List<HistoricProcessInstance> findHistoricProcessInstancesAndVariablesByQueryCriteria(HistoricProcessInstanceQueryImpl historicProcessInstanceQuery) {
@@ -87,11 +97,26 @@ public class HistoricProcessInstanceEntityManagerImpl extends AbstractEntityMana
         return historicProcessInstanceDataManager.findHistoricProcessInstanceIdsByProcessDefinitionId(processDefinitionId);
     }
 
+    @Override
+    public List<HistoricProcessInstanceEntity> findHistoricProcessInstancesByIds(Collection<String> processInstanceIds) {
+        return historicProcessInstanceDataManager.findHistoricProcessInstancesByIds(processInstanceIds);
+    }
+
     @Override
     public long findHistoricProcessInstanceCountByNativeQuery(Map<String, Object> parameterMap) {
         return historicProcessInstanceDataManager.findHistoricProcessInstanceCountByNativeQuery(parameterMap);
     }
 
+    @Override
+    public List<String> findHistoricProcessInstanceIdsEndedBefore(Date endedBefore, int maxResults) {
+        return historicProcessInstanceDataManager.findHistoricProcessInstanceIdsEndedBefore(endedBefore, maxResults);
+    }
+
+    @Override
+    public void deleteHistoricProcessInstancesByIds(Collection<String> processInstanceIds) {
+        historicProcessInstanceDataManager.deleteHistoricProcessInstancesByIds(processInstanceIds);
+    }
+
     public HistoricProcessInstanceDataManager getHistoricProcessInstanceDataManager() {
         return historicProcessInstanceDataManager;
     }
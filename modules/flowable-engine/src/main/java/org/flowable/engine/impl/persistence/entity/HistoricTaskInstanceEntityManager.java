@@ -12,9 +12,11 @@
  */
 package org.flowable.engine.impl.persistence.entity;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 
+import org.flowable.engine.common.api.query.StreamableQuery.ResultConsumer;
 import org.flowable.engine.common.impl.persistence.entity.EntityManager;
 import org.flowable.engine.history.HistoricTaskInstance;
 import org.flowable.engine.impl.HistoricTaskInstanceQueryImpl;
@@ -26,10 +28,14 @@ public interface HistoricTaskInstanceEntityManager extends EntityManager<Histori
 
     HistoricTaskInstanceEntity create(TaskEntity task, ExecutionEntity execution);
 
+    List<HistoricTaskInstanceEntity> findHistoricTaskInstancesByIds(Collection<String> historicTaskInstanceIds);
+
     long findHistoricTaskInstanceCountByQueryCriteria(HistoricTaskInstanceQueryImpl historicTaskInstanceQuery);
 
     List<HistoricTaskInstance> findHistoricTaskInstancesByQueryCriteria(HistoricTaskInstanceQueryImpl historicTaskInstanceQuery);
 
+    void findHistoricTaskInstancesByQueryCriteria(HistoricTaskInstanceQueryImpl historicTaskInstanceQuery, ResultConsumer<? super HistoricTaskInstance> resultConsumer);
+
     List<HistoricTaskInstance> findHistoricTaskInstancesAndRelatedEntitiesByQueryCriteria(HistoricTaskInstanceQueryImpl historicTaskInstanceQuery);
 
     List<HistoricTaskInstance> findHistoricTaskInstancesByNativeQuery(Map<String, Object> parameterMap);
@@ -38,4 +44,6 @@ public interface HistoricTaskInstanceEntityManager extends EntityManager<Histori
 
     void deleteHistoricTaskInstancesByProcessInstanceId(String processInstanceId);
 
+    void deleteHistoricTaskInstancesByProcessInstanceIds(Collection<String> processInstanceIds);
+
 }
\ No newline at end of file
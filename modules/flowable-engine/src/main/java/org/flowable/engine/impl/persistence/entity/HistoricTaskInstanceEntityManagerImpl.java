@@ -13,10 +13,12 @@
 
 package org.flowable.engine.impl.persistence.entity;
 
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 
+import org.flowable.engine.common.api.query.StreamableQuery.ResultConsumer;
 import org.flowable.engine.common.impl.persistence.entity.data.DataManager;
 import org.flowable.engine.compatibility.Flowable5CompatibilityHandler;
 import org.flowable.engine.history.HistoricTaskInstance;
@@ -59,6 +61,11 @@ public class HistoricTaskInstanceEntityManagerImpl extends AbstractEntityManager
         }
     }
 
+    @Override
+    public List<HistoricTaskInstanceEntity> findHistoricTaskInstancesByIds(Collection<String> historicTaskInstanceIds) {
+        return historicTaskInstanceDataManager.findHistoricTaskInstancesByIds(historicTaskInstanceIds);
+    }
+
     @Override
     public long findHistoricTaskInstanceCountByQueryCriteria(HistoricTaskInstanceQueryImpl historicTaskInstanceQuery) {
         if (getHistoryManager().isHistoryEnabled()) {
@@ -76,6 +83,13 @@ public class HistoricTaskInstanceEntityManagerImpl extends AbstractEntityManager
         return Collections.EMPTY_LIST;
     }
 
+    @Override
+    public void findHistoricTaskInstancesByQueryCriteria(HistoricTaskInstanceQueryImpl historicTaskInstanceQuery, ResultConsumer<? super HistoricTaskInstance> resultConsumer) {
+        if (getHistoryManager().isHistoryEnabled()) {
+            historicTaskInstanceDataManager.findHistoricTaskInstancesByQueryCriteria(historicTaskInstanceQuery, resultConsumer);
+        }
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public List<HistoricTaskInstance> findHistoricTaskInstancesAndRelatedEntitiesByQueryCriteria(HistoricTaskInstanceQueryImpl historicTaskInstanceQuery) {
@@ -125,6 +139,11 @@ public class HistoricTaskInstanceEntityManagerImpl extends AbstractEntityManager
         return historicTaskInstanceDataManager.findHistoricTaskInstanceCountByNativeQuery(parameterMap);
     }
 
+    @Override
+    public void deleteHistoricTaskInstancesByProcessInstanceIds(Collection<String> processInstanceIds) {
+        historicTaskInstanceDataManager.deleteHistoricTaskInstancesByProcessInstanceIds(processInstanceIds);
+    }
+
     public HistoricTaskInstanceDataManager getHistoricTaskInstanceDataManager() {
         return historicTaskInstanceDataManager;
     }
@@ -91,7 +91,11 @@ public class HistoricVariableInstanceEntityImpl extends AbstractEntity implement
 
     @Override
     public void setBytes(byte[] bytes) {
-        if (byteArrayRef == null) {
+        if (byteArrayRef == null || (byteArrayRef.getId() != null && !byteArrayRef.isLoaded())) {
+            // Like for the runtime variable, the old bytes aren't fetched when they're replaced
+            if (byteArrayRef != null) {
+                byteArrayRef.delete();
+            }
             byteArrayRef = new ByteArrayRef();
         }
         byteArrayRef.setValue("hist.var-" + name, bytes);
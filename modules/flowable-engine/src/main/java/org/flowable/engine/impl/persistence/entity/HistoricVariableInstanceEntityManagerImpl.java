@@ -13,6 +13,7 @@
 
 package org.flowable.engine.impl.persistence.entity;
 
+import java.util.Collection;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
@@ -133,6 +134,11 @@ public class HistoricVariableInstanceEntityManagerImpl extends AbstractEntityMan
         return historicVariableInstanceDataManager.findHistoricVariableInstanceCountByNativeQuery(parameterMap);
     }
 
+    @Override
+    public void deleteHistoricVariableInstancesByProcessInstanceIds(Collection<String> processInstanceIds) {
+        historicVariableInstanceDataManager.deleteHistoricVariableInstancesByProcessInstanceIds(processInstanceIds);
+    }
+
     public HistoricVariableInstanceDataManager getHistoricVariableInstanceDataManager() {
         return historicVariableInstanceDataManager;
     }
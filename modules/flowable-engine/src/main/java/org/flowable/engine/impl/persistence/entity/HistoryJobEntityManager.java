@@ -12,6 +12,7 @@
  */
 package org.flowable.engine.impl.persistence.entity;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.engine.common.impl.Page;
@@ -36,6 +37,11 @@ public interface HistoryJobEntityManager extends EntityManager<HistoryJobEntity>
      */
     long findHistoryJobCountByQueryCriteria(HistoryJobQueryImpl jobQuery);
 
+    /**
+     * Fetches the history jobs with the given ids with one query. Jobs that don't exist anymore are left out.
+     */
+    List<HistoryJobEntity> findHistoryJobsByIds(Collection<String> historyJobIds);
+
     /**
     * The default delete method will cascade to the references entities.
     * This delete doesn't delete the referenced byte array entities (configuration and exception).
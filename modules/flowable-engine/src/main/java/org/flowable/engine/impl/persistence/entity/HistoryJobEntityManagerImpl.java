@@ -13,6 +13,7 @@
 
 package org.flowable.engine.impl.persistence.entity;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.engine.common.impl.persistence.entity.data.DataManager;
@@ -50,6 +51,11 @@ public class HistoryJobEntityManagerImpl extends JobInfoEntityManagerImpl<Histor
         return historyJobDataManager.findHistoryJobsByQueryCriteria(jobQuery);
     }
 
+    @Override
+    public List<HistoryJobEntity> findHistoryJobsByIds(Collection<String> historyJobIds) {
+        return historyJobDataManager.findHistoryJobsByIds(historyJobIds);
+    }
+
     @Override
     public long findHistoryJobCountByQueryCriteria(HistoryJobQueryImpl jobQuery) {
         return historyJobDataManager.findHistoryJobCountByQueryCriteria(jobQuery);
@@ -42,7 +42,7 @@ import org.flowable.engine.task.IdentityLinkType;
  * @author Falko Menge
  * @author Tijs Rademakers
  */
-public class TaskEntityImpl extends VariableScopeImpl implements TaskEntity, CountingTaskEntity, Serializable, BulkDeleteable {
+public class TaskEntityImpl extends VariableScopeImpl implements TaskEntity, CountingTaskEntity, ChangeTrackingEntity, Serializable, BulkDeleteable {
 
     public static final String DELETE_REASON_COMPLETED = "completed";
     public static final String DELETE_REASON_DELETED = "deleted";
@@ -100,10 +100,43 @@ public class TaskEntityImpl extends VariableScopeImpl implements TaskEntity, Cou
 
     protected Date claimTime;
 
+    protected boolean changeTracking;
+    protected boolean changed;
+
     public TaskEntityImpl() {
 
     }
 
+    @Override
+    public void startChangeTracking() {
+        changeTracking = true;
+        changed = false;
+        originalPersistentState = null;
+    }
+
+    @Override
+    public boolean isChanged() {
+        return changed;
+    }
+
+    /**
+     * Captures the persistent state before the first modification once change tracking has started, see {@link ChangeTrackingEntity}.
+     */
+    protected void registerChange() {
+        if (changeTracking && !changed) {
+            originalPersistentState = getPersistentState();
+            changed = true;
+        }
+    }
+
+    @Override
+    public Object getOriginalPersistentState() {
+        if (changeTracking && !changed) {
+            return getPersistentState();
+        }
+        return originalPersistentState;
+    }
+
     @Override
     public Object getPersistentState() {
         Map<String, Object> persistentState = new HashMap<String, Object>();
@@ -152,6 +185,7 @@ public class TaskEntityImpl extends VariableScopeImpl implements TaskEntity, Cou
 
     @Override
     public void forceUpdate() {
+        registerChange();
         this.forcedUpdate = true;
     }
 
@@ -308,16 +342,19 @@ public class TaskEntityImpl extends VariableScopeImpl implements TaskEntity, Cou
 
     @Override
     public void setName(String taskName) {
+        registerChange();
         this.name = taskName;
     }
 
     @Override
     public void setDescription(String description) {
+        registerChange();
         this.description = description;
     }
 
     @Override
     public void setAssignee(String assignee) {
+        registerChange();
         this.originalAssignee = this.assignee;
         this.assignee = assignee;
         assigneeUpdatedCount++;
@@ -325,16 +362,19 @@ public class TaskEntityImpl extends VariableScopeImpl implements TaskEntity, Cou
 
     @Override
     public void setOwner(String owner) {
+        registerChange();
         this.owner = owner;
     }
 
     @Override
     public void setDueDate(Date dueDate) {
+        registerChange();
         this.dueDate = dueDate;
     }
 
     @Override
     public void setPriority(int priority) {
+        registerChange();
         this.priority = priority;
     }
 
@@ -345,6 +385,7 @@ public class TaskEntityImpl extends VariableScopeImpl implements TaskEntity, Cou
 
     @Override
     public void setParentTaskId(String parentTaskId) {
+        registerChange();
         this.parentTaskId = parentTaskId;
     }
 
@@ -441,6 +482,7 @@ public class TaskEntityImpl extends VariableScopeImpl implements TaskEntity, Cou
 
     @Override
     public void setCreateTime(Date createTime) {
+        registerChange();
         this.createTime = createTime;
     }
 
@@ -461,6 +503,7 @@ public class TaskEntityImpl extends VariableScopeImpl implements TaskEntity, Cou
 
     @Override
     public void setProcessDefinitionId(String processDefinitionId) {
+        registerChange();
         this.processDefinitionId = processDefinitionId;
     }
 
@@ -510,6 +553,7 @@ public class TaskEntityImpl extends VariableScopeImpl implements TaskEntity, Cou
 
     @Override
     public void setExecutionId(String executionId) {
+        registerChange();
         this.executionId = executionId;
     }
 
@@ -547,6 +591,7 @@ public class TaskEntityImpl extends VariableScopeImpl implements TaskEntity, Cou
 
     @Override
     public void setDelegationState(DelegationState delegationState) {
+        registerChange();
         this.delegationState = delegationState;
     }
 
@@ -555,6 +600,7 @@ public class TaskEntityImpl extends VariableScopeImpl implements TaskEntity, Cou
     }
 
     public void setDelegationStateString(String delegationStateString) {
+        registerChange();
         this.delegationState = (delegationStateString != null ? DelegationState.valueOf(DelegationState.class, delegationStateString) : null);
     }
 
@@ -596,6 +642,7 @@ public class TaskEntityImpl extends VariableScopeImpl implements TaskEntity, Cou
 
     @Override
     public void setSuspensionState(int suspensionState) {
+        registerChange();
         this.suspensionState = suspensionState;
     }
 
@@ -674,6 +721,7 @@ public class TaskEntityImpl extends VariableScopeImpl implements TaskEntity, Cou
 
     @Override
     public void setClaimTime(Date claimTime) {
+        registerChange();
         this.claimTime = claimTime;
     }
 
@@ -693,6 +741,7 @@ public class TaskEntityImpl extends VariableScopeImpl implements TaskEntity, Cou
 
     @Override
     public void setVariableCount(int variableCount) {
+        registerChange();
         this.variableCount = variableCount;
     }
 
@@ -703,6 +752,7 @@ public class TaskEntityImpl extends VariableScopeImpl implements TaskEntity, Cou
 
     @Override
     public void setIdentityLinkCount(int identityLinkCount) {
+        registerChange();
         this.identityLinkCount = identityLinkCount;
     }
 
@@ -12,6 +12,7 @@
  */
 package org.flowable.engine.impl.persistence.entity;
 
+import java.util.Date;
 import java.util.List;
 
 import org.flowable.engine.common.impl.Page;
@@ -40,6 +41,11 @@ public interface TimerJobEntityManager extends EntityManager<TimerJobEntity> {
      */
     List<TimerJobEntity> findTimerJobsToExecute(Page page);
 
+    /**
+     * Returns the {@link TimerJobEntity} instances that are due before the given date and are not locked, or of which the lock has expired, ordered by due date.
+     */
+    List<TimerJobEntity> findTimerJobsToPrefetch(Date dueBefore, Page page);
+
     /**
      * Returns the {@link TimerJobEntity} for a given process definition.
      * 
@@ -105,6 +105,12 @@ public class VariableInstanceEntityImpl extends AbstractEntity implements Variab
     @Override
     public void setBytes(byte[] bytes) {
         ensureByteArrayRefInitialized();
+        if (byteArrayRef.getId() != null && !byteArrayRef.isLoaded()) {
+            // Replace the byte array instead of fetching the old bytes just to overwrite them.
+            // The changed byte array id makes the revision of this variable be checked on update.
+            byteArrayRef.delete();
+            byteArrayRef = new ByteArrayRef();
+        }
         byteArrayRef.setValue("var-" + name, bytes);
     }
 
@@ -26,6 +26,7 @@ import org.flowable.engine.common.api.FlowableException;
 import org.flowable.engine.common.impl.javax.el.ELContext;
 import org.flowable.engine.common.impl.persistence.entity.AbstractEntity;
 import org.flowable.engine.delegate.VariableScope;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
 import org.flowable.engine.impl.context.Context;
 import org.flowable.engine.impl.interceptor.CommandContext;
 import org.flowable.engine.impl.variable.VariableType;
@@ -47,6 +48,9 @@ public abstract class VariableScopeImpl extends AbstractEntity implements Serial
     // The cache is used when fetching/setting specific variables
     protected Map<String, VariableInstanceEntity> usedVariablesCache = new HashMap<String, VariableInstanceEntity>();
 
+    // names of variables that were fetched by name but don't exist on this scope
+    protected Set<String> missingVariablesCache;
+
     protected Map<String, VariableInstance> transientVariabes;
 
     protected ELContext cachedElContext;
@@ -124,7 +128,7 @@ public abstract class VariableScopeImpl extends AbstractEntity implements Serial
             }
 
             // Fetch variables on this scope
-            List<VariableInstanceEntity> variables = getSpecificVariables(variableNamesToFetch);
+            List<VariableInstanceEntity> variables = fetchSpecificVariables(variableNamesToFetch);
             for (VariableInstanceEntity variable : variables) {
                 requestedVariables.put(variable.getName(), variable.getValue());
             }
@@ -170,7 +174,7 @@ public abstract class VariableScopeImpl extends AbstractEntity implements Serial
             }
 
             // Fetch variables on this scope
-            List<VariableInstanceEntity> variables = getSpecificVariables(variableNamesToFetch);
+            List<VariableInstanceEntity> variables = fetchSpecificVariables(variableNamesToFetch);
             for (VariableInstanceEntity variable : variables) {
                 requestedVariables.put(variable.getName(), variable);
             }
@@ -228,11 +232,11 @@ public abstract class VariableScopeImpl extends AbstractEntity implements Serial
     }
 
     public Object getVariable(String variableName) {
-        return getVariable(variableName, true);
+        return getVariable(variableName, isFetchAllVariablesByDefault());
     }
 
     public VariableInstance getVariableInstance(String variableName) {
-        return getVariableInstance(variableName, true);
+        return getVariableInstance(variableName, isFetchAllVariablesByDefault());
     }
 
     /**
@@ -285,7 +289,7 @@ public abstract class VariableScopeImpl extends AbstractEntity implements Serial
                 return variableInstances.get(variableName);
             }
 
-            VariableInstanceEntity variable = getSpecificVariable(variableName);
+            VariableInstanceEntity variable = fetchSpecificVariable(variableName);
             if (variable != null) {
                 usedVariablesCache.put(variableName, variable);
                 return variable;
@@ -304,12 +308,44 @@ public abstract class VariableScopeImpl extends AbstractEntity implements Serial
 
     protected abstract VariableInstanceEntity getSpecificVariable(String variableName);
 
+    /**
+     * Fetches a single variable of this scope by name. A variable that doesn't exist is remembered, so that it isn't queried again when it's looked up
+     * once more through this scope or one of its child scopes. As entities are cached per command, this only lasts for the current command.
+     */
+    protected VariableInstanceEntity fetchSpecificVariable(String variableName) {
+        if (variableInstances != null) {
+            // all variables of this scope are loaded already
+            return variableInstances.get(variableName);
+        }
+        if (missingVariablesCache != null && missingVariablesCache.contains(variableName)) {
+            return null;
+        }
+
+        VariableInstanceEntity variable = getSpecificVariable(variableName);
+        if (variable == null) {
+            if (missingVariablesCache == null) {
+                missingVariablesCache = new HashSet<String>();
+            }
+            missingVariablesCache.add(variableName);
+        }
+        return variable;
+    }
+
+    /**
+     * Returns whether the methods that don't have a fetchAllVariables parameter fetch all variables of a scope, see
+     * {@link ProcessEngineConfigurationImpl#setEnableLazyVariableFetching(boolean)}.
+     */
+    protected boolean isFetchAllVariablesByDefault() {
+        ProcessEngineConfigurationImpl processEngineConfiguration = Context.getProcessEngineConfiguration();
+        return processEngineConfiguration == null || !processEngineConfiguration.isEnableLazyVariableFetching();
+    }
+
     public Object getVariableLocal(String variableName) {
-        return getVariableLocal(variableName, true);
+        return getVariableLocal(variableName, isFetchAllVariablesByDefault());
     }
 
     public VariableInstance getVariableInstanceLocal(String variableName) {
-        return getVariableInstanceLocal(variableName, true);
+        return getVariableInstanceLocal(variableName, isFetchAllVariablesByDefault());
     }
 
     public Object getVariableLocal(String variableName, boolean fetchAllVariables) {
@@ -350,7 +386,7 @@ public abstract class VariableScopeImpl extends AbstractEntity implements Serial
                 }
             }
 
-            VariableInstanceEntity variable = getSpecificVariable(variableName);
+            VariableInstanceEntity variable = fetchSpecificVariable(variableName);
             if (variable != null) {
                 usedVariablesCache.put(variableName, variable);
                 return variable;
@@ -385,6 +421,9 @@ public abstract class VariableScopeImpl extends AbstractEntity implements Serial
     }
 
     public boolean hasVariable(String variableName) {
+        if (!isFetchAllVariablesByDefault()) {
+            return getVariableInstance(variableName, false) != null;
+        }
         if (hasVariableLocal(variableName)) {
             return true;
         }
@@ -399,6 +438,9 @@ public abstract class VariableScopeImpl extends AbstractEntity implements Serial
         if (transientVariabes != null && transientVariabes.containsKey(variableName)) {
             return true;
         }
+        if (!isFetchAllVariablesByDefault()) {
+            return getVariableInstanceLocal(variableName, false) != null;
+        }
         ensureVariableInstancesInitialized();
         return variableInstances.containsKey(variableName);
     }
@@ -487,7 +529,7 @@ public abstract class VariableScopeImpl extends AbstractEntity implements Serial
 
         } else {
 
-            List<VariableInstanceEntity> variables = getSpecificVariables(variableNamesToFetch);
+            List<VariableInstanceEntity> variables = fetchSpecificVariables(variableNamesToFetch);
             for (VariableInstanceEntity variable : variables) {
                 requestedVariables.put(variable.getName(), variable.getValue());
             }
@@ -521,7 +563,7 @@ public abstract class VariableScopeImpl extends AbstractEntity implements Serial
 
         } else {
 
-            List<VariableInstanceEntity> variables = getSpecificVariables(variableNamesToFetch);
+            List<VariableInstanceEntity> variables = fetchSpecificVariables(variableNamesToFetch);
             for (VariableInstanceEntity variable : variables) {
                 requestedVariables.put(variable.getName(), variable);
             }
@@ -533,6 +575,46 @@ public abstract class VariableScopeImpl extends AbstractEntity implements Serial
 
     protected abstract List<VariableInstanceEntity> getSpecificVariables(Collection<String> variableNames);
 
+    /**
+     * Fetches the variables of this scope with the given names, skipping the ones that are known not to exist, see {@link #fetchSpecificVariable(String)}.
+     */
+    protected List<VariableInstanceEntity> fetchSpecificVariables(Collection<String> variableNames) {
+        if (variableNames.isEmpty()) {
+            return getSpecificVariables(variableNames);
+        }
+
+        List<VariableInstanceEntity> variables = new ArrayList<VariableInstanceEntity>(variableNames.size());
+        if (variableInstances != null) {
+            for (String variableName : variableNames) {
+                VariableInstanceEntity variable = variableInstances.get(variableName);
+                if (variable != null) {
+                    variables.add(variable);
+                }
+            }
+            return variables;
+        }
+
+        Set<String> variableNamesToFetch = new HashSet<String>(variableNames);
+        if (missingVariablesCache != null) {
+            variableNamesToFetch.removeAll(missingVariablesCache);
+            if (variableNamesToFetch.isEmpty()) {
+                return variables;
+            }
+        }
+
+        variables.addAll(getSpecificVariables(variableNamesToFetch));
+        for (VariableInstanceEntity variable : variables) {
+            variableNamesToFetch.remove(variable.getName());
+        }
+        if (!variableNamesToFetch.isEmpty()) {
+            if (missingVariablesCache == null) {
+                missingVariablesCache = new HashSet<String>();
+            }
+            missingVariablesCache.addAll(variableNamesToFetch);
+        }
+        return variables;
+    }
+
     public Set<String> getVariableNamesLocal() {
         Set<String> variableNames = new HashSet<String>();
         if (transientVariabes != null) {
@@ -677,7 +759,7 @@ public abstract class VariableScopeImpl extends AbstractEntity implements Serial
 
                 // Not in local cache, check if defined on this scope
                 // Create it if it doesn't exist yet
-                VariableInstanceEntity variable = getSpecificVariable(variableName);
+                VariableInstanceEntity variable = fetchSpecificVariable(variableName);
                 if (variable != null) {
                     updateVariableInstance(variable, value, sourceExecution);
                     usedVariablesCache.put(variableName, variable);
@@ -750,7 +832,7 @@ public abstract class VariableScopeImpl extends AbstractEntity implements Serial
                 updateVariableInstance(variableInstances.get(variableName), value, sourceActivityExecution);
             } else {
 
-                VariableInstanceEntity variable = getSpecificVariable(variableName);
+                VariableInstanceEntity variable = fetchSpecificVariable(variableName);
                 if (variable != null) {
                     updateVariableInstance(variable, value, sourceActivityExecution);
                 } else {
@@ -806,6 +888,37 @@ public abstract class VariableScopeImpl extends AbstractEntity implements Serial
         removeVariableLocal(variableName, getSourceActivityExecution());
     }
 
+    /**
+     * Removes a local variable, like {@link #removeVariableLocal(String)}. When fetchAllVariables is false, only the variable with the given name is fetched
+     * instead of all the variables of this scope.
+     */
+    public void removeVariableLocal(String variableName, boolean fetchAllVariables) {
+        if (fetchAllVariables) {
+            removeVariableLocal(variableName);
+            return;
+        }
+
+        VariableInstanceEntity variableInstance = usedVariablesCache.remove(variableName);
+        if (variableInstances != null) {
+            VariableInstanceEntity loadedVariableInstance = variableInstances.remove(variableName);
+            if (variableInstance == null) {
+                variableInstance = loadedVariableInstance;
+            }
+        } else if (variableInstance == null) {
+            variableInstance = fetchSpecificVariable(variableName);
+        }
+
+        if (variableInstance != null) {
+            deleteVariableInstanceForExplicitUserCall(variableInstance, getSourceActivityExecution());
+
+            // The row is only deleted at flush, it mustn't be fetched again before that
+            if (missingVariablesCache == null) {
+                missingVariablesCache = new HashSet<String>();
+            }
+            missingVariablesCache.add(variableName);
+        }
+    }
+
     protected ExecutionEntity getSourceActivityExecution() {
         return null;
     }
@@ -814,6 +927,7 @@ public abstract class VariableScopeImpl extends AbstractEntity implements Serial
         ensureVariableInstancesInitialized();
         VariableInstanceEntity variableInstance = variableInstances.remove(variableName);
         if (variableInstance != null) {
+            usedVariablesCache.remove(variableName);
             deleteVariableInstanceForExplicitUserCall(variableInstance, sourceActivityExecution);
         }
     }
@@ -867,6 +981,9 @@ public abstract class VariableScopeImpl extends AbstractEntity implements Serial
         if (variableInstances != null) {
             variableInstances.put(variableName, variableInstance);
         }
+        if (missingVariablesCache != null) {
+            missingVariablesCache.remove(variableName);
+        }
 
         // Record historic variable
         Context.getCommandContext().getHistoryManager().recordVariableCreate(variableInstance);
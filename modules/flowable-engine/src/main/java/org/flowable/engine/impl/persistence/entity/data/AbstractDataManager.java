@@ -24,6 +24,7 @@ import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
 import org.flowable.engine.impl.db.DbSqlSession;
 import org.flowable.engine.impl.persistence.AbstractManager;
 import org.flowable.engine.impl.persistence.CachedEntityMatcher;
+import org.flowable.engine.impl.persistence.IndexedCachedEntityMatcher;
 import org.flowable.engine.impl.persistence.SingleCachedEntityMatcher;
 import org.flowable.engine.impl.persistence.cache.CachedEntity;
 import org.flowable.engine.impl.persistence.cache.EntityCache;
@@ -90,10 +91,20 @@ public abstract class AbstractDataManager<EntityImpl extends Entity> extends Abs
 
     @SuppressWarnings("unchecked")
     protected EntityImpl getEntity(String selectQuery, Object parameter, SingleCachedEntityMatcher<EntityImpl> cachedEntityMatcher, boolean checkDatabase) {
-        // Cache
-        for (EntityImpl cachedEntity : getEntityCache().findInCache(getManagedEntityClass())) {
-            if (cachedEntityMatcher.isRetained(cachedEntity, parameter)) {
-                return cachedEntity;
+        // Cache (iterating the cached objects directly avoids copying them in a list when there are cached entities of the exact type)
+        Collection<CachedEntity> cachedObjects = getEntityCache().findInCacheAsCachedObjects(getManagedEntityClass());
+        if (cachedObjects != null) {
+            for (CachedEntity cachedObject : cachedObjects) {
+                EntityImpl cachedEntity = (EntityImpl) cachedObject.getEntity();
+                if (cachedEntityMatcher.isRetained(cachedEntity, parameter)) {
+                    return cachedEntity;
+                }
+            }
+        } else {
+            for (EntityImpl cachedEntity : getEntityCache().findInCache(getManagedEntityClass())) {
+                if (cachedEntityMatcher.isRetained(cachedEntity, parameter)) {
+                    return cachedEntity;
+                }
             }
         }
 
@@ -139,7 +150,7 @@ public abstract class AbstractDataManager<EntityImpl extends Entity> extends Abs
 
                 // Cache entities
                 if (cachedObjects != null && cachedEntityMatcher != null) {
-                    for (CachedEntity cachedObject : cachedObjects) {
+                    for (CachedEntity cachedObject : findCachedObjectsToMatch(getManagedEntityClass(), cachedObjects, cachedEntityMatcher, parameter)) {
                         EntityImpl cachedEntity = (EntityImpl) cachedObject.getEntity();
                         if (cachedEntityMatcher.isRetained(result, cachedObjects, cachedEntity, parameter)) {
                             entityMap.put(cachedEntity.getId(), cachedEntity); // will overwrite db version with newer version
@@ -151,7 +162,7 @@ public abstract class AbstractDataManager<EntityImpl extends Entity> extends Abs
                     for (Class<? extends EntityImpl> entitySubClass : getManagedEntitySubClasses()) {
                         Collection<CachedEntity> subclassCachedObjects = getEntityCache().findInCacheAsCachedObjects(entitySubClass);
                         if (subclassCachedObjects != null) {
-                            for (CachedEntity subclassCachedObject : subclassCachedObjects) {
+                            for (CachedEntity subclassCachedObject : findCachedObjectsToMatch(entitySubClass, subclassCachedObjects, cachedEntityMatcher, parameter)) {
                                 EntityImpl cachedSubclassEntity = (EntityImpl) subclassCachedObject.getEntity();
                                 if (cachedEntityMatcher.isRetained(result, cachedObjects, cachedSubclassEntity, parameter)) {
                                     entityMap.put(cachedSubclassEntity.getId(), cachedSubclassEntity); // will overwrite db version with newer version
@@ -187,7 +198,7 @@ public abstract class AbstractDataManager<EntityImpl extends Entity> extends Abs
 
         List<EntityImpl> result = new ArrayList<EntityImpl>(cachedObjects.size());
         if (cachedObjects != null && entityMatcher != null) {
-            for (CachedEntity cachedObject : cachedObjects) {
+            for (CachedEntity cachedObject : findCachedObjectsToMatch(getManagedEntityClass(), cachedObjects, entityMatcher, parameter)) {
                 EntityImpl cachedEntity = (EntityImpl) cachedObject.getEntity();
                 if (entityMatcher.isRetained(null, cachedObjects, cachedEntity, parameter) && !dbSqlSession.isEntityToBeDeleted(cachedEntity)) {
                     result.add(cachedEntity);
@@ -199,7 +210,7 @@ public abstract class AbstractDataManager<EntityImpl extends Entity> extends Abs
             for (Class<? extends EntityImpl> entitySubClass : getManagedEntitySubClasses()) {
                 Collection<CachedEntity> subclassCachedObjects = getEntityCache().findInCacheAsCachedObjects(entitySubClass);
                 if (subclassCachedObjects != null) {
-                    for (CachedEntity subclassCachedObject : subclassCachedObjects) {
+                    for (CachedEntity subclassCachedObject : findCachedObjectsToMatch(entitySubClass, subclassCachedObjects, entityMatcher, parameter)) {
                         EntityImpl cachedSubclassEntity = (EntityImpl) subclassCachedObject.getEntity();
                         if (entityMatcher.isRetained(null, cachedObjects, cachedSubclassEntity, parameter) && !dbSqlSession.isEntityToBeDeleted(cachedSubclassEntity)) {
                             result.add(cachedSubclassEntity);
@@ -212,4 +223,22 @@ public abstract class AbstractDataManager<EntityImpl extends Entity> extends Abs
         return result;
     }
 
+    /**
+     * Returns the cached entities of the given type that need to be checked by the matcher: when the matcher is an {@link IndexedCachedEntityMatcher}, only the entities with the index value of
+     * the parameter, otherwise all of them.
+     */
+    @SuppressWarnings("unchecked")
+    protected Collection<CachedEntity> findCachedObjectsToMatch(Class<? extends EntityImpl> entityClass, Collection<CachedEntity> cachedObjects,
+            CachedEntityMatcher<EntityImpl> cachedEntityMatcher, Object parameter) {
+
+        if (cachedEntityMatcher instanceof IndexedCachedEntityMatcher) {
+            IndexedCachedEntityMatcher<EntityImpl> indexedCachedEntityMatcher = (IndexedCachedEntityMatcher<EntityImpl>) cachedEntityMatcher;
+            String indexValue = indexedCachedEntityMatcher.getIndexValue(parameter);
+            if (indexValue != null) {
+                return getEntityCache().findInCacheByIndex(entityClass, indexedCachedEntityMatcher.getIndex(), indexValue);
+            }
+        }
+        return cachedObjects;
+    }
+
 }
@@ -12,6 +12,7 @@
  */
 package org.flowable.engine.impl.persistence.entity.data;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.engine.common.impl.persistence.entity.data.DataManager;
@@ -46,4 +47,6 @@ public interface CommentDataManager extends DataManager<CommentEntity> {
 
     Event findEvent(String commentId);
 
+    void deleteCommentsByProcessInstanceIds(Collection<String> processInstanceIds);
+
 }
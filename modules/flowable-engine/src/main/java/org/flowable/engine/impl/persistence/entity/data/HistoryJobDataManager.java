@@ -12,6 +12,7 @@
  */
 package org.flowable.engine.impl.persistence.entity.data;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.engine.common.impl.persistence.entity.data.DataManager;
@@ -26,6 +27,8 @@ public interface HistoryJobDataManager extends DataManager<HistoryJobEntity>, Jo
 
     List<HistoryJob> findHistoryJobsByQueryCriteria(HistoryJobQueryImpl query);
 
+    List<HistoryJobEntity> findHistoryJobsByIds(Collection<String> historyJobIds);
+
     long findHistoryJobCountByQueryCriteria(HistoryJobQueryImpl query);
     
 }
@@ -12,6 +12,7 @@
  */
 package org.flowable.engine.impl.persistence.entity.data.impl;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
@@ -51,4 +52,10 @@ public class MybatisAttachmentDataManager extends AbstractDataManager<Attachment
         return getDbSqlSession().selectList("selectAttachmentsByTaskId", taskId);
     }
 
+    @Override
+    public void deleteAttachmentsByProcessInstanceIds(Collection<String> processInstanceIds) {
+        getDbSqlSession().delete("deleteAttachmentByteArraysByProcessInstanceIds", processInstanceIds, AttachmentEntityImpl.class);
+        getDbSqlSession().delete("deleteAttachmentsByProcessInstanceIds", processInstanceIds, AttachmentEntityImpl.class);
+    }
+
 }
@@ -12,10 +12,13 @@
  */
 package org.flowable.engine.impl.persistence.entity.data.impl;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import org.flowable.engine.common.api.query.StreamableQuery.ResultConsumer;
 import org.flowable.engine.history.HistoricActivityInstance;
 import org.flowable.engine.impl.HistoricActivityInstanceQueryImpl;
 import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
@@ -72,6 +75,15 @@ public class MybatisHistoricActivityInstanceDataManager extends AbstractDataMana
         return getList("selectUnfinishedHistoricActivityInstanceExecutionIdAndActivityId", params, unfinishedHistoricActivityInstanceMatcher, true);
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<HistoricActivityInstanceEntity> findHistoricActivityInstancesByExecutionIdsAndActivityIds(Collection<String> executionIds, Collection<String> activityIds) {
+        Map<String, Object> params = new HashMap<String, Object>();
+        params.put("executionIds", new ArrayList<String>(executionIds));
+        params.put("activityIds", new ArrayList<String>(activityIds));
+        return getDbSqlSession().selectList("selectHistoricActivityInstancesByExecutionIdsAndActivityIds", params);
+    }
+
     @Override
     public void deleteHistoricActivityInstancesByProcessInstanceId(String historicProcessInstanceId) {
         getDbSqlSession().delete("deleteHistoricActivityInstancesByProcessInstanceId", historicProcessInstanceId, HistoricActivityInstanceEntityImpl.class);
@@ -88,6 +100,11 @@ public class MybatisHistoricActivityInstanceDataManager extends AbstractDataMana
         return getDbSqlSession().selectList("selectHistoricActivityInstancesByQueryCriteria", historicActivityInstanceQuery);
     }
 
+    @Override
+    public void findHistoricActivityInstancesByQueryCriteria(HistoricActivityInstanceQueryImpl historicActivityInstanceQuery, ResultConsumer<? super HistoricActivityInstance> resultConsumer) {
+        getDbSqlSession().selectForEach("selectHistoricActivityInstancesByQueryCriteria", historicActivityInstanceQuery, resultConsumer);
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public List<HistoricActivityInstance> findHistoricActivityInstancesByNativeQuery(Map<String, Object> parameterMap) {
@@ -99,4 +116,9 @@ public class MybatisHistoricActivityInstanceDataManager extends AbstractDataMana
         return (Long) getDbSqlSession().selectOne("selectHistoricActivityInstanceCountByNativeQuery", parameterMap);
     }
 
+    @Override
+    public void deleteHistoricActivityInstancesByProcessInstanceIds(Collection<String> processInstanceIds) {
+        getDbSqlSession().delete("deleteHistoricActivityInstancesByProcessInstanceIds", processInstanceIds, HistoricActivityInstanceEntityImpl.class);
+    }
+
 }
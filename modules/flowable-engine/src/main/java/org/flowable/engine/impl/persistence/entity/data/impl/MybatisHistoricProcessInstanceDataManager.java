@@ -12,10 +12,14 @@
  */
 package org.flowable.engine.impl.persistence.entity.data.impl;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.Date;
 import java.util.List;
 import java.util.Map;
 
+import org.flowable.engine.common.api.query.StreamableQuery.ResultConsumer;
 import org.flowable.engine.history.HistoricProcessInstance;
 import org.flowable.engine.impl.HistoricProcessInstanceQueryImpl;
 import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
@@ -61,6 +65,12 @@ public class MybatisHistoricProcessInstanceDataManager extends AbstractDataManag
         return getDbSqlSession().selectList("selectHistoricProcessInstanceIdsBySuperProcessInstanceId", superProcessInstanceId);
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<HistoricProcessInstanceEntity> findHistoricProcessInstancesByIds(Collection<String> processInstanceIds) {
+        return getDbSqlSession().selectList("selectHistoricProcessInstancesByIds", new ArrayList<String>(processInstanceIds));
+    }
+
     @Override
     public long findHistoricProcessInstanceCountByQueryCriteria(HistoricProcessInstanceQueryImpl historicProcessInstanceQuery) {
         return (Long) getDbSqlSession().selectOne("selectHistoricProcessInstanceCountByQueryCriteria", historicProcessInstanceQuery);
@@ -72,6 +82,11 @@ public class MybatisHistoricProcessInstanceDataManager extends AbstractDataManag
         return getDbSqlSession().selectList("selectHistoricProcessInstancesByQueryCriteria", historicProcessInstanceQuery);
     }
 
+    @Override
+    public void findHistoricProcessInstancesByQueryCriteria(HistoricProcessInstanceQueryImpl historicProcessInstanceQuery, ResultConsumer<? super HistoricProcessInstance> resultConsumer) {
+        getDbSqlSession().selectForEach("selectHistoricProcessInstancesByQueryCriteria", historicProcessInstanceQuery, resultConsumer);
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public List<HistoricProcessInstance> findHistoricProcessInstancesAndVariablesByQueryCriteria(HistoricProcessInstanceQueryImpl historicProcessInstanceQuery) {
@@ -119,4 +134,15 @@ public class MybatisHistoricProcessInstanceDataManager extends AbstractDataManag
         return (Long) getDbSqlSession().selectOne("selectHistoricProcessInstanceCountByNativeQuery", parameterMap);
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<String> findHistoricProcessInstanceIdsEndedBefore(Date endedBefore, int maxResults) {
+        return getDbSqlSession().selectList("selectHistoricProcessInstanceIdsEndedBefore", endedBefore, 0, maxResults);
+    }
+
+    @Override
+    public void deleteHistoricProcessInstancesByIds(Collection<String> processInstanceIds) {
+        getDbSqlSession().delete("deleteHistoricProcessInstancesByIds", processInstanceIds, HistoricProcessInstanceEntityImpl.class);
+    }
+
 }
@@ -12,10 +12,13 @@
  */
 package org.flowable.engine.impl.persistence.entity.data.impl;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 
+import org.flowable.engine.common.api.query.StreamableQuery.ResultConsumer;
 import org.flowable.engine.history.HistoricTaskInstance;
 import org.flowable.engine.impl.HistoricTaskInstanceQueryImpl;
 import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
@@ -62,6 +65,12 @@ public class MybatisHistoricTaskInstanceDataManager extends AbstractDataManager<
         return getDbSqlSession().selectList("selectHistoricTaskInstancesByProcessInstanceId", processInstanceId);
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<HistoricTaskInstanceEntity> findHistoricTaskInstancesByIds(Collection<String> historicTaskInstanceIds) {
+        return getDbSqlSession().selectList("selectHistoricTaskInstancesByIds", new ArrayList<String>(historicTaskInstanceIds));
+    }
+
     @Override
     public long findHistoricTaskInstanceCountByQueryCriteria(HistoricTaskInstanceQueryImpl historicTaskInstanceQuery) {
         return (Long) getDbSqlSession().selectOne("selectHistoricTaskInstanceCountByQueryCriteria", historicTaskInstanceQuery);
@@ -73,6 +82,11 @@ public class MybatisHistoricTaskInstanceDataManager extends AbstractDataManager<
         return getDbSqlSession().selectList("selectHistoricTaskInstancesByQueryCriteria", historicTaskInstanceQuery);
     }
 
+    @Override
+    public void findHistoricTaskInstancesByQueryCriteria(HistoricTaskInstanceQueryImpl historicTaskInstanceQuery, ResultConsumer<? super HistoricTaskInstance> resultConsumer) {
+        getDbSqlSession().selectForEach("selectHistoricTaskInstancesByQueryCriteria", historicTaskInstanceQuery, resultConsumer);
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public List<HistoricTaskInstance> findHistoricTaskInstancesAndRelatedEntitiesByQueryCriteria(HistoricTaskInstanceQueryImpl historicTaskInstanceQuery) {
@@ -120,4 +134,9 @@ public class MybatisHistoricTaskInstanceDataManager extends AbstractDataManager<
         return (Long) getDbSqlSession().selectOne("selectHistoricTaskInstanceCountByNativeQuery", parameterMap);
     }
 
+    @Override
+    public void deleteHistoricTaskInstancesByProcessInstanceIds(Collection<String> processInstanceIds) {
+        getDbSqlSession().delete("deleteHistoricTaskInstancesByProcessInstanceIds", processInstanceIds, HistoricTaskInstanceEntityImpl.class);
+    }
+
 }
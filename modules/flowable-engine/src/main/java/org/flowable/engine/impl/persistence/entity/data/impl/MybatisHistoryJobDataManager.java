@@ -12,6 +12,8 @@
  */
 package org.flowable.engine.impl.persistence.entity.data.impl;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
@@ -82,6 +84,12 @@ public class MybatisHistoryJobDataManager extends AbstractDataManager<HistoryJob
         return getDbSqlSession().selectList(query, jobQuery);
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<HistoryJobEntity> findHistoryJobsByIds(Collection<String> historyJobIds) {
+        return getDbSqlSession().selectList("selectHistoryJobsByIds", new ArrayList<String>(historyJobIds));
+    }
+
     @Override
     public long findHistoryJobCountByQueryCriteria(HistoryJobQueryImpl jobQuery) {
         return (Long) getDbSqlSession().selectOne("selectHistoryJobCountByQueryCriteria", jobQuery);
@@ -53,6 +53,9 @@ public class MybatisJobDataManager extends AbstractDataManager<JobEntity> implem
     @Override
     @SuppressWarnings("unchecked")
     public List<JobEntity> findJobsToExecute(Page page) {
+        if (getProcessEngineConfiguration().isAsyncExecutorSkipLockedJobAcquisition()) {
+            return getDbSqlSession().selectListWithRowLimit("selectJobsToExecuteSkipLocked", null, page);
+        }
         return getDbSqlSession().selectList("selectJobsToExecute", null, page);
     }
 
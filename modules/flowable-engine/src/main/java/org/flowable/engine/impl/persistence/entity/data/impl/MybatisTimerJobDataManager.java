@@ -18,6 +18,7 @@ import java.util.List;
 import java.util.Map;
 
 import org.flowable.engine.common.impl.Page;
+import org.flowable.engine.common.impl.db.ListQueryParameterObject;
 import org.flowable.engine.impl.TimerJobQueryImpl;
 import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
 import org.flowable.engine.impl.persistence.CachedEntityMatcher;
@@ -66,9 +67,24 @@ public class MybatisTimerJobDataManager extends AbstractDataManager<TimerJobEnti
     @SuppressWarnings("unchecked")
     public List<TimerJobEntity> findTimerJobsToExecute(Page page) {
         Date now = getClock().getCurrentTime();
+        if (getProcessEngineConfiguration().isAsyncExecutorSkipLockedJobAcquisition()) {
+            return getDbSqlSession().selectListWithRowLimit("selectTimerJobsToExecuteSkipLocked", now, page);
+        }
         return getDbSqlSession().selectList("selectTimerJobsToExecute", now, page);
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<TimerJobEntity> findTimerJobsToPrefetch(Date dueBefore, Page page) {
+        Map<String, Object> params = new HashMap<String, Object>(2);
+        params.put("dueBefore", dueBefore);
+        params.put("now", getClock().getCurrentTime());
+        // Ordered, so the timers due first are prefetched first when there are more than fit a page
+        ListQueryParameterObject parameterObject = new ListQueryParameterObject(params, page.getFirstResult(), page.getMaxResults());
+        parameterObject.setOrderByColumns("RES.DUEDATE_ ASC");
+        return getDbSqlSession().selectList("selectTimerJobsToPrefetch", parameterObject);
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public List<TimerJobEntity> findJobsByTypeAndProcessDefinitionId(String jobHandlerType, String processDefinitionId) {
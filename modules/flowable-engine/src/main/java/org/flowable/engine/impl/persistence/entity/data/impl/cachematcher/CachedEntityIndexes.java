@@ -0,0 +1,58 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.persistence.entity.data.impl.cachematcher;
+
+import org.flowable.engine.impl.persistence.cache.CachedEntityIndex;
+import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
+import org.flowable.engine.impl.persistence.entity.VariableInstanceEntity;
+
+/**
+ * The {@link CachedEntityIndex} instances used by the cache matchers.
+ * 
+ * The indexed values of executions change while they are cached, {@link org.flowable.engine.impl.persistence.entity.ExecutionEntityImpl} updates the indexes when they do.
+ */
+public class CachedEntityIndexes {
+
+    public static final CachedEntityIndex<ExecutionEntity> EXECUTION_PROCESS_INSTANCE_ID = new CachedEntityIndex<ExecutionEntity>() {
+
+        @Override
+        public String getIndexValue(ExecutionEntity executionEntity) {
+            return executionEntity.getProcessInstanceId();
+        }
+    };
+
+    public static final CachedEntityIndex<ExecutionEntity> EXECUTION_PARENT_ID = new CachedEntityIndex<ExecutionEntity>() {
+
+        @Override
+        public String getIndexValue(ExecutionEntity executionEntity) {
+            return executionEntity.getParentId();
+        }
+    };
+
+    public static final CachedEntityIndex<ExecutionEntity> EXECUTION_ACTIVITY_ID = new CachedEntityIndex<ExecutionEntity>() {
+
+        @Override
+        public String getIndexValue(ExecutionEntity executionEntity) {
+            return executionEntity.getActivityId();
+        }
+    };
+
+    public static final CachedEntityIndex<VariableInstanceEntity> VARIABLE_EXECUTION_ID = new CachedEntityIndex<VariableInstanceEntity>() {
+
+        @Override
+        public String getIndexValue(VariableInstanceEntity variableInstanceEntity) {
+            return variableInstanceEntity.getExecutionId();
+        }
+    };
+
+}
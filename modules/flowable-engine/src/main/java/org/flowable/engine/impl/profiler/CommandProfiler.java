@@ -0,0 +1,248 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.profiler;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Keeps latency histograms per command type, timings per database statement and flush counts per entity type, for as long as the process engine runs.
+ *
+ * Unlike the {@link org.flowable.engine.test.profiler.FlowableProfiler}, which keeps every command execution of a profile session for tests, this only
+ * keeps aggregates: the memory used is bounded by the maximum number of command types, statements and entity types that are tracked, anything beyond
+ * that is added to the {@link #OTHER} entry. Recording updates atomic counters only, only the first recording of a new key adds to a map.
+ */
+public class CommandProfiler {
+
+    public static final String OTHER = "<other>";
+
+    protected int maxCommandTypes = 256;
+    protected int maxStatements = 1024;
+    protected int maxEntityTypes = 128;
+
+    protected final ConcurrentMap<String, CommandProfile> commandProfiles = new ConcurrentHashMap<String, CommandProfile>();
+    protected final ConcurrentMap<String, StatementProfile> statementProfiles = new ConcurrentHashMap<String, StatementProfile>();
+    protected final ConcurrentMap<String, EntityFlushProfile> entityFlushProfiles = new ConcurrentHashMap<String, EntityFlushProfile>();
+
+    protected volatile Date startTime = new Date();
+
+    public void recordCommand(String commandType, long durationInNanos, boolean failed) {
+        CommandProfile commandProfile = getCommandProfile(commandType);
+        commandProfile.histogram.record(TimeUnit.NANOSECONDS.toMicros(durationInNanos));
+        if (failed) {
+            commandProfile.failureCount.incrementAndGet();
+        }
+    }
+
+    public void recordStatement(String statement, long durationInNanos) {
+        StatementProfile statementProfile = getStatementProfile(statement);
+        long durationInMicros = TimeUnit.NANOSECONDS.toMicros(durationInNanos);
+        statementProfile.count.incrementAndGet();
+        statementProfile.totalTime.addAndGet(durationInMicros);
+
+        long currentMax = statementProfile.maxTime.get();
+        while (durationInMicros > currentMax && !statementProfile.maxTime.compareAndSet(currentMax, durationInMicros)) {
+            currentMax = statementProfile.maxTime.get();
+        }
+    }
+
+    public void recordInserts(Class<?> entityClass, int count) {
+        getEntityFlushProfile(entityClass).insertCount.addAndGet(count);
+    }
+
+    public void recordUpdates(Class<?> entityClass, int count) {
+        getEntityFlushProfile(entityClass).updateCount.addAndGet(count);
+    }
+
+    public void recordDeletes(Class<?> entityClass, int count) {
+        getEntityFlushProfile(entityClass).deleteCount.addAndGet(count);
+    }
+
+    public void recordBulkDeletes(Class<?> entityClass, int count) {
+        getEntityFlushProfile(entityClass).bulkDeleteCount.addAndGet(count);
+    }
+
+    /**
+     * @return the statistics of the command types, the ones that took the most time in total first.
+     */
+    public List<CommandStatistics> getCommandStatistics() {
+        List<CommandStatistics> result = new ArrayList<CommandStatistics>(commandProfiles.size());
+        for (Map.Entry<String, CommandProfile> entry : commandProfiles.entrySet()) {
+            result.add(new CommandStatistics(entry.getKey(), entry.getValue().histogram, entry.getValue().failureCount.get()));
+        }
+        Collections.sort(result, new Comparator<CommandStatistics>() {
+
+            @Override
+            public int compare(CommandStatistics first, CommandStatistics second) {
+                return Long.compare(second.getTotalTimeInMicros(), first.getTotalTimeInMicros());
+            }
+        });
+        return result;
+    }
+
+    /**
+     * @return the statistics of the database statements, the ones that took the most time in total first.
+     */
+    public List<StatementStatistics> getStatementStatistics() {
+        List<StatementStatistics> result = new ArrayList<StatementStatistics>(statementProfiles.size());
+        for (Map.Entry<String, StatementProfile> entry : statementProfiles.entrySet()) {
+            StatementProfile statementProfile = entry.getValue();
+            result.add(new StatementStatistics(entry.getKey(), statementProfile.count.get(), statementProfile.totalTime.get(), statementProfile.maxTime.get()));
+        }
+        Collections.sort(result, new Comparator<StatementStatistics>() {
+
+            @Override
+            public int compare(StatementStatistics first, StatementStatistics second) {
+                return Long.compare(second.getTotalTimeInMicros(), first.getTotalTimeInMicros());
+            }
+        });
+        return result;
+    }
+
+    /**
+     * @return the flush counts of the entity types, the ones with the most flushed entities first.
+     */
+    public List<EntityFlushStatistics> getEntityFlushStatistics() {
+        List<EntityFlushStatistics> result = new ArrayList<EntityFlushStatistics>(entityFlushProfiles.size());
+        for (Map.Entry<String, EntityFlushProfile> entry : entityFlushProfiles.entrySet()) {
+            EntityFlushProfile entityFlushProfile = entry.getValue();
+            result.add(new EntityFlushStatistics(entry.getKey(), entityFlushProfile.insertCount.get(), entityFlushProfile.updateCount.get(),
+                    entityFlushProfile.deleteCount.get(), entityFlushProfile.bulkDeleteCount.get()));
+        }
+        Collections.sort(result, new Comparator<EntityFlushStatistics>() {
+
+            @Override
+            public int compare(EntityFlushStatistics first, EntityFlushStatistics second) {
+                return Long.compare(second.getTotalCount(), first.getTotalCount());
+            }
+        });
+        return result;
+    }
+
+    public void reset() {
+        commandProfiles.clear();
+        statementProfiles.clear();
+        entityFlushProfiles.clear();
+        startTime = new Date();
+    }
+
+    protected CommandProfile getCommandProfile(String commandType) {
+        CommandProfile commandProfile = commandProfiles.get(commandType);
+        String key = commandType;
+        if (commandProfile == null && commandProfiles.size() >= maxCommandTypes) {
+            key = OTHER;
+            commandProfile = commandProfiles.get(OTHER);
+        }
+        if (commandProfile == null) {
+            CommandProfile newCommandProfile = new CommandProfile();
+            commandProfile = commandProfiles.putIfAbsent(key, newCommandProfile);
+            if (commandProfile == null) {
+                commandProfile = newCommandProfile;
+            }
+        }
+        return commandProfile;
+    }
+
+    protected StatementProfile getStatementProfile(String statement) {
+        StatementProfile statementProfile = statementProfiles.get(statement);
+        String key = statement;
+        if (statementProfile == null && statementProfiles.size() >= maxStatements) {
+            key = OTHER;
+            statementProfile = statementProfiles.get(OTHER);
+        }
+        if (statementProfile == null) {
+            StatementProfile newStatementProfile = new StatementProfile();
+            statementProfile = statementProfiles.putIfAbsent(key, newStatementProfile);
+            if (statementProfile == null) {
+                statementProfile = newStatementProfile;
+            }
+        }
+        return statementProfile;
+    }
+
+    protected EntityFlushProfile getEntityFlushProfile(Class<?> entityClass) {
+        String entityType = entityClass.getSimpleName();
+        EntityFlushProfile entityFlushProfile = entityFlushProfiles.get(entityType);
+        String key = entityType;
+        if (entityFlushProfile == null && entityFlushProfiles.size() >= maxEntityTypes) {
+            key = OTHER;
+            entityFlushProfile = entityFlushProfiles.get(OTHER);
+        }
+        if (entityFlushProfile == null) {
+            EntityFlushProfile newEntityFlushProfile = new EntityFlushProfile();
+            entityFlushProfile = entityFlushProfiles.putIfAbsent(key, newEntityFlushProfile);
+            if (entityFlushProfile == null) {
+                entityFlushProfile = newEntityFlushProfile;
+            }
+        }
+        return entityFlushProfile;
+    }
+
+    public Date getStartTime() {
+        return startTime;
+    }
+
+    public int getMaxCommandTypes() {
+        return maxCommandTypes;
+    }
+
+    public void setMaxCommandTypes(int maxCommandTypes) {
+        this.maxCommandTypes = maxCommandTypes;
+    }
+
+    public int getMaxStatements() {
+        return maxStatements;
+    }
+
+    public void setMaxStatements(int maxStatements) {
+        this.maxStatements = maxStatements;
+    }
+
+    public int getMaxEntityTypes() {
+        return maxEntityTypes;
+    }
+
+    public void setMaxEntityTypes(int maxEntityTypes) {
+        this.maxEntityTypes = maxEntityTypes;
+    }
+
+    protected static class CommandProfile {
+
+        protected final LatencyHistogram histogram = new LatencyHistogram();
+        protected final AtomicLong failureCount = new AtomicLong();
+    }
+
+    protected static class StatementProfile {
+
+        protected final AtomicLong count = new AtomicLong();
+        protected final AtomicLong totalTime = new AtomicLong();
+        protected final AtomicLong maxTime = new AtomicLong();
+    }
+
+    protected static class EntityFlushProfile {
+
+        protected final AtomicLong insertCount = new AtomicLong();
+        protected final AtomicLong updateCount = new AtomicLong();
+        protected final AtomicLong deleteCount = new AtomicLong();
+        protected final AtomicLong bulkDeleteCount = new AtomicLong();
+    }
+
+}
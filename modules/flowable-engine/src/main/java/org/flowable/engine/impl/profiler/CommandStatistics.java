@@ -0,0 +1,88 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.profiler;
+
+import java.io.Serializable;
+
+/**
+ * Snapshot of the executions of one command type recorded by a {@link CommandProfiler}. Times are in microseconds.
+ */
+public class CommandStatistics implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    protected String commandType;
+    protected long count;
+    protected long failureCount;
+    protected long totalTimeInMicros;
+    protected double meanTimeInMicros;
+    protected long p50TimeInMicros;
+    protected long p90TimeInMicros;
+    protected long p99TimeInMicros;
+    protected long p999TimeInMicros;
+    protected long maxTimeInMicros;
+
+    public CommandStatistics(String commandType, LatencyHistogram histogram, long failureCount) {
+        this.commandType = commandType;
+        this.count = histogram.getCount();
+        this.failureCount = failureCount;
+        this.totalTimeInMicros = histogram.getTotal();
+        this.meanTimeInMicros = histogram.getMean();
+        this.p50TimeInMicros = histogram.getValueAtPercentile(50.0);
+        this.p90TimeInMicros = histogram.getValueAtPercentile(90.0);
+        this.p99TimeInMicros = histogram.getValueAtPercentile(99.0);
+        this.p999TimeInMicros = histogram.getValueAtPercentile(99.9);
+        this.maxTimeInMicros = histogram.getMax();
+    }
+
+    public String getCommandType() {
+        return commandType;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public long getFailureCount() {
+        return failureCount;
+    }
+
+    public long getTotalTimeInMicros() {
+        return totalTimeInMicros;
+    }
+
+    public double getMeanTimeInMicros() {
+        return meanTimeInMicros;
+    }
+
+    public long getP50TimeInMicros() {
+        return p50TimeInMicros;
+    }
+
+    public long getP90TimeInMicros() {
+        return p90TimeInMicros;
+    }
+
+    public long getP99TimeInMicros() {
+        return p99TimeInMicros;
+    }
+
+    public long getP999TimeInMicros() {
+        return p999TimeInMicros;
+    }
+
+    public long getMaxTimeInMicros() {
+        return maxTimeInMicros;
+    }
+
+}
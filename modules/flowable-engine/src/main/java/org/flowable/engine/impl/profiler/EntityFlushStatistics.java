@@ -0,0 +1,63 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.profiler;
+
+import java.io.Serializable;
+
+/**
+ * Snapshot of the number of entities of one type that were flushed to the database, as recorded by a {@link CommandProfiler}. A bulk delete is counted
+ * once, whatever the number of rows it deletes.
+ */
+public class EntityFlushStatistics implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    protected String entityType;
+    protected long insertCount;
+    protected long updateCount;
+    protected long deleteCount;
+    protected long bulkDeleteCount;
+
+    public EntityFlushStatistics(String entityType, long insertCount, long updateCount, long deleteCount, long bulkDeleteCount) {
+        this.entityType = entityType;
+        this.insertCount = insertCount;
+        this.updateCount = updateCount;
+        this.deleteCount = deleteCount;
+        this.bulkDeleteCount = bulkDeleteCount;
+    }
+
+    public String getEntityType() {
+        return entityType;
+    }
+
+    public long getInsertCount() {
+        return insertCount;
+    }
+
+    public long getUpdateCount() {
+        return updateCount;
+    }
+
+    public long getDeleteCount() {
+        return deleteCount;
+    }
+
+    public long getBulkDeleteCount() {
+        return bulkDeleteCount;
+    }
+
+    public long getTotalCount() {
+        return insertCount + updateCount + deleteCount + bulkDeleteCount;
+    }
+
+}
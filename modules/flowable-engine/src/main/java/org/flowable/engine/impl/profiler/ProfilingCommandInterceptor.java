@@ -0,0 +1,49 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.profiler;
+
+import org.flowable.engine.common.impl.interceptor.CommandConfig;
+import org.flowable.engine.impl.interceptor.AbstractCommandInterceptor;
+import org.flowable.engine.impl.interceptor.Command;
+
+/**
+ * Records the execution time of every command in a {@link CommandProfiler}, including the time to commit its transaction when it's placed before the
+ * transaction interceptors. Nested commands are recorded as well, their time is then also part of the time of the command that executes them.
+ */
+public class ProfilingCommandInterceptor extends AbstractCommandInterceptor {
+
+    protected CommandProfiler commandProfiler;
+
+    public ProfilingCommandInterceptor(CommandProfiler commandProfiler) {
+        this.commandProfiler = commandProfiler;
+    }
+
+    @Override
+    public <T> T execute(CommandConfig config, Command<T> command) {
+        long startTime = System.nanoTime();
+        boolean failed = true;
+        try {
+            T result = next.execute(config, command);
+            failed = false;
+            return result;
+
+        } finally {
+            commandProfiler.recordCommand(command.getClass().getName(), System.nanoTime() - startTime, failed);
+        }
+    }
+
+    public CommandProfiler getCommandProfiler() {
+        return commandProfiler;
+    }
+
+}
@@ -0,0 +1,56 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.profiler;
+
+import java.io.Serializable;
+
+/**
+ * Snapshot of the executions of one database statement recorded by a {@link CommandProfiler}. Times are in microseconds.
+ */
+public class StatementStatistics implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    protected String statement;
+    protected long count;
+    protected long totalTimeInMicros;
+    protected long maxTimeInMicros;
+
+    public StatementStatistics(String statement, long count, long totalTimeInMicros, long maxTimeInMicros) {
+        this.statement = statement;
+        this.count = count;
+        this.totalTimeInMicros = totalTimeInMicros;
+        this.maxTimeInMicros = maxTimeInMicros;
+    }
+
+    public String getStatement() {
+        return statement;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public long getTotalTimeInMicros() {
+        return totalTimeInMicros;
+    }
+
+    public double getMeanTimeInMicros() {
+        return count > 0 ? (double) totalTimeInMicros / count : 0.0;
+    }
+
+    public long getMaxTimeInMicros() {
+        return maxTimeInMicros;
+    }
+
+}
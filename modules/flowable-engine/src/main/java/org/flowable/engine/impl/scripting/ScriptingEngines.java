@@ -17,6 +17,8 @@ import java.util.List;
 import java.util.Map;
 
 import javax.script.Bindings;
+import javax.script.Compilable;
+import javax.script.CompiledScript;
 import javax.script.ScriptContext;
 import javax.script.ScriptEngine;
 import javax.script.ScriptEngineFactory;
@@ -24,6 +26,8 @@ import javax.script.ScriptEngineManager;
 import javax.script.ScriptException;
 
 import org.flowable.engine.common.api.FlowableException;
+import org.flowable.engine.common.impl.persistence.deploy.ConcurrentDeploymentCacheStore;
+import org.flowable.engine.common.impl.persistence.deploy.DeploymentCacheStatistics;
 import org.flowable.engine.delegate.VariableScope;
 
 /**
@@ -35,6 +39,7 @@ public class ScriptingEngines {
 
     public static final String DEFAULT_SCRIPTING_LANGUAGE = "juel";
     public static final String GROOVY_SCRIPTING_LANGUAGE = "groovy";
+    public static final int DEFAULT_COMPILED_SCRIPT_CACHE_LIMIT = 1000;
 
     private final ScriptEngineManager scriptEngineManager;
     protected ScriptBindingsFactory scriptBindingsFactory;
@@ -42,6 +47,10 @@ public class ScriptingEngines {
     protected boolean cacheScriptingEngines = true;
     protected Map<String, ScriptEngine> cachedEngines;
 
+    protected boolean cacheCompiledScripts;
+    protected int compiledScriptCacheLimit = DEFAULT_COMPILED_SCRIPT_CACHE_LIMIT;
+    protected ConcurrentDeploymentCacheStore<CompiledScript> compiledScripts;
+
     public ScriptingEngines(ScriptBindingsFactory scriptBindingsFactory) {
         this(new ScriptEngineManager());
         this.scriptBindingsFactory = scriptBindingsFactory;
@@ -50,6 +59,7 @@ public class ScriptingEngines {
     public ScriptingEngines(ScriptEngineManager scriptEngineManager) {
         this.scriptEngineManager = scriptEngineManager;
         cachedEngines = new HashMap<String, ScriptEngine>();
+        compiledScripts = new ConcurrentDeploymentCacheStore<CompiledScript>(compiledScriptCacheLimit, null);
     }
 
     public ScriptingEngines addScriptEngineFactory(ScriptEngineFactory scriptEngineFactory) {
@@ -81,15 +91,72 @@ public class ScriptingEngines {
         return cacheScriptingEngines;
     }
 
+    public boolean isCacheCompiledScripts() {
+        return cacheCompiledScripts;
+    }
+
+    public void setCacheCompiledScripts(boolean cacheCompiledScripts) {
+        this.cacheCompiledScripts = cacheCompiledScripts;
+    }
+
+    public int getCompiledScriptCacheLimit() {
+        return compiledScriptCacheLimit;
+    }
+
+    /**
+     * Sets the maximum number of compiled scripts that are kept, a value of 0 or lower means no limit. Clears the compiled scripts.
+     */
+    public void setCompiledScriptCacheLimit(int compiledScriptCacheLimit) {
+        this.compiledScriptCacheLimit = compiledScriptCacheLimit;
+        this.compiledScripts = new ConcurrentDeploymentCacheStore<CompiledScript>(compiledScriptCacheLimit, null);
+    }
+
+    /**
+     * @return the hit, miss and eviction counts of the compiled scripts.
+     */
+    public DeploymentCacheStatistics getCompiledScriptCacheStatistics() {
+        return compiledScripts.getStatistics();
+    }
+
+    public void clearCompiledScripts() {
+        compiledScripts.clear();
+    }
+
     protected Object evaluate(String script, String language, Bindings bindings) {
         ScriptEngine scriptEngine = getEngineByName(language);
         try {
+            CompiledScript compiledScript = getCompiledScript(script, language, scriptEngine);
+            if (compiledScript != null) {
+                return compiledScript.eval(bindings);
+            }
             return scriptEngine.eval(script, bindings);
         } catch (ScriptException e) {
             throw new FlowableException("problem evaluating script: " + e.getMessage(), e);
         }
     }
 
+    /**
+     * @return the compiled script, or null when the script should be evaluated by the engine directly.
+     */
+    protected CompiledScript getCompiledScript(String script, String language, ScriptEngine scriptEngine) throws ScriptException {
+        // Only engines that are shared between threads get their scripts compiled once and shared too.
+        // JUEL resolves the variables while parsing, so a compiled expression can't be reused with other bindings.
+        if (!cacheCompiledScripts || !(scriptEngine instanceof Compilable) || scriptEngine instanceof JuelScriptEngine
+                || cachedEngines.get(language) != scriptEngine) {
+            return null;
+        }
+
+        String key = language + ':' + script;
+        CompiledScript compiledScript = compiledScripts.get(key);
+        if (compiledScript == null) {
+            long start = System.nanoTime();
+            compiledScript = ((Compilable) scriptEngine).compile(script);
+            compiledScripts.getStatistics().recordLoad(System.nanoTime() - start);
+            compiledScripts.put(key, compiledScript);
+        }
+        return compiledScript;
+    }
+
     protected ScriptEngine getEngineByName(String language) {
         ScriptEngine scriptEngine = null;
 
@@ -0,0 +1,66 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.util;
+
+import org.flowable.engine.common.api.delegate.event.FlowableEventDispatcher;
+import org.flowable.engine.common.api.delegate.event.FlowableEventType;
+import org.flowable.engine.delegate.DelegateExecution;
+import org.flowable.engine.delegate.event.impl.FlowableEventDispatcherImpl;
+import org.flowable.engine.impl.persistence.entity.IdentityLinkEntity;
+import org.flowable.engine.repository.ProcessDefinition;
+import org.flowable.engine.runtime.Job;
+import org.flowable.engine.task.Task;
+
+public class EventDispatcherUtil {
+
+    /**
+     * Returns whether an event of the given type and process definition needs to be created and dispatched. For a custom {@link FlowableEventDispatcher}
+     * this falls back to {@link FlowableEventDispatcher#isEnabled()}.
+     */
+    public static boolean hasListeners(FlowableEventDispatcher eventDispatcher, FlowableEventType type, String processDefinitionId) {
+        if (eventDispatcher instanceof FlowableEventDispatcherImpl) {
+            return ((FlowableEventDispatcherImpl) eventDispatcher).hasListeners(type, processDefinitionId);
+        }
+        return eventDispatcher != null && eventDispatcher.isEnabled();
+    }
+
+    /**
+     * Returns whether an entity event of the given type needs to be created and dispatched, taking into account the process definition of the entity like
+     * {@link org.flowable.engine.delegate.event.impl.FlowableEventBuilder#createEntityEvent} does.
+     */
+    public static boolean hasEntityListeners(FlowableEventDispatcher eventDispatcher, FlowableEventType type, Object entity) {
+        if (entity instanceof IdentityLinkEntity) {
+            IdentityLinkEntity identityLink = (IdentityLinkEntity) entity;
+            if (identityLink.getProcessDefId() == null && (identityLink.getProcessInstanceId() != null || identityLink.getTaskId() != null)) {
+                // The process definition is only looked up through the process instance or task when the event is created
+                return eventDispatcher != null && eventDispatcher.isEnabled();
+            }
+            return hasListeners(eventDispatcher, type, identityLink.getProcessDefId());
+        }
+        return hasListeners(eventDispatcher, type, getProcessDefinitionId(entity));
+    }
+
+    protected static String getProcessDefinitionId(Object entity) {
+        if (entity instanceof Job) {
+            return ((Job) entity).getProcessDefinitionId();
+        } else if (entity instanceof DelegateExecution) {
+            return ((DelegateExecution) entity).getProcessDefinitionId();
+        } else if (entity instanceof Task) {
+            return ((Task) entity).getProcessDefinitionId();
+        } else if (entity instanceof ProcessDefinition) {
+            return ((ProcessDefinition) entity).getId();
+        }
+        return null;
+    }
+
+}
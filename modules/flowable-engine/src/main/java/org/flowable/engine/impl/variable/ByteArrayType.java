@@ -13,6 +13,11 @@
 package org.flowable.engine.impl.variable;
 
 /**
+ * Stores the value in a byte array, which is only fetched when the value is used.
+ *
+ * The length of the bytes is kept in the long value of the variable, so the size of a stored value (and whether it's null) is known without fetching
+ * the bytes. It's null for variables that were stored before the length was kept.
+ *
  * @author Tom Baeyens
  */
 public class ByteArrayType implements VariableType {
@@ -32,7 +37,9 @@ public class ByteArrayType implements VariableType {
     }
 
     public void setValue(Object value, ValueFields valueFields) {
-        valueFields.setBytes((byte[]) value);
+        byte[] bytes = (byte[]) value;
+        valueFields.setBytes(bytes);
+        valueFields.setLongValue(bytes != null ? Long.valueOf(bytes.length) : null);
     }
 
     public boolean isAbleToStore(Object value) {
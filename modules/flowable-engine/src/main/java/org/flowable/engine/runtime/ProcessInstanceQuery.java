@@ -18,6 +18,7 @@ import java.util.List;
 import java.util.Set;
 
 import org.flowable.engine.ProcessEngineConfiguration;
+import org.flowable.engine.common.api.query.KeysetQuery;
 import org.flowable.engine.common.api.query.Query;
 
 /**
@@ -28,7 +29,7 @@ import org.flowable.engine.common.api.query.Query;
  * @author Frederik Heremans
  * @author Falko Menge
  */
-public interface ProcessInstanceQuery extends Query<ProcessInstanceQuery, ProcessInstance> {
+public interface ProcessInstanceQuery extends Query<ProcessInstanceQuery, ProcessInstance>, KeysetQuery<ProcessInstance> {
 
     /** Select the process instance with the given id */
     ProcessInstanceQuery processInstanceId(String processInstanceId);
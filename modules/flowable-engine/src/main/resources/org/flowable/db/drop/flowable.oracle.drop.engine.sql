@@ -35,6 +35,7 @@ drop index ACT_IDX_TASK_CREATE;
 drop index ACT_IDX_IDENT_LNK_USER;
 drop index ACT_IDX_IDENT_LNK_GROUP;
 drop index ACT_IDX_VARIABLE_TASK_ID;
+drop index ACT_IDX_VARIABLE_EXEC_NAME;
 
 alter table ACT_GE_BYTEARRAY 
     drop CONSTRAINT ACT_FK_BYTEARR_DEPL;
@@ -0,0 +1,3 @@
+update ACT_GE_PROPERTY set VALUE_ = '6.1.0.1' where NAME_ = 'schema.version';
+
+create index ACT_IDX_VARIABLE_EXEC_NAME on ACT_RU_VARIABLE(EXECUTION_ID_, NAME_);
@@ -0,0 +1,161 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.delegate.event.impl;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.flowable.engine.common.api.delegate.event.FlowableEvent;
+import org.flowable.engine.common.api.delegate.event.FlowableEventListener;
+import org.flowable.engine.delegate.event.FlowableEngineEventType;
+import org.flowable.engine.delegate.event.NonTransactionalEventListener;
+
+import junit.framework.TestCase;
+
+public class FlowableEventSupportTest extends TestCase {
+
+    public void testHasListeners() {
+        FlowableEventSupport eventSupport = new FlowableEventSupport();
+        assertFalse(eventSupport.hasListeners(FlowableEngineEventType.ENTITY_CREATED));
+
+        RecordingListener typedListener = new RecordingListener("typed");
+        eventSupport.addEventListener(typedListener, FlowableEngineEventType.ENTITY_CREATED);
+        assertTrue(eventSupport.hasListeners(FlowableEngineEventType.ENTITY_CREATED));
+        assertFalse(eventSupport.hasListeners(FlowableEngineEventType.ENTITY_DELETED));
+
+        RecordingListener globalListener = new RecordingListener("global");
+        eventSupport.addEventListener(globalListener);
+        assertTrue(eventSupport.hasListeners(FlowableEngineEventType.ENTITY_DELETED));
+
+        eventSupport.removeEventListener(globalListener);
+        eventSupport.removeEventListener(typedListener);
+        assertFalse(eventSupport.hasListeners(FlowableEngineEventType.ENTITY_CREATED));
+        assertFalse(eventSupport.hasListeners(FlowableEngineEventType.ENTITY_DELETED));
+    }
+
+    public void testGlobalListenersAreCalledBeforeTypedListeners() {
+        FlowableEventSupport eventSupport = new FlowableEventSupport();
+        List<String> calls = new CopyOnWriteArrayList<String>();
+        eventSupport.addEventListener(new RecordingListener("typed", calls), FlowableEngineEventType.ENTITY_CREATED);
+        eventSupport.addEventListener(new RecordingListener("global", calls));
+
+        eventSupport.dispatchEvent(new FlowableEventImpl(FlowableEngineEventType.ENTITY_CREATED));
+        eventSupport.dispatchEvent(new FlowableEventImpl(FlowableEngineEventType.ENTITY_DELETED));
+
+        assertEquals(3, calls.size());
+        assertEquals("global:ENTITY_CREATED", calls.get(0));
+        assertEquals("typed:ENTITY_CREATED", calls.get(1));
+        assertEquals("global:ENTITY_DELETED", calls.get(2));
+    }
+
+    public void testDispatcherHasListeners() {
+        FlowableEventDispatcherImpl eventDispatcher = new FlowableEventDispatcherImpl();
+        assertFalse(eventDispatcher.hasListeners(FlowableEngineEventType.TASK_CREATED));
+
+        eventDispatcher.addEventListener(new RecordingListener("typed"), FlowableEngineEventType.TASK_CREATED);
+        assertTrue(eventDispatcher.hasListeners(FlowableEngineEventType.TASK_CREATED));
+
+        eventDispatcher.setEnabled(false);
+        assertFalse(eventDispatcher.hasListeners(FlowableEngineEventType.TASK_CREATED));
+        eventDispatcher.setEnabled(true);
+        assertFalse(eventDispatcher.hasListeners(FlowableEngineEventType.TASK_COMPLETED));
+    }
+
+    public void testNonTransactionalListenerIsCalledAsynchronously() throws Exception {
+        FlowableEventSupport eventSupport = new FlowableEventSupport();
+        AsyncEventDispatchBuffer asyncEventDispatchBuffer = new AsyncEventDispatchBuffer(16);
+        asyncEventDispatchBuffer.start();
+        eventSupport.setAsyncEventDispatchBuffer(asyncEventDispatchBuffer);
+
+        RecordingListener listener = new RecordingListener("listener");
+        NonTransactionalRecordingListener nonTransactionalListener = new NonTransactionalRecordingListener(10);
+        eventSupport.addEventListener(listener);
+        eventSupport.addEventListener(nonTransactionalListener);
+
+        for (int i = 0; i < 10; i++) {
+            eventSupport.dispatchEvent(new FlowableEventImpl(FlowableEngineEventType.CUSTOM));
+        }
+        assertEquals(10, listener.calls.size());
+        assertTrue(nonTransactionalListener.latch.await(5, TimeUnit.SECONDS));
+        for (Thread thread : nonTransactionalListener.threads) {
+            assertNotSame(Thread.currentThread(), thread);
+        }
+
+        asyncEventDispatchBuffer.shutdown();
+        assertFalse(asyncEventDispatchBuffer.isRunning());
+    }
+
+    public void testStoppedBufferDeliversOnCallingThread() {
+        FlowableEventSupport eventSupport = new FlowableEventSupport();
+        // Never started, so events aren't buffered at all
+        AsyncEventDispatchBuffer asyncEventDispatchBuffer = new AsyncEventDispatchBuffer(1);
+        eventSupport.setAsyncEventDispatchBuffer(asyncEventDispatchBuffer);
+
+        NonTransactionalRecordingListener nonTransactionalListener = new NonTransactionalRecordingListener(2);
+        eventSupport.addEventListener(nonTransactionalListener);
+        eventSupport.dispatchEvent(new FlowableEventImpl(FlowableEngineEventType.CUSTOM));
+        eventSupport.dispatchEvent(new FlowableEventImpl(FlowableEngineEventType.CUSTOM));
+
+        assertEquals(0L, nonTransactionalListener.latch.getCount());
+        assertEquals(0, asyncEventDispatchBuffer.getQueueSize());
+    }
+
+    protected static class RecordingListener implements FlowableEventListener {
+
+        protected final String name;
+        protected final List<String> calls;
+
+        public RecordingListener(String name) {
+            this(name, new CopyOnWriteArrayList<String>());
+        }
+
+        public RecordingListener(String name, List<String> calls) {
+            this.name = name;
+            this.calls = calls;
+        }
+
+        @Override
+        public void onEvent(FlowableEvent event) {
+            calls.add(name + ":" + event.getType());
+        }
+
+        @Override
+        public boolean isFailOnException() {
+            return true;
+        }
+    }
+
+    protected static class NonTransactionalRecordingListener implements NonTransactionalEventListener {
+
+        protected final CountDownLatch latch;
+        protected final List<Thread> threads = new CopyOnWriteArrayList<Thread>();
+
+        public NonTransactionalRecordingListener(int expectedEvents) {
+            this.latch = new CountDownLatch(expectedEvents);
+        }
+
+        @Override
+        public void onEvent(FlowableEvent event) {
+            threads.add(Thread.currentThread());
+            latch.countDown();
+        }
+
+        @Override
+        public boolean isFailOnException() {
+            return false;
+        }
+    }
+
+}
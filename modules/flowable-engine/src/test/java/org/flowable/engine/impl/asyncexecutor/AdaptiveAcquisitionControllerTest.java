@@ -0,0 +1,91 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.asyncexecutor;
+
+import junit.framework.TestCase;
+
+public class AdaptiveAcquisitionControllerTest extends TestCase {
+
+    public void testFullPageAcquiresAgainWithLargerBatch() {
+        AdaptiveAcquisitionController controller = new AdaptiveAcquisitionController("test", 16, 100, 10000);
+        controller.acquisitionConflicted();
+        controller.acquisitionConflicted();
+        controller.acquisitionConflicted();
+        assertEquals(2, controller.getBatchSize());
+
+        // conflicts are still frequent, grow slowly
+        assertEquals(0L, controller.acquisitionSucceeded(2, 2, 0));
+        assertEquals(3, controller.getBatchSize());
+
+        for (int i = 0; i < 10; i++) {
+            controller.acquisitionSucceeded(controller.getBatchSize(), controller.getBatchSize(), 0);
+        }
+        assertEquals(16, controller.getBatchSize());
+        assertEquals(3L, controller.getConflictCount());
+    }
+
+    public void testEmptyAcquisitionsBackOff() {
+        AdaptiveAcquisitionController controller = new AdaptiveAcquisitionController("test", 4, 100, 1000);
+        assertEquals(100L, controller.acquisitionSucceeded(4, 0, 0));
+        assertEquals(200L, controller.acquisitionSucceeded(4, 0, 0));
+        assertEquals(400L, controller.acquisitionSucceeded(4, 0, 0));
+        assertEquals(800L, controller.acquisitionSucceeded(4, 0, 0));
+        assertEquals(1000L, controller.acquisitionSucceeded(4, 0, 0));
+        assertEquals(1000L, controller.acquisitionSucceeded(4, 0, 0));
+
+        // work shows up again
+        assertEquals(100L, controller.acquisitionSucceeded(4, 2, 0));
+        assertEquals(6L, controller.getEmptyAcquisitionCount());
+        assertEquals(7L, controller.getAcquisitionCount());
+        assertEquals(2L, controller.getAcquiredJobCount());
+        assertTrue(controller.getAverageYield() < 0.5);
+    }
+
+    public void testConflictsHalveBatchSize() {
+        AdaptiveAcquisitionController controller = new AdaptiveAcquisitionController("test", 10, 100, 1000);
+        assertEquals(100L, controller.acquisitionConflicted());
+        assertEquals(5, controller.getBatchSize());
+        controller.acquisitionConflicted();
+        controller.acquisitionConflicted();
+        controller.acquisitionConflicted();
+        assertEquals(1, controller.getBatchSize());
+        assertTrue(controller.getConflictRate() > 0.5);
+    }
+
+    public void testFullExecutorWaitsForJobExecutionTime() {
+        AdaptiveAcquisitionController controller = new AdaptiveAcquisitionController("test", 10, 100, 5000);
+        // nothing known about the jobs yet
+        assertEquals(5000L, controller.noCapacity());
+
+        controller.recordJobExecution(300);
+        controller.recordJobExecution(300);
+        assertEquals(300L, controller.noCapacity());
+
+        assertEquals(300L, controller.acquisitionSucceeded(10, 10, 6));
+        assertEquals(4, controller.getBatchSize());
+
+        // bounded by the minimum wait time
+        controller.recordJobExecution(0);
+        for (int i = 0; i < 50; i++) {
+            controller.recordJobExecution(1);
+        }
+        assertEquals(100L, controller.noCapacity());
+    }
+
+    public void testFailureWaitsMaximum() {
+        AdaptiveAcquisitionController controller = new AdaptiveAcquisitionController("test", 10, 100, 5000);
+        assertEquals(5000L, controller.acquisitionFailed());
+        assertEquals(5000L, controller.getWaitTimeInMillis());
+    }
+
+}
@@ -0,0 +1,131 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.asyncexecutor;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import junit.framework.TestCase;
+
+import org.flowable.engine.impl.jobexecutor.AsyncContinuationJobHandler;
+import org.flowable.engine.impl.jobexecutor.TimerStartEventJobHandler;
+import org.flowable.engine.impl.persistence.entity.JobEntityImpl;
+import org.flowable.engine.runtime.JobInfo;
+
+public class AsyncJobBacklogTest extends TestCase {
+
+    public void testAsyncContinuationsFirst() {
+        AsyncJobBacklog backlog = new AsyncJobBacklog(10, null);
+        List<String> executed = new ArrayList<String>();
+
+        offer(backlog, "timer 1", TimerStartEventJobHandler.TYPE, executed);
+        offer(backlog, "continuation 1", AsyncContinuationJobHandler.TYPE, executed);
+        offer(backlog, "timer 2", TimerStartEventJobHandler.TYPE, executed);
+        offer(backlog, "continuation 2", AsyncContinuationJobHandler.TYPE, executed);
+        assertEquals(4, backlog.size());
+        assertEquals(6, backlog.getRemainingCapacity());
+
+        Runnable runnable = backlog.poll();
+        while (runnable != null) {
+            runnable.run();
+            runnable = backlog.poll();
+        }
+        assertEquals(Arrays.asList("continuation 1", "continuation 2", "timer 1", "timer 2"), executed);
+        assertEquals(10, backlog.getRemainingCapacity());
+        assertEquals(4, backlog.getHighWaterMark());
+        assertEquals(4, backlog.getBackloggedJobCount());
+    }
+
+    public void testFullBacklogRejectsAfterTimeout() throws Exception {
+        AsyncJobBacklog backlog = new AsyncJobBacklog(1, null);
+        assertTrue(backlog.offer(createJob("1", AsyncContinuationJobHandler.TYPE), new NoopRunnable(), 0));
+        assertFalse(backlog.offer(createJob("2", AsyncContinuationJobHandler.TYPE), new NoopRunnable(), 0));
+        assertFalse(backlog.offer(createJob("3", AsyncContinuationJobHandler.TYPE), new NoopRunnable(), 10));
+        assertEquals(2, backlog.getRejectedJobCount());
+        assertEquals(1, backlog.size());
+    }
+
+    public void testFullBacklogBlocksUntilThereIsRoom() throws Exception {
+        final AsyncJobBacklog backlog = new AsyncJobBacklog(1, null);
+        assertTrue(backlog.offer(createJob("1", AsyncContinuationJobHandler.TYPE), new NoopRunnable(), 0));
+
+        final CountDownLatch offered = new CountDownLatch(1);
+        Thread producer = new Thread(new Runnable() {
+
+            @Override
+            public void run() {
+                try {
+                    if (backlog.offer(createJob("2", AsyncContinuationJobHandler.TYPE), new NoopRunnable(), 10000)) {
+                        offered.countDown();
+                    }
+                } catch (InterruptedException e) {
+                    // the test fails on the latch
+                }
+            }
+        });
+        producer.start();
+
+        assertFalse(offered.await(100, TimeUnit.MILLISECONDS));
+        assertNotNull(backlog.poll());
+        assertTrue(offered.await(10, TimeUnit.SECONDS));
+        producer.join();
+
+        assertEquals(1, backlog.size());
+        assertEquals(0, backlog.getRejectedJobCount());
+        assertTrue(backlog.getBackPressureWaitTimeInMillis() > 0);
+    }
+
+    public void testDrainJobs() throws Exception {
+        AsyncJobBacklog backlog = new AsyncJobBacklog(5, null);
+        backlog.offer(createJob("1", AsyncContinuationJobHandler.TYPE), new NoopRunnable(), 0);
+        backlog.offer(createJob("2", AsyncContinuationJobHandler.TYPE), new NoopRunnable(), 0);
+
+        List<JobInfo> jobs = backlog.drainJobs();
+        assertEquals(2, jobs.size());
+        assertEquals(0, backlog.size());
+        assertEquals(5, backlog.getRemainingCapacity());
+        assertNull(backlog.poll());
+    }
+
+    protected void offer(AsyncJobBacklog backlog, final String name, String jobHandlerType, final List<String> executed) {
+        try {
+            assertTrue(backlog.offer(createJob(name, jobHandlerType), new Runnable() {
+
+                @Override
+                public void run() {
+                    executed.add(name);
+                }
+            }, 0));
+        } catch (InterruptedException e) {
+            fail();
+        }
+    }
+
+    protected JobEntityImpl createJob(String id, String jobHandlerType) {
+        JobEntityImpl job = new JobEntityImpl();
+        job.setId(id);
+        job.setJobHandlerType(jobHandlerType);
+        return job;
+    }
+
+    protected static class NoopRunnable implements Runnable {
+
+        @Override
+        public void run() {
+        }
+    }
+
+}
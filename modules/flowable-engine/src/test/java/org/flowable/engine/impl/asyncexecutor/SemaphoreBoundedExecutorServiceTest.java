@@ -0,0 +1,92 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.asyncexecutor;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import junit.framework.TestCase;
+
+public class SemaphoreBoundedExecutorServiceTest extends TestCase {
+
+    public void testTasksBeyondPermitsAreRejected() throws Exception {
+        SemaphoreBoundedExecutorService executorService = new SemaphoreBoundedExecutorService(2, Executors.defaultThreadFactory());
+        try {
+            final CountDownLatch started = new CountDownLatch(2);
+            final CountDownLatch release = new CountDownLatch(1);
+            Runnable blockingTask = new Runnable() {
+
+                @Override
+                public void run() {
+                    started.countDown();
+                    try {
+                        release.await(10, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+            };
+
+            executorService.execute(blockingTask);
+            executorService.execute(blockingTask);
+            assertTrue(started.await(10, TimeUnit.SECONDS));
+            assertEquals(0, executorService.getAvailablePermits());
+
+            try {
+                executorService.execute(blockingTask);
+                fail();
+            } catch (RejectedExecutionException e) {
+                // expected
+            }
+
+            release.countDown();
+            long end = System.currentTimeMillis() + 10000L;
+            while (executorService.getAvailablePermits() < 2) {
+                assertTrue(System.currentTimeMillis() < end);
+                Thread.sleep(10L);
+            }
+
+        } finally {
+            executorService.shutdown();
+            assertTrue(executorService.awaitTermination(10, TimeUnit.SECONDS));
+        }
+    }
+
+    public void testPermitIsReleasedWhenTaskFails() throws Exception {
+        SemaphoreBoundedExecutorService executorService = new SemaphoreBoundedExecutorService(1, Executors.defaultThreadFactory());
+        try {
+            final CountDownLatch done = new CountDownLatch(1);
+            executorService.execute(new Runnable() {
+
+                @Override
+                public void run() {
+                    done.countDown();
+                    throw new RuntimeException("expected");
+                }
+            });
+            assertTrue(done.await(10, TimeUnit.SECONDS));
+
+            long end = System.currentTimeMillis() + 10000L;
+            while (executorService.getAvailablePermits() < 1) {
+                assertTrue(System.currentTimeMillis() < end);
+                Thread.sleep(10L);
+            }
+
+        } finally {
+            executorService.shutdown();
+        }
+    }
+
+}
@@ -0,0 +1,117 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.asyncexecutor;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import junit.framework.TestCase;
+
+public class TimerWheelTest extends TestCase {
+
+    public void testItemsAreReturnedWhenDue() {
+        TimerWheel<String> timerWheel = new TimerWheel<String>(100, 8, 1000);
+        timerWheel.add("a", 1250);
+        timerWheel.add("b", 1300);
+        timerWheel.add("c", 1299);
+        assertEquals(3, timerWheel.size());
+
+        assertEquals(Collections.emptyList(), timerWheel.advance(1100));
+        assertEquals(Collections.emptyList(), timerWheel.advance(1249));
+        assertEquals(Arrays.asList("a"), timerWheel.advance(1250));
+        assertEquals(Arrays.asList("c"), timerWheel.advance(1299));
+        assertEquals(Arrays.asList("b"), timerWheel.advance(1300));
+        assertEquals(0, timerWheel.size());
+    }
+
+    public void testItemsThatAreAlreadyDue() {
+        TimerWheel<String> timerWheel = new TimerWheel<String>(100, 8, 1000);
+        timerWheel.add("a", 500);
+        timerWheel.add("b", 1050);
+
+        assertEquals(Arrays.asList("a"), timerWheel.advance(1000));
+        assertEquals(Arrays.asList("b"), timerWheel.advance(1050));
+    }
+
+    public void testItemsBeyondOneRotation() {
+        TimerWheel<String> timerWheel = new TimerWheel<String>(100, 8, 0);
+        timerWheel.add("level 1", 950);
+        timerWheel.add("level 2", 10000);
+        timerWheel.add("level 3", 100000);
+
+        List<String> fired = new ArrayList<String>();
+        List<Long> firedAt = new ArrayList<Long>();
+        for (long now = 0; now <= 100000; now += 100) {
+            for (String item : timerWheel.advance(now)) {
+                fired.add(item);
+                firedAt.add(now);
+            }
+        }
+        assertEquals(Arrays.asList("level 1", "level 2", "level 3"), fired);
+        assertEquals(Arrays.asList(1000L, 10000L, 100000L), firedAt);
+    }
+
+    public void testJumpOfMoreThanOneRotation() {
+        TimerWheel<String> timerWheel = new TimerWheel<String>(100, 8, 0);
+        timerWheel.add("a", 300);
+        timerWheel.add("b", 5000);
+        timerWheel.add("c", 50000);
+
+        assertEquals(Arrays.asList("a", "b"), timerWheel.advance(6000));
+        assertEquals(Collections.emptyList(), timerWheel.advance(49999));
+        assertEquals(Arrays.asList("c"), timerWheel.advance(50000));
+    }
+
+    public void testReturnedByFirstAdvanceAfterDueTime() {
+        long tick = 10;
+        TimerWheel<Long> timerWheel = new TimerWheel<Long>(tick, 16, 0);
+        Random random = new Random(42);
+        int nrOfItems = 5000;
+        for (int i = 0; i < nrOfItems; i++) {
+            long dueTime = random.nextInt(100000);
+            timerWheel.add(dueTime, dueTime);
+        }
+
+        int fired = 0;
+        long previousNow = -1;
+        long now = 0;
+        while (now <= 100000 + tick) {
+            for (Long dueTime : timerWheel.advance(now)) {
+                assertTrue(dueTime <= now);
+                assertTrue(dueTime > previousNow);
+                fired++;
+            }
+            previousNow = now;
+            // irregular steps, smaller and larger than a tick
+            now += 1 + random.nextInt((int) (3 * tick));
+        }
+        assertEquals(nrOfItems, fired);
+        assertEquals(0, timerWheel.size());
+    }
+
+    public void testClear() {
+        TimerWheel<String> timerWheel = new TimerWheel<String>(100, 8, 0);
+        timerWheel.add("a", 300);
+        timerWheel.add("b", 50000);
+
+        List<String> cleared = timerWheel.clear();
+        Collections.sort(cleared);
+        assertEquals(Arrays.asList("a", "b"), cleared);
+        assertEquals(0, timerWheel.size());
+        assertEquals(Collections.emptyList(), timerWheel.advance(100000));
+    }
+
+}
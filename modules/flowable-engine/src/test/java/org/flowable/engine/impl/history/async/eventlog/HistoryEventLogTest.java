@@ -0,0 +1,158 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.history.async.eventlog;
+
+import java.io.File;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import junit.framework.TestCase;
+
+public class HistoryEventLogTest extends TestCase {
+
+    protected File directory;
+
+    @Override
+    protected void setUp() throws Exception {
+        directory = File.createTempFile("history-event-log", "");
+        assertTrue(directory.delete());
+    }
+
+    @Override
+    protected void tearDown() throws Exception {
+        File[] files = directory.listFiles();
+        if (files != null) {
+            for (File file : files) {
+                file.delete();
+            }
+        }
+        directory.delete();
+    }
+
+    public void testAppendAndRead() {
+        HistoryEventLog log = new HistoryEventLog(directory, 1024);
+        long first = log.append(bytes("first"));
+        long second = log.append(bytes("second"));
+        assertEquals(0L, first);
+        assertEquals(HistoryEventLog.RECORD_HEADER_SIZE + 5, second);
+        assertEquals(second + HistoryEventLog.RECORD_HEADER_SIZE + 6, log.getEndPosition());
+
+        HistoryEventLogReader reader = new HistoryEventLogReader(directory);
+        List<HistoryEventLogRecord> records = reader.read(0L, 10);
+        assertEquals(2, records.size());
+        assertEquals("first", text(records.get(0)));
+        assertEquals("second", text(records.get(1)));
+        assertEquals(log.getEndPosition(), records.get(1).getNextPosition());
+
+        records = reader.read(second, 10);
+        assertEquals(1, records.size());
+        assertEquals("second", text(records.get(0)));
+
+        assertTrue(reader.read(log.getEndPosition(), 10).isEmpty());
+        log.close();
+    }
+
+    public void testReadContinuesInNextSegment() {
+        HistoryEventLog log = new HistoryEventLog(directory, 64);
+        for (int i = 0; i < 10; i++) {
+            log.append(bytes("record-" + i));
+        }
+        // A record that is larger than a segment
+        log.append(bytes("a record that doesn't fit in a segment of sixty-four bytes, not even in an empty one"));
+        log.close();
+        assertTrue(directory.listFiles().length > 2);
+
+        HistoryEventLogReader reader = new HistoryEventLogReader(directory);
+        List<HistoryEventLogRecord> records = reader.read(0L, 4);
+        assertEquals(4, records.size());
+        records.addAll(reader.read(records.get(3).getNextPosition(), 100));
+        assertEquals(11, records.size());
+        for (int i = 0; i < 10; i++) {
+            assertEquals("record-" + i, text(records.get(i)));
+        }
+        assertEquals("a record that doesn't fit in a segment of sixty-four bytes, not even in an empty one", text(records.get(10)));
+    }
+
+    public void testReopenContinuesAfterLastRecord() {
+        HistoryEventLog log = new HistoryEventLog(directory, 1024);
+        log.append(bytes("first"));
+        long end = log.getEndPosition();
+        log.close();
+
+        log = new HistoryEventLog(directory, 1024);
+        assertEquals(end, log.getEndPosition());
+        assertEquals(end, log.append(bytes("second")));
+        log.close();
+
+        List<HistoryEventLogRecord> records = new HistoryEventLogReader(directory).read(0L, 10);
+        assertEquals(2, records.size());
+        assertEquals("second", text(records.get(1)));
+    }
+
+    public void testTornRecordIsOverwritten() throws Exception {
+        HistoryEventLog log = new HistoryEventLog(directory, 1024);
+        log.append(bytes("first"));
+        long end = log.append(bytes("second"));
+        log.close();
+
+        // Corrupt the data of the second record, as a crash while writing it would
+        try (RandomAccessFile file = new RandomAccessFile(directory.listFiles()[0], "rw")) {
+            file.seek(end + HistoryEventLog.RECORD_HEADER_SIZE);
+            file.write('x');
+        }
+        assertEquals(1, new HistoryEventLogReader(directory).read(0L, 10).size());
+
+        log = new HistoryEventLog(directory, 1024);
+        assertEquals(end, log.getEndPosition());
+        log.append(bytes("third"));
+        log.close();
+
+        List<HistoryEventLogRecord> records = new HistoryEventLogReader(directory).read(0L, 10);
+        assertEquals(2, records.size());
+        assertEquals("first", text(records.get(0)));
+        assertEquals("third", text(records.get(1)));
+    }
+
+    public void testDeleteSegmentsBefore() {
+        HistoryEventLog log = new HistoryEventLog(directory, 64);
+        long position = 0L;
+        for (int i = 0; i < 10; i++) {
+            position = log.append(bytes("record-" + i));
+        }
+        int nrOfSegments = directory.listFiles().length;
+
+        assertEquals(0, log.deleteSegmentsBefore(0L));
+        int deleted = log.deleteSegmentsBefore(position);
+        assertTrue(deleted > 0);
+        assertEquals(nrOfSegments - deleted, directory.listFiles().length);
+
+        // Reading from a deleted position starts at the first segment left
+        List<HistoryEventLogRecord> records = new HistoryEventLogReader(directory).read(0L, 100);
+        assertEquals("record-9", text(records.get(records.size() - 1)));
+
+        // The segment that is written to is never deleted
+        log.deleteSegmentsBefore(Long.MAX_VALUE);
+        assertEquals(1, directory.listFiles().length);
+        log.close();
+    }
+
+    protected byte[] bytes(String text) {
+        return text.getBytes(StandardCharsets.UTF_8);
+    }
+
+    protected String text(HistoryEventLogRecord record) {
+        return new String(record.getData(), StandardCharsets.UTF_8);
+    }
+
+}
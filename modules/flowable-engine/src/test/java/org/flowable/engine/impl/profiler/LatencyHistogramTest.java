@@ -0,0 +1,81 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.profiler;
+
+import junit.framework.TestCase;
+
+public class LatencyHistogramTest extends TestCase {
+
+    public void testBucketsCoverAllValues() {
+        for (long value = 0L; value < 100000L; value++) {
+            int index = LatencyHistogram.getBucketIndex(value);
+            assertTrue(value <= LatencyHistogram.getBucketUpperBound(index));
+            assertTrue(index == 0 || value > LatencyHistogram.getBucketUpperBound(index - 1));
+        }
+        assertEquals(LatencyHistogram.BUCKET_COUNT - 1, LatencyHistogram.getBucketIndex(LatencyHistogram.MAX_TRACKABLE_VALUE));
+        assertEquals(LatencyHistogram.BUCKET_COUNT - 1, LatencyHistogram.getBucketIndex(Long.MAX_VALUE));
+    }
+
+    public void testPercentiles() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        assertEquals(0L, histogram.getValueAtPercentile(99.0));
+
+        for (long value = 1L; value <= 1000L; value++) {
+            histogram.record(value);
+        }
+        assertEquals(1000L, histogram.getCount());
+        assertEquals(500500L, histogram.getTotal());
+        assertEquals(1000L, histogram.getMax());
+        assertEquals(500.5, histogram.getMean(), 0.001);
+
+        assertWithinPrecision(500L, histogram.getValueAtPercentile(50.0));
+        assertWithinPrecision(990L, histogram.getValueAtPercentile(99.0));
+        assertEquals(1000L, histogram.getValueAtPercentile(100.0));
+        assertEquals(1L, histogram.getValueAtPercentile(0.0));
+
+        histogram.reset();
+        assertEquals(0L, histogram.getCount());
+        assertEquals(0L, histogram.getMax());
+    }
+
+    public void testCommandProfilerLimitsTrackedKeys() {
+        CommandProfiler commandProfiler = new CommandProfiler();
+        commandProfiler.setMaxCommandTypes(2);
+        commandProfiler.recordCommand("first", 1000L, false);
+        commandProfiler.recordCommand("second", 2000L, true);
+        commandProfiler.recordCommand("third", 3000L, false);
+        commandProfiler.recordCommand("fourth", 4000L, false);
+        commandProfiler.recordCommand("first", 5000L, false);
+
+        assertEquals(3, commandProfiler.getCommandStatistics().size());
+        CommandStatistics other = commandProfiler.getCommandStatistics().get(0);
+        assertEquals(CommandProfiler.OTHER, other.getCommandType());
+        assertEquals(2L, other.getCount());
+        assertEquals(7L, other.getTotalTimeInMicros());
+
+        CommandStatistics first = commandProfiler.getCommandStatistics().get(1);
+        assertEquals("first", first.getCommandType());
+        assertEquals(2L, first.getCount());
+        assertEquals(0L, first.getFailureCount());
+        assertEquals(5L, first.getMaxTimeInMicros());
+        assertEquals(1L, commandProfiler.getCommandStatistics().get(2).getFailureCount());
+
+        commandProfiler.reset();
+        assertTrue(commandProfiler.getCommandStatistics().isEmpty());
+    }
+
+    protected void assertWithinPrecision(long expected, long actual) {
+        assertTrue(actual + " is not close to " + expected, actual >= expected && actual <= expected + expected / 16);
+    }
+
+}
@@ -0,0 +1,100 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.cache;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+
+import junit.framework.TestCase;
+
+import org.flowable.engine.impl.persistence.cache.CachedEntity;
+import org.flowable.engine.impl.persistence.cache.EntityCacheImpl;
+import org.flowable.engine.impl.persistence.entity.ExecutionEntityImpl;
+import org.flowable.engine.impl.persistence.entity.data.impl.cachematcher.CachedEntityIndexes;
+
+public class EntityCacheIndexTest extends TestCase {
+
+    protected EntityCacheImpl entityCache;
+
+    @Override
+    protected void setUp() throws Exception {
+        entityCache = new EntityCacheImpl();
+    }
+
+    public void testFindByIndex() {
+        putExecution("1", "parent1");
+        putExecution("2", "parent1");
+        putExecution("3", "parent2");
+
+        assertIds(findByParentId("parent1"), "1", "2");
+        assertIds(findByParentId("parent2"), "3");
+        assertIds(findByParentId("parent3"));
+
+        // entities put after the index is built are indexed too
+        putExecution("4", "parent2");
+        assertIds(findByParentId("parent2"), "3", "4");
+    }
+
+    public void testChangedValueIsReindexed() {
+        ExecutionEntityImpl execution = putExecution("1", "parent1");
+        putExecution("2", "parent1");
+        assertIds(findByParentId("parent1"), "1", "2");
+
+        execution.setParentId("parent2");
+        entityCache.updateIndexes(execution);
+
+        assertIds(findByParentId("parent1"), "2");
+        assertIds(findByParentId("parent2"), "1");
+    }
+
+    public void testRemovedEntityIsRemovedFromIndex() {
+        putExecution("1", "parent1");
+        putExecution("2", "parent1");
+        assertIds(findByParentId("parent1"), "1", "2");
+
+        entityCache.cacheRemove(ExecutionEntityImpl.class, "1");
+        assertIds(findByParentId("parent1"), "2");
+        assertNull(entityCache.findInCache(ExecutionEntityImpl.class, "1"));
+    }
+
+    public void testEntityWithoutValueIsNotIndexed() {
+        putExecution("1", null);
+        putExecution("2", "parent1");
+        assertIds(findByParentId("parent1"), "2");
+    }
+
+    protected ExecutionEntityImpl putExecution(String id, String parentId) {
+        ExecutionEntityImpl execution = ExecutionEntityImpl.createWithEmptyRelationshipCollections();
+        execution.setId(id);
+        execution.setParentId(parentId);
+        entityCache.put(execution, false);
+        return execution;
+    }
+
+    protected Collection<CachedEntity> findByParentId(String parentId) {
+        return entityCache.findInCacheByIndex(ExecutionEntityImpl.class, CachedEntityIndexes.EXECUTION_PARENT_ID, parentId);
+    }
+
+    protected void assertIds(Collection<CachedEntity> cachedEntities, String... expectedIds) {
+        Set<String> ids = new HashSet<String>();
+        for (CachedEntity cachedEntity : cachedEntities) {
+            ids.add(cachedEntity.getEntity().getId());
+        }
+        assertEquals(expectedIds.length, cachedEntities.size());
+        for (String expectedId : expectedIds) {
+            assertTrue(ids.contains(expectedId));
+        }
+    }
+
+}
@@ -0,0 +1,180 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.cache;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.flowable.engine.ProcessEngineConfiguration;
+import org.flowable.engine.common.impl.db.AbstractDbSqlSession;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.context.Context;
+import org.flowable.engine.impl.db.DbSqlSession;
+import org.flowable.engine.impl.db.DbSqlSessionFactory;
+import org.flowable.engine.impl.interceptor.Command;
+import org.flowable.engine.impl.interceptor.CommandContext;
+import org.flowable.engine.impl.persistence.GenericManagerFactory;
+import org.flowable.engine.impl.persistence.cache.ChangeTrackingEntityCacheImpl;
+import org.flowable.engine.impl.persistence.cache.EntityCache;
+import org.flowable.engine.impl.persistence.cache.EntityCacheImpl;
+import org.flowable.engine.impl.test.ResourceFlowableTestCase;
+import org.flowable.engine.task.Task;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Measures a read-heavy command, querying a number of tasks and completing one of them, with and without
+ * {@link ProcessEngineConfigurationImpl#setEnableEntityChangeTracking(boolean)}. The time and allocated bytes of the command and of its flush are logged.
+ *
+ * Benchmark tests are excluded from the regular build, run it with -Dtest=EntityChangeTrackingBenchmarkTest. The number of tasks and iterations can be
+ * changed through the 'flowable.benchmark.tasks' and 'flowable.benchmark.iterations' system properties.
+ */
+public class EntityChangeTrackingBenchmarkTest extends ResourceFlowableTestCase {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(EntityChangeTrackingBenchmarkTest.class);
+
+    protected static final int NR_OF_TASKS = Integer.getInteger("flowable.benchmark.tasks", 1000);
+    protected static final int ITERATIONS = Integer.getInteger("flowable.benchmark.iterations", 200);
+    protected static final int ROUNDS = 5;
+
+    public EntityChangeTrackingBenchmarkTest() {
+        super("org/flowable/engine/test/cache/entity.change.tracking.benchmark.flowable.cfg.xml");
+    }
+
+    @Override
+    protected void additionalConfiguration(ProcessEngineConfiguration processEngineConfiguration) {
+        ((ProcessEngineConfigurationImpl) processEngineConfiguration).setDbSqlSessionFactory(new MeasuringDbSqlSessionFactory());
+    }
+
+    public void testChangeTracking() {
+        for (int i = 0; i < NR_OF_TASKS; i++) {
+            createTask(i);
+        }
+
+        try {
+            for (boolean changeTracking : new boolean[] { false, true }) {
+                // the entity cache is the only part of change tracking that is set up when the engine is built
+                processEngineConfiguration.addSessionFactory(new GenericManagerFactory(EntityCache.class,
+                        changeTracking ? ChangeTrackingEntityCacheImpl.class : EntityCacheImpl.class));
+
+                Result result = runCommands();
+                LOGGER.info("Change tracking {} ({} tasks): command {} us, {} bytes allocated, flush {} us, {} bytes allocated", changeTracking, NR_OF_TASKS,
+                        result.commandNanos / 1000L, result.commandBytes, result.flushNanos / 1000L, result.flushBytes);
+            }
+
+        } finally {
+            processEngineConfiguration.addSessionFactory(new GenericManagerFactory(EntityCache.class, EntityCacheImpl.class));
+
+            List<String> taskIds = new ArrayList<String>();
+            for (Task task : taskService.createTaskQuery().list()) {
+                taskIds.add(task.getId());
+            }
+            taskService.deleteTasks(taskIds, true);
+        }
+    }
+
+    protected Result runCommands() {
+        MeasuringDbSqlSessionFactory dbSqlSessionFactory = (MeasuringDbSqlSessionFactory) processEngineConfiguration.getDbSqlSessionFactory();
+        Command<Void> command = new Command<Void>() {
+
+            @Override
+            public Void execute(CommandContext commandContext) {
+                List<Task> tasks = taskService.createTaskQuery().listPage(0, Integer.MAX_VALUE);
+                taskService.complete(tasks.get(0).getId());
+                return null;
+            }
+        };
+
+        // the best of a few rounds (the first one is the warm up), to reduce the influence of GC and JIT
+        Result best = null;
+        for (int round = 0; round <= ROUNDS; round++) {
+            Result result = new Result();
+            for (int i = 0; i < ITERATIONS; i++) {
+                dbSqlSessionFactory.reset();
+                long bytes = allocatedBytes();
+                long start = System.nanoTime();
+                managementService.executeCommand(command);
+                result.commandNanos += System.nanoTime() - start;
+                result.commandBytes += allocatedBytes() - bytes;
+                result.flushNanos += dbSqlSessionFactory.flushNanos;
+                result.flushBytes += dbSqlSessionFactory.flushBytes;
+
+                // keep the number of tasks the same
+                createTask(i);
+            }
+            result.divide(ITERATIONS);
+            if (round > 0 && (best == null || result.commandNanos < best.commandNanos)) {
+                best = result;
+            }
+        }
+        return best;
+    }
+
+    protected void createTask(int i) {
+        Task task = taskService.newTask();
+        task.setName("task " + i);
+        taskService.saveTask(task);
+    }
+
+    protected static long allocatedBytes() {
+        ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+        if (threadMXBean instanceof com.sun.management.ThreadMXBean) {
+            return ((com.sun.management.ThreadMXBean) threadMXBean).getThreadAllocatedBytes(Thread.currentThread().getId());
+        }
+        return 0L;
+    }
+
+    protected static class Result {
+
+        protected long commandNanos;
+        protected long commandBytes;
+        protected long flushNanos;
+        protected long flushBytes;
+
+        protected void divide(int iterations) {
+            commandNanos /= iterations;
+            commandBytes /= iterations;
+            flushNanos /= iterations;
+            flushBytes /= iterations;
+        }
+    }
+
+    protected static class MeasuringDbSqlSessionFactory extends DbSqlSessionFactory {
+
+        protected long flushNanos;
+        protected long flushBytes;
+
+        protected void reset() {
+            flushNanos = 0L;
+            flushBytes = 0L;
+        }
+
+        @Override
+        protected AbstractDbSqlSession createDbSqlSession() {
+            return new DbSqlSession(this, Context.getCommandContext().getEntityCache()) {
+
+                @Override
+                public void flush() {
+                    long bytes = allocatedBytes();
+                    long start = System.nanoTime();
+                    super.flush();
+                    flushNanos += System.nanoTime() - start;
+                    flushBytes += allocatedBytes() - bytes;
+                }
+            };
+        }
+    }
+
+}
@@ -0,0 +1,154 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.cache;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.flowable.engine.impl.interceptor.Command;
+import org.flowable.engine.impl.interceptor.CommandContext;
+import org.flowable.engine.impl.persistence.cache.CachedEntity;
+import org.flowable.engine.impl.persistence.cache.ChangeTrackingEntityCacheImpl;
+import org.flowable.engine.impl.persistence.cache.EntityCache;
+import org.flowable.engine.impl.persistence.entity.TaskEntity;
+import org.flowable.engine.impl.persistence.entity.TaskEntityImpl;
+import org.flowable.engine.impl.profiler.StatementStatistics;
+import org.flowable.engine.impl.test.ResourceFlowableTestCase;
+import org.flowable.engine.task.Task;
+import org.flowable.engine.test.Deployment;
+
+public class EntityChangeTrackingTest extends ResourceFlowableTestCase {
+
+    public EntityChangeTrackingTest() {
+        super("org/flowable/engine/test/cache/entity.change.tracking.test.flowable.cfg.xml");
+    }
+
+    @Deployment(resources = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+    public void testOnlyChangedTasksAreUpdated() {
+        for (int i = 0; i < 5; i++) {
+            runtimeService.startProcessInstanceByKey("oneTaskProcess");
+        }
+        final Map<String, Integer> revisions = getRevisions();
+        final String changedTaskId = revisions.keySet().iterator().next();
+
+        managementService.executeCommand(new Command<Void>() {
+
+            @Override
+            public Void execute(CommandContext commandContext) {
+                assertTrue(commandContext.getSession(EntityCache.class) instanceof ChangeTrackingEntityCacheImpl);
+
+                // the query runs in the same command context
+                List<Task> tasks = taskService.createTaskQuery().list();
+                assertEquals(5, tasks.size());
+                for (Task task : tasks) {
+                    TaskEntityImpl taskEntity = (TaskEntityImpl) task;
+                    assertFalse(taskEntity.isChanged());
+                    assertEquals(taskEntity.getPersistentState(), taskEntity.getOriginalPersistentState());
+                }
+
+                TaskEntity changedTask = commandContext.getTaskEntityManager().findById(changedTaskId);
+                Object persistentState = changedTask.getPersistentState();
+                changedTask.setAssignee("kermit");
+                assertTrue(((TaskEntityImpl) changedTask).isChanged());
+                assertEquals(persistentState, changedTask.getOriginalPersistentState());
+                return null;
+            }
+        });
+
+        Map<String, Integer> newRevisions = getRevisions();
+        for (String taskId : revisions.keySet()) {
+            int expectedRevision = taskId.equals(changedTaskId) ? revisions.get(taskId) + 1 : revisions.get(taskId);
+            assertEquals(expectedRevision, newRevisions.get(taskId).intValue());
+        }
+        assertEquals("kermit", taskService.createTaskQuery().taskId(changedTaskId).singleResult().getAssignee());
+    }
+
+    @Deployment(resources = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+    public void testOnlyChangedTasksAreFlushed() {
+        for (int i = 0; i < 5; i++) {
+            runtimeService.startProcessInstanceByKey("oneTaskProcess");
+        }
+        final String changedTaskId = taskService.createTaskQuery().list().get(0).getId();
+
+        processEngineConfiguration.getCommandProfiler().reset();
+        managementService.executeCommand(new Command<Void>() {
+
+            @Override
+            public Void execute(CommandContext commandContext) {
+                assertEquals(5, taskService.createTaskQuery().list().size());
+                commandContext.getTaskEntityManager().findById(changedTaskId).setAssignee("kermit");
+                return null;
+            }
+        });
+        assertEquals(1L, getStatementCount("updateTask"));
+
+        processEngineConfiguration.getCommandProfiler().reset();
+        managementService.executeCommand(new Command<Void>() {
+
+            @Override
+            public Void execute(CommandContext commandContext) {
+                assertEquals(5, taskService.createTaskQuery().list().size());
+                return null;
+            }
+        });
+        assertEquals(0L, getStatementCount("updateTask"));
+    }
+
+    @Deployment(resources = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+    public void testRevertedChangeIsNotUpdated() {
+        runtimeService.startProcessInstanceByKey("oneTaskProcess");
+        final Task task = taskService.createTaskQuery().singleResult();
+        int revision = ((TaskEntity) task).getRevision();
+
+        managementService.executeCommand(new Command<Void>() {
+
+            @Override
+            public Void execute(CommandContext commandContext) {
+                TaskEntity taskEntity = commandContext.getTaskEntityManager().findById(task.getId());
+                taskEntity.setPriority(10);
+                taskEntity.setPriority(task.getPriority());
+
+                CachedEntity cachedEntity = commandContext.getSession(EntityCache.class).findInCacheAsCachedObjects(TaskEntityImpl.class).iterator().next();
+                assertFalse(cachedEntity.hasChanged());
+                return null;
+            }
+        });
+
+        assertEquals(revision, ((TaskEntity) taskService.createTaskQuery().singleResult()).getRevision());
+
+        taskService.setPriority(task.getId(), 10);
+        assertEquals(10, taskService.createTaskQuery().singleResult().getPriority());
+        taskService.complete(task.getId());
+        assertEquals(0, taskService.createTaskQuery().count());
+    }
+
+    protected Map<String, Integer> getRevisions() {
+        Map<String, Integer> revisions = new HashMap<String, Integer>();
+        for (Task task : taskService.createTaskQuery().list()) {
+            revisions.put(task.getId(), ((TaskEntity) task).getRevision());
+        }
+        return revisions;
+    }
+
+    protected long getStatementCount(String statement) {
+        long count = 0L;
+        for (StatementStatistics statistics : processEngineConfiguration.getCommandProfiler().getStatementStatistics()) {
+            if (statistics.getStatement().endsWith("." + statement)) {
+                count += statistics.getCount();
+            }
+        }
+        return count;
+    }
+
+}
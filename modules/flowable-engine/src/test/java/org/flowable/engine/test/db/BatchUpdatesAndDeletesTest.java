@@ -0,0 +1,140 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.db;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.flowable.engine.common.api.FlowableOptimisticLockingException;
+import org.flowable.engine.impl.interceptor.Command;
+import org.flowable.engine.impl.interceptor.CommandContext;
+import org.flowable.engine.impl.persistence.entity.TaskEntity;
+import org.flowable.engine.impl.test.ResourceFlowableTestCase;
+import org.flowable.engine.task.Task;
+import org.flowable.engine.test.Deployment;
+
+public class BatchUpdatesAndDeletesTest extends ResourceFlowableTestCase {
+
+    public BatchUpdatesAndDeletesTest() {
+        super("org/flowable/engine/test/db/batch.updates.and.deletes.flowable.cfg.xml");
+    }
+
+    @Deployment(resources = "org/flowable/engine/test/bpmn/multiinstance/MultiInstanceTest.testNestedParallelUserTasks.bpmn20.xml")
+    public void testProcessWithManyExecutions() {
+        assertTrue(processEngineConfiguration.getDbSqlSessionFactory().isBatchUpdatesAndDeletesEnabled());
+
+        Map<String, Object> variables = new HashMap<String, Object>();
+        for (int i = 0; i < 10; i++) {
+            variables.put("var" + i, i);
+        }
+        String processInstanceId = runtimeService.startProcessInstanceByKey("miNestedParallelUserTasks", variables).getId();
+
+        List<Task> tasks = taskService.createTaskQuery().taskAssignee("kermit").list();
+        assertEquals(4, tasks.size());
+        for (Task task : tasks) {
+            taskService.complete(task.getId());
+        }
+
+        assertProcessEnded(processInstanceId);
+        assertEquals(0, runtimeService.createExecutionQuery().count());
+        assertEquals(0, taskService.createTaskQuery().count());
+    }
+
+    public void testOptimisticLockingOnBatchUpdate() {
+        final List<String> taskIds = createTasks(3);
+        try {
+            managementService.executeCommand(new Command<Void>() {
+
+                @Override
+                public Void execute(CommandContext commandContext) {
+                    for (String taskId : taskIds) {
+                        TaskEntity task = commandContext.getTaskEntityManager().findById(taskId);
+                        task.setAssignee("kermit");
+                    }
+
+                    // as if the last one was updated by another transaction
+                    TaskEntity task = commandContext.getTaskEntityManager().findById(taskIds.get(2));
+                    task.setRevision(task.getRevision() - 1);
+                    return null;
+                }
+            });
+            fail();
+        } catch (FlowableOptimisticLockingException e) {
+            // expected
+        }
+
+        // none of the updates are committed
+        assertEquals(0, taskService.createTaskQuery().taskAssignee("kermit").count());
+
+        managementService.executeCommand(new Command<Void>() {
+
+            @Override
+            public Void execute(CommandContext commandContext) {
+                for (String taskId : taskIds) {
+                    commandContext.getTaskEntityManager().findById(taskId).setAssignee("kermit");
+                }
+                return null;
+            }
+        });
+        assertEquals(3, taskService.createTaskQuery().taskAssignee("kermit").count());
+
+        deleteTasks(taskIds);
+    }
+
+    public void testOptimisticLockingOnBatchDelete() {
+        final List<String> taskIds = createTasks(3);
+        try {
+            managementService.executeCommand(new Command<Void>() {
+
+                @Override
+                public Void execute(CommandContext commandContext) {
+                    for (String taskId : taskIds) {
+                        TaskEntity task = commandContext.getTaskEntityManager().findById(taskId);
+                        if (taskId.equals(taskIds.get(1))) {
+                            task.setRevision(task.getRevision() + 1);
+                        }
+                        commandContext.getDbSqlSession().delete(task);
+                    }
+                    return null;
+                }
+            });
+            fail();
+        } catch (FlowableOptimisticLockingException e) {
+            // expected
+        }
+        assertEquals(3, taskService.createTaskQuery().count());
+
+        deleteTasks(taskIds);
+        assertEquals(0, taskService.createTaskQuery().count());
+    }
+
+    protected List<String> createTasks(int nrOfTasks) {
+        List<String> taskIds = new ArrayList<String>();
+        for (int i = 0; i < nrOfTasks; i++) {
+            Task task = taskService.newTask();
+            task.setName("task " + i);
+            taskService.saveTask(task);
+            taskIds.add(task.getId());
+        }
+        return taskIds;
+    }
+
+    protected void deleteTasks(List<String> taskIds) {
+        for (String taskId : taskIds) {
+            taskService.deleteTask(taskId, true);
+        }
+    }
+
+}
@@ -0,0 +1,61 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.jobexecutor;
+
+import java.util.concurrent.Callable;
+
+import org.flowable.engine.impl.asyncexecutor.AdaptiveAcquisitionController;
+import org.flowable.engine.impl.asyncexecutor.DefaultAsyncJobExecutor;
+import org.flowable.engine.impl.test.ResourceFlowableTestCase;
+import org.flowable.engine.test.Deployment;
+
+/**
+ * Tests the {@link DefaultAsyncJobExecutor} with the acquisition tuned by {@link AdaptiveAcquisitionController}s.
+ */
+public class AdaptiveAcquisitionTest extends ResourceFlowableTestCase {
+
+    protected static final int NR_OF_PROCESS_INSTANCES = 20;
+
+    public AdaptiveAcquisitionTest() {
+        super("org/flowable/engine/test/jobexecutor/adaptiveacquisition.flowable.cfg.xml");
+    }
+
+    @Deployment(resources = "org/flowable/engine/test/jobexecutor/AsyncExecutorTest.testAsyncScriptExecution.bpmn20.xml")
+    public void testJobsAreExecutedAndDecisionsRecorded() throws Exception {
+        for (int i = 0; i < NR_OF_PROCESS_INSTANCES; i++) {
+            runtimeService.startProcessInstanceByKey("asyncScript");
+        }
+
+        waitForJobExecutorOnCondition(20000L, 20L, new Callable<Boolean>() {
+
+            @Override
+            public Boolean call() throws Exception {
+                return taskService.createTaskQuery().taskName("Task after script").count() == NR_OF_PROCESS_INSTANCES;
+            }
+        });
+
+        // the controllers are created when the executor starts
+        DefaultAsyncJobExecutor asyncExecutor = (DefaultAsyncJobExecutor) processEngineConfiguration.getAsyncExecutor();
+        AdaptiveAcquisitionController controller = asyncExecutor.getAsyncJobAcquisitionController();
+        assertNotNull(controller);
+        assertEquals(8, controller.getMaxBatchSize());
+        assertEquals(1000L, controller.getMaxWaitTimeInMillis());
+        assertNotNull(asyncExecutor.getTimerJobAcquisitionController());
+        assertNotNull(asyncExecutor.getResetExpiredJobsController());
+
+        assertTrue(controller.getAcquisitionCount() > 0);
+        assertTrue(controller.getWaitTimeInMillis() <= 1000L);
+        assertTrue(controller.getBatchSize() >= 1 && controller.getBatchSize() <= 8);
+    }
+
+}
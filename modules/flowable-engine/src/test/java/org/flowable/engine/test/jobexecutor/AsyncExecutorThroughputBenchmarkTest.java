@@ -0,0 +1,113 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.jobexecutor;
+
+import java.util.concurrent.Callable;
+
+import org.flowable.engine.ProcessEngineConfiguration;
+import org.flowable.engine.delegate.DelegateExecution;
+import org.flowable.engine.delegate.JavaDelegate;
+import org.flowable.engine.impl.asyncexecutor.DefaultAsyncJobExecutor;
+import org.flowable.engine.impl.asyncexecutor.SemaphoreBoundedExecutorService;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.test.ResourceFlowableTestCase;
+import org.flowable.engine.test.Deployment;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Compares the job throughput of the thread pool of the {@link DefaultAsyncJobExecutor} with its virtual thread mode, for jobs that block (like a remote call
+ * does) for a while. Virtual threads are only used on Java 21 or later, before that the mode runs the jobs on platform threads.
+ *
+ * Benchmark tests are excluded from the regular build, run it with -Dtest=AsyncExecutorThroughputBenchmarkTest. The number of jobs, the time a job blocks and
+ * the size of the connection pool can be changed through the 'flowable.benchmark.jobs', 'flowable.benchmark.blockingMillis' and 'flowable.benchmark.connections'
+ * system properties.
+ */
+public class AsyncExecutorThroughputBenchmarkTest extends ResourceFlowableTestCase {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(AsyncExecutorThroughputBenchmarkTest.class);
+
+    protected static final int NR_OF_JOBS = Integer.getInteger("flowable.benchmark.jobs", 1000);
+    protected static final int BLOCKING_MILLIS = Integer.getInteger("flowable.benchmark.blockingMillis", 50);
+    protected static final int NR_OF_CONNECTIONS = Integer.getInteger("flowable.benchmark.connections", 50);
+
+    public AsyncExecutorThroughputBenchmarkTest() {
+        super("org/flowable/engine/test/jobexecutor/async.executor.throughput.benchmark.flowable.cfg.xml");
+    }
+
+    @Override
+    protected void additionalConfiguration(ProcessEngineConfiguration processEngineConfiguration) {
+        ProcessEngineConfigurationImpl processEngineConfigurationImpl = (ProcessEngineConfigurationImpl) processEngineConfiguration;
+        processEngineConfigurationImpl.setJdbcMaxActiveConnections(NR_OF_CONNECTIONS);
+        processEngineConfigurationImpl.setAsyncExecutorVirtualThreadJobExecution("testVirtualThreads".equals(getName()));
+        // Both modes keep the jobs that don't fit on this node, so the acquisition does not influence the result
+        processEngineConfigurationImpl.setAsyncExecutorLocalBacklogSize(NR_OF_JOBS);
+    }
+
+    @Deployment(resources = "org/flowable/engine/test/jobexecutor/AsyncExecutorThroughputBenchmarkTest.bpmn20.xml")
+    public void testThreadPool() {
+        runThroughputBenchmark();
+    }
+
+    @Deployment(resources = "org/flowable/engine/test/jobexecutor/AsyncExecutorThroughputBenchmarkTest.bpmn20.xml")
+    public void testVirtualThreads() {
+        runThroughputBenchmark();
+    }
+
+    protected void runThroughputBenchmark() {
+        for (int i = 0; i < NR_OF_JOBS; i++) {
+            runtimeService.startProcessInstanceByKey("blockingJob");
+        }
+        assertEquals(NR_OF_JOBS, managementService.createJobQuery().count());
+
+        final DefaultAsyncJobExecutor asyncExecutor = (DefaultAsyncJobExecutor) processEngineConfiguration.getAsyncExecutor();
+        // the executor service only exists while the executor runs
+        final String[] mode = new String[1];
+        long start = System.currentTimeMillis();
+        waitForJobExecutorOnCondition(NR_OF_JOBS * (long) BLOCKING_MILLIS + 60000L, 10L, new Callable<Boolean>() {
+
+            @Override
+            public Boolean call() throws Exception {
+                if (mode[0] == null) {
+                    mode[0] = describeExecutionMode(asyncExecutor);
+                }
+                return runtimeService.createProcessInstanceQuery().count() == 0;
+            }
+        });
+        long duration = Math.max(1L, System.currentTimeMillis() - start);
+
+        LOGGER.info("Async executor throughput ({}): {} jobs of {} ms in {} ms ({} jobs/s)", mode[0], NR_OF_JOBS, BLOCKING_MILLIS, duration,
+                (NR_OF_JOBS * 1000L) / duration);
+    }
+
+    protected String describeExecutionMode(DefaultAsyncJobExecutor asyncExecutor) {
+        if (asyncExecutor.getExecutorService() instanceof SemaphoreBoundedExecutorService) {
+            SemaphoreBoundedExecutorService executorService = (SemaphoreBoundedExecutorService) asyncExecutor.getExecutorService();
+            return (executorService.isVirtualThreads() ? "virtual threads" : "platform threads") + ", " + executorService.getMaxConcurrentTasks() + " permits";
+        }
+        return "thread pool, " + asyncExecutor.getCorePoolSize() + "-" + asyncExecutor.getMaxPoolSize() + " threads";
+    }
+
+    public static class BlockingDelegate implements JavaDelegate {
+
+        @Override
+        public void execute(DelegateExecution execution) {
+            try {
+                Thread.sleep(BLOCKING_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+}
@@ -0,0 +1,85 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.jobexecutor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.flowable.engine.common.impl.util.CollectionUtil;
+import org.flowable.engine.history.HistoricActivityInstance;
+import org.flowable.engine.history.HistoricProcessInstance;
+import org.flowable.engine.history.HistoricTaskInstance;
+import org.flowable.engine.impl.history.async.DefaultAsyncHistoryJobExecutor;
+import org.flowable.engine.impl.test.ResourceFlowableTestCase;
+import org.flowable.engine.task.Task;
+import org.flowable.engine.test.Deployment;
+
+/**
+ * Tests the {@link DefaultAsyncHistoryJobExecutor} executing history jobs in batches.
+ */
+public class AsyncHistoryJobBatchTest extends ResourceFlowableTestCase {
+
+    public AsyncHistoryJobBatchTest() {
+        super("org/flowable/engine/test/jobexecutor/asynchistorybatch.flowable.cfg.xml");
+    }
+
+    public void testBatchSizeIsApplied() {
+        DefaultAsyncHistoryJobExecutor asyncHistoryExecutor = (DefaultAsyncHistoryJobExecutor) processEngineConfiguration.getAsyncHistoryExecutor();
+        assertEquals(20, asyncHistoryExecutor.getHistoryJobBatchSize());
+        assertEquals(20, asyncHistoryExecutor.getMaxAsyncJobsDuePerAcquisition());
+    }
+
+    @Deployment(resources = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+    public void testHistoryOfManyProcessInstances() {
+        int nrOfProcessInstances = 25;
+        List<String> processInstanceIds = new ArrayList<String>();
+        for (int i = 0; i < nrOfProcessInstances; i++) {
+            processInstanceIds.add(runtimeService.startProcessInstanceByKey("oneTaskProcess").getId());
+        }
+        for (Task task : taskService.createTaskQuery().list()) {
+            taskService.setAssignee(task.getId(), "kermit");
+            taskService.complete(task.getId());
+        }
+
+        // The executor is started only now, H2 locks whole tables and would deadlock it with the process engine calls above
+        waitForHistoryJobExecutorToProcessAllJobs(30000L, 50L);
+
+        for (String processInstanceId : processInstanceIds) {
+            HistoricProcessInstance historicProcessInstance = historyService.createHistoricProcessInstanceQuery().processInstanceId(processInstanceId).singleResult();
+            assertNotNull(historicProcessInstance);
+            assertNotNull(historicProcessInstance.getEndTime());
+
+            HistoricTaskInstance historicTaskInstance = historyService.createHistoricTaskInstanceQuery().processInstanceId(processInstanceId).singleResult();
+            assertEquals("kermit", historicTaskInstance.getAssignee());
+            assertNotNull(historicTaskInstance.getEndTime());
+
+            List<HistoricActivityInstance> historicActivityInstances = historyService.createHistoricActivityInstanceQuery().processInstanceId(processInstanceId).list();
+            assertEquals(3, historicActivityInstances.size());
+            for (HistoricActivityInstance historicActivityInstance : historicActivityInstances) {
+                assertNotNull(historicActivityInstance.getEndTime());
+            }
+        }
+    }
+
+    @Deployment(resources = "org/flowable/standalone/history/async/AsyncHistoryTest.testSimpleStraightThroughProcess.bpmn")
+    public void testHistoryOfLongProcessInstance() {
+        String processInstanceId = runtimeService.startProcessInstanceByKey("testSimpleStraightThroughProcess", CollectionUtil.singletonMap("counter", 0)).getId();
+
+        waitForHistoryJobExecutorToProcessAllJobs(30000L, 50L);
+
+        assertNotNull(historyService.createHistoricProcessInstanceQuery().processInstanceId(processInstanceId).singleResult().getEndTime());
+        assertEquals(2002, historyService.createHistoricActivityInstanceQuery().processInstanceId(processInstanceId).count());
+        assertEquals(0, historyService.createHistoricActivityInstanceQuery().processInstanceId(processInstanceId).unfinished().count());
+    }
+
+}
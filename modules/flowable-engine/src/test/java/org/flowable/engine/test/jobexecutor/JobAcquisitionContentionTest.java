@@ -0,0 +1,137 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.jobexecutor;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.flowable.engine.common.api.FlowableOptimisticLockingException;
+import org.flowable.engine.impl.asyncexecutor.AcquiredJobEntities;
+import org.flowable.engine.impl.asyncexecutor.DefaultAsyncJobExecutor;
+import org.flowable.engine.impl.cmd.AcquireJobsCmd;
+import org.flowable.engine.impl.persistence.entity.JobInfoEntity;
+import org.flowable.engine.impl.test.PluggableFlowableTestCase;
+import org.flowable.engine.runtime.Job;
+import org.flowable.engine.test.Deployment;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Simulates a cluster of async executors competing for the same jobs. Every 'node' is an acquisition thread with its own lock owner.
+ * 
+ * The number of acquired jobs per second and the number of optimistic locking exceptions are logged, so the test can be used as a
+ * benchmark when running against a real database (e.g. with the postgres profile). The number of nodes and jobs can be changed
+ * through the 'flowable.benchmark.nodes' and 'flowable.benchmark.jobs' system properties.
+ */
+public class JobAcquisitionContentionTest extends PluggableFlowableTestCase {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(JobAcquisitionContentionTest.class);
+
+    protected static final int NR_OF_NODES = Integer.getInteger("flowable.benchmark.nodes", 8);
+    protected static final int NR_OF_JOBS = Integer.getInteger("flowable.benchmark.jobs", 200);
+    protected static final int JOBS_PER_ACQUISITION = 10;
+
+    @Deployment(resources = "org/flowable/engine/test/jobexecutor/JobAcquisitionContentionTest.bpmn20.xml")
+    public void testOptimisticLockingAcquisition() throws Exception {
+        runAcquisitionBenchmark(false);
+    }
+
+    @Deployment(resources = "org/flowable/engine/test/jobexecutor/JobAcquisitionContentionTest.bpmn20.xml")
+    public void testSkipLockedAcquisition() throws Exception {
+        runAcquisitionBenchmark(true);
+    }
+
+    protected void runAcquisitionBenchmark(boolean skipLocked) throws Exception {
+        for (int i = 0; i < NR_OF_JOBS; i++) {
+            runtimeService.startProcessInstanceByKey("jobAcquisitionContention");
+        }
+        assertEquals(NR_OF_JOBS, managementService.createJobQuery().count());
+
+        boolean originalSkipLocked = processEngineConfiguration.isAsyncExecutorSkipLockedJobAcquisition();
+        processEngineConfiguration.setAsyncExecutorSkipLockedJobAcquisition(skipLocked);
+        try {
+
+            final List<String> acquiredJobIds = Collections.synchronizedList(new ArrayList<String>());
+            final AtomicInteger optimisticLockingExceptions = new AtomicInteger();
+            final AtomicInteger emptyAcquisitions = new AtomicInteger();
+            final CountDownLatch startLatch = new CountDownLatch(1);
+            final long deadline = System.currentTimeMillis() + 60000L;
+
+            List<Thread> nodes = new ArrayList<Thread>();
+            for (int i = 0; i < NR_OF_NODES; i++) {
+                final DefaultAsyncJobExecutor nodeExecutor = new DefaultAsyncJobExecutor();
+                nodeExecutor.setProcessEngineConfiguration(processEngineConfiguration);
+                nodeExecutor.setLockOwner("node-" + i);
+                nodeExecutor.setMaxAsyncJobsDuePerAcquisition(JOBS_PER_ACQUISITION);
+
+                nodes.add(new Thread(new Runnable() {
+
+                    public void run() {
+                        try {
+                            startLatch.await();
+                        } catch (InterruptedException e) {
+                            return;
+                        }
+
+                        while (acquiredJobIds.size() < NR_OF_JOBS && System.currentTimeMillis() < deadline) {
+                            try {
+                                AcquiredJobEntities acquiredJobs = managementService.executeCommand(
+                                        new AcquireJobsCmd(nodeExecutor, JOBS_PER_ACQUISITION, processEngineConfiguration.getJobEntityManager()));
+                                if (acquiredJobs.size() == 0) {
+                                    emptyAcquisitions.incrementAndGet();
+                                }
+                                for (JobInfoEntity job : acquiredJobs.getJobs()) {
+                                    acquiredJobIds.add(job.getId());
+                                }
+                            } catch (FlowableOptimisticLockingException e) {
+                                optimisticLockingExceptions.incrementAndGet();
+                            }
+                        }
+                    }
+
+                }, "acquisition-node-" + i));
+            }
+
+            for (Thread node : nodes) {
+                node.start();
+            }
+            long start = System.currentTimeMillis();
+            startLatch.countDown();
+            for (Thread node : nodes) {
+                node.join();
+            }
+            long duration = Math.max(1L, System.currentTimeMillis() - start);
+
+            LOGGER.info("Job acquisition (skipLocked={}, nodes={}): {} jobs in {} ms ({} jobs/s), {} optimistic locking exceptions, {} empty acquisitions",
+                    skipLocked, NR_OF_NODES, acquiredJobIds.size(), duration, (acquiredJobIds.size() * 1000L) / duration,
+                    optimisticLockingExceptions.get(), emptyAcquisitions.get());
+
+            // Every job must be acquired exactly once
+            assertEquals(NR_OF_JOBS, acquiredJobIds.size());
+            Set<String> uniqueJobIds = new HashSet<String>(acquiredJobIds);
+            assertEquals(NR_OF_JOBS, uniqueJobIds.size());
+            for (Job job : managementService.createJobQuery().list()) {
+                assertTrue(uniqueJobIds.contains(job.getId()));
+            }
+
+        } finally {
+            processEngineConfiguration.setAsyncExecutorSkipLockedJobAcquisition(originalSkipLocked);
+        }
+    }
+
+}
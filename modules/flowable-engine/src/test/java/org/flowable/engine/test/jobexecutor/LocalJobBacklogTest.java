@@ -0,0 +1,60 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.jobexecutor;
+
+import java.util.Collections;
+
+import org.flowable.engine.impl.asyncexecutor.AsyncJobBacklog;
+import org.flowable.engine.impl.asyncexecutor.DefaultAsyncJobExecutor;
+import org.flowable.engine.impl.test.ResourceFlowableTestCase;
+import org.flowable.engine.test.Deployment;
+
+/**
+ * Tests the local backlog of the {@link DefaultAsyncJobExecutor}: async jobs created while the thread pool queue is full are executed without going back to
+ * the job acquisition.
+ */
+public class LocalJobBacklogTest extends ResourceFlowableTestCase {
+
+    public LocalJobBacklogTest() {
+        super("org/flowable/engine/test/jobexecutor/localbacklog.flowable.cfg.xml");
+    }
+
+    @Override
+    protected void tearDown() throws Exception {
+        processEngineConfiguration.getAsyncExecutor().shutdown();
+        super.tearDown();
+    }
+
+    @Deployment(resources = "org/flowable/engine/test/jobexecutor/LocalJobBacklogTest.bpmn20.xml")
+    public void testJobsWaitInLocalBacklog() throws Exception {
+        DefaultAsyncJobExecutor asyncExecutor = (DefaultAsyncJobExecutor) processEngineConfiguration.getAsyncExecutor();
+        asyncExecutor.start();
+        AsyncJobBacklog backlog = asyncExecutor.getLocalBacklog();
+        assertNotNull(backlog);
+
+        runtimeService.startProcessInstanceByKey("localJobBacklog", Collections.<String, Object> singletonMap("nrOfJobs", 20));
+
+        long end = System.currentTimeMillis() + 10000L;
+        while (taskService.createTaskQuery().taskName("After jobs").count() == 0) {
+            assertTrue("jobs were not executed", System.currentTimeMillis() < end);
+            Thread.sleep(20L);
+        }
+
+        assertEquals(0, managementService.createJobQuery().count());
+        assertTrue(backlog.getBackloggedJobCount() > 0);
+        assertTrue(backlog.getHighWaterMark() > 0);
+        assertEquals(0, backlog.getRejectedJobCount());
+        assertEquals(0, backlog.size());
+    }
+
+}
@@ -0,0 +1,95 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.jobexecutor;
+
+import java.util.Date;
+
+import org.flowable.engine.impl.asyncexecutor.DefaultAsyncJobExecutor;
+import org.flowable.engine.impl.persistence.entity.TimerJobEntity;
+import org.flowable.engine.impl.test.ResourceFlowableTestCase;
+import org.flowable.engine.runtime.Job;
+import org.flowable.engine.test.Deployment;
+
+/**
+ * Tests for the timer wheel of the {@link DefaultAsyncJobExecutor}.
+ */
+public class TimerWheelAsyncExecutorTest extends ResourceFlowableTestCase {
+
+    public TimerWheelAsyncExecutorTest() {
+        super("org/flowable/engine/test/jobexecutor/timerwheel.flowable.cfg.xml");
+    }
+
+    @Override
+    protected void tearDown() throws Exception {
+        getAsyncExecutor().shutdown();
+        super.tearDown();
+    }
+
+    @Deployment(resources = "org/flowable/engine/test/jobexecutor/AsyncExecutorTest.testRegularAsyncExecution.bpmn20.xml")
+    public void testTimerWithinLookAheadFiresWithoutPolling() throws Exception {
+        processEngineConfiguration.getClock().setCurrentTime(new Date());
+        runtimeService.startProcessInstanceByKey("asyncExecutor");
+        getAsyncExecutor().start();
+
+        // The timer (5 minutes) is within the look ahead window, so it is leased by the wheel of this executor
+        Job timerJob = waitForLeasedTimerJob();
+        assertTrue(timerJob.getDuedate().getTime() > processEngineConfiguration.getClock().getCurrentTime().getTime());
+
+        // No timer acquisition is needed anymore: the wheel fires the timer once the clock passes the due date
+        getAsyncExecutor().setDefaultTimerJobAcquireWaitTimeInMillis(60 * 60 * 1000);
+        processEngineConfiguration.getClock().setCurrentTime(new Date(timerJob.getDuedate().getTime() + 1));
+
+        long end = System.currentTimeMillis() + 10000L;
+        while (taskService.createTaskQuery().taskName("Task after timer").count() == 0) {
+            assertTrue("timer did not fire", System.currentTimeMillis() < end);
+            Thread.sleep(20L);
+        }
+        assertEquals(0, managementService.createTimerJobQuery().count());
+    }
+
+    @Deployment(resources = "org/flowable/engine/test/jobexecutor/AsyncExecutorTest.testRegularAsyncExecution.bpmn20.xml")
+    public void testLeaseIsReleasedOnShutdown() throws Exception {
+        processEngineConfiguration.getClock().setCurrentTime(new Date());
+        runtimeService.startProcessInstanceByKey("asyncExecutor");
+        getAsyncExecutor().start();
+
+        Job timerJob = waitForLeasedTimerJob();
+        getAsyncExecutor().shutdown();
+
+        assertNull(getLockOwner(timerJob.getId()));
+        assertEquals(0, taskService.createTaskQuery().taskName("Task after timer").count());
+    }
+
+    protected DefaultAsyncJobExecutor getAsyncExecutor() {
+        return (DefaultAsyncJobExecutor) processEngineConfiguration.getAsyncExecutor();
+    }
+
+    protected Job waitForLeasedTimerJob() throws InterruptedException {
+        long end = System.currentTimeMillis() + 10000L;
+        while (true) {
+            Job timerJob = managementService.createTimerJobQuery().singleResult();
+            assertNotNull(timerJob);
+            if (getAsyncExecutor().getLockOwner().equals(getLockOwner(timerJob.getId()))) {
+                return timerJob;
+            }
+            assertTrue("timer job was not leased", System.currentTimeMillis() < end);
+            Thread.sleep(20L);
+        }
+    }
+
+    protected String getLockOwner(String timerJobId) {
+        TimerJobEntity timerJob = (TimerJobEntity) managementService.createTimerJobQuery().jobId(timerJobId).singleResult();
+        return timerJob != null ? timerJob.getLockOwner() : null;
+    }
+
+}
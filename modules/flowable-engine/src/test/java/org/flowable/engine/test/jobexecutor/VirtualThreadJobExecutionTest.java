@@ -0,0 +1,53 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.jobexecutor;
+
+import java.util.concurrent.Callable;
+
+import org.flowable.engine.impl.asyncexecutor.DefaultAsyncJobExecutor;
+import org.flowable.engine.impl.asyncexecutor.SemaphoreBoundedExecutorService;
+import org.flowable.engine.impl.test.ResourceFlowableTestCase;
+import org.flowable.engine.test.Deployment;
+
+/**
+ * Tests the {@link DefaultAsyncJobExecutor} running jobs on threads of their own, bounded by the size of the connection pool.
+ */
+public class VirtualThreadJobExecutionTest extends ResourceFlowableTestCase {
+
+    protected static final int NR_OF_PROCESS_INSTANCES = 30;
+
+    public VirtualThreadJobExecutionTest() {
+        super("org/flowable/engine/test/jobexecutor/virtualthreads.flowable.cfg.xml");
+    }
+
+    @Deployment(resources = "org/flowable/engine/test/jobexecutor/AsyncExecutorTest.testAsyncScriptExecution.bpmn20.xml")
+    public void testJobsRunBoundedByConnectionPool() throws Exception {
+        for (int i = 0; i < NR_OF_PROCESS_INSTANCES; i++) {
+            runtimeService.startProcessInstanceByKey("asyncScript");
+        }
+
+        final DefaultAsyncJobExecutor asyncExecutor = (DefaultAsyncJobExecutor) processEngineConfiguration.getAsyncExecutor();
+        waitForJobExecutorOnCondition(20000L, 20L, new Callable<Boolean>() {
+
+            @Override
+            public Boolean call() throws Exception {
+                // the executor service only exists while the executor runs
+                assertTrue(asyncExecutor.getExecutorService() instanceof SemaphoreBoundedExecutorService);
+                assertEquals(7, ((SemaphoreBoundedExecutorService) asyncExecutor.getExecutorService()).getMaxConcurrentTasks());
+                return taskService.createTaskQuery().taskName("Task after script").count() == NR_OF_PROCESS_INSTANCES;
+            }
+        });
+        assertEquals(0, managementService.createJobQuery().count());
+    }
+
+}
@@ -15,8 +15,12 @@ package org.flowable.examples.bpmn.scripttask;
 import java.util.HashMap;
 import java.util.Map;
 
+import javax.script.ScriptException;
+
 import org.flowable.engine.common.api.FlowableException;
+import org.flowable.engine.common.impl.persistence.deploy.DeploymentCacheStatistics;
 import org.flowable.engine.common.impl.util.CollectionUtil;
+import org.flowable.engine.impl.scripting.ScriptingEngines;
 import org.flowable.engine.impl.test.PluggableFlowableTestCase;
 import org.flowable.engine.runtime.ProcessInstance;
 import org.flowable.engine.test.Deployment;
@@ -104,6 +108,90 @@ public class ScriptTaskTest extends PluggableFlowableTestCase {
         assertProcessEnded(processInstance.getId());
     }
 
+    @Deployment
+    public void testCompiledScriptIsReused() {
+        ScriptingEngines scriptingEngines = processEngineConfiguration.getScriptingEngines();
+        scriptingEngines.clearCompiledScripts();
+        DeploymentCacheStatistics statistics = scriptingEngines.getCompiledScriptCacheStatistics();
+        statistics.reset();
+
+        scriptingEngines.setCacheCompiledScripts(true);
+        try {
+            for (int i = 1; i <= 3; i++) {
+                ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("testCompiledScriptIsReused", CollectionUtil.map("a", i, "b", 10));
+                assertEquals(i + 10, ((Number) historyService.createHistoricVariableInstanceQuery().processInstanceId(processInstance.getId())
+                        .variableName("groovySum").singleResult().getValue()).intValue());
+                assertEquals(i + 10, ((Number) historyService.createHistoricVariableInstanceQuery().processInstanceId(processInstance.getId())
+                        .variableName("javaScriptSum").singleResult().getValue()).intValue());
+                assertEquals(i + 10, ((Number) historyService.createHistoricVariableInstanceQuery().processInstanceId(processInstance.getId())
+                        .variableName("juelSum").singleResult().getValue()).intValue());
+            }
+        } finally {
+            scriptingEngines.setCacheCompiledScripts(processEngineConfiguration.isEnableCompiledScriptCache());
+            scriptingEngines.clearCompiledScripts();
+        }
+
+        // the groovy script is compiled once; juel and javascript (of which the engine isn't declared thread safe, so it isn't shared) are evaluated directly
+        assertEquals(1, statistics.getLoadCount());
+        assertEquals(1, statistics.getMissCount());
+        assertEquals(2, statistics.getHitCount());
+    }
+
+    @Deployment(resources = "org/flowable/examples/bpmn/scripttask/ScriptTaskTest.testExceptionThrownInScript.bpmn20.xml")
+    public void testCompiledScriptKeepsCauseInExceptionMessage() {
+        FlowableException exception = getScriptFailure("failingScript");
+        assertTrue(exception.getMessage().startsWith("problem evaluating script: "));
+        assertTrue(exception.getMessage().endsWith("java.lang.IllegalStateException"));
+
+        ScriptingEngines scriptingEngines = processEngineConfiguration.getScriptingEngines();
+        scriptingEngines.setCacheCompiledScripts(true);
+        try {
+            exception = getScriptFailure("failingScript");
+            assertTrue(exception.getMessage().startsWith("problem evaluating script: "));
+            assertTrue(exception.getMessage().endsWith("java.lang.IllegalStateException"));
+            assertTrue(exception.getCause() instanceof ScriptException);
+        } finally {
+            scriptingEngines.setCacheCompiledScripts(processEngineConfiguration.isEnableCompiledScriptCache());
+            scriptingEngines.clearCompiledScripts();
+        }
+    }
+
+    @Deployment
+    public void testCompiledScriptOfOtherLanguageKeepsExceptionMessage() {
+        ScriptingEngines scriptingEngines = processEngineConfiguration.getScriptingEngines();
+        scriptingEngines.addScriptEngineFactory(new ScriptTaskTestScriptEngineFactory());
+        FlowableException exception = getScriptFailure("failingScriptOfOtherLanguage");
+        assertEquals("problem evaluating script: java.lang.IllegalStateException: this script fails", exception.getMessage());
+
+        scriptingEngines.clearCompiledScripts();
+        DeploymentCacheStatistics statistics = scriptingEngines.getCompiledScriptCacheStatistics();
+        statistics.reset();
+
+        scriptingEngines.setCacheCompiledScripts(true);
+        try {
+            exception = getScriptFailure("failingScriptOfOtherLanguage");
+            assertEquals("problem evaluating script: java.lang.IllegalStateException: this script fails", exception.getMessage());
+            assertTrue(exception.getCause() instanceof ScriptException);
+            assertTrue(exception.getCause().getCause() instanceof IllegalStateException);
+        } finally {
+            scriptingEngines.setCacheCompiledScripts(processEngineConfiguration.isEnableCompiledScriptCache());
+            scriptingEngines.clearCompiledScripts();
+        }
+
+        // the failure came from the compiled script
+        assertEquals(1, statistics.getLoadCount());
+    }
+
+    protected FlowableException getScriptFailure(String processDefinitionKey) {
+        try {
+            runtimeService.startProcessInstanceByKey(processDefinitionKey);
+            fail("Expected the script to fail");
+            return null;
+        } catch (FlowableException e) {
+            return e;
+        }
+    }
+
     protected void verifyExceptionInStacktrace(Exception rootException, Class<?> expectedExceptionClass) {
         Throwable expectedException = rootException;
         boolean found = false;
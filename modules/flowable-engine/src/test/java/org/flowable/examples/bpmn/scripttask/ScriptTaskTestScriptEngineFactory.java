@@ -0,0 +1,164 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.examples.bpmn.scripttask;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Collections;
+import java.util.List;
+
+import javax.script.AbstractScriptEngine;
+import javax.script.Bindings;
+import javax.script.Compilable;
+import javax.script.CompiledScript;
+import javax.script.ScriptContext;
+import javax.script.ScriptEngine;
+import javax.script.ScriptEngineFactory;
+import javax.script.ScriptException;
+import javax.script.SimpleBindings;
+
+/**
+ * A thread safe, {@link Compilable} scripting engine of which every script fails with an {@link IllegalStateException} that has the script as message.
+ */
+public class ScriptTaskTestScriptEngineFactory implements ScriptEngineFactory {
+
+    public static final String LANGUAGE = "failing";
+
+    @Override
+    public String getEngineName() {
+        return LANGUAGE;
+    }
+
+    @Override
+    public String getEngineVersion() {
+        return "1.0";
+    }
+
+    @Override
+    public List<String> getExtensions() {
+        return Collections.emptyList();
+    }
+
+    @Override
+    public List<String> getMimeTypes() {
+        return Collections.emptyList();
+    }
+
+    @Override
+    public List<String> getNames() {
+        return Collections.singletonList(LANGUAGE);
+    }
+
+    @Override
+    public String getLanguageName() {
+        return LANGUAGE;
+    }
+
+    @Override
+    public String getLanguageVersion() {
+        return "1.0";
+    }
+
+    @Override
+    public Object getParameter(String key) {
+        if ("THREADING".equals(key)) {
+            return "MULTITHREADED";
+        }
+        return null;
+    }
+
+    @Override
+    public String getMethodCallSyntax(String obj, String m, String... args) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public String getOutputStatement(String toDisplay) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public String getProgram(String... statements) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public ScriptEngine getScriptEngine() {
+        return new FailingScriptEngine(this);
+    }
+
+    protected static class FailingScriptEngine extends AbstractScriptEngine implements Compilable {
+
+        protected ScriptEngineFactory factory;
+
+        public FailingScriptEngine(ScriptEngineFactory factory) {
+            this.factory = factory;
+        }
+
+        @Override
+        public Object eval(String script, ScriptContext context) throws ScriptException {
+            throw new ScriptException(new IllegalStateException(script.trim()));
+        }
+
+        @Override
+        public Object eval(Reader reader, ScriptContext context) throws ScriptException {
+            return eval(read(reader), context);
+        }
+
+        @Override
+        public CompiledScript compile(final String script) throws ScriptException {
+            return new CompiledScript() {
+
+                @Override
+                public Object eval(ScriptContext context) throws ScriptException {
+                    return FailingScriptEngine.this.eval(script, context);
+                }
+
+                @Override
+                public ScriptEngine getEngine() {
+                    return FailingScriptEngine.this;
+                }
+            };
+        }
+
+        @Override
+        public CompiledScript compile(Reader reader) throws ScriptException {
+            return compile(read(reader));
+        }
+
+        @Override
+        public Bindings createBindings() {
+            return new SimpleBindings();
+        }
+
+        @Override
+        public ScriptEngineFactory getFactory() {
+            return factory;
+        }
+
+        protected String read(Reader reader) throws ScriptException {
+            StringBuilder script = new StringBuilder();
+            char[] buffer = new char[1024];
+            try {
+                int length;
+                while ((length = reader.read(buffer)) != -1) {
+                    script.append(buffer, 0, length);
+                }
+            } catch (IOException e) {
+                throw new ScriptException(e);
+            }
+            return script.toString();
+        }
+    }
+
+}
@@ -0,0 +1,184 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.standalone.deploy;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.flowable.engine.common.impl.persistence.deploy.DeploymentCacheStatistics;
+import org.flowable.engine.common.impl.persistence.deploy.DeploymentCacheWeigher;
+import org.flowable.engine.impl.persistence.deploy.DefaultDeploymentCache;
+import org.junit.Test;
+
+public class DefaultDeploymentCacheTest {
+
+    @Test
+    public void testUnboundedCache() {
+        DefaultDeploymentCache<String> cache = new DefaultDeploymentCache<String>();
+        for (int i = 0; i < 1000; i++) {
+            cache.add("id" + i, "value" + i);
+        }
+        assertEquals(1000, cache.size());
+        assertEquals("value500", cache.get("id500"));
+
+        cache.remove("id500");
+        assertNull(cache.get("id500"));
+        assertEquals(999, cache.size());
+
+        cache.clear();
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void testLimit() {
+        DefaultDeploymentCache<String> cache = new DefaultDeploymentCache<String>(10);
+        for (int i = 0; i < 100; i++) {
+            cache.add("id" + i, "value" + i);
+            assertTrue(cache.size() <= 10);
+
+            // the entry that was just added is always available
+            assertEquals("value" + i, cache.get("id" + i));
+        }
+        assertEquals(10, cache.size());
+        assertEquals(90, cache.getStatistics().getEvictionCount());
+    }
+
+    @Test
+    public void testFrequentlyUsedEntriesAreKept() {
+        DefaultDeploymentCache<String> cache = new DefaultDeploymentCache<String>(10);
+        for (int i = 0; i < 5; i++) {
+            cache.add("hot" + i, "hot" + i);
+        }
+
+        for (int i = 0; i < 200; i++) {
+            for (int j = 0; j < 5; j++) {
+                assertNotNull(cache.get("hot" + j));
+            }
+            cache.add("cold" + i, "cold" + i);
+        }
+
+        for (int i = 0; i < 5; i++) {
+            assertEquals("hot" + i, cache.get("hot" + i));
+        }
+        assertEquals(10, cache.size());
+    }
+
+    @Test
+    public void testWeightLimit() {
+        DefaultDeploymentCache<String> cache = new DefaultDeploymentCache<String>(100, new DeploymentCacheWeigher<String>() {
+
+            @Override
+            public int weigh(String id, String object) {
+                return object.length();
+            }
+        });
+
+        for (int i = 0; i < 20; i++) {
+            cache.add("id" + i, "0123456789");
+            assertTrue(cache.getWeight() <= 100);
+        }
+        assertEquals(100, cache.getWeight());
+        assertEquals(10, cache.size());
+
+        // an entry that is heavier than the limit is still cached, as the only entry
+        StringBuilder heavyObject = new StringBuilder();
+        for (int i = 0; i < 200; i++) {
+            heavyObject.append('x');
+        }
+        cache.add("heavy", heavyObject.toString());
+        assertEquals(heavyObject.toString(), cache.get("heavy"));
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    public void testReplaceAndRemove() {
+        DefaultDeploymentCache<String> cache = new DefaultDeploymentCache<String>(5);
+        cache.add("id", "value1");
+        cache.add("id", "value2");
+        assertEquals("value2", cache.get("id"));
+        assertEquals(1, cache.getWeight());
+
+        cache.remove("id");
+        assertTrue(!cache.contains("id"));
+        assertEquals(0, cache.getWeight());
+    }
+
+    @Test
+    public void testStatistics() {
+        DefaultDeploymentCache<String> cache = new DefaultDeploymentCache<String>(5);
+        cache.add("id", "value");
+        cache.get("id");
+        cache.get("id");
+        cache.get("unknown");
+
+        DeploymentCacheStatistics statistics = cache.getStatistics();
+        assertEquals(2, statistics.getHitCount());
+        assertEquals(1, statistics.getMissCount());
+        assertEquals(3, statistics.getRequestCount());
+
+        statistics.recordLoad(5000000L);
+        assertEquals(1, statistics.getLoadCount());
+        assertEquals(5, statistics.getTotalLoadTime());
+    }
+
+    @Test
+    public void testConcurrentAccess() throws Exception {
+        final DefaultDeploymentCache<String> cache = new DefaultDeploymentCache<String>(50);
+        final CountDownLatch startLatch = new CountDownLatch(1);
+        final AtomicInteger failures = new AtomicInteger();
+
+        List<Thread> threads = new ArrayList<Thread>();
+        for (int t = 0; t < 8; t++) {
+            final int threadNumber = t;
+            Thread thread = new Thread(new Runnable() {
+
+                @Override
+                public void run() {
+                    try {
+                        startLatch.await();
+                        for (int i = 0; i < 10000; i++) {
+                            String id = "id" + ((i * 7 + threadNumber) % 200);
+                            String value = cache.get(id);
+                            if (value == null) {
+                                cache.add(id, "value-" + id);
+                            } else if (!value.equals("value-" + id)) {
+                                failures.incrementAndGet();
+                            }
+                        }
+                    } catch (Exception e) {
+                        failures.incrementAndGet();
+                    }
+                }
+            });
+            thread.start();
+            threads.add(thread);
+        }
+
+        startLatch.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertEquals(0, failures.get());
+        assertTrue(cache.size() <= 50);
+        assertEquals(cache.size(), cache.getWeight());
+        assertEquals(80000, cache.getStatistics().getRequestCount());
+    }
+}
@@ -0,0 +1,130 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.standalone.deploy;
+
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.flowable.engine.impl.persistence.deploy.DefaultDeploymentCache;
+import org.flowable.engine.impl.persistence.deploy.ProcessDefinitionCacheEntry;
+import org.flowable.engine.impl.test.PluggableFlowableTestCase;
+import org.flowable.engine.repository.Deployment;
+import org.flowable.engine.repository.DeploymentBuilder;
+import org.flowable.engine.repository.ProcessDefinition;
+import org.flowable.engine.runtime.ProcessInstance;
+
+public class ProcessDefinitionCacheLoadingTest extends PluggableFlowableTestCase {
+
+    protected String deploymentId;
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+
+        processEngineConfiguration.setEnableSingleResourceProcessDefinitionLoading(true);
+
+        String processDefinitionTemplate = DeploymentCacheTestUtil.readTemplateFile("/org/flowable/standalone/deploy/deploymentCacheTest.bpmn20.xml");
+        DeploymentBuilder deploymentBuilder = repositoryService.createDeployment();
+        for (int i = 1; i <= 5; i++) {
+            deploymentBuilder.addString("Process " + i + ".bpmn20.xml", MessageFormat.format(processDefinitionTemplate, i));
+        }
+        deploymentId = deploymentBuilder.deploy().getId();
+    }
+
+    @Override
+    protected void tearDown() throws Exception {
+        processEngineConfiguration.setEnableSingleResourceProcessDefinitionLoading(false);
+        for (Deployment deployment : repositoryService.createDeploymentQuery().list()) {
+            repositoryService.deleteDeployment(deployment.getId(), true);
+        }
+        super.tearDown();
+    }
+
+    public void testOnlyMissingProcessDefinitionIsLoaded() {
+        DefaultDeploymentCache<ProcessDefinitionCacheEntry> processDefinitionCache = getProcessDefinitionCache();
+        ProcessDefinition processDefinition = repositoryService.createProcessDefinitionQuery().processDefinitionKey("myProcess3").singleResult();
+
+        processDefinitionCache.clear();
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("myProcess3");
+        assertNotNull(processInstance);
+
+        assertEquals(1, processDefinitionCache.size());
+        ProcessDefinitionCacheEntry cacheEntry = processDefinitionCache.get(processDefinition.getId());
+        assertNotNull(cacheEntry);
+        assertEquals("myProcess3", cacheEntry.getProcess().getId());
+        assertEquals(processDefinition.getId(), cacheEntry.getProcessDefinition().getId());
+        assertEquals(processDefinition.getVersion(), cacheEntry.getProcessDefinition().getVersion());
+        assertEquals("Process 3.bpmn20.xml", cacheEntry.getProcessDefinition().getResourceName());
+        assertEquals(deploymentId, cacheEntry.getProcessDefinition().getDeploymentId());
+
+        assertEquals(1, taskService.createTaskQuery().processInstanceId(processInstance.getId()).count());
+    }
+
+    public void testWholeDeploymentIsLoadedWhenDisabled() {
+        processEngineConfiguration.setEnableSingleResourceProcessDefinitionLoading(false);
+
+        DefaultDeploymentCache<ProcessDefinitionCacheEntry> processDefinitionCache = getProcessDefinitionCache();
+        processDefinitionCache.clear();
+        runtimeService.startProcessInstanceByKey("myProcess3");
+
+        assertEquals(5, processDefinitionCache.size());
+    }
+
+    public void testConcurrentMissesLoadProcessDefinitionOnce() throws Exception {
+        final DefaultDeploymentCache<ProcessDefinitionCacheEntry> processDefinitionCache = getProcessDefinitionCache();
+        final String processDefinitionId = repositoryService.createProcessDefinitionQuery().processDefinitionKey("myProcess2").singleResult().getId();
+
+        processDefinitionCache.clear();
+        processDefinitionCache.getStatistics().reset();
+
+        final CountDownLatch startLatch = new CountDownLatch(1);
+        final AtomicInteger failures = new AtomicInteger();
+        List<Thread> threads = new ArrayList<Thread>();
+        for (int i = 0; i < 8; i++) {
+            Thread thread = new Thread(new Runnable() {
+
+                @Override
+                public void run() {
+                    try {
+                        startLatch.await();
+                        if (repositoryService.getProcessModel(processDefinitionId) == null) {
+                            failures.incrementAndGet();
+                        }
+                    } catch (Exception e) {
+                        failures.incrementAndGet();
+                    }
+                }
+            });
+            thread.start();
+            threads.add(thread);
+        }
+
+        startLatch.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertEquals(0, failures.get());
+        assertEquals(1, processDefinitionCache.size());
+        assertEquals(1, processDefinitionCache.getStatistics().getLoadCount());
+    }
+
+    @SuppressWarnings("unchecked")
+    protected DefaultDeploymentCache<ProcessDefinitionCacheEntry> getProcessDefinitionCache() {
+        return (DefaultDeploymentCache<ProcessDefinitionCacheEntry>) processEngineConfiguration.getProcessDefinitionCache();
+    }
+
+}
@@ -18,7 +18,10 @@ import org.flowable.engine.common.api.FlowableException;
 import org.flowable.engine.common.api.FlowableIllegalArgumentException;
 import org.flowable.engine.common.api.delegate.event.FlowableEntityEvent;
 import org.flowable.engine.common.api.delegate.event.FlowableEvent;
+import org.flowable.engine.ProcessEngine;
 import org.flowable.engine.delegate.event.FlowableEngineEventType;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.cfg.StandaloneInMemProcessEngineConfiguration;
 import org.flowable.engine.impl.test.ResourceFlowableTestCase;
 import org.flowable.engine.runtime.ProcessInstance;
 import org.flowable.engine.task.Task;
@@ -80,6 +83,48 @@ public class ProcessDefinitionScopedEventListenerDefinitionTest extends Resource
         assertTrue(deleteFound);
     }
 
+    /**
+     * Test to verify listeners defined in the BPMN xml receive the events of entities of which the process definition isn't in the cache, as after a restart
+     * or on another node of a cluster.
+     */
+    @Deployment(resources = "org/flowable/standalone/event/ProcessDefinitionScopedEventListenerDefinitionTest.testProcessDefinitionListenerDefinition.bpmn20.xml")
+    public void testProcessDefinitionListenerDefinitionNotCached() throws Exception {
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("testEventListeners");
+        Task task = taskService.createTaskQuery().processInstanceId(processInstance.getId()).singleResult();
+
+        processEngineConfiguration.getProcessDefinitionCache().clear();
+        StaticTestFlowableEventListener.clearEventsReceived();
+        task.setDescription("Updated once");
+        taskService.saveTask(task);
+        assertTaskUpdatedEventReceived(task.getId());
+
+        // An engine that never parsed the process definition
+        ProcessEngineConfigurationImpl otherProcessEngineConfiguration = new StandaloneInMemProcessEngineConfiguration();
+        otherProcessEngineConfiguration.setJdbcUrl(processEngineConfiguration.getJdbcUrl());
+        otherProcessEngineConfiguration.setDatabaseSchemaUpdate("true");
+        otherProcessEngineConfiguration.setEngineName("other");
+        ProcessEngine otherProcessEngine = otherProcessEngineConfiguration.buildProcessEngine();
+        try {
+            StaticTestFlowableEventListener.clearEventsReceived();
+            task = otherProcessEngine.getTaskService().createTaskQuery().processInstanceId(processInstance.getId()).singleResult();
+            task.setDescription("Updated twice");
+            otherProcessEngine.getTaskService().saveTask(task);
+            assertTaskUpdatedEventReceived(task.getId());
+        } finally {
+            otherProcessEngine.close();
+        }
+    }
+
+    protected void assertTaskUpdatedEventReceived(String taskId) {
+        for (FlowableEvent event : StaticTestFlowableEventListener.getEventsReceived()) {
+            if (FlowableEngineEventType.ENTITY_UPDATED == event.getType() && ((FlowableEntityEvent) event).getEntity() instanceof Task
+                    && taskId.equals(((Task) ((FlowableEntityEvent) event).getEntity()).getId())) {
+                return;
+            }
+        }
+        fail("No update event received for task " + taskId);
+    }
+
     /**
      * Test to verify listeners defined in the BPMN xml with invalid class/delegateExpression values cause an exception when process is started.
      */
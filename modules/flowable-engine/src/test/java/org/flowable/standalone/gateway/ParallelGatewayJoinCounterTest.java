@@ -0,0 +1,188 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.standalone.gateway;
+
+import java.util.List;
+
+import org.flowable.bpmn.model.BpmnModel;
+import org.flowable.bpmn.model.EndEvent;
+import org.flowable.bpmn.model.FlowElement;
+import org.flowable.bpmn.model.ManualTask;
+import org.flowable.bpmn.model.ParallelGateway;
+import org.flowable.bpmn.model.Process;
+import org.flowable.bpmn.model.SequenceFlow;
+import org.flowable.bpmn.model.StartEvent;
+import org.flowable.bpmn.model.UserTask;
+import org.flowable.engine.impl.bpmn.behavior.ParallelGatewayActivityBehavior;
+import org.flowable.engine.impl.test.ResourceFlowableTestCase;
+import org.flowable.engine.runtime.Execution;
+import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.engine.task.Task;
+import org.flowable.engine.task.TaskQuery;
+import org.flowable.engine.test.Deployment;
+
+public class ParallelGatewayJoinCounterTest extends ResourceFlowableTestCase {
+
+    protected static final String JOIN_COUNTER = ParallelGatewayActivityBehavior.NUMBER_OF_JOINED_EXECUTIONS_PREFIX + "join";
+
+    public ParallelGatewayJoinCounterTest() {
+        super("org/flowable/standalone/gateway/joincounter.flowable.cfg.xml");
+    }
+
+    @Deployment
+    public void testThreeBranches() {
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("threeBranches");
+        TaskQuery taskQuery = taskService.createTaskQuery().processInstanceId(processInstance.getId()).orderByTaskName().asc();
+        List<Task> tasks = taskQuery.list();
+        assertEquals(3, tasks.size());
+
+        taskService.complete(tasks.get(0).getId());
+        assertEquals(1, runtimeService.getVariableLocal(processInstance.getId(), JOIN_COUNTER));
+
+        taskService.complete(tasks.get(1).getId());
+        assertEquals(2, runtimeService.getVariableLocal(processInstance.getId(), JOIN_COUNTER));
+
+        // The counter isn't kept once the gateway has activated
+        taskService.complete(tasks.get(2).getId());
+        assertNull(runtimeService.getVariableLocal(processInstance.getId(), JOIN_COUNTER));
+        assertFalse(runtimeService.getVariables(processInstance.getId()).containsKey(JOIN_COUNTER));
+        assertEquals("Task after join", taskQuery.singleResult().getName());
+
+        taskService.complete(taskQuery.singleResult().getId());
+        assertProcessEnded(processInstance.getId());
+    }
+
+    @Deployment(resources = "org/flowable/standalone/gateway/ParallelGatewayJoinCounterTest.testThreeBranches.bpmn20.xml")
+    public void testExecutionsThatArrivedWithoutCounter() {
+        ProcessInstance processInstance = null;
+        TaskQuery taskQuery = null;
+        List<Task> tasks = null;
+
+        processEngineConfiguration.setEnableParallelGatewayJoinCounter(false);
+        try {
+            processInstance = runtimeService.startProcessInstanceByKey("threeBranches");
+            taskQuery = taskService.createTaskQuery().processInstanceId(processInstance.getId()).orderByTaskName().asc();
+            tasks = taskQuery.list();
+            taskService.complete(tasks.get(0).getId());
+            assertNull(runtimeService.getVariableLocal(processInstance.getId(), JOIN_COUNTER));
+        } finally {
+            processEngineConfiguration.setEnableParallelGatewayJoinCounter(true);
+        }
+
+        // The execution that is already waiting in the gateway is counted when the counter is created
+        taskService.complete(tasks.get(1).getId());
+        assertEquals(2, runtimeService.getVariableLocal(processInstance.getId(), JOIN_COUNTER));
+
+        taskService.complete(tasks.get(2).getId());
+        assertNull(runtimeService.getVariableLocal(processInstance.getId(), JOIN_COUNTER));
+        assertEquals("Task after join", taskQuery.singleResult().getName());
+
+        taskService.complete(taskQuery.singleResult().getId());
+        assertProcessEnded(processInstance.getId());
+    }
+
+    @Deployment(resources = "org/flowable/standalone/gateway/ParallelGatewayJoinCounterTest.testThreeBranches.bpmn20.xml")
+    public void testCounterDisabled() {
+        processEngineConfiguration.setEnableParallelGatewayJoinCounter(false);
+        try {
+            ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("threeBranches");
+            TaskQuery taskQuery = taskService.createTaskQuery().processInstanceId(processInstance.getId()).orderByTaskName().asc();
+            List<Task> tasks = taskQuery.list();
+
+            // No counter is created, the executions waiting in the gateway are looked up every time
+            taskService.complete(tasks.get(0).getId());
+            assertFalse(runtimeService.getVariables(processInstance.getId()).containsKey(JOIN_COUNTER));
+            taskService.complete(tasks.get(1).getId());
+            assertFalse(runtimeService.getVariables(processInstance.getId()).containsKey(JOIN_COUNTER));
+
+            taskService.complete(tasks.get(2).getId());
+            assertEquals("Task after join", taskQuery.singleResult().getName());
+
+            taskService.complete(taskQuery.singleResult().getId());
+            assertProcessEnded(processInstance.getId());
+        } finally {
+            processEngineConfiguration.setEnableParallelGatewayJoinCounter(true);
+        }
+    }
+
+    @Deployment
+    public void testMultiInstanceSubProcess() {
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("multiInstanceSubProcess");
+        TaskQuery taskQuery = taskService.createTaskQuery().processInstanceId(processInstance.getId());
+        assertEquals(6, taskQuery.count());
+
+        // Every instance of the sub process has its own counter
+        for (Task task : taskService.createTaskQuery().processInstanceId(processInstance.getId()).taskDefinitionKey("taskA").list()) {
+            taskService.complete(task.getId());
+        }
+        List<Task> tasksB = taskService.createTaskQuery().processInstanceId(processInstance.getId()).taskDefinitionKey("taskB").list();
+        assertEquals(3, tasksB.size());
+        for (Task task : tasksB) {
+            Execution execution = runtimeService.createExecutionQuery().executionId(task.getExecutionId()).singleResult();
+            assertEquals(1, runtimeService.getVariableLocal(execution.getParentId(), JOIN_COUNTER));
+        }
+
+        for (Task task : tasksB) {
+            taskService.complete(task.getId());
+        }
+        assertEquals("Task after sub process", taskQuery.singleResult().getName());
+
+        taskService.complete(taskQuery.singleResult().getId());
+        assertProcessEnded(processInstance.getId());
+    }
+
+    public void testFanOutWithoutWaitStates() {
+        int nrOfBranches = 100;
+
+        Process process = new Process();
+        process.setId("fanOut");
+        addFlowElement(process, new StartEvent(), "theStart");
+        addFlowElement(process, new ParallelGateway(), "fork");
+        addFlowElement(process, new ParallelGateway(), "join");
+        addFlowElement(process, new UserTask(), "taskAfterJoin");
+        addFlowElement(process, new EndEvent(), "theEnd");
+        addSequenceFlow(process, "theStart", "fork");
+        for (int i = 0; i < nrOfBranches; i++) {
+            addFlowElement(process, new ManualTask(), "task" + i);
+            addSequenceFlow(process, "fork", "task" + i);
+            addSequenceFlow(process, "task" + i, "join");
+        }
+        addSequenceFlow(process, "join", "taskAfterJoin");
+        addSequenceFlow(process, "taskAfterJoin", "theEnd");
+
+        BpmnModel bpmnModel = new BpmnModel();
+        bpmnModel.addProcess(process);
+        String deploymentId = repositoryService.createDeployment().addBpmnModel("fanOut.bpmn20.xml", bpmnModel).deploy().getId();
+        try {
+            ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("fanOut");
+            assertNull(runtimeService.getVariableLocal(processInstance.getId(), JOIN_COUNTER));
+            assertEquals(1, runtimeService.createExecutionQuery().processInstanceId(processInstance.getId()).onlyChildExecutions().count());
+            assertEquals("taskAfterJoin", taskService.createTaskQuery().processInstanceId(processInstance.getId()).singleResult().getTaskDefinitionKey());
+            assertEquals(nrOfBranches, historyService.createHistoricActivityInstanceQuery().processInstanceId(processInstance.getId()).activityId("join").count());
+        } finally {
+            repositoryService.deleteDeployment(deploymentId, true);
+        }
+    }
+
+    protected void addFlowElement(Process process, FlowElement flowElement, String id) {
+        flowElement.setId(id);
+        process.addFlowElement(flowElement);
+    }
+
+    protected void addSequenceFlow(Process process, String sourceRef, String targetRef) {
+        SequenceFlow sequenceFlow = new SequenceFlow(sourceRef, targetRef);
+        sequenceFlow.setId(sourceRef + "-" + targetRef);
+        process.addFlowElement(sequenceFlow);
+    }
+
+}
@@ -0,0 +1,132 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.standalone.history;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.flowable.engine.common.api.FlowableIllegalArgumentException;
+import org.flowable.engine.common.api.query.StreamableQuery.ResultConsumer;
+import org.flowable.engine.history.HistoricActivityInstance;
+import org.flowable.engine.history.HistoricProcessInstance;
+import org.flowable.engine.history.HistoricTaskInstance;
+import org.flowable.engine.impl.HistoricProcessInstanceQueryImpl;
+import org.flowable.engine.impl.interceptor.Command;
+import org.flowable.engine.impl.interceptor.CommandContext;
+import org.flowable.engine.impl.persistence.entity.HistoricProcessInstanceEntityImpl;
+import org.flowable.engine.impl.test.ResourceFlowableTestCase;
+import org.flowable.engine.test.Deployment;
+
+/**
+ * Tests streaming the results of history queries.
+ */
+public class HistoricQueryStreamingTest extends ResourceFlowableTestCase {
+
+    public HistoricQueryStreamingTest() {
+        super("org/flowable/standalone/history/querystreaming.flowable.cfg.xml");
+    }
+
+    @Deployment(resources = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+    public void testForEach() {
+        startProcessInstances();
+
+        final List<HistoricProcessInstance> processInstances = new ArrayList<HistoricProcessInstance>();
+        historyService.createHistoricProcessInstanceQuery().orderByProcessInstanceBusinessKey().asc()
+                .forEach(new ResultConsumer<HistoricProcessInstance>() {
+
+                    @Override
+                    public void accept(HistoricProcessInstance processInstance) {
+                        processInstances.add(processInstance);
+                    }
+                });
+        List<HistoricProcessInstance> expectedProcessInstances = historyService.createHistoricProcessInstanceQuery()
+                .orderByProcessInstanceBusinessKey().asc().list();
+        assertEquals(12, processInstances.size());
+        for (int i = 0; i < expectedProcessInstances.size(); i++) {
+            assertEquals(expectedProcessInstances.get(i).getId(), processInstances.get(i).getId());
+            assertEquals(expectedProcessInstances.get(i).getBusinessKey(), processInstances.get(i).getBusinessKey());
+        }
+
+        final List<HistoricTaskInstance> tasks = new ArrayList<HistoricTaskInstance>();
+        historyService.createHistoricTaskInstanceQuery().taskDefinitionKey("theTask").forEach(new ResultConsumer<HistoricTaskInstance>() {
+
+            @Override
+            public void accept(HistoricTaskInstance task) {
+                tasks.add(task);
+            }
+        });
+        assertEquals(12, tasks.size());
+
+        final List<HistoricActivityInstance> activities = new ArrayList<HistoricActivityInstance>();
+        historyService.createHistoricActivityInstanceQuery().processInstanceId(processInstances.get(0).getId())
+                .forEach(new ResultConsumer<HistoricActivityInstance>() {
+
+                    @Override
+                    public void accept(HistoricActivityInstance activity) {
+                        activities.add(activity);
+                    }
+                });
+        assertEquals(historyService.createHistoricActivityInstanceQuery().processInstanceId(processInstances.get(0).getId()).count(),
+                activities.size());
+    }
+
+    @Deployment(resources = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+    public void testStreamedResultsAreNotCached() {
+        startProcessInstances();
+
+        final String processInstanceId = historyService.createHistoricProcessInstanceQuery().processInstanceBusinessKey("key3")
+                .singleResult().getId();
+        managementService.executeCommand(new Command<Void>() {
+
+            @Override
+            public Void execute(final CommandContext commandContext) {
+                final List<HistoricProcessInstance> processInstances = new ArrayList<HistoricProcessInstance>();
+                new HistoricProcessInstanceQueryImpl().processInstanceId(processInstanceId).forEach(new ResultConsumer<HistoricProcessInstance>() {
+
+                    @Override
+                    public void accept(HistoricProcessInstance processInstance) {
+                        processInstances.add(processInstance);
+                    }
+                });
+                assertEquals(1, processInstances.size());
+                assertNull(commandContext.getEntityCache().findInCache(HistoricProcessInstanceEntityImpl.class, processInstanceId));
+
+                new HistoricProcessInstanceQueryImpl().processInstanceId(processInstanceId).list();
+                assertNotNull(commandContext.getEntityCache().findInCache(HistoricProcessInstanceEntityImpl.class, processInstanceId));
+                return null;
+            }
+        });
+    }
+
+    public void testIncludedVariablesCantBeStreamed() {
+        try {
+            historyService.createHistoricProcessInstanceQuery().includeProcessVariables().forEach(new ResultConsumer<HistoricProcessInstance>() {
+
+                @Override
+                public void accept(HistoricProcessInstance processInstance) {
+                    fail();
+                }
+            });
+            fail();
+        } catch (FlowableIllegalArgumentException e) {
+            // expected
+        }
+    }
+
+    protected void startProcessInstances() {
+        for (int i = 0; i < 12; i++) {
+            runtimeService.startProcessInstanceByKey("oneTaskProcess", "key" + i);
+        }
+    }
+
+}
@@ -0,0 +1,185 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.standalone.history;
+
+import java.io.ByteArrayInputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.cfg.StandaloneInMemProcessEngineConfiguration;
+import org.flowable.engine.impl.jobexecutor.HistoryCleanupJobHandler;
+import org.flowable.engine.impl.test.ResourceFlowableTestCase;
+import org.flowable.engine.runtime.Job;
+import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.engine.task.IdentityLinkType;
+import org.flowable.engine.task.Task;
+import org.flowable.engine.test.Deployment;
+
+/**
+ * Tests deleting the history of process instances that ended before the time to live by the history cleanup job.
+ */
+public class HistoryCleanupTest extends ResourceFlowableTestCase {
+
+    protected HistoryCleanupJobHandler historyCleanupJobHandler;
+
+    public HistoryCleanupTest() {
+        super("org/flowable/standalone/history/historycleanup.flowable.cfg.xml");
+    }
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        historyCleanupJobHandler = processEngineConfiguration.getHistoryCleanupJobHandler();
+    }
+
+    @Override
+    protected void tearDown() throws Exception {
+        // the job is scheduled again by the engine of the next test
+        for (Job timerJob : managementService.createTimerJobQuery().list()) {
+            managementService.deleteTimerJob(timerJob.getId());
+        }
+        super.tearDown();
+    }
+
+    @Deployment(resources = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+    public void testDeleteHistoryOfEndedProcessInstances() {
+        long byteArrayCount = getByteArrayCount();
+        Date startTime = new Date();
+        processEngineConfiguration.getClock().setCurrentTime(startTime);
+
+        for (int i = 0; i < 5; i++) {
+            Map<String, Object> variables = new HashMap<String, Object>();
+            variables.put("name", "value" + i);
+            variables.put("bytes", new byte[] { 1, 2, 3 });
+            ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("oneTaskProcess", variables);
+            runtimeService.addUserIdentityLink(processInstance.getId(), "kermit", IdentityLinkType.PARTICIPANT);
+            runtimeService.setVariable(processInstance.getId(), "name", "newValue" + i);
+
+            Task task = taskService.createTaskQuery().processInstanceId(processInstance.getId()).singleResult();
+            taskService.addCandidateUser(task.getId(), "fozzie");
+            taskService.addComment(task.getId(), processInstance.getId(), "comment");
+            taskService.createAttachment("text", task.getId(), processInstance.getId(), "attachment", null,
+                    new ByteArrayInputStream(new byte[] { 4, 5, 6 }));
+            taskService.complete(task.getId());
+        }
+        ProcessInstance runningProcessInstance = runtimeService.startProcessInstanceByKey("oneTaskProcess");
+
+        processEngineConfiguration.getClock().setCurrentTime(new Date(startTime.getTime() + 2 * 24 * 60 * 60 * 1000L));
+        ProcessInstance recentProcessInstance = runtimeService.startProcessInstanceByKey("oneTaskProcess");
+        taskService.complete(taskService.createTaskQuery().processInstanceId(recentProcessInstance.getId()).singleResult().getId());
+
+        assertEquals(7, historyService.createHistoricProcessInstanceQuery().count());
+        assertTrue(getByteArrayCount() > byteArrayCount);
+
+        executeHistoryCleanupJob();
+
+        assertEquals(2, historyService.createHistoricProcessInstanceQuery().count());
+        assertEquals(1, historyService.createHistoricProcessInstanceQuery().processInstanceId(runningProcessInstance.getId()).count());
+        assertEquals(1, historyService.createHistoricProcessInstanceQuery().processInstanceId(recentProcessInstance.getId()).count());
+        assertEquals(2, historyService.createHistoricTaskInstanceQuery().count());
+        assertEquals(0, historyService.createHistoricVariableInstanceQuery().count());
+        assertEquals(0, historyService.createHistoricDetailQuery().count());
+        assertEquals(historyService.createHistoricActivityInstanceQuery().processInstanceId(runningProcessInstance.getId()).count()
+                + historyService.createHistoricActivityInstanceQuery().processInstanceId(recentProcessInstance.getId()).count(),
+                historyService.createHistoricActivityInstanceQuery().count());
+        assertEquals(0, getTableCount("ACT_HI_IDENTITYLINK"));
+        assertEquals(0, getTableCount("ACT_HI_COMMENT"));
+        assertEquals(0, getTableCount("ACT_HI_ATTACHMENT"));
+        assertEquals(byteArrayCount, getByteArrayCount());
+
+        assertEquals(1, historyCleanupJobHandler.getRunCount());
+        assertEquals(5, historyCleanupJobHandler.getDeletedProcessInstanceCount());
+        assertEquals(5, historyCleanupJobHandler.getLastRunDeletedProcessInstanceCount());
+        assertEquals(0, historyCleanupJobHandler.getTimeBudgetExceededCount());
+
+        // The job repeats
+        assertEquals(1, managementService.createTimerJobQuery().count());
+    }
+
+    @Deployment(resources = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+    public void testTimeBudget() {
+        for (int i = 0; i < 5; i++) {
+            ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("oneTaskProcess");
+            taskService.complete(taskService.createTaskQuery().processInstanceId(processInstance.getId()).singleResult().getId());
+        }
+        processEngineConfiguration.getClock().setCurrentTime(new Date(System.currentTimeMillis() + 2 * 24 * 60 * 60 * 1000L));
+        processEngineConfiguration.setHistoryCleanupTimeBudgetInMillis(0);
+
+        // Every run deletes a single batch
+        executeHistoryCleanupJob();
+        assertEquals(3, historyService.createHistoricProcessInstanceQuery().count());
+        assertEquals(2, historyCleanupJobHandler.getLastRunDeletedProcessInstanceCount());
+        assertEquals(1, historyCleanupJobHandler.getTimeBudgetExceededCount());
+
+        executeHistoryCleanupJob();
+        executeHistoryCleanupJob();
+        assertEquals(0, historyService.createHistoricProcessInstanceQuery().count());
+        assertEquals(1, historyCleanupJobHandler.getLastRunDeletedProcessInstanceCount());
+        assertEquals(5, historyCleanupJobHandler.getDeletedProcessInstanceCount());
+        assertEquals(3, historyCleanupJobHandler.getRunCount());
+    }
+
+    public void testJobIsScheduledOnce() {
+        List<Job> timerJobs = managementService.createTimerJobQuery().list();
+        assertEquals(1, timerJobs.size());
+
+        // Building another engine on the same database keeps the job
+        ProcessEngineConfigurationImpl otherProcessEngineConfiguration = new StandaloneInMemProcessEngineConfiguration();
+        otherProcessEngineConfiguration.setJdbcUrl(processEngineConfiguration.getJdbcUrl());
+        otherProcessEngineConfiguration.setDatabaseSchemaUpdate("true");
+        otherProcessEngineConfiguration.setEngineName("other");
+        otherProcessEngineConfiguration.setEnableHistoryCleanup(true);
+        otherProcessEngineConfiguration.buildProcessEngine().close();
+        assertEquals(Collections.singletonList(timerJobs.get(0).getId()), getTimerJobIds());
+
+        // Another time cycle replaces it
+        otherProcessEngineConfiguration = new StandaloneInMemProcessEngineConfiguration();
+        otherProcessEngineConfiguration.setJdbcUrl(processEngineConfiguration.getJdbcUrl());
+        otherProcessEngineConfiguration.setDatabaseSchemaUpdate("true");
+        otherProcessEngineConfiguration.setEngineName("other");
+        otherProcessEngineConfiguration.setEnableHistoryCleanup(true);
+        otherProcessEngineConfiguration.setHistoryCleanupTimeCycleConfig("0 0 3 * * ?");
+        otherProcessEngineConfiguration.buildProcessEngine().close();
+        List<String> timerJobIds = getTimerJobIds();
+        assertEquals(1, timerJobIds.size());
+        assertFalse(timerJobs.get(0).getId().equals(timerJobIds.get(0)));
+    }
+
+    protected void executeHistoryCleanupJob() {
+        Job timerJob = managementService.createTimerJobQuery().singleResult();
+        Job job = managementService.moveTimerToExecutableJob(timerJob.getId());
+        managementService.executeJob(job.getId());
+    }
+
+    protected List<String> getTimerJobIds() {
+        List<String> timerJobIds = new ArrayList<String>();
+        for (Job timerJob : managementService.createTimerJobQuery().list()) {
+            timerJobIds.add(timerJob.getId());
+        }
+        return timerJobIds;
+    }
+
+    protected long getByteArrayCount() {
+        return getTableCount("ACT_GE_BYTEARRAY");
+    }
+
+    protected long getTableCount(String tableName) {
+        return managementService.getTableCount().get(processEngineConfiguration.getDatabaseTablePrefix() + tableName);
+    }
+
+}
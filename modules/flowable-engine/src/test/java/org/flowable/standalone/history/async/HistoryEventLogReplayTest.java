@@ -0,0 +1,263 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.standalone.history.async;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.flowable.engine.ProcessEngineConfiguration;
+import org.flowable.engine.common.api.FlowableException;
+import org.flowable.engine.history.HistoricActivityInstance;
+import org.flowable.engine.history.HistoricProcessInstance;
+import org.flowable.engine.history.HistoricTaskInstance;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.cfg.TransactionContext;
+import org.flowable.engine.impl.cfg.standalone.StandaloneMybatisTransactionContext;
+import org.flowable.engine.impl.cfg.standalone.StandaloneMybatisTransactionContextFactory;
+import org.flowable.engine.impl.cmd.ReplayHistoryEventLogCmd;
+import org.flowable.engine.impl.history.async.eventlog.HistoryEventLog;
+import org.flowable.engine.impl.history.async.eventlog.HistoryEventLogReader;
+import org.flowable.engine.impl.history.async.eventlog.HistoryEventLogRecord;
+import org.flowable.engine.impl.interceptor.CommandContext;
+import org.flowable.engine.impl.test.ResourceFlowableTestCase;
+import org.flowable.engine.task.Task;
+import org.flowable.engine.test.Deployment;
+
+/**
+ * Tests writing async history to a {@link HistoryEventLog} and replaying it into the history tables.
+ */
+public class HistoryEventLogReplayTest extends ResourceFlowableTestCase {
+
+    protected File directory;
+    protected boolean rollbackOnCommit;
+
+    public HistoryEventLogReplayTest() {
+        super("org/flowable/standalone/history/async/eventlog.flowable.cfg.xml");
+    }
+
+    @Override
+    protected void additionalConfiguration(ProcessEngineConfiguration processEngineConfiguration) {
+        try {
+            directory = File.createTempFile("history-event-log", "");
+        } catch (IOException e) {
+            throw new FlowableException("Could not create the history event log directory", e);
+        }
+        assertTrue(directory.delete());
+
+        ProcessEngineConfigurationImpl processEngineConfigurationImpl = (ProcessEngineConfigurationImpl) processEngineConfiguration;
+        processEngineConfigurationImpl.setAsyncHistoryEventLogDirectory(directory.getAbsolutePath());
+
+        // Like a transaction managed outside of the engine, which can still be rolled back after the command has been executed
+        processEngineConfigurationImpl.setTransactionContextFactory(new StandaloneMybatisTransactionContextFactory() {
+
+            @Override
+            public TransactionContext openTransactionContext(CommandContext commandContext) {
+                return new StandaloneMybatisTransactionContext(commandContext) {
+
+                    @Override
+                    public void commit() {
+                        if (rollbackOnCommit) {
+                            rollback();
+                        } else {
+                            super.commit();
+                        }
+                    }
+                };
+            }
+        });
+    }
+
+    @Override
+    protected void closeDownProcessEngine() {
+        // closes the event log, so its segments can be deleted
+        processEngine.close();
+        super.closeDownProcessEngine();
+
+        deleteDirectory(directory);
+    }
+
+    @Deployment(resources = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+    public void testReplayIntoHistoryTables() {
+        List<String> processInstanceIds = new ArrayList<String>();
+        for (int i = 0; i < 10; i++) {
+            processInstanceIds.add(runtimeService.startProcessInstanceByKey("oneTaskProcess").getId());
+        }
+        for (Task task : taskService.createTaskQuery().list()) {
+            taskService.setAssignee(task.getId(), "kermit");
+            taskService.complete(task.getId());
+        }
+
+        // Nothing is written to the database for history
+        assertEquals(0, managementService.createHistoryJobQuery().count());
+        assertEquals(0, historyService.createHistoricProcessInstanceQuery().count());
+
+        HistoryEventLog historyEventLog = processEngineConfiguration.getAsyncHistoryEventLog();
+        HistoryEventLogReader reader = new HistoryEventLogReader(directory);
+        long position = 0L;
+        while (position < historyEventLog.getEndPosition()) {
+            position = managementService.executeCommand(new ReplayHistoryEventLogCmd(reader, position, 5));
+        }
+        assertTrue(historyEventLog.deleteSegmentsBefore(position) > 0);
+
+        for (String processInstanceId : processInstanceIds) {
+            HistoricProcessInstance historicProcessInstance = historyService.createHistoricProcessInstanceQuery().processInstanceId(processInstanceId).singleResult();
+            assertNotNull(historicProcessInstance.getEndTime());
+
+            HistoricTaskInstance historicTaskInstance = historyService.createHistoricTaskInstanceQuery().processInstanceId(processInstanceId).singleResult();
+            assertEquals("kermit", historicTaskInstance.getAssignee());
+            assertNotNull(historicTaskInstance.getEndTime());
+
+            List<HistoricActivityInstance> historicActivityInstances = historyService.createHistoricActivityInstanceQuery().processInstanceId(processInstanceId).list();
+            assertEquals(3, historicActivityInstances.size());
+            for (HistoricActivityInstance historicActivityInstance : historicActivityInstances) {
+                assertNotNull(historicActivityInstance.getEndTime());
+            }
+        }
+    }
+
+    @Deployment(resources = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+    public void testReplayRecordsInWrongOrder() {
+        String processInstanceId = runtimeService.startProcessInstanceByKey("oneTaskProcess").getId();
+        taskService.complete(taskService.createTaskQuery().singleResult().getId());
+
+        // Copy the records to another log, each pair swapped, as if the transactions had been appended in the opposite order
+        List<HistoryEventLogRecord> records = new HistoryEventLogReader(directory).read(0L, 100);
+        assertTrue(records.size() > 1);
+        File swappedDirectory = new File(directory, "swapped");
+        HistoryEventLog swappedLog = new HistoryEventLog(swappedDirectory, 4096);
+        for (int i = 0; i < records.size(); i += 2) {
+            if (i + 1 < records.size()) {
+                swappedLog.append(records.get(i + 1).getData());
+            }
+            swappedLog.append(records.get(i).getData());
+        }
+        swappedLog.close();
+
+        HistoryEventLogReader reader = new HistoryEventLogReader(swappedDirectory);
+        long position = 0L;
+        while (position < swappedLog.getEndPosition()) {
+            position = managementService.executeCommand(new ReplayHistoryEventLogCmd(reader, position, 1));
+        }
+
+        assertNotNull(historyService.createHistoricProcessInstanceQuery().processInstanceId(processInstanceId).singleResult().getEndTime());
+        assertNotNull(historyService.createHistoricTaskInstanceQuery().processInstanceId(processInstanceId).singleResult().getEndTime());
+    }
+
+    @Deployment(resources = { "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml",
+            "org/flowable/standalone/history/async/HistoryEventLogReplayTest.testRolledBackTransactionIsNotLogged.bpmn20.xml" })
+    public void testRolledBackTransactionIsNotLogged() {
+        HistoryEventLog historyEventLog = processEngineConfiguration.getAsyncHistoryEventLog();
+        long end = historyEventLog.getEndPosition();
+
+        try {
+            runtimeService.startProcessInstanceByKey("failing");
+            fail();
+        } catch (FlowableException e) {
+            // expected
+        }
+        assertEquals(end, historyEventLog.getEndPosition());
+
+        runtimeService.startProcessInstanceByKey("oneTaskProcess");
+        assertTrue(historyEventLog.getEndPosition() > end);
+    }
+
+    @Deployment(resources = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+    public void testTransactionRolledBackAfterCommandIsNotLogged() {
+        HistoryEventLog historyEventLog = processEngineConfiguration.getAsyncHistoryEventLog();
+        long end = historyEventLog.getEndPosition();
+
+        rollbackOnCommit = true;
+        try {
+            runtimeService.startProcessInstanceByKey("oneTaskProcess");
+        } finally {
+            rollbackOnCommit = false;
+        }
+        assertEquals(0, runtimeService.createProcessInstanceQuery().count());
+        assertEquals(end, historyEventLog.getEndPosition());
+    }
+
+    @Deployment(resources = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+    public void testAppendFailureDoesNotFailCommittedCommand() {
+        processEngineConfiguration.getAsyncHistoryEventLog().close();
+
+        String processInstanceId = runtimeService.startProcessInstanceByKey("oneTaskProcess").getId();
+        assertNotNull(runtimeService.createProcessInstanceQuery().processInstanceId(processInstanceId).singleResult());
+    }
+
+    @Deployment(resources = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+    public void testReplayRecordsFurtherAheadThanMaxRecords() {
+        String processInstanceId = runtimeService.startProcessInstanceByKey("oneTaskProcess").getId();
+        Task task = taskService.createTaskQuery().singleResult();
+        taskService.setAssignee(task.getId(), "kermit");
+        taskService.complete(task.getId());
+
+        // The record that starts the process instance ends up last, behind more than one record referring to it
+        List<HistoryEventLogRecord> records = new HistoryEventLogReader(directory).read(0L, 100);
+        assertTrue(records.size() > 2);
+        File reversedDirectory = new File(directory, "reversed");
+        HistoryEventLog reversedLog = new HistoryEventLog(reversedDirectory, 4096);
+        for (int i = records.size() - 1; i >= 0; i--) {
+            reversedLog.append(records.get(i).getData());
+        }
+        reversedLog.close();
+
+        long position = managementService.executeCommand(new ReplayHistoryEventLogCmd(new HistoryEventLogReader(reversedDirectory), 0L, 1));
+        assertEquals(reversedLog.getEndPosition(), position);
+
+        assertNotNull(historyService.createHistoricProcessInstanceQuery().processInstanceId(processInstanceId).singleResult().getEndTime());
+        assertNotNull(historyService.createHistoricTaskInstanceQuery().processInstanceId(processInstanceId).singleResult().getEndTime());
+    }
+
+    @Deployment(resources = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+    public void testReplaySkipsHistoryThatIsNotFound() {
+        runtimeService.startProcessInstanceByKey("oneTaskProcess");
+        taskService.complete(taskService.createTaskQuery().singleResult().getId());
+
+        // Without the record that starts the process instance, the history of the other records is never found
+        List<HistoryEventLogRecord> records = new HistoryEventLogReader(directory).read(0L, 100);
+        File incompleteDirectory = new File(directory, "incomplete");
+        HistoryEventLog incompleteLog = new HistoryEventLog(incompleteDirectory, 4096);
+        for (int i = 1; i < records.size(); i++) {
+            incompleteLog.append(records.get(i).getData());
+        }
+        incompleteLog.close();
+
+        HistoryEventLogReader reader = new HistoryEventLogReader(incompleteDirectory);
+        try {
+            managementService.executeCommand(new ReplayHistoryEventLogCmd(reader, 0L, 1));
+            fail();
+        } catch (FlowableException e) {
+            // expected
+        }
+
+        long position = managementService.executeCommand(new ReplayHistoryEventLogCmd(reader, 0L, 1, true));
+        assertEquals(incompleteLog.getEndPosition(), position);
+    }
+
+    protected void deleteDirectory(File directory) {
+        File[] files = directory.listFiles();
+        if (files != null) {
+            for (File file : files) {
+                if (file.isDirectory()) {
+                    deleteDirectory(file);
+                } else {
+                    file.delete();
+                }
+            }
+        }
+        directory.delete();
+    }
+
+}
@@ -0,0 +1,139 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.standalone.identity;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import org.flowable.engine.CachingCandidateManager;
+import org.flowable.engine.CandidateManager;
+import org.flowable.engine.ProcessEngineConfiguration;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.test.ResourceFlowableTestCase;
+import org.flowable.engine.task.Task;
+import org.flowable.idm.api.Group;
+import org.flowable.idm.api.User;
+
+public class CachingCandidateManagerTest extends ResourceFlowableTestCase {
+
+    protected CountingCandidateManager countingCandidateManager;
+
+    public CachingCandidateManagerTest() {
+        super("org/flowable/standalone/identity/candidategroupcache.flowable.cfg.xml");
+    }
+
+    @Override
+    protected void additionalConfiguration(ProcessEngineConfiguration processEngineConfiguration) {
+        ProcessEngineConfigurationImpl processEngineConfigurationImpl = (ProcessEngineConfigurationImpl) processEngineConfiguration;
+        countingCandidateManager = new CountingCandidateManager(processEngineConfigurationImpl);
+        processEngineConfigurationImpl.setCandidateManager(countingCandidateManager);
+    }
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+
+        createUser("kermit");
+        createUser("gonzo");
+        createGroup("management");
+        createGroup("sales");
+        identityService.createMembership("kermit", "management");
+
+        Task task = taskService.newTask();
+        taskService.saveTask(task);
+        taskService.addCandidateGroup(task.getId(), "sales");
+    }
+
+    @Override
+    protected void tearDown() throws Exception {
+        for (Task task : taskService.createTaskQuery().list()) {
+            taskService.deleteTask(task.getId(), true);
+        }
+        for (Group group : identityService.createGroupQuery().list()) {
+            identityService.deleteGroup(group.getId());
+        }
+        for (User user : identityService.createUserQuery().list()) {
+            identityService.deleteUser(user.getId());
+        }
+        super.tearDown();
+    }
+
+    public void testGroupsAreCached() {
+        assertTrue(processEngineConfiguration.getCandidateManager() instanceof CachingCandidateManager);
+
+        assertEquals(0, taskService.createTaskQuery().taskCandidateUser("kermit").count());
+        assertEquals(0, taskService.createTaskQuery().taskCandidateOrAssigned("kermit").count());
+        assertEquals(1, countingCandidateManager.calls);
+
+        processEngineConfiguration.getClock().setCurrentTime(new Date(processEngineConfiguration.getClock().getCurrentTime().getTime() + 20000L));
+        assertEquals(0, taskService.createTaskQuery().taskCandidateUser("kermit").count());
+        assertEquals(2, countingCandidateManager.calls);
+    }
+
+    public void testMembershipChangesInvalidateCache() {
+        assertEquals(0, taskService.createTaskQuery().taskCandidateUser("kermit").count());
+
+        identityService.createMembership("kermit", "sales");
+        assertEquals(1, taskService.createTaskQuery().taskCandidateUser("kermit").count());
+
+        identityService.deleteMembership("kermit", "sales");
+        assertEquals(0, taskService.createTaskQuery().taskCandidateUser("kermit").count());
+
+        identityService.createMembership("kermit", "sales");
+        assertEquals(1, taskService.createTaskQuery().taskCandidateUser("kermit").count());
+        identityService.deleteGroup("sales");
+        assertEquals(0, taskService.createTaskQuery().taskCandidateUser("kermit").count());
+        assertEquals(5, countingCandidateManager.calls);
+    }
+
+    public void testCacheSizeIsBounded() {
+        CachingCandidateManager cachingCandidateManager = (CachingCandidateManager) processEngineConfiguration.getCandidateManager();
+        cachingCandidateManager.getGroupsForCandidateUser("kermit");
+        cachingCandidateManager.getGroupsForCandidateUser("gonzo");
+        cachingCandidateManager.getGroupsForCandidateUser("fozzie");
+        assertEquals(2, cachingCandidateManager.getCacheSize());
+
+        cachingCandidateManager.invalidateAll();
+        assertEquals(0, cachingCandidateManager.getCacheSize());
+    }
+
+    protected void createUser(String id) {
+        identityService.saveUser(identityService.newUser(id));
+    }
+
+    protected void createGroup(String id) {
+        identityService.saveGroup(identityService.newGroup(id));
+    }
+
+    protected static class CountingCandidateManager implements CandidateManager {
+
+        protected final ProcessEngineConfigurationImpl processEngineConfiguration;
+        protected int calls;
+
+        public CountingCandidateManager(ProcessEngineConfigurationImpl processEngineConfiguration) {
+            this.processEngineConfiguration = processEngineConfiguration;
+        }
+
+        @Override
+        public List<String> getGroupsForCandidateUser(String candidateUser) {
+            calls++;
+            List<String> groupIds = new ArrayList<String>();
+            for (Group group : processEngineConfiguration.getIdentityService().createGroupQuery().groupMember(candidateUser).list()) {
+                groupIds.add(group.getId());
+            }
+            return groupIds;
+        }
+    }
+
+}
@@ -0,0 +1,144 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.standalone.pagination;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.flowable.engine.common.api.FlowableIllegalArgumentException;
+import org.flowable.engine.common.api.query.KeysetQuery;
+import org.flowable.engine.common.api.query.Query;
+import org.flowable.engine.history.HistoricProcessInstance;
+import org.flowable.engine.history.HistoricTaskInstance;
+import org.flowable.engine.impl.test.PluggableFlowableTestCase;
+import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.engine.task.Task;
+import org.flowable.engine.task.TaskQuery;
+import org.flowable.engine.test.Deployment;
+
+/**
+ * Tests paging through the results of a query with a cursor.
+ */
+public class KeysetPaginationTest extends PluggableFlowableTestCase {
+
+    @Deployment(resources = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+    public void testPageThroughTasks() {
+        startProcessInstances();
+
+        List<Task> tasks = pageThrough(taskService.createTaskQuery(), 10);
+        assertEquals(25, tasks.size());
+        assertSameIds(taskService.createTaskQuery().orderByTaskId().asc().list(), tasks);
+
+        List<HistoricTaskInstance> historicTasks = pageThrough(historyService.createHistoricTaskInstanceQuery(), 7);
+        assertEquals(25, historicTasks.size());
+        assertSameIds(historyService.createHistoricTaskInstanceQuery().orderByTaskId().asc().list(), historicTasks);
+    }
+
+    @Deployment(resources = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+    public void testPageThroughProcessInstances() {
+        startProcessInstances();
+
+        List<ProcessInstance> processInstances = pageThrough(runtimeService.createProcessInstanceQuery(), 10);
+        assertEquals(25, processInstances.size());
+        assertSameIds(runtimeService.createProcessInstanceQuery().orderByProcessInstanceId().asc().list(), processInstances);
+
+        List<ProcessInstance> processInstancesWithVariables = pageThrough(runtimeService.createProcessInstanceQuery()
+                .includeProcessVariables(), 10);
+        assertSameIds(processInstances, processInstancesWithVariables);
+
+        List<HistoricProcessInstance> historicProcessInstances = pageThrough(historyService.createHistoricProcessInstanceQuery(), 25);
+        assertEquals(25, historicProcessInstances.size());
+        assertSameIds(historyService.createHistoricProcessInstanceQuery().orderByProcessInstanceId().asc().list(),
+                historicProcessInstances);
+    }
+
+    @Deployment(resources = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+    public void testCursorIsCombinedWithCriteria() {
+        startProcessInstances();
+
+        List<String> businessKeys = new ArrayList<String>();
+        for (int i = 0; i < 5; i++) {
+            businessKeys.add("key" + i);
+        }
+        Set<String> processInstanceIds = new HashSet<String>();
+        for (ProcessInstance processInstance : runtimeService.createProcessInstanceQuery().list()) {
+            if (businessKeys.contains(processInstance.getBusinessKey())) {
+                processInstanceIds.add(processInstance.getId());
+            }
+        }
+
+        List<ProcessInstance> processInstances = pageThrough(runtimeService.createProcessInstanceQuery()
+                .processInstanceIds(processInstanceIds), 2);
+        assertEquals(5, processInstances.size());
+
+        TaskQuery taskQuery = taskService.createTaskQuery().processInstanceIdIn(new ArrayList<String>(processInstanceIds));
+        List<Task> tasks = taskQuery.listAfter(null, 3);
+        assertEquals(3, tasks.size());
+        assertEquals(2, taskQuery.listAfter(taskQuery.getCursor(tasks.get(2)), 3).size());
+
+        // The cursor only applies to the page that is fetched after it
+        assertEquals(5, taskQuery.count());
+    }
+
+    public void testCursorCantBeCombinedWithOrder() {
+        try {
+            taskService.createTaskQuery().orderByTaskCreateTime().asc().listAfter(null, 10);
+            fail();
+        } catch (FlowableIllegalArgumentException e) {
+            // expected
+        }
+    }
+
+    protected void startProcessInstances() {
+        for (int i = 0; i < 25; i++) {
+            runtimeService.startProcessInstanceByKey("oneTaskProcess", "key" + i);
+        }
+    }
+
+    protected <U> List<U> pageThrough(KeysetQuery<U> query, int pageSize) {
+        List<U> results = new ArrayList<U>();
+        String cursor = null;
+        List<U> page = query.listAfter(cursor, pageSize);
+        while (!page.isEmpty()) {
+            assertTrue(page.size() <= pageSize);
+            results.addAll(page);
+            cursor = query.getCursor(page.get(page.size() - 1));
+            page = query.listAfter(cursor, pageSize);
+        }
+        assertEquals(results.size(), ((Query<?, ?>) query).count());
+        return results;
+    }
+
+    protected void assertSameIds(List<?> expected, List<?> actual) {
+        assertEquals(getIds(expected), getIds(actual));
+    }
+
+    protected List<String> getIds(List<?> results) {
+        List<String> ids = new ArrayList<String>();
+        for (Object result : results) {
+            if (result instanceof Task) {
+                ids.add(((Task) result).getId());
+            } else if (result instanceof HistoricTaskInstance) {
+                ids.add(((HistoricTaskInstance) result).getId());
+            } else if (result instanceof ProcessInstance) {
+                ids.add(((ProcessInstance) result).getId());
+            } else {
+                ids.add(((HistoricProcessInstance) result).getId());
+            }
+        }
+        return ids;
+    }
+
+}
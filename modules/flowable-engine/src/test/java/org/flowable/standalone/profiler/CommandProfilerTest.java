@@ -0,0 +1,92 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.standalone.profiler;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.flowable.engine.impl.cmd.CompleteTaskCmd;
+import org.flowable.engine.impl.cmd.StartProcessInstanceCmd;
+import org.flowable.engine.impl.profiler.CommandProfiler;
+import org.flowable.engine.impl.profiler.CommandStatistics;
+import org.flowable.engine.impl.profiler.EntityFlushStatistics;
+import org.flowable.engine.impl.profiler.StatementStatistics;
+import org.flowable.engine.impl.test.ResourceFlowableTestCase;
+import org.flowable.engine.task.Task;
+import org.flowable.engine.test.Deployment;
+
+public class CommandProfilerTest extends ResourceFlowableTestCase {
+
+    public CommandProfilerTest() {
+        super("org/flowable/standalone/profiler/profiler.flowable.cfg.xml");
+    }
+
+    @Deployment(resources = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+    public void testCommandsStatementsAndFlushesAreProfiled() {
+        CommandProfiler commandProfiler = processEngineConfiguration.getCommandProfiler();
+        assertNotNull(commandProfiler);
+        commandProfiler.reset();
+
+        for (int i = 0; i < 5; i++) {
+            runtimeService.startProcessInstanceByKey("oneTaskProcess");
+        }
+        for (Task task : taskService.createTaskQuery().list()) {
+            taskService.complete(task.getId());
+        }
+
+        Map<String, CommandStatistics> commandStatistics = new HashMap<String, CommandStatistics>();
+        for (CommandStatistics statistics : commandProfiler.getCommandStatistics()) {
+            commandStatistics.put(statistics.getCommandType(), statistics);
+        }
+        CommandStatistics startStatistics = commandStatistics.get(StartProcessInstanceCmd.class.getName());
+        assertNotNull(startStatistics);
+        assertEquals(5L, startStatistics.getCount());
+        assertEquals(0L, startStatistics.getFailureCount());
+        assertTrue(startStatistics.getP50TimeInMicros() <= startStatistics.getP99TimeInMicros());
+        assertTrue(startStatistics.getP99TimeInMicros() <= startStatistics.getMaxTimeInMicros());
+        assertEquals(5L, commandStatistics.get(CompleteTaskCmd.class.getName()).getCount());
+
+        boolean taskInsertProfiled = false;
+        for (StatementStatistics statistics : commandProfiler.getStatementStatistics()) {
+            if (statistics.getStatement().endsWith("insertTask")) {
+                taskInsertProfiled = statistics.getCount() > 0;
+            }
+        }
+        assertTrue(taskInsertProfiled);
+
+        Map<String, EntityFlushStatistics> entityFlushStatistics = new HashMap<String, EntityFlushStatistics>();
+        for (EntityFlushStatistics statistics : commandProfiler.getEntityFlushStatistics()) {
+            entityFlushStatistics.put(statistics.getEntityType(), statistics);
+        }
+        assertEquals(5L, entityFlushStatistics.get("TaskEntityImpl").getInsertCount());
+        assertEquals(5L, entityFlushStatistics.get("TaskEntityImpl").getDeleteCount());
+    }
+
+    public void testFailedCommandsAreCounted() {
+        try {
+            runtimeService.startProcessInstanceByKey("unexisting");
+            fail();
+        } catch (Exception e) {
+            // expected
+        }
+
+        for (CommandStatistics statistics : processEngineConfiguration.getCommandProfiler().getCommandStatistics()) {
+            if (StartProcessInstanceCmd.class.getName().equals(statistics.getCommandType())) {
+                assertEquals(1L, statistics.getFailureCount());
+                return;
+            }
+        }
+        fail("StartProcessInstanceCmd not profiled");
+    }
+
+}
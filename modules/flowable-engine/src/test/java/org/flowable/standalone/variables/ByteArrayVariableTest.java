@@ -0,0 +1,87 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.standalone.variables;
+
+import java.util.Arrays;
+
+import org.flowable.engine.history.HistoricVariableInstance;
+import org.flowable.engine.impl.persistence.entity.VariableInstance;
+import org.flowable.engine.impl.profiler.StatementStatistics;
+import org.flowable.engine.impl.test.ResourceFlowableTestCase;
+import org.flowable.engine.test.Deployment;
+
+/**
+ * Tests that the bytes of byte array variables are only fetched when they're used.
+ */
+public class ByteArrayVariableTest extends ResourceFlowableTestCase {
+
+    public ByteArrayVariableTest() {
+        super("org/flowable/standalone/variables/bytearrayvariables.flowable.cfg.xml");
+    }
+
+    @Deployment(resources = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+    public void testLengthIsKeptWithVariable() {
+        String processInstanceId = runtimeService.startProcessInstanceByKey("oneTaskProcess").getId();
+        runtimeService.setVariable(processInstanceId, "document", new byte[1000]);
+
+        processEngineConfiguration.getCommandProfiler().reset();
+        VariableInstance variableInstance = runtimeService.getVariableInstance(processInstanceId, "document");
+        assertEquals("bytes", variableInstance.getTypeName());
+        assertEquals(Long.valueOf(1000L), variableInstance.getLongValue());
+
+        HistoricVariableInstance historicVariableInstance = historyService.createHistoricVariableInstanceQuery()
+                .variableName("document").excludeVariableInitialization().singleResult();
+        assertEquals("bytes", historicVariableInstance.getVariableTypeName());
+        assertEquals(0L, getStatementCount("selectByteArray"));
+    }
+
+    @Deployment(resources = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+    public void testOldBytesAreNotFetchedWhenReplaced() {
+        String processInstanceId = runtimeService.startProcessInstanceByKey("oneTaskProcess").getId();
+        byte[] document = new byte[10000];
+        Arrays.fill(document, (byte) 1);
+        runtimeService.setVariable(processInstanceId, "document", document);
+        runtimeService.setVariable(processInstanceId, "text", createLongString('a'));
+
+        processEngineConfiguration.getCommandProfiler().reset();
+        Arrays.fill(document, (byte) 2);
+        runtimeService.setVariable(processInstanceId, "document", document);
+        runtimeService.setVariable(processInstanceId, "text", createLongString('b'));
+        assertEquals(0L, getStatementCount("selectByteArray"));
+
+        assertTrue(Arrays.equals(document, (byte[]) runtimeService.getVariable(processInstanceId, "document")));
+        assertEquals(createLongString('b'), runtimeService.getVariable(processInstanceId, "text"));
+        assertTrue(Arrays.equals(document, (byte[]) historyService.createHistoricVariableInstanceQuery().variableName("document").singleResult().getValue()));
+
+        runtimeService.setVariable(processInstanceId, "document", null);
+        assertNull(runtimeService.getVariable(processInstanceId, "document"));
+        assertNull(runtimeService.getVariableInstance(processInstanceId, "document").getLongValue());
+    }
+
+    protected String createLongString(char character) {
+        char[] characters = new char[5000];
+        Arrays.fill(characters, character);
+        return new String(characters);
+    }
+
+    protected long getStatementCount(String statement) {
+        long count = 0L;
+        for (StatementStatistics statistics : processEngineConfiguration.getCommandProfiler().getStatementStatistics()) {
+            if (statistics.getStatement().endsWith("." + statement)) {
+                count += statistics.getCount();
+            }
+        }
+        return count;
+    }
+
+}
@@ -0,0 +1,114 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.standalone.variables;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.interceptor.Command;
+import org.flowable.engine.impl.interceptor.CommandContext;
+import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
+import org.flowable.engine.impl.profiler.StatementStatistics;
+import org.flowable.engine.impl.test.ResourceFlowableTestCase;
+import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.engine.task.Task;
+import org.flowable.engine.test.Deployment;
+
+/**
+ * Tests fetching variables by name when {@link ProcessEngineConfigurationImpl#isEnableLazyVariableFetching()} is enabled.
+ */
+public class LazyVariableFetchingTest extends ResourceFlowableTestCase {
+
+    public LazyVariableFetchingTest() {
+        super("org/flowable/standalone/variables/lazyvariables.flowable.cfg.xml");
+    }
+
+    @Deployment(resources = "org/flowable/standalone/variables/LazyVariableFetchingTest.bpmn20.xml")
+    public void testOnlyRequestedVariablesAreFetched() {
+        Map<String, Object> variables = new HashMap<String, Object>();
+        variables.put("approved", true);
+        variables.put("document", "a large document");
+        runtimeService.startProcessInstanceByKey("lazyVariables", variables);
+        final String executionId = taskService.createTaskQuery().singleResult().getExecutionId();
+
+        processEngineConfiguration.getCommandProfiler().reset();
+        Object[] values = managementService.executeCommand(new Command<Object[]>() {
+
+            @Override
+            public Object[] execute(CommandContext commandContext) {
+                ExecutionEntity execution = commandContext.getExecutionEntityManager().findById(executionId);
+                return new Object[] { execution.getVariable("approved"), execution.getVariable("approved"), execution.hasVariable("unknown"),
+                        execution.hasVariable("unknown") };
+            }
+        });
+        assertEquals(Boolean.TRUE, values[0]);
+        assertEquals(Boolean.TRUE, values[1]);
+        assertEquals(Boolean.FALSE, values[2]);
+        assertEquals(Boolean.FALSE, values[3]);
+
+        // The task execution, the subprocess execution and the process instance are queried once for each name
+        assertEquals(0L, getStatementCount("selectVariablesByExecutionId"));
+        assertEquals(6L, getStatementCount("selectVariableInstanceByExecutionAndName"));
+    }
+
+    @Deployment(resources = "org/flowable/standalone/variables/LazyVariableFetchingTest.bpmn20.xml")
+    public void testVariablesCreatedInCommandAreFound() {
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("lazyVariables");
+        final String executionId = taskService.createTaskQuery().singleResult().getExecutionId();
+
+        Object value = managementService.executeCommand(new Command<Object>() {
+
+            @Override
+            public Object execute(CommandContext commandContext) {
+                ExecutionEntity execution = commandContext.getExecutionEntityManager().findById(executionId);
+                assertFalse(execution.hasVariableLocal("approved"));
+                execution.setVariableLocal("approved", false);
+                return execution.getVariableLocal("approved");
+            }
+        });
+        assertEquals(Boolean.FALSE, value);
+        assertEquals(Boolean.FALSE, runtimeService.getVariableLocal(executionId, "approved"));
+
+        runtimeService.removeVariableLocal(executionId, "approved");
+        assertFalse(runtimeService.hasVariable(executionId, "approved"));
+        runtimeService.setVariable(processInstance.getId(), "approved", false);
+        assertEquals(Boolean.FALSE, runtimeService.getVariable(executionId, "approved"));
+    }
+
+    @Deployment(resources = "org/flowable/standalone/variables/LazyVariableFetchingTest.bpmn20.xml")
+    public void testGatewayConditionReadsVariableByName() {
+        runtimeService.startProcessInstanceByKey("lazyVariables", Collections.<String, Object> singletonMap("approved", false));
+        Task task = taskService.createTaskQuery().singleResult();
+
+        processEngineConfiguration.getCommandProfiler().reset();
+        taskService.complete(task.getId());
+
+        assertEquals("rejectedTask", taskService.createTaskQuery().singleResult().getTaskDefinitionKey());
+
+        // Only the ended task and subprocess executions load all their variables, to delete them. The process instance doesn't.
+        assertEquals(2L, getStatementCount("selectVariablesByExecutionId"));
+    }
+
+    protected long getStatementCount(String statement) {
+        long count = 0L;
+        for (StatementStatistics statistics : processEngineConfiguration.getCommandProfiler().getStatementStatistics()) {
+            if (statistics.getStatement().endsWith("." + statement)) {
+                count += statistics.getCount();
+            }
+        }
+        return count;
+    }
+
+}
@@ -16,6 +16,7 @@ import java.util.List;
 
 import org.flowable.engine.common.api.FlowableException;
 import org.flowable.engine.common.api.FlowableObjectNotFoundException;
+import org.flowable.engine.common.impl.persistence.deploy.DeploymentCacheStatisticsProvider;
 import org.flowable.form.api.FormDefinition;
 import org.flowable.form.engine.FormEngineConfiguration;
 import org.flowable.form.engine.impl.FormDefinitionQueryImpl;
@@ -131,6 +132,7 @@ public class DeploymentManager {
         FormDefinitionCacheEntry cachedForm = formCache.get(formDefinitionId);
 
         if (cachedForm == null) {
+            long loadStartTime = System.nanoTime();
             FormDeploymentEntity deployment = engineConfig.getDeploymentEntityManager().findById(deploymentId);
             List<ResourceEntity> resources = engineConfig.getResourceEntityManager().findResourcesByDeploymentId(deploymentId);
             for (ResourceEntity resource : resources) {
@@ -139,6 +141,7 @@ public class DeploymentManager {
 
             deployment.setNew(false);
             deploy(deployment);
+            recordCacheLoad(formCache, loadStartTime);
             cachedForm = formCache.get(formDefinitionId);
 
             if (cachedForm == null) {
@@ -148,6 +151,12 @@ public class DeploymentManager {
         return cachedForm;
     }
 
+    protected void recordCacheLoad(Object cache, long loadStartTime) {
+        if (cache instanceof DeploymentCacheStatisticsProvider) {
+            ((DeploymentCacheStatisticsProvider) cache).getStatistics().recordLoad(System.nanoTime() - loadStartTime);
+        }
+    }
+
     public void removeDeployment(String deploymentId) {
 
         FormDeploymentEntity deployment = deploymentEntityManager.findById(deploymentId);
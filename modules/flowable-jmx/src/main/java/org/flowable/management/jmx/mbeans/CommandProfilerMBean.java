@@ -0,0 +1,107 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.management.jmx.mbeans;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.flowable.engine.ProcessEngineConfiguration;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.profiler.CommandProfiler;
+import org.flowable.engine.impl.profiler.CommandStatistics;
+import org.flowable.engine.impl.profiler.EntityFlushStatistics;
+import org.flowable.engine.impl.profiler.StatementStatistics;
+import org.flowable.management.jmx.annotations.ManagedAttribute;
+import org.flowable.management.jmx.annotations.ManagedOperation;
+import org.flowable.management.jmx.annotations.ManagedResource;
+
+@ManagedResource(description = "Command profiler MBean")
+public class CommandProfilerMBean {
+
+    CommandProfiler commandProfiler;
+
+    public CommandProfilerMBean(ProcessEngineConfiguration processEngineConfig) {
+        if (processEngineConfig instanceof ProcessEngineConfigurationImpl) {
+            commandProfiler = ((ProcessEngineConfigurationImpl) processEngineConfig).getCommandProfiler();
+        }
+    }
+
+    @ManagedAttribute(description = "check if command profiling is enabled")
+    public boolean isCommandProfilingEnabled() {
+        return commandProfiler != null;
+    }
+
+    @ManagedAttribute(description = "Command types with count, failures, total, mean, p50, p90, p99, p99.9 and max time in microseconds, most total time first")
+    public List<List<String>> getCommandStatistics() {
+        List<List<String>> result = new ArrayList<List<String>>();
+        if (commandProfiler != null) {
+            for (CommandStatistics statistics : commandProfiler.getCommandStatistics()) {
+                List<String> item = new ArrayList<String>(10);
+                item.add(statistics.getCommandType());
+                item.add(Long.toString(statistics.getCount()));
+                item.add(Long.toString(statistics.getFailureCount()));
+                item.add(Long.toString(statistics.getTotalTimeInMicros()));
+                item.add(Long.toString(Math.round(statistics.getMeanTimeInMicros())));
+                item.add(Long.toString(statistics.getP50TimeInMicros()));
+                item.add(Long.toString(statistics.getP90TimeInMicros()));
+                item.add(Long.toString(statistics.getP99TimeInMicros()));
+                item.add(Long.toString(statistics.getP999TimeInMicros()));
+                item.add(Long.toString(statistics.getMaxTimeInMicros()));
+                result.add(item);
+            }
+        }
+        return result;
+    }
+
+    @ManagedAttribute(description = "Database statements with count, total, mean and max time in microseconds, most total time first")
+    public List<List<String>> getStatementStatistics() {
+        List<List<String>> result = new ArrayList<List<String>>();
+        if (commandProfiler != null) {
+            for (StatementStatistics statistics : commandProfiler.getStatementStatistics()) {
+                List<String> item = new ArrayList<String>(5);
+                item.add(statistics.getStatement());
+                item.add(Long.toString(statistics.getCount()));
+                item.add(Long.toString(statistics.getTotalTimeInMicros()));
+                item.add(Long.toString(Math.round(statistics.getMeanTimeInMicros())));
+                item.add(Long.toString(statistics.getMaxTimeInMicros()));
+                result.add(item);
+            }
+        }
+        return result;
+    }
+
+    @ManagedAttribute(description = "Entity types with the number of flushed inserts, updates, deletes and bulk deletes")
+    public List<List<String>> getEntityFlushStatistics() {
+        List<List<String>> result = new ArrayList<List<String>>();
+        if (commandProfiler != null) {
+            for (EntityFlushStatistics statistics : commandProfiler.getEntityFlushStatistics()) {
+                List<String> item = new ArrayList<String>(5);
+                item.add(statistics.getEntityType());
+                item.add(Long.toString(statistics.getInsertCount()));
+                item.add(Long.toString(statistics.getUpdateCount()));
+                item.add(Long.toString(statistics.getDeleteCount()));
+                item.add(Long.toString(statistics.getBulkDeleteCount()));
+                result.add(item);
+            }
+        }
+        return result;
+    }
+
+    @ManagedOperation(description = "reset the command profiler statistics")
+    public void resetCommandStatistics() {
+        if (commandProfiler != null) {
+            commandProfiler.reset();
+        }
+    }
+
+}
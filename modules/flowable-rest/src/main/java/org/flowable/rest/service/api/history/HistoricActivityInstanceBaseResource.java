@@ -13,17 +13,24 @@
 
 package org.flowable.rest.service.api.history;
 
+import java.io.IOException;
 import java.util.HashMap;
 import java.util.Map;
 
+import javax.servlet.http.HttpServletResponse;
+
 import org.flowable.engine.HistoryService;
 import org.flowable.engine.common.api.query.QueryProperty;
+import org.flowable.engine.history.HistoricActivityInstance;
 import org.flowable.engine.history.HistoricActivityInstanceQuery;
 import org.flowable.engine.impl.HistoricActivityInstanceQueryProperty;
 import org.flowable.rest.api.DataResponse;
+import org.flowable.rest.api.NdjsonResultConsumer;
 import org.flowable.rest.service.api.RestResponseFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+
 /**
  * @author Tijs Rademakers
  */
@@ -51,7 +58,26 @@ public class HistoricActivityInstanceBaseResource {
     @Autowired
     protected HistoryService historyService;
 
+    @Autowired
+    protected ObjectMapper objectMapper;
+
     protected DataResponse getQueryResponse(HistoricActivityInstanceQueryRequest queryRequest, Map<String, String> allRequestParams) {
+        HistoricActivityInstanceQuery query = createQuery(queryRequest);
+        return new HistoricActivityInstancePaginateList(restResponseFactory).paginateList(allRequestParams, queryRequest, query, "startTime", allowedSortProperties);
+    }
+
+    protected void streamQueryResponse(HistoricActivityInstanceQueryRequest queryRequest, HttpServletResponse response) throws IOException {
+        response.setContentType(NdjsonResultConsumer.MEDIA_TYPE);
+        createQuery(queryRequest).forEach(new NdjsonResultConsumer<HistoricActivityInstance>(objectMapper, response.getOutputStream()) {
+
+            @Override
+            protected Object createResponse(HistoricActivityInstance result) {
+                return restResponseFactory.createHistoricActivityInstanceResponse(result);
+            }
+        });
+    }
+
+    protected HistoricActivityInstanceQuery createQuery(HistoricActivityInstanceQueryRequest queryRequest) {
         HistoricActivityInstanceQuery query = historyService.createHistoricActivityInstanceQuery();
 
         // Populate query based on request
@@ -108,6 +134,6 @@ public class HistoricActivityInstanceBaseResource {
             query.activityWithoutTenantId();
         }
 
-        return new HistoricActivityInstancePaginateList(restResponseFactory).paginateList(allRequestParams, queryRequest, query, "startTime", allowedSortProperties);
+        return query;
     }
 }
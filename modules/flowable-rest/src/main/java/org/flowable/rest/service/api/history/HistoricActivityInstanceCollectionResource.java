@@ -22,12 +22,15 @@ import io.swagger.annotations.ApiResponse;
 import io.swagger.annotations.ApiResponses;
 import io.swagger.annotations.Authorization;
 import org.flowable.rest.api.DataResponse;
+import org.flowable.rest.api.NdjsonResultConsumer;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestMethod;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
 import java.util.Map;
 
 /**
@@ -57,6 +60,20 @@ public class HistoricActivityInstanceCollectionResource extends HistoricActivity
     })
     @RequestMapping(value = "/history/historic-activity-instances", method = RequestMethod.GET, produces = "application/json")
     public DataResponse getHistoricActivityInstances(@ApiParam(hidden = true) @RequestParam Map<String, String> allRequestParams, HttpServletRequest request) {
+        return getQueryResponse(createQueryRequest(allRequestParams), allRequestParams);
+    }
+
+    @ApiOperation(value = "Stream historic activity instances", tags = { "History" }, nickname = "streamHistoricActivityInstances",
+            notes = "Returns all historic activity instances that match the same parameters as the list, ordered by id, as newline delimited JSON. The results are written while they're read, so there is no paging and no total.")
+    @ApiResponses(value = {
+            @ApiResponse(code = 200, message = "Indicates that historic activity instances could be queried."),
+            @ApiResponse(code = 400, message = "Indicates an parameter was passed in the wrong format. The status-message contains additional information.") })
+    @RequestMapping(value = "/history/historic-activity-instances/stream", method = RequestMethod.GET, produces = NdjsonResultConsumer.MEDIA_TYPE)
+    public void streamHistoricActivityInstances(@ApiParam(hidden = true) @RequestParam Map<String, String> allRequestParams, HttpServletResponse response) throws IOException {
+        streamQueryResponse(createQueryRequest(allRequestParams), response);
+    }
+
+    protected HistoricActivityInstanceQueryRequest createQueryRequest(Map<String, String> allRequestParams) {
         HistoricActivityInstanceQueryRequest query = new HistoricActivityInstanceQueryRequest();
 
         // Populate query based on request
@@ -108,6 +125,6 @@ public class HistoricActivityInstanceCollectionResource extends HistoricActivity
             query.setWithoutTenantId(Boolean.valueOf(allRequestParams.get("withoutTenantId")));
         }
 
-        return getQueryResponse(query, allRequestParams);
+        return query;
     }
 }
@@ -13,22 +13,29 @@
 
 package org.flowable.rest.service.api.history;
 
+import java.io.IOException;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 
+import javax.servlet.http.HttpServletResponse;
+
 import org.flowable.engine.HistoryService;
 import org.flowable.engine.common.api.FlowableIllegalArgumentException;
 import org.flowable.engine.common.api.query.QueryProperty;
+import org.flowable.engine.history.HistoricProcessInstance;
 import org.flowable.engine.history.HistoricProcessInstanceQuery;
 import org.flowable.engine.impl.HistoricProcessInstanceQueryProperty;
 import org.flowable.rest.api.DataResponse;
+import org.flowable.rest.api.NdjsonResultConsumer;
 import org.flowable.rest.service.api.RestResponseFactory;
 import org.flowable.rest.service.api.engine.variable.QueryVariable;
 import org.flowable.rest.service.api.engine.variable.QueryVariable.QueryVariableOperation;
 import org.springframework.beans.factory.annotation.Autowired;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+
 /**
  * @author Tijs Rademakers
  */
@@ -52,7 +59,26 @@ public class HistoricProcessInstanceBaseResource {
     @Autowired
     protected HistoryService historyService;
 
+    @Autowired
+    protected ObjectMapper objectMapper;
+
     protected DataResponse getQueryResponse(HistoricProcessInstanceQueryRequest queryRequest, Map<String, String> allRequestParams) {
+        HistoricProcessInstanceQuery query = createQuery(queryRequest);
+        return new HistoricProcessInstancePaginateList(restResponseFactory).paginateList(allRequestParams, queryRequest, query, "processInstanceId", allowedSortProperties);
+    }
+
+    protected void streamQueryResponse(HistoricProcessInstanceQueryRequest queryRequest, HttpServletResponse response) throws IOException {
+        response.setContentType(NdjsonResultConsumer.MEDIA_TYPE);
+        createQuery(queryRequest).forEach(new NdjsonResultConsumer<HistoricProcessInstance>(objectMapper, response.getOutputStream()) {
+
+            @Override
+            protected Object createResponse(HistoricProcessInstance result) {
+                return restResponseFactory.createHistoricProcessInstanceResponse(result);
+            }
+        });
+    }
+
+    protected HistoricProcessInstanceQuery createQuery(HistoricProcessInstanceQueryRequest queryRequest) {
         HistoricProcessInstanceQuery query = historyService.createHistoricProcessInstanceQuery();
 
         // Populate query based on request
@@ -123,7 +149,7 @@ public class HistoricProcessInstanceBaseResource {
             query.processInstanceWithoutTenantId();
         }
 
-        return new HistoricProcessInstancePaginateList(restResponseFactory).paginateList(allRequestParams, queryRequest, query, "processInstanceId", allowedSortProperties);
+        return query;
     }
 
     protected void addVariables(HistoricProcessInstanceQuery processInstanceQuery, List<QueryVariable> variables) {
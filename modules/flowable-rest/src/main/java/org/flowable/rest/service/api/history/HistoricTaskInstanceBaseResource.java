@@ -13,20 +13,27 @@
 
 package org.flowable.rest.service.api.history;
 
+import java.io.IOException;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import javax.servlet.http.HttpServletResponse;
+
 import org.flowable.engine.HistoryService;
 import org.flowable.engine.common.api.FlowableIllegalArgumentException;
 import org.flowable.engine.common.api.query.QueryProperty;
+import org.flowable.engine.history.HistoricTaskInstance;
 import org.flowable.engine.history.HistoricTaskInstanceQuery;
 import org.flowable.engine.impl.HistoricTaskInstanceQueryProperty;
 import org.flowable.rest.api.DataResponse;
+import org.flowable.rest.api.NdjsonResultConsumer;
 import org.flowable.rest.service.api.RestResponseFactory;
 import org.flowable.rest.service.api.engine.variable.QueryVariable;
 import org.springframework.beans.factory.annotation.Autowired;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+
 /**
  * @author Tijs Rademakers
  */
@@ -63,7 +70,26 @@ public class HistoricTaskInstanceBaseResource {
     @Autowired
     protected HistoryService historyService;
 
+    @Autowired
+    protected ObjectMapper objectMapper;
+
     protected DataResponse getQueryResponse(HistoricTaskInstanceQueryRequest queryRequest, Map<String, String> allRequestParams, String serverRootUrl) {
+        HistoricTaskInstanceQuery query = createQuery(queryRequest);
+        return new HistoricTaskInstancePaginateList(restResponseFactory, serverRootUrl).paginateList(allRequestParams, queryRequest, query, "taskInstanceId", allowedSortProperties);
+    }
+
+    protected void streamQueryResponse(HistoricTaskInstanceQueryRequest queryRequest, HttpServletResponse response) throws IOException {
+        response.setContentType(NdjsonResultConsumer.MEDIA_TYPE);
+        createQuery(queryRequest).forEach(new NdjsonResultConsumer<HistoricTaskInstance>(objectMapper, response.getOutputStream()) {
+
+            @Override
+            protected Object createResponse(HistoricTaskInstance result) {
+                return restResponseFactory.createHistoricTaskInstanceResponse(result);
+            }
+        });
+    }
+
+    protected HistoricTaskInstanceQuery createQuery(HistoricTaskInstanceQueryRequest queryRequest) {
         HistoricTaskInstanceQuery query = historyService.createHistoricTaskInstanceQuery();
 
         // Populate query based on request
@@ -240,7 +266,7 @@ public class HistoricTaskInstanceBaseResource {
             query.taskCandidateGroup(queryRequest.getTaskCandidateGroup());
         }
 
-        return new HistoricTaskInstancePaginateList(restResponseFactory, serverRootUrl).paginateList(allRequestParams, queryRequest, query, "taskInstanceId", allowedSortProperties);
+        return query;
     }
 
     protected void addTaskVariables(HistoricTaskInstanceQuery taskInstanceQuery, List<QueryVariable> variables) {
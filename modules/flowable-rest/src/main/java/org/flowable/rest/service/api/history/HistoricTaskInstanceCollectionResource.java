@@ -22,6 +22,7 @@ import io.swagger.annotations.ApiResponse;
 import io.swagger.annotations.ApiResponses;
 import io.swagger.annotations.Authorization;
 import org.flowable.rest.api.DataResponse;
+import org.flowable.rest.api.NdjsonResultConsumer;
 import org.flowable.rest.api.RequestUtil;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestMethod;
@@ -29,6 +30,8 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
 import java.util.Map;
 
 /**
@@ -89,6 +92,20 @@ public class HistoricTaskInstanceCollectionResource extends HistoricTaskInstance
             @ApiResponse(code = 404, message = "Indicates an parameter was passed in the wrong format. The status-message contains additional information.") })
     @RequestMapping(value = "/history/historic-task-instances", method = RequestMethod.GET, produces = "application/json")
     public DataResponse getHistoricProcessInstances(@ApiParam(hidden = true) @RequestParam Map<String, String> allRequestParams, HttpServletRequest request) {
+        return getQueryResponse(createQueryRequest(allRequestParams), allRequestParams, request.getRequestURL().toString().replace("/history/historic-task-instances", ""));
+    }
+
+    @ApiOperation(value = "Stream historic task instances", tags = { "History" }, nickname = "streamHistoricTaskInstances",
+            notes = "Returns all historic task instances that match the same parameters as the list, ordered by id, as newline delimited JSON. The results are written while they're read, so there is no paging and no total.")
+    @ApiResponses(value = {
+            @ApiResponse(code = 200, message = "Indicates that historic task instances could be queried."),
+            @ApiResponse(code = 400, message = "Indicates an parameter was passed in the wrong format. The status-message contains additional information.") })
+    @RequestMapping(value = "/history/historic-task-instances/stream", method = RequestMethod.GET, produces = NdjsonResultConsumer.MEDIA_TYPE)
+    public void streamHistoricTaskInstances(@ApiParam(hidden = true) @RequestParam Map<String, String> allRequestParams, HttpServletResponse response) throws IOException {
+        streamQueryResponse(createQueryRequest(allRequestParams), response);
+    }
+
+    protected HistoricTaskInstanceQueryRequest createQueryRequest(Map<String, String> allRequestParams) {
         // Populate query based on request
         HistoricTaskInstanceQueryRequest queryRequest = new HistoricTaskInstanceQueryRequest();
 
@@ -268,6 +285,6 @@ public class HistoricTaskInstanceCollectionResource extends HistoricTaskInstance
             queryRequest.setTaskCandidateGroup(allRequestParams.get("taskCandidateGroup"));
         }
 
-        return getQueryResponse(queryRequest, allRequestParams, request.getRequestURL().toString().replace("/history/historic-task-instances", ""));
+        return queryRequest;
     }
 }
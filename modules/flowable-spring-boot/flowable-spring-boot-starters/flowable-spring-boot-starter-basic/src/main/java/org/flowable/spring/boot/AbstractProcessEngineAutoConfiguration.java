@@ -97,6 +97,7 @@ public abstract class AbstractProcessEngineAutoConfiguration
         conf.setMailServerUseTLS(flowableProperties.isMailServerUseTls());
 
         conf.setHistoryLevel(flowableProperties.getHistoryLevel());
+        conf.setEnableCommandProfiling(flowableProperties.isCommandProfilingEnabled());
 
         if (flowableProperties.getCustomMybatisMappers() != null) {
             conf.setCustomMybatisMappers(getCustomMybatisMapperClasses(flowableProperties.getCustomMybatisMappers()));
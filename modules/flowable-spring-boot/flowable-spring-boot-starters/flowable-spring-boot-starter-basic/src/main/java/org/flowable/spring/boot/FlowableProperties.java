@@ -48,6 +48,7 @@ public class FlowableProperties {
     private boolean jpaEnabled = true; // true by default
     private List<String> customMybatisMappers;
     private List<String> customMybatisXMLMappers;
+    private boolean commandProfilingEnabled;
 
     public boolean isAsyncExecutorActivate() {
         return asyncExecutorActivate;
@@ -234,4 +235,12 @@ public class FlowableProperties {
     public void setCustomMybatisXMLMappers(List<String> customMybatisXMLMappers) {
         this.customMybatisXMLMappers = customMybatisXMLMappers;
     }
+
+    public boolean isCommandProfilingEnabled() {
+        return commandProfilingEnabled;
+    }
+
+    public void setCommandProfilingEnabled(boolean commandProfilingEnabled) {
+        this.commandProfilingEnabled = commandProfilingEnabled;
+    }
 }
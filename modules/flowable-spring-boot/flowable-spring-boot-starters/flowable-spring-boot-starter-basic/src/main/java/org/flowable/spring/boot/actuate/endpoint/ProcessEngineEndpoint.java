@@ -19,10 +19,13 @@ import java.util.List;
 import java.util.Map;
 
 import org.flowable.engine.ProcessEngine;
+import org.flowable.engine.common.impl.persistence.deploy.DeploymentCacheStatistics;
+import org.flowable.engine.common.impl.persistence.deploy.DeploymentCacheStatisticsProvider;
 import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
 import org.flowable.engine.impl.persistence.deploy.DefaultDeploymentCache;
 import org.flowable.engine.impl.persistence.deploy.DeploymentCache;
 import org.flowable.engine.impl.persistence.deploy.ProcessDefinitionCacheEntry;
+import org.flowable.engine.impl.profiler.CommandProfiler;
 import org.flowable.engine.repository.ProcessDefinition;
 import org.springframework.boot.actuate.endpoint.AbstractEndpoint;
 import org.springframework.boot.context.properties.ConfigurationProperties;
@@ -88,6 +91,23 @@ public class ProcessEngineEndpoint extends AbstractEndpoint<Map<String, Object>>
         if (deploymentCache instanceof DefaultDeploymentCache) {
             metrics.put("cachedProcessDefinitionCount", ((DefaultDeploymentCache) deploymentCache).size());
         }
+        if (deploymentCache instanceof DeploymentCacheStatisticsProvider) {
+            DeploymentCacheStatistics statistics = ((DeploymentCacheStatisticsProvider) deploymentCache).getStatistics();
+            metrics.put("processDefinitionCacheHitCount", statistics.getHitCount());
+            metrics.put("processDefinitionCacheMissCount", statistics.getMissCount());
+            metrics.put("processDefinitionCacheEvictionCount", statistics.getEvictionCount());
+            metrics.put("processDefinitionCacheLoadCount", statistics.getLoadCount());
+            metrics.put("processDefinitionCacheTotalLoadTime", statistics.getTotalLoadTime());
+        }
+
+        // Command profiler
+        CommandProfiler commandProfiler = ((ProcessEngineConfigurationImpl) processEngine.getProcessEngineConfiguration()).getCommandProfiler();
+        if (commandProfiler != null) {
+            metrics.put("commandProfilerStartTime", commandProfiler.getStartTime());
+            metrics.put("commandStatistics", commandProfiler.getCommandStatistics());
+            metrics.put("statementStatistics", commandProfiler.getStatementStatistics());
+            metrics.put("entityFlushStatistics", commandProfiler.getEntityFlushStatistics());
+        }
         return metrics;
     }
 